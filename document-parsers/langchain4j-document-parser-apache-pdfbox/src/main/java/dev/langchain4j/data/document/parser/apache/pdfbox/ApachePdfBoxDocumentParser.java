@@ -4,33 +4,90 @@ import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.Metadata;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
 import org.apache.pdfbox.text.PDFTextStripper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
  * Parses PDF file into a {@link Document} using Apache PDFBox library
+ * <p>
+ * Besides {@link #parse(InputStream)}, which returns the text of the whole file as a single {@link Document},
+ * {@link #parsePages(InputStream)} returns a lazily consumed {@link Stream} of {@link Document}s,
+ * one per range of {@link Builder#pagesPerDocument(Integer)} pages, with the {@link #PAGE_NUMBER}
+ * and {@link #LAST_PAGE_NUMBER} metadata entries. When an {@link Builder#executor(Executor)} is configured,
+ * page ranges are extracted in parallel, each worker using its own copy of the PDF document
+ * (PDFBox documents are not thread-safe), while the documents are still returned in page order.
+ * <p>
+ * The memory used to load PDF files can be limited with {@link Builder#memoryUsageSetting(MemoryUsageSetting)},
+ * for example {@code MemoryUsageSetting.setupMixed(64 * 1024 * 1024)}.
  */
 public class ApachePdfBoxDocumentParser implements DocumentParser {
 
+    /**
+     * The metadata key for the number (starting from 1) of the first page of a {@link Document}
+     * returned by {@link #parsePages(InputStream)}.
+     */
+    public static final String PAGE_NUMBER = "page_number";
+
+    /**
+     * The metadata key for the number of the last page of a {@link Document}
+     * returned by {@link #parsePages(InputStream)}.
+     */
+    public static final String LAST_PAGE_NUMBER = "last_page_number";
+
     private final boolean includeMetadata;
+    private final MemoryUsageSetting memoryUsageSetting;
+    private final int pagesPerDocument;
+    private final Executor executor;
+    private final int parallelism;
 
     public ApachePdfBoxDocumentParser() {
         this(false);
     }
 
     public ApachePdfBoxDocumentParser(boolean includeMetadata) {
-        this.includeMetadata = includeMetadata;
+        this(builder().includeMetadata(includeMetadata));
+    }
+
+    public ApachePdfBoxDocumentParser(Builder builder) {
+        this.includeMetadata = getOrDefault(builder.includeMetadata, false);
+        this.memoryUsageSetting = builder.memoryUsageSetting;
+        this.pagesPerDocument = ensureGreaterThanZero(getOrDefault(builder.pagesPerDocument, 1), "pagesPerDocument");
+        this.executor = builder.executor;
+        this.parallelism = ensureGreaterThanZero(
+                getOrDefault(builder.parallelism, Runtime.getRuntime().availableProcessors()), "parallelism");
     }
 
     @Override
     public Document parse(InputStream inputStream) {
-        try (PDDocument pdfDocument = PDDocument.load(inputStream)) {
+        try (PDDocument pdfDocument = load(inputStream)) {
             PDFTextStripper stripper = new PDFTextStripper();
             String text = stripper.getText(pdfDocument);
             if (isNullOrBlank(text)) {
@@ -44,6 +101,36 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
     }
 
+    /**
+     * Parses the PDF file page by page.
+     * <br>
+     * Pages are extracted as the returned stream is consumed, so the returned documents can be processed
+     * (e.g., split and embedded) before the whole file is parsed. Blank page ranges are skipped.
+     * The returned stream must be closed after use, to release the PDF document.
+     *
+     * @param inputStream the PDF file.
+     * @return a stream of documents, one per range of {@code pagesPerDocument} pages, in page order.
+     */
+    public Stream<Document> parsePages(InputStream inputStream) {
+        PageRanges pageRanges = new PageRanges(inputStream);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(pageRanges, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(pageRanges::close);
+    }
+
+    private PDDocument load(InputStream inputStream) throws IOException {
+        return memoryUsageSetting == null
+                ? PDDocument.load(inputStream)
+                : PDDocument.load(inputStream, memoryUsageSetting);
+    }
+
+    private PDDocument load(Path file) throws IOException {
+        return memoryUsageSetting == null
+                ? PDDocument.load(file.toFile())
+                : PDDocument.load(file.toFile(), memoryUsageSetting);
+    }
+
     private Metadata toMetadata(PDDocument pdDocument) {
         PDDocumentInformation documentInformation = pdDocument.getDocumentInformation();
         Metadata metadata = new Metadata();
@@ -53,4 +140,263 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
         return metadata;
     }
+
+    /**
+     * Extracts page ranges, keeping up to {@code 2 * parallelism} ranges being extracted ahead of the consumer.
+     * In parallel mode, the input is copied into a temporary file, from which up to {@code parallelism}
+     * PDF documents are loaded and reused across page ranges.
+     */
+    private class PageRanges implements Iterator<Document> {
+
+        private final Path file;
+        private final List<PDDocument> loadedDocuments = new ArrayList<>();
+        private final BlockingQueue<PDDocument> idleDocuments = new LinkedBlockingQueue<>();
+        private final Deque<CompletableFuture<Document>> inFlight = new ArrayDeque<>();
+        private final int pageCount;
+        private final Metadata documentMetadata;
+        private int nextPage = 1;
+        private Document next;
+        private boolean closed; // guarded by loadedDocuments
+        private int runningExtractions; // guarded by loadedDocuments
+
+        private PageRanges(InputStream inputStream) {
+            try {
+                PDDocument pdfDocument;
+                if (executor == null) {
+                    file = null;
+                    pdfDocument = load(inputStream);
+                } else {
+                    file = Files.createTempFile("langchain4j-pdfbox-", ".pdf");
+                    Files.copy(inputStream, file, REPLACE_EXISTING);
+                    pdfDocument = load(file);
+                }
+                loadedDocuments.add(pdfDocument);
+                idleDocuments.add(pdfDocument);
+                pageCount = pdfDocument.getNumberOfPages();
+                documentMetadata = includeMetadata ? toMetadata(pdfDocument) : new Metadata();
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (executor == null) {
+                    if (nextPage > pageCount) {
+                        return false;
+                    }
+                    int startPage = nextPage;
+                    nextPage += pagesPerDocument;
+                    next = extract(startPage, endPageOf(startPage));
+                } else {
+                    while (inFlight.size() < 2 * parallelism && nextPage <= pageCount) {
+                        int startPage = nextPage;
+                        nextPage += pagesPerDocument;
+                        inFlight.add(CompletableFuture.supplyAsync(
+                                () -> extractUnlessClosed(startPage, endPageOf(startPage)), executor));
+                    }
+                    if (inFlight.isEmpty()) {
+                        return false;
+                    }
+                    next = join(inFlight.poll());
+                }
+            }
+            return true;
+        }
+
+        private int endPageOf(int startPage) {
+            return Math.min(startPage + pagesPerDocument - 1, pageCount);
+        }
+
+        @Override
+        public Document next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Document document = next;
+            next = null;
+            return document;
+        }
+
+        /**
+         * Extracts the given pages on a worker thread, registering the extraction so that {@link #close()}
+         * can wait for it before closing the PDF documents.
+         *
+         * @return the document for the given pages, or null if they are blank or the page ranges are closed
+         */
+        private Document extractUnlessClosed(int startPage, int endPage) {
+            synchronized (loadedDocuments) {
+                if (closed) {
+                    return null;
+                }
+                runningExtractions++;
+            }
+            try {
+                return extract(startPage, endPage);
+            } finally {
+                synchronized (loadedDocuments) {
+                    runningExtractions--;
+                    loadedDocuments.notifyAll();
+                }
+            }
+        }
+
+        /**
+         * @return the document for the given pages, or null if they are blank
+         */
+        private Document extract(int startPage, int endPage) {
+            PDDocument pdfDocument = acquire();
+            try {
+                PDFTextStripper stripper = new PDFTextStripper();
+                stripper.setStartPage(startPage);
+                stripper.setEndPage(endPage);
+                String text = stripper.getText(pdfDocument);
+                if (isNullOrBlank(text)) {
+                    return null;
+                }
+                Metadata metadata = documentMetadata.copy()
+                        .put(PAGE_NUMBER, startPage)
+                        .put(LAST_PAGE_NUMBER, endPage);
+                return Document.from(text, metadata);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                idleDocuments.add(pdfDocument);
+            }
+        }
+
+        private PDDocument acquire() {
+            PDDocument pdfDocument = idleDocuments.poll();
+            if (pdfDocument != null) {
+                return pdfDocument;
+            }
+            synchronized (loadedDocuments) {
+                if (loadedDocuments.size() < parallelism && !closed) {
+                    try {
+                        pdfDocument = load(file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    loadedDocuments.add(pdfDocument);
+                    return pdfDocument;
+                }
+            }
+            try {
+                return idleDocuments.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        private Document join(CompletableFuture<Document> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+
+        private void close() {
+            inFlight.forEach(future -> future.cancel(false));
+            inFlight.clear();
+            synchronized (loadedDocuments) {
+                closed = true;
+                // wait for the running extractions, so that documents are not closed (and the file is not deleted)
+                // while in use; cancelling the futures above does not stop the extractions that already started
+                boolean interrupted = false;
+                while (runningExtractions > 0) {
+                    try {
+                        loadedDocuments.wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                for (PDDocument pdfDocument : loadedDocuments) {
+                    try {
+                        pdfDocument.close();
+                    } catch (IOException ignored) {
+                    }
+                }
+                loadedDocuments.clear();
+            }
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Boolean includeMetadata;
+        private MemoryUsageSetting memoryUsageSetting;
+        private Integer pagesPerDocument;
+        private Executor executor;
+        private Integer parallelism;
+
+        /**
+         * @param includeMetadata Whether to include the PDF document information (author, creator, etc.)
+         *                        in the metadata of the returned documents. Default: {@code false}.
+         */
+        public Builder includeMetadata(Boolean includeMetadata) {
+            this.includeMetadata = includeMetadata;
+            return this;
+        }
+
+        /**
+         * @param memoryUsageSetting How much main memory and temporary file storage PDFBox can use to load
+         *                           a PDF file. By default, only main memory is used.
+         */
+        public Builder memoryUsageSetting(MemoryUsageSetting memoryUsageSetting) {
+            this.memoryUsageSetting = memoryUsageSetting;
+            return this;
+        }
+
+        /**
+         * @param pagesPerDocument The number of pages per {@link Document} returned by
+         *                         {@link #parsePages(InputStream)}. Default: 1.
+         */
+        public Builder pagesPerDocument(Integer pagesPerDocument) {
+            this.pagesPerDocument = pagesPerDocument;
+            return this;
+        }
+
+        /**
+         * @param executor The executor to extract page ranges in parallel with, in {@link #parsePages(InputStream)}.
+         *                 By default, pages are extracted on the thread consuming the stream.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param parallelism The maximum number of page ranges extracted concurrently (and of copies of the PDF
+         *                    document loaded in memory) when an {@link #executor(Executor)} is configured.
+         *                    Default: the number of available processors.
+         */
+        public Builder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public ApachePdfBoxDocumentParser build() {
+            return new ApachePdfBoxDocumentParser(this);
+        }
+    }
 }
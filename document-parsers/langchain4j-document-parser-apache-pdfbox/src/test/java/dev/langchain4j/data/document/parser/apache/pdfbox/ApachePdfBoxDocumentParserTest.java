@@ -7,6 +7,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -53,4 +57,63 @@ class ApachePdfBoxDocumentParserTest {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_parse_pdf_file_page_by_page() {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf")) {
+            ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser();
+
+            List<Document> documents;
+            try (Stream<Document> pages = parser.parsePages(inputStream)) {
+                documents = pages.toList();
+            }
+
+            assertThat(documents).hasSize(1);
+            assertThat(documents.get(0).text()).isEqualToIgnoringWhitespace("test content");
+            assertThat(documents.get(0).metadata().getInteger("page_number")).isEqualTo(1);
+            assertThat(documents.get(0).metadata().getInteger("last_page_number")).isEqualTo(1);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    void should_parse_pdf_file_page_by_page_in_parallel() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf")) {
+            ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder()
+                    .includeMetadata(true)
+                    .executor(executor)
+                    .parallelism(2)
+                    .build();
+
+            List<Document> documents;
+            try (Stream<Document> pages = parser.parsePages(inputStream)) {
+                documents = pages.toList();
+            }
+
+            assertThat(documents).hasSize(1);
+            assertThat(documents.get(0).text()).isEqualToIgnoringWhitespace("test content");
+            assertThat(documents.get(0).metadata().toMap())
+                    .containsEntry("Author", "ljuba")
+                    .containsEntry("page_number", 1);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_skip_blank_pages() {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("blank-file.pdf")) {
+            ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser();
+
+            try (Stream<Document> pages = parser.parsePages(inputStream)) {
+                assertThat(pages).isEmpty();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -2,14 +2,30 @@ package dev.langchain4j.data.document.parser.apache.tika;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 import java.io.InputStream;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.tika.exception.ZeroByteFileException;
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.parser.AutoDetectParser;
@@ -17,16 +33,34 @@ import org.apache.tika.parser.ParseContext;
 import org.apache.tika.parser.Parser;
 import org.apache.tika.sax.BodyContentHandler;
 import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Parses files into {@link Document}s using Apache Tika library, automatically detecting the file format.
  * This parser supports various file formats, including PDF, DOC, PPT, XLS.
  * For detailed information on supported formats,
  * please refer to the <a href="https://tika.apache.org/2.9.1/formats.html">Apache Tika documentation</a>.
+ * <p>
+ * When built with {@link #builder()}, the parser can additionally:
+ * <ul>
+ * <li>reuse Tika {@link Parser} instances from a pool of {@link Builder#parserPoolSize(Integer)} parsers,
+ * instead of creating (and initializing) a new one for each file. Pooled parsers are shared between threads,
+ * so the {@link Builder#parserSupplier(Supplier)} must supply thread-safe parsers
+ * (as {@link AutoDetectParser} is);</li>
+ * <li>stream the extracted text in chunks of at most {@link Builder#maxChunkSize(Integer)} characters,
+ * see {@link #parseChunks(InputStream)}, so that the full text of very large files
+ * (e.g., spreadsheets or archives) does not need to be held in memory at once.</li>
+ * </ul>
+ * To parse many files in parallel, the parser can be used from multiple threads,
+ * e.g., with {@code StreamingFileSystemDocumentLoader} configured with an executor.
  */
 public class ApacheTikaDocumentParser implements DocumentParser {
 
     private static final int NO_WRITE_LIMIT = -1;
+    private static final int DEFAULT_MAX_CHUNK_SIZE = 64 * 1024;
+    private static final int DEFAULT_MAX_CHUNKS_IN_FLIGHT = 4;
+    private static final int DEFAULT_MAX_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
     public static final Supplier<Parser> DEFAULT_PARSER_SUPPLIER = AutoDetectParser::new;
     public static final Supplier<Metadata> DEFAULT_METADATA_SUPPLIER = Metadata::new;
     public static final Supplier<ParseContext> DEFAULT_PARSE_CONTEXT_SUPPLIER = ParseContext::new;
@@ -40,6 +74,14 @@ public class ApacheTikaDocumentParser implements DocumentParser {
 
     private final boolean includeMetadata;
 
+    private final int parserPoolSize;
+    private final BlockingQueue<Parser> parserPool;
+    private final AtomicInteger createdParsers = new AtomicInteger();
+
+    private final int maxChunkSize;
+    private final int maxChunksInFlight;
+    private final Executor executor;
+
     /**
      * Creates an instance of an {@code ApacheTikaDocumentParser} with the default Tika components.
      * It uses {@link AutoDetectParser}, {@link BodyContentHandler} without write limit,
@@ -118,22 +160,65 @@ public class ApacheTikaDocumentParser implements DocumentParser {
             Supplier<Metadata> metadataSupplier,
             Supplier<ParseContext> parseContextSupplier,
             boolean includeMetadata) {
-        this.parserSupplier = getOrDefault(parserSupplier, () -> DEFAULT_PARSER_SUPPLIER);
-        this.contentHandlerSupplier = getOrDefault(contentHandlerSupplier, () -> DEFAULT_CONTENT_HANDLER_SUPPLIER);
-        this.metadataSupplier = getOrDefault(metadataSupplier, () -> DEFAULT_METADATA_SUPPLIER);
-        this.parseContextSupplier = getOrDefault(parseContextSupplier, () -> DEFAULT_PARSE_CONTEXT_SUPPLIER);
-        this.includeMetadata = includeMetadata;
+        this(builder()
+                .parserSupplier(parserSupplier)
+                .contentHandlerSupplier(contentHandlerSupplier)
+                .metadataSupplier(metadataSupplier)
+                .parseContextSupplier(parseContextSupplier)
+                .includeMetadata(includeMetadata));
+    }
+
+    public ApacheTikaDocumentParser(Builder builder) {
+        this.parserSupplier = getOrDefault(builder.parserSupplier, () -> DEFAULT_PARSER_SUPPLIER);
+        this.contentHandlerSupplier =
+                getOrDefault(builder.contentHandlerSupplier, () -> DEFAULT_CONTENT_HANDLER_SUPPLIER);
+        this.metadataSupplier = getOrDefault(builder.metadataSupplier, () -> DEFAULT_METADATA_SUPPLIER);
+        this.parseContextSupplier = getOrDefault(builder.parseContextSupplier, () -> DEFAULT_PARSE_CONTEXT_SUPPLIER);
+        this.includeMetadata = getOrDefault(builder.includeMetadata, false);
+        this.parserPoolSize =
+                ensureBetween(getOrDefault(builder.parserPoolSize, 0), 0, Integer.MAX_VALUE, "parserPoolSize");
+        this.parserPool = parserPoolSize > 0 ? new LinkedBlockingQueue<>() : null;
+        this.maxChunkSize =
+                ensureGreaterThanZero(getOrDefault(builder.maxChunkSize, DEFAULT_MAX_CHUNK_SIZE), "maxChunkSize");
+        this.maxChunksInFlight = ensureGreaterThanZero(
+                getOrDefault(builder.maxChunksInFlight, DEFAULT_MAX_CHUNKS_IN_FLIGHT), "maxChunksInFlight");
+        this.executor = builder.executor;
+    }
+
+    private Executor executor() {
+        return executor != null ? executor : DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Holds the executor shared by all parsers without a configured executor,
+     * created only when {@link #parseChunks(InputStream)} is first called.
+     */
+    private static class DefaultExecutorHolder {
+
+        private static final Executor EXECUTOR = createVirtualThreadExecutor(() -> {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                    DEFAULT_MAX_THREADS, DEFAULT_MAX_THREADS,
+                    1, SECONDS,
+                    new LinkedBlockingQueue<>()
+            );
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            return threadPoolExecutor;
+        });
     }
 
     @Override
     public Document parse(InputStream inputStream) {
         try {
-            Parser parser = parserSupplier.get();
             ContentHandler contentHandler = contentHandlerSupplier.get();
             Metadata metadata = metadataSupplier.get();
             ParseContext parseContext = parseContextSupplier.get();
 
-            parser.parse(inputStream, contentHandler, metadata, parseContext);
+            Parser parser = acquireParser();
+            try {
+                parser.parse(inputStream, contentHandler, metadata, parseContext);
+            } finally {
+                releaseParser(parser);
+            }
             String text = contentHandler.toString();
 
             if (isNullOrBlank(text)) {
@@ -145,11 +230,188 @@ public class ApacheTikaDocumentParser implements DocumentParser {
             throw e;
         } catch (ZeroByteFileException e) {
             throw new BlankDocumentException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Parses the file and returns its body text as a lazily consumed stream of {@link Document}s,
+     * each containing at most {@code maxChunkSize} characters. Chunks are cut at whitespace where possible.
+     * <br>
+     * Tika pushes the extracted text through SAX events, so the file is parsed on the configured executor
+     * (by default, a new virtual thread, when available), which pauses while {@code maxChunksInFlight} chunks
+     * are waiting to be consumed. The configured content handler is not used, since the text goes directly
+     * into chunks; Tika metadata, when included, is the metadata known by the time each chunk is emitted.
+     * <br>
+     * Blank chunks are skipped, so a blank or empty file results in an empty stream.
+     * The returned stream should be closed if it is not fully consumed, to stop parsing.
+     *
+     * @param inputStream the file to parse.
+     * @return a stream of documents, in the order in which their text appears in the file.
+     */
+    public Stream<Document> parseChunks(InputStream inputStream) {
+        ChunkingContentHandler chunks = new ChunkingContentHandler();
+        executor().execute(() -> chunks.parse(inputStream));
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(chunks::cancel);
+    }
+
+    private Parser acquireParser() throws InterruptedException {
+        if (parserPool == null) {
+            return parserSupplier.get();
+        }
+        Parser parser = parserPool.poll();
+        if (parser != null) {
+            return parser;
+        }
+        if (createdParsers.getAndIncrement() < parserPoolSize) {
+            try {
+                return parserSupplier.get();
+            } catch (RuntimeException | Error e) {
+                createdParsers.decrementAndGet();
+                throw e;
+            }
+        }
+        createdParsers.decrementAndGet();
+        return parserPool.take();
+    }
+
+    private void releaseParser(Parser parser) {
+        if (parserPool != null) {
+            parserPool.add(parser);
+        }
+    }
+
+    /**
+     * Receives the body text through SAX events and hands it over in chunks to the thread consuming the stream.
+     */
+    private class ChunkingContentHandler extends DefaultHandler implements Iterator<Document> {
+
+        private static final Object END = new Object();
+
+        private final BlockingQueue<Object> chunks = new ArrayBlockingQueue<>(maxChunksInFlight);
+        private final StringBuilder text = new StringBuilder();
+        private final Metadata metadata = metadataSupplier.get();
+        private volatile boolean cancelled;
+        private Object next;
+
+        private void parse(InputStream inputStream) {
+            Object last = END;
+            boolean interrupted = false;
+            try {
+                Parser parser = acquireParser();
+                try {
+                    parser.parse(inputStream, new BodyContentHandler(this), metadata, parseContextSupplier.get());
+                } finally {
+                    releaseParser(parser);
+                }
+                emit(text.length());
+            } catch (ZeroByteFileException e) {
+                // empty file, no chunks
+            } catch (InterruptedException e) {
+                // the interrupt status is restored once the consumer has been notified
+                interrupted = true;
+                last = new RuntimeException(e);
+            } catch (Exception e) {
+                last = e instanceof RuntimeException runtimeException ? runtimeException : new RuntimeException(e);
+            }
+            if (!cancelled) {
+                try {
+                    chunks.put(last);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            text.append(ch, start, length);
+            while (text.length() >= maxChunkSize) {
+                emit(chunkEnd());
+            }
+        }
+
+        @Override
+        public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+            characters(ch, start, length);
+        }
+
+        /**
+         * @return the end of the next chunk: after the last whitespace within {@code maxChunkSize} if there is one
+         */
+        private int chunkEnd() {
+            for (int i = maxChunkSize - 1; i > 0; i--) {
+                if (Character.isWhitespace(text.charAt(i))) {
+                    return i + 1;
+                }
+            }
+            return maxChunkSize;
+        }
+
+        private void emit(int end) throws SAXException {
+            String chunk = text.substring(0, end);
+            text.delete(0, end);
+            if (isNullOrBlank(chunk)) {
+                return;
+            }
+            Document document = includeMetadata ? Document.from(chunk, convert(metadata)) : Document.from(chunk);
+            try {
+                if (!cancelled) {
+                    chunks.put(document);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelled = true;
+            }
+            if (cancelled) {
+                throw new SAXException("Parsing was cancelled");
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = chunks.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            if (next instanceof RuntimeException e) {
+                next = END;
+                throw e;
+            }
+            return next != END;
+        }
+
+        @Override
+        public Document next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Document document = (Document) next;
+            next = null;
+            return document;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            // unblocks the parsing thread if it waits for the consumer
+            chunks.clear();
+        }
+    }
+
     /**
      * Converts a Tika {@link Metadata} object into a {@link dev.langchain4j.data.document.Metadata} object.
      *
@@ -167,4 +429,105 @@ public class ApacheTikaDocumentParser implements DocumentParser {
 
         return new dev.langchain4j.data.document.Metadata(tikaMetaData);
     }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Supplier<Parser> parserSupplier;
+        private Supplier<ContentHandler> contentHandlerSupplier;
+        private Supplier<Metadata> metadataSupplier;
+        private Supplier<ParseContext> parseContextSupplier;
+        private Boolean includeMetadata;
+        private Integer parserPoolSize;
+        private Integer maxChunkSize;
+        private Integer maxChunksInFlight;
+        private Executor executor;
+
+        /**
+         * @param parserSupplier Supplier for Tika parser to use. Default: {@link AutoDetectParser}
+         */
+        public Builder parserSupplier(Supplier<Parser> parserSupplier) {
+            this.parserSupplier = parserSupplier;
+            return this;
+        }
+
+        /**
+         * @param contentHandlerSupplier Supplier for Tika content handler, used by {@link #parse(InputStream)}.
+         *                               Default: {@link BodyContentHandler} without write limit
+         */
+        public Builder contentHandlerSupplier(Supplier<ContentHandler> contentHandlerSupplier) {
+            this.contentHandlerSupplier = contentHandlerSupplier;
+            return this;
+        }
+
+        /**
+         * @param metadataSupplier Supplier for Tika metadata. Default: empty {@link Metadata}
+         */
+        public Builder metadataSupplier(Supplier<Metadata> metadataSupplier) {
+            this.metadataSupplier = metadataSupplier;
+            return this;
+        }
+
+        /**
+         * @param parseContextSupplier Supplier for Tika parse context. Default: empty {@link ParseContext}
+         */
+        public Builder parseContextSupplier(Supplier<ParseContext> parseContextSupplier) {
+            this.parseContextSupplier = parseContextSupplier;
+            return this;
+        }
+
+        /**
+         * @param includeMetadata Whether to include metadata in the parsed documents. Default: {@code false}
+         */
+        public Builder includeMetadata(Boolean includeMetadata) {
+            this.includeMetadata = includeMetadata;
+            return this;
+        }
+
+        /**
+         * @param parserPoolSize The maximum number of Tika parsers created and reused across files.
+         *                       When all of them are in use, parsing waits for one to be released.
+         *                       Default: 0, meaning that a new parser is created for each file.
+         */
+        public Builder parserPoolSize(Integer parserPoolSize) {
+            this.parserPoolSize = parserPoolSize;
+            return this;
+        }
+
+        /**
+         * @param maxChunkSize The maximum number of characters in each document returned by
+         *                     {@link #parseChunks(InputStream)}. Default: 65536
+         */
+        public Builder maxChunkSize(Integer maxChunkSize) {
+            this.maxChunkSize = maxChunkSize;
+            return this;
+        }
+
+        /**
+         * @param maxChunksInFlight The maximum number of chunks extracted by {@link #parseChunks(InputStream)}
+         *                          but not yet consumed, after which parsing pauses. Default: 4
+         */
+        public Builder maxChunksInFlight(Integer maxChunksInFlight) {
+            this.maxChunksInFlight = maxChunksInFlight;
+            return this;
+        }
+
+        /**
+         * @param executor The executor on which {@link #parseChunks(InputStream)} parses files.
+         *                 Default: a new virtual thread per file, when available, otherwise a thread pool shared
+         *                 by all parsers, with one thread per available processor (at least 4). With the pool,
+         *                 at most that many files are parsed at once, the others wait for a thread
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ApacheTikaDocumentParser build() {
+            return new ApacheTikaDocumentParser(this);
+        }
+    }
 }
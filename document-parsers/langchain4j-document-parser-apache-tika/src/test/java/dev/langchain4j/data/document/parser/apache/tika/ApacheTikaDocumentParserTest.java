@@ -7,7 +7,14 @@ import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.apache.tika.parser.AutoDetectParser;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -86,4 +93,87 @@ class ApacheTikaDocumentParserTest {
 
         assertThatThrownBy(() -> parser.parse(inputStream)).isExactlyInstanceOf(BlankDocumentException.class);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test-file.xls", "test-file.xlsx"})
+    void should_parse_files_in_chunks(String fileName) {
+
+        ApacheTikaDocumentParser parser =
+                ApacheTikaDocumentParser.builder().maxChunkSize(20).build();
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fileName);
+
+        List<Document> documents;
+        try (Stream<Document> chunks = parser.parseChunks(inputStream)) {
+            documents = chunks.toList();
+        }
+
+        assertThat(documents).hasSizeGreaterThan(1);
+        assertThat(documents).allSatisfy(document -> assertThat(document.text()).hasSizeLessThanOrEqualTo(20));
+        assertThat(String.join("", documents.stream().map(Document::text).toList()))
+                .isEqualToIgnoringWhitespace("Sheet1\ntest content\nSheet2\ntest content");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"empty-file.txt", "blank-file.txt"})
+    void should_return_no_chunks_for_blank_files(String fileName) {
+
+        ApacheTikaDocumentParser parser = ApacheTikaDocumentParser.builder().build();
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fileName);
+
+        try (Stream<Document> chunks = parser.parseChunks(inputStream)) {
+            assertThat(chunks).isEmpty();
+        }
+    }
+
+    @Test
+    void should_reuse_pooled_parsers() throws Exception {
+
+        AtomicInteger createdParsers = new AtomicInteger();
+        ApacheTikaDocumentParser parser = ApacheTikaDocumentParser.builder()
+                .parserSupplier(() -> {
+                    createdParsers.incrementAndGet();
+                    return new AutoDetectParser();
+                })
+                .parserPoolSize(2)
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Document>> documents = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                documents.add(executor.submit(
+                        () -> parser.parse(getClass().getClassLoader().getResourceAsStream("test-file.docx"))));
+            }
+            for (Future<Document> document : documents) {
+                assertThat(document.get().text()).isEqualToIgnoringWhitespace("test content");
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(createdParsers).hasValueLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void should_not_count_parser_that_failed_to_be_created() {
+
+        AtomicInteger attempts = new AtomicInteger();
+        ApacheTikaDocumentParser parser = ApacheTikaDocumentParser.builder()
+                .parserSupplier(() -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new IllegalStateException("failed to create parser");
+                    }
+                    return new AutoDetectParser();
+                })
+                .parserPoolSize(1)
+                .build();
+
+        assertThatThrownBy(() -> parser.parse(getClass().getClassLoader().getResourceAsStream("test-file.docx")))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("failed to create parser");
+
+        Document document = parser.parse(getClass().getClassLoader().getResourceAsStream("test-file.docx"));
+
+        assertThat(document.text()).isEqualToIgnoringWhitespace("test content");
+    }
 }
@@ -0,0 +1,327 @@
+package dev.langchain4j.model.anthropic;
+
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.model.anthropic.AnthropicChatModel.toThinking;
+import static dev.langchain4j.model.anthropic.internal.api.AnthropicCacheType.EPHEMERAL;
+import static dev.langchain4j.model.anthropic.internal.api.AnthropicCacheType.NO_CACHE;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAiMessage;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicMessages;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicSystemPrompt;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicTools;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toFinishReason;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toTokenUsage;
+import static dev.langchain4j.model.anthropic.internal.sanitizer.MessageSanitizer.sanitizeMessages;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.exception.UnsupportedFeatureException;
+import dev.langchain4j.internal.ChatRequestValidationUtils;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageBatchRequest;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageRequest;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageResponse;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessageBatch;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessageBatchError;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessageBatchRequest;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessageBatchRequestCounts;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessageBatchResult;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessageBatchResultContent;
+import dev.langchain4j.model.anthropic.internal.client.AnthropicClient;
+import dev.langchain4j.model.batch.BatchJob;
+import dev.langchain4j.model.batch.BatchModel;
+import dev.langchain4j.model.batch.BatchResult;
+import dev.langchain4j.model.batch.BatchStatus;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.ChatResponseMetadata;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Sends {@link ChatRequest}s through the Anthropic
+ * <a href="https://docs.anthropic.com/en/api/creating-message-batches">Message Batches API</a>,
+ * which processes them asynchronously, within 24 hours, at a lower price than the Messages API
+ * used by {@link AnthropicChatModel}.
+ * <br>
+ * The model name, temperature, top-P, top-K, maximum output tokens, stop sequences and tools
+ * of each {@link ChatRequest} take precedence over the ones configured on this model.
+ * Results are mapped back to {@link ChatResponse}s, identified by the index of their request.
+ */
+public class AnthropicBatchChatModel implements BatchModel<ChatRequest, ChatResponse> {
+
+    private static final String CUSTOM_ID_PREFIX = "request-";
+
+    private final AnthropicClient client;
+    private final String modelName;
+    private final Double temperature;
+    private final Double topP;
+    private final Integer topK;
+    private final int maxTokens;
+    private final List<String> stopSequences;
+    private final boolean cacheSystemMessages;
+    private final boolean cacheTools;
+    private final String thinkingType;
+    private final Integer thinkingBudgetTokens;
+    private final int maxRetries;
+
+    private AnthropicBatchChatModel(AnthropicBatchChatModelBuilder builder) {
+        this.client = AnthropicClient.builder()
+                .baseUrl(getOrDefault(builder.baseUrl, "https://api.anthropic.com/v1/"))
+                .apiKey(builder.apiKey)
+                .version(getOrDefault(builder.version, "2023-06-01"))
+                .beta(builder.beta)
+                .timeout(getOrDefault(builder.timeout, Duration.ofSeconds(60)))
+                .logRequests(getOrDefault(builder.logRequests, false))
+                .logResponses(getOrDefault(builder.logResponses, false))
+                .build();
+        this.modelName = ensureNotBlank(builder.modelName, "modelName");
+        this.temperature = builder.temperature;
+        this.topP = builder.topP;
+        this.topK = builder.topK;
+        this.maxTokens = getOrDefault(builder.maxTokens, 1024);
+        this.stopSequences = builder.stopSequences;
+        this.cacheSystemMessages = getOrDefault(builder.cacheSystemMessages, false);
+        this.cacheTools = getOrDefault(builder.cacheTools, false);
+        this.thinkingType = builder.thinkingType;
+        this.thinkingBudgetTokens = builder.thinkingBudgetTokens;
+        this.maxRetries = getOrDefault(builder.maxRetries, 2);
+    }
+
+    @Override
+    public BatchJob submit(List<ChatRequest> chatRequests) {
+        List<AnthropicMessageBatchRequest> requests = new ArrayList<>(chatRequests.size());
+        for (int i = 0; i < chatRequests.size(); i++) {
+            requests.add(new AnthropicMessageBatchRequest(CUSTOM_ID_PREFIX + i, toAnthropicRequest(chatRequests.get(i))));
+        }
+        AnthropicCreateMessageBatchRequest request = new AnthropicCreateMessageBatchRequest(requests);
+        return toBatchJob(withRetryMappingExceptions(() -> client.createMessageBatch(request), maxRetries));
+    }
+
+    private AnthropicCreateMessageRequest toAnthropicRequest(ChatRequest chatRequest) {
+        ChatRequestParameters parameters = chatRequest.parameters();
+        if (parameters.frequencyPenalty() != null || parameters.presencePenalty() != null) {
+            throw new UnsupportedFeatureException(
+                    "'frequencyPenalty' and 'presencePenalty' parameters are not supported by Anthropic");
+        }
+        ChatRequestValidationUtils.validate(parameters.toolChoice());
+        ChatRequestValidationUtils.validate(parameters.responseFormat());
+
+        List<ChatMessage> messages = chatRequest.messages();
+        return AnthropicCreateMessageRequest.builder()
+                .model(getOrDefault(parameters.modelName(), modelName))
+                .messages(toAnthropicMessages(sanitizeMessages(messages)))
+                .system(toAnthropicSystemPrompt(messages, cacheSystemMessages ? EPHEMERAL : NO_CACHE))
+                .maxTokens(getOrDefault(parameters.maxOutputTokens(), maxTokens))
+                .stopSequences(isNullOrEmpty(parameters.stopSequences()) ? stopSequences : parameters.stopSequences())
+                .stream(false)
+                .temperature(getOrDefault(parameters.temperature(), temperature))
+                .topP(getOrDefault(parameters.topP(), topP))
+                .topK(getOrDefault(parameters.topK(), topK))
+                .tools(toAnthropicTools(parameters.toolSpecifications(), cacheTools ? EPHEMERAL : NO_CACHE))
+                .thinking(toThinking(thinkingType, thinkingBudgetTokens))
+                .build();
+    }
+
+    @Override
+    public BatchJob retrieve(String batchId) {
+        return toBatchJob(withRetryMappingExceptions(() -> client.retrieveMessageBatch(batchId), maxRetries));
+    }
+
+    @Override
+    public BatchJob cancel(String batchId) {
+        return toBatchJob(withRetryMappingExceptions(() -> client.cancelMessageBatch(batchId), maxRetries));
+    }
+
+    @Override
+    public Stream<BatchResult<ChatResponse>> results(String batchId) {
+        return client.messageBatchResults(batchId).map(AnthropicBatchChatModel::toBatchResult);
+    }
+
+    private static BatchResult<ChatResponse> toBatchResult(AnthropicMessageBatchResult result) {
+        int index = Integer.parseInt(result.customId.substring(CUSTOM_ID_PREFIX.length()));
+        AnthropicMessageBatchResultContent content = result.result;
+        if (content != null && "succeeded".equals(content.type) && content.message != null) {
+            AnthropicCreateMessageResponse response = content.message;
+            return BatchResult.success(index, ChatResponse.builder()
+                    .aiMessage(toAiMessage(response.content))
+                    .metadata(ChatResponseMetadata.builder()
+                            .id(response.id)
+                            .modelName(response.model)
+                            .tokenUsage(toTokenUsage(response.usage))
+                            .finishReason(toFinishReason(response.stopReason))
+                            .build())
+                    .build());
+        }
+        return BatchResult.failure(index, toError(content));
+    }
+
+    private static String toError(AnthropicMessageBatchResultContent content) {
+        if (content == null) {
+            return "Missing result";
+        }
+        AnthropicMessageBatchError error = content.error;
+        if (error != null && error.error != null && error.error.message != null) {
+            return error.error.message;
+        }
+        if (error != null && error.message != null) {
+            return error.message;
+        }
+        return "Request " + content.type;
+    }
+
+    static BatchJob toBatchJob(AnthropicMessageBatch batch) {
+        AnthropicMessageBatchRequestCounts counts = batch.requestCounts;
+        int succeeded = counts == null ? 0 : getOrDefault(counts.succeeded, 0);
+        int failed = counts == null
+                ? 0
+                : getOrDefault(counts.errored, 0) + getOrDefault(counts.canceled, 0) + getOrDefault(counts.expired, 0);
+        int processing = counts == null ? 0 : getOrDefault(counts.processing, 0);
+        return BatchJob.builder()
+                .id(batch.id)
+                .status(toBatchStatus(batch))
+                .totalRequests(processing + succeeded + failed)
+                .succeededRequests(succeeded)
+                .failedRequests(failed)
+                .build();
+    }
+
+    private static BatchStatus toBatchStatus(AnthropicMessageBatch batch) {
+        if (batch.processingStatus == null) {
+            return BatchStatus.IN_PROGRESS;
+        }
+        return switch (batch.processingStatus) {
+            case "canceling" -> BatchStatus.CANCELLING;
+            case "ended" -> batch.cancelInitiatedAt != null ? BatchStatus.CANCELLED : BatchStatus.COMPLETED;
+            default -> BatchStatus.IN_PROGRESS;
+        };
+    }
+
+    public static AnthropicBatchChatModelBuilder builder() {
+        return new AnthropicBatchChatModelBuilder();
+    }
+
+    public static class AnthropicBatchChatModelBuilder {
+
+        private String baseUrl;
+        private String apiKey;
+        private String version;
+        private String beta;
+        private String modelName;
+        private Double temperature;
+        private Double topP;
+        private Integer topK;
+        private Integer maxTokens;
+        private List<String> stopSequences;
+        private Boolean cacheSystemMessages;
+        private Boolean cacheTools;
+        private String thinkingType;
+        private Integer thinkingBudgetTokens;
+        private Duration timeout;
+        private Integer maxRetries;
+        private Boolean logRequests;
+        private Boolean logResponses;
+
+        public AnthropicBatchChatModelBuilder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder apiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder version(String version) {
+            this.version = version;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder beta(String beta) {
+            this.beta = beta;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder modelName(AnthropicChatModelName modelName) {
+            this.modelName = modelName.toString();
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder temperature(Double temperature) {
+            this.temperature = temperature;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder topP(Double topP) {
+            this.topP = topP;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder topK(Integer topK) {
+            this.topK = topK;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder maxTokens(Integer maxTokens) {
+            this.maxTokens = maxTokens;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder stopSequences(List<String> stopSequences) {
+            this.stopSequences = stopSequences;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder cacheSystemMessages(Boolean cacheSystemMessages) {
+            this.cacheSystemMessages = cacheSystemMessages;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder cacheTools(Boolean cacheTools) {
+            this.cacheTools = cacheTools;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder thinkingType(String thinkingType) {
+            this.thinkingType = thinkingType;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder thinkingBudgetTokens(Integer thinkingBudgetTokens) {
+            this.thinkingBudgetTokens = thinkingBudgetTokens;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder logRequests(Boolean logRequests) {
+            this.logRequests = logRequests;
+            return this;
+        }
+
+        public AnthropicBatchChatModelBuilder logResponses(Boolean logResponses) {
+            this.logResponses = logResponses;
+            return this;
+        }
+
+        public AnthropicBatchChatModel build() {
+            return new AnthropicBatchChatModel(this);
+        }
+    }
+}
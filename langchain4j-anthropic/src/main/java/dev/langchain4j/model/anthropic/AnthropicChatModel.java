@@ -9,6 +9,8 @@ import static dev.langchain4j.model.anthropic.InternalAnthropicHelper.createList
 import static dev.langchain4j.model.anthropic.InternalAnthropicHelper.createListenerResponse;
 import static dev.langchain4j.model.anthropic.internal.api.AnthropicCacheType.EPHEMERAL;
 import static dev.langchain4j.model.anthropic.internal.api.AnthropicCacheType.NO_CACHE;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.addCacheBreakpoints;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.countCacheBreakpoints;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAiMessage;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicMessages;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicSystemPrompt;
@@ -28,8 +30,10 @@ import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.model.ModelProvider;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageRequest;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageResponse;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessage;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicTextContent;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicThinking;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicTool;
 import dev.langchain4j.model.anthropic.internal.client.AnthropicClient;
 import dev.langchain4j.model.chat.ChatModel;
 import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
@@ -86,6 +90,7 @@ public class AnthropicChatModel implements ChatModel {
     private final List<String> stopSequences;
     private final boolean cacheSystemMessages;
     private final boolean cacheTools;
+    private final int cacheConversationTurns;
     private final String thinkingType;
     private final Integer thinkingBudgetTokens;
     private final int maxRetries;
@@ -106,6 +111,10 @@ public class AnthropicChatModel implements ChatModel {
      * @param stopSequences       The custom text sequences that will cause the model to stop generating
      * @param cacheSystemMessages If true, it will add cache_control block to all system messages. Default: false
      * @param cacheTools          If true, it will add cache_control block to all tools. Default: false
+     * @param cacheConversationTurns The number of most recent user turns (user messages or tool results)
+     *                            to add a cache_control block to, so that the conversation prefix is cached.
+     *                            Limited by the maximum number of cache breakpoints per request (4),
+     *                            including the ones added to system messages and tools. Default: 0
      * @param timeout             The timeout for API requests. Default: 60 seconds
      * @param maxRetries          The maximum number of retries for API requests. Default: 2
      * @param logRequests         Whether to log the content of API requests using SLF4J. Default: false
@@ -125,6 +134,7 @@ public class AnthropicChatModel implements ChatModel {
             List<String> stopSequences,
             Boolean cacheSystemMessages,
             Boolean cacheTools,
+            Integer cacheConversationTurns,
             String thinkingType,
             Integer thinkingBudgetTokens,
             Duration timeout,
@@ -149,6 +159,7 @@ public class AnthropicChatModel implements ChatModel {
         this.stopSequences = stopSequences;
         this.cacheSystemMessages = getOrDefault(cacheSystemMessages, false);
         this.cacheTools = getOrDefault(cacheTools, false);
+        this.cacheConversationTurns = getOrDefault(cacheConversationTurns, 0);
         this.thinkingType = thinkingType;
         this.thinkingBudgetTokens = thinkingBudgetTokens;
         this.maxRetries = getOrDefault(maxRetries, 2);
@@ -173,6 +184,7 @@ public class AnthropicChatModel implements ChatModel {
         private List<String> stopSequences;
         private Boolean cacheSystemMessages;
         private Boolean cacheTools;
+        private Integer cacheConversationTurns;
         private String thinkingType;
         private Integer thinkingBudgetTokens;
         private Duration timeout;
@@ -246,6 +258,11 @@ public class AnthropicChatModel implements ChatModel {
             return this;
         }
 
+        public AnthropicChatModelBuilder cacheConversationTurns(Integer cacheConversationTurns) {
+            this.cacheConversationTurns = cacheConversationTurns;
+            return this;
+        }
+
         public AnthropicChatModelBuilder thinkingType(String thinkingType) {
             this.thinkingType = thinkingType;
             return this;
@@ -295,6 +312,7 @@ public class AnthropicChatModel implements ChatModel {
                     stopSequences,
                     cacheSystemMessages,
                     cacheTools,
+                    cacheConversationTurns,
                     thinkingType,
                     thinkingBudgetTokens,
                     timeout,
@@ -329,9 +347,14 @@ public class AnthropicChatModel implements ChatModel {
         List<AnthropicTextContent> systemPrompt =
                 toAnthropicSystemPrompt(messages, cacheSystemMessages ? EPHEMERAL : NO_CACHE);
 
+        List<AnthropicTool> tools = toAnthropicTools(toolSpecifications, cacheTools ? EPHEMERAL : NO_CACHE);
+        List<AnthropicMessage> anthropicMessages = toAnthropicMessages(sanitizedMessages);
+        addCacheBreakpoints(anthropicMessages, EPHEMERAL, cacheConversationTurns,
+                countCacheBreakpoints(systemPrompt, tools));
+
         AnthropicCreateMessageRequest request = AnthropicCreateMessageRequest.builder()
                 .model(modelName)
-                .messages(toAnthropicMessages(sanitizedMessages))
+                .messages(anthropicMessages)
                 .system(systemPrompt)
                 .maxTokens(maxTokens)
                 .stopSequences(stopSequences)
@@ -339,7 +362,7 @@ public class AnthropicChatModel implements ChatModel {
                 .temperature(temperature)
                 .topP(topP)
                 .topK(topK)
-                .tools(toAnthropicTools(toolSpecifications, cacheTools ? EPHEMERAL : NO_CACHE))
+                .tools(tools)
                 .thinking(toThinking(thinkingType, thinkingBudgetTokens))
                 .build();
 
@@ -9,6 +9,8 @@ import static dev.langchain4j.model.anthropic.AnthropicChatModel.toThinking;
 import static dev.langchain4j.model.anthropic.InternalAnthropicHelper.createListenerRequest;
 import static dev.langchain4j.model.anthropic.internal.api.AnthropicCacheType.EPHEMERAL;
 import static dev.langchain4j.model.anthropic.internal.api.AnthropicCacheType.NO_CACHE;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.addCacheBreakpoints;
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.countCacheBreakpoints;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicMessages;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicSystemPrompt;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicTools;
@@ -29,7 +31,9 @@ import dev.langchain4j.model.ModelProvider;
 import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicCacheType;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageRequest;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessage;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicTextContent;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicTool;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicToolChoice;
 import dev.langchain4j.model.anthropic.internal.client.AnthropicClient;
 import dev.langchain4j.model.chat.StreamingChatModel;
@@ -88,6 +92,7 @@ public class AnthropicStreamingChatModel implements StreamingChatModel {
     private final List<String> stopSequences;
     private final boolean cacheSystemMessages;
     private final boolean cacheTools;
+    private final int cacheConversationTurns;
     private final String thinkingType;
     private final Integer thinkingBudgetTokens;
     private final List<ChatModelListener> listeners;
@@ -107,6 +112,10 @@ public class AnthropicStreamingChatModel implements StreamingChatModel {
      * @param stopSequences       The custom text sequences that will cause the model to stop generating
      * @param cacheSystemMessages If true, it will add cache_control block to all system messages. Default: false
      * @param cacheTools          If true, it will add cache_control block to all tools. Default: false
+     * @param cacheConversationTurns The number of most recent user turns (user messages or tool results)
+     *                            to add a cache_control block to, so that the conversation prefix is cached.
+     *                            Limited by the maximum number of cache breakpoints per request (4),
+     *                            including the ones added to system messages and tools. Default: 0
      * @param timeout             The timeout for API requests. Default: 60 seconds
      * @param logRequests         Whether to log the content of API requests using SLF4J. Default: false
      * @param logResponses        Whether to log the content of API responses using SLF4J. Default: false
@@ -125,6 +134,7 @@ public class AnthropicStreamingChatModel implements StreamingChatModel {
             List<String> stopSequences,
             Boolean cacheSystemMessages,
             Boolean cacheTools,
+            Integer cacheConversationTurns,
             String thinkingType,
             Integer thinkingBudgetTokens,
             Duration timeout,
@@ -148,6 +158,7 @@ public class AnthropicStreamingChatModel implements StreamingChatModel {
         this.stopSequences = stopSequences;
         this.cacheSystemMessages = getOrDefault(cacheSystemMessages, false);
         this.cacheTools = getOrDefault(cacheTools, false);
+        this.cacheConversationTurns = getOrDefault(cacheConversationTurns, 0);
         this.thinkingType = thinkingType;
         this.thinkingBudgetTokens = thinkingBudgetTokens;
         this.listeners = listeners == null ? emptyList() : new ArrayList<>(listeners);
@@ -171,6 +182,7 @@ public class AnthropicStreamingChatModel implements StreamingChatModel {
         private List<String> stopSequences;
         private Boolean cacheSystemMessages;
         private Boolean cacheTools;
+        private Integer cacheConversationTurns;
         private String thinkingType;
         private Integer thinkingBudgetTokens;
         private Duration timeout;
@@ -243,6 +255,11 @@ public class AnthropicStreamingChatModel implements StreamingChatModel {
             return this;
         }
 
+        public AnthropicStreamingChatModelBuilder cacheConversationTurns(Integer cacheConversationTurns) {
+            this.cacheConversationTurns = cacheConversationTurns;
+            return this;
+        }
+
         public AnthropicStreamingChatModelBuilder thinkingType(String thinkingType) {
             this.thinkingType = thinkingType;
             return this;
@@ -287,6 +304,7 @@ public class AnthropicStreamingChatModel implements StreamingChatModel {
                     stopSequences,
                     cacheSystemMessages,
                     cacheTools,
+                    cacheConversationTurns,
                     thinkingType,
                     thinkingBudgetTokens,
                     timeout,
@@ -375,7 +393,6 @@ public class AnthropicStreamingChatModel implements StreamingChatModel {
 
         AnthropicCreateMessageRequest.Builder requestBuilder = AnthropicCreateMessageRequest.builder().stream(true)
                 .model(modelName)
-                .messages(toAnthropicMessages(sanitizedMessages))
                 .system(systemPrompt)
                 .maxTokens(maxTokens)
                 .stopSequences(stopSequences)
@@ -385,13 +402,21 @@ public class AnthropicStreamingChatModel implements StreamingChatModel {
                 .thinking(toThinking(thinkingType, thinkingBudgetTokens));
 
         AnthropicCacheType toolsCacheType = cacheTools ? EPHEMERAL : NO_CACHE;
+        List<AnthropicTool> tools = null;
         if (toolThatMustBeExecuted != null) {
-            requestBuilder.tools(toAnthropicTools(singletonList(toolThatMustBeExecuted), toolsCacheType));
+            tools = toAnthropicTools(singletonList(toolThatMustBeExecuted), toolsCacheType);
+            requestBuilder.tools(tools);
             requestBuilder.toolChoice(AnthropicToolChoice.from(toolThatMustBeExecuted.name()));
         } else if (!isNullOrEmpty(toolSpecifications)) {
-            requestBuilder.tools(toAnthropicTools(toolSpecifications, toolsCacheType));
+            tools = toAnthropicTools(toolSpecifications, toolsCacheType);
+            requestBuilder.tools(tools);
         }
 
+        List<AnthropicMessage> anthropicMessages = toAnthropicMessages(sanitizedMessages);
+        addCacheBreakpoints(anthropicMessages, EPHEMERAL, cacheConversationTurns,
+                countCacheBreakpoints(systemPrompt, tools));
+        requestBuilder.messages(anthropicMessages);
+
         AnthropicCreateMessageRequest request = requestBuilder.build();
 
         ChatRequest listenerRequest = createListenerRequest(request, messages, toolSpecifications);
@@ -22,4 +22,30 @@ public interface AnthropicApi {
                                      @Header("anthropic-version") String version,
                                      @Header("anthropic-beta") String beta,
                                      @Body AnthropicCreateMessageRequest request);
+
+    @POST("messages/batches")
+    @Headers({"content-type: application/json"})
+    Call<AnthropicMessageBatch> createMessageBatch(@Header(X_API_KEY) String apiKey,
+                                                   @Header("anthropic-version") String version,
+                                                   @Header("anthropic-beta") String beta,
+                                                   @Body AnthropicCreateMessageBatchRequest request);
+
+    @GET("messages/batches/{id}")
+    Call<AnthropicMessageBatch> retrieveMessageBatch(@Header(X_API_KEY) String apiKey,
+                                                     @Header("anthropic-version") String version,
+                                                     @Header("anthropic-beta") String beta,
+                                                     @Path("id") String id);
+
+    @POST("messages/batches/{id}/cancel")
+    Call<AnthropicMessageBatch> cancelMessageBatch(@Header(X_API_KEY) String apiKey,
+                                                   @Header("anthropic-version") String version,
+                                                   @Header("anthropic-beta") String beta,
+                                                   @Path("id") String id);
+
+    @Streaming
+    @GET("messages/batches/{id}/results")
+    Call<ResponseBody> messageBatchResults(@Header(X_API_KEY) String apiKey,
+                                           @Header("anthropic-version") String version,
+                                           @Header("anthropic-beta") String beta,
+                                           @Path("id") String id);
 }
@@ -0,0 +1,24 @@
+package dev.langchain4j.model.anthropic.internal.api;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@JsonInclude(NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(SnakeCaseStrategy.class)
+public class AnthropicMessageBatchRequest {
+
+    public String customId;
+    public AnthropicCreateMessageRequest params;
+
+    public AnthropicMessageBatchRequest() {}
+
+    public AnthropicMessageBatchRequest(String customId, AnthropicCreateMessageRequest params) {
+        this.customId = customId;
+        this.params = params;
+    }
+}
@@ -3,10 +3,14 @@ package dev.langchain4j.model.anthropic.internal.client;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageRequest;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageBatchRequest;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageResponse;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessageBatch;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessageBatchResult;
 import dev.langchain4j.spi.ServiceHelper;
 
 import java.time.Duration;
+import java.util.stream.Stream;
 
 public abstract class AnthropicClient {
 
@@ -14,6 +18,31 @@ public abstract class AnthropicClient {
 
     public abstract void createMessage(AnthropicCreateMessageRequest request, StreamingResponseHandler<AiMessage> handler);
 
+    public AnthropicMessageBatch createMessageBatch(AnthropicCreateMessageBatchRequest request) {
+        throw unsupported("createMessageBatch");
+    }
+
+    public AnthropicMessageBatch retrieveMessageBatch(String batchId) {
+        throw unsupported("retrieveMessageBatch");
+    }
+
+    public AnthropicMessageBatch cancelMessageBatch(String batchId) {
+        throw unsupported("cancelMessageBatch");
+    }
+
+    /**
+     * Reads the results of an ended message batch lazily, one JSONL line at a time.
+     * The returned stream must be closed to release the underlying connection.
+     */
+    public Stream<AnthropicMessageBatchResult> messageBatchResults(String batchId) {
+        throw unsupported("messageBatchResults");
+    }
+
+    private UnsupportedOperationException unsupported(String method) {
+        return new UnsupportedOperationException(
+                method + "() is not supported by the client implementation " + getClass().getName());
+    }
+
     @SuppressWarnings("rawtypes")
     public static AnthropicClient.Builder builder() {
         for (AnthropicClientBuilderFactory factory : ServiceHelper.loadFactories(AnthropicClientBuilderFactory.class)) {
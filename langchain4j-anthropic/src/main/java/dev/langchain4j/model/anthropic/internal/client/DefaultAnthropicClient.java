@@ -8,9 +8,12 @@ import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.anthropic.AnthropicTokenUsage;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicApi;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicContentBlockType;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageBatchRequest;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageRequest;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicCreateMessageResponse;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicDelta;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessageBatch;
+import dev.langchain4j.model.anthropic.internal.api.AnthropicMessageBatchResult;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicResponseMessage;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicStreamingData;
 import dev.langchain4j.model.anthropic.internal.api.AnthropicUsage;
@@ -27,7 +30,9 @@ import retrofit2.Call;
 import retrofit2.Retrofit;
 import retrofit2.converter.jackson.JacksonConverterFactory;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -36,6 +41,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 import static dev.langchain4j.internal.Utils.isNotNullOrEmpty;
@@ -111,9 +117,45 @@ public class DefaultAnthropicClient extends AnthropicClient {
 
     @Override
     public AnthropicCreateMessageResponse createMessage(AnthropicCreateMessageRequest request) {
+        return execute(anthropicApi.createMessage(apiKey, version, beta, request));
+    }
+
+    @Override
+    public AnthropicMessageBatch createMessageBatch(AnthropicCreateMessageBatchRequest request) {
+        return execute(anthropicApi.createMessageBatch(apiKey, version, beta, request));
+    }
+
+    @Override
+    public AnthropicMessageBatch retrieveMessageBatch(String batchId) {
+        return execute(anthropicApi.retrieveMessageBatch(apiKey, version, beta, batchId));
+    }
+
+    @Override
+    public AnthropicMessageBatch cancelMessageBatch(String batchId) {
+        return execute(anthropicApi.cancelMessageBatch(apiKey, version, beta, batchId));
+    }
+
+    @Override
+    public Stream<AnthropicMessageBatchResult> messageBatchResults(String batchId) {
+        ResponseBody body = execute(anthropicApi.messageBatchResults(apiKey, version, beta, batchId));
+        BufferedReader reader = new BufferedReader(body.charStream());
+        return reader.lines()
+                .filter(line -> !line.isBlank())
+                .map(DefaultAnthropicClient::toMessageBatchResult)
+                .onClose(body::close);
+    }
+
+    private static AnthropicMessageBatchResult toMessageBatchResult(String line) {
+        try {
+            return OBJECT_MAPPER.readValue(line, AnthropicMessageBatchResult.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> T execute(Call<T> call) {
         try {
-            retrofit2.Response<AnthropicCreateMessageResponse> retrofitResponse
-                    = anthropicApi.createMessage(apiKey, version, beta, request).execute();
+            retrofit2.Response<T> retrofitResponse = call.execute();
             if (retrofitResponse.isSuccessful()) {
                 return retrofitResponse.body();
             } else {
@@ -58,6 +58,12 @@ public class AnthropicMapper {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    /**
+     * The maximum number of cache breakpoints (blocks with {@code cache_control}) allowed in a single request,
+     * across tools, system messages and messages.
+     */
+    public static final int MAX_CACHE_BREAKPOINTS = 4;
+
     public static List<AnthropicMessage> toAnthropicMessages(List<ChatMessage> messages) {
 
         List<AnthropicMessage> anthropicMessages = new ArrayList<>();
@@ -90,6 +96,60 @@ public class AnthropicMapper {
         return anthropicMessages;
     }
 
+    /**
+     * Places cache breakpoints at the end of the last {@code turns} user turns (user messages or tool results),
+     * so that the conversation prefix up to these turns is cached and read back on the next requests.
+     * The total number of breakpoints in the request never exceeds {@link #MAX_CACHE_BREAKPOINTS}:
+     * the breakpoints already placed on the system prompt and tools are taken into account,
+     * and the most recent turns take precedence when there are not enough breakpoints left.
+     *
+     * @param messages             the messages of the request, modified in place
+     * @param cacheType            the cache type to use for the breakpoints
+     * @param turns                the number of most recent user turns to place breakpoints on
+     * @param usedCacheBreakpoints the number of breakpoints already placed on the system prompt and tools
+     */
+    public static void addCacheBreakpoints(
+            List<AnthropicMessage> messages, AnthropicCacheType cacheType, int turns, int usedCacheBreakpoints) {
+        if (cacheType == AnthropicCacheType.NO_CACHE) {
+            return;
+        }
+
+        int breakpoints = Math.min(turns, MAX_CACHE_BREAKPOINTS - usedCacheBreakpoints);
+        for (int i = messages.size() - 1; i >= 0 && breakpoints > 0; i--) {
+            AnthropicMessage message = messages.get(i);
+            if (message.role != USER || isNullOrEmpty(message.content)) {
+                continue;
+            }
+            AnthropicMessageContent lastContent = message.content.get(message.content.size() - 1);
+            if (lastContent.cacheControl == null) {
+                lastContent.cacheControl = cacheType.cacheControl();
+            }
+            breakpoints--;
+        }
+    }
+
+    /**
+     * Counts the cache breakpoints placed on the given system prompt and tools.
+     */
+    public static int countCacheBreakpoints(List<AnthropicTextContent> systemPrompt, List<AnthropicTool> tools) {
+        int count = 0;
+        if (systemPrompt != null) {
+            for (AnthropicTextContent content : systemPrompt) {
+                if (content.cacheControl != null) {
+                    count++;
+                }
+            }
+        }
+        if (tools != null) {
+            for (AnthropicTool tool : tools) {
+                if (tool.cacheControl != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
     private static AnthropicToolResultContent toAnthropicToolResultContent(ToolExecutionResultMessage message) {
         return new AnthropicToolResultContent(message.id(), message.text(), null); // TODO propagate isError
     }
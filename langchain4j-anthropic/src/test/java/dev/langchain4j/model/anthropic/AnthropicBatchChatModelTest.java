@@ -0,0 +1,205 @@
+package dev.langchain4j.model.anthropic;
+
+import static dev.langchain4j.model.anthropic.AnthropicChatModelName.CLAUDE_3_5_HAIKU_20241022;
+import static dev.langchain4j.model.output.FinishReason.STOP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.batch.BatchJob;
+import dev.langchain4j.model.batch.BatchResult;
+import dev.langchain4j.model.batch.BatchStatus;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AnthropicBatchChatModelTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String BATCH_ID = "msgbatch_1";
+
+    private HttpServer server;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private volatile JsonNode createRequest;
+    private volatile int retrievals;
+
+    private AnthropicBatchChatModel model;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/", this::handle);
+        server.start();
+
+        model = AnthropicBatchChatModel.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort() + "/v1/")
+                .apiKey("dummy-key")
+                .modelName(CLAUDE_3_5_HAIKU_20241022)
+                .maxTokens(20)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void should_submit_await_and_map_results() {
+
+        // given
+        List<ChatRequest> chatRequests = List.of(
+                ChatRequest.builder().messages(UserMessage.from("first")).build(),
+                ChatRequest.builder().messages(UserMessage.from("please fail")).build(),
+                ChatRequest.builder().messages(UserMessage.from("third")).maxOutputTokens(50).build());
+
+        // when
+        BatchJob submitted = model.submit(chatRequests);
+        BatchJob completed = model.awaitCompletion(submitted.id(), Duration.ofMillis(10), Duration.ofSeconds(5));
+
+        List<BatchResult<ChatResponse>> results;
+        try (Stream<BatchResult<ChatResponse>> stream = model.results(submitted.id())) {
+            results = stream.sorted(Comparator.comparingInt(BatchResult::index)).toList();
+        }
+
+        // then
+        assertThat(submitted.status()).isEqualTo(BatchStatus.IN_PROGRESS);
+        assertThat(completed.status()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(completed.totalRequests()).isEqualTo(3);
+        assertThat(completed.succeededRequests()).isEqualTo(2);
+        assertThat(completed.failedRequests()).isEqualTo(1);
+
+        JsonNode batchRequests = createRequest.get("requests");
+        assertThat(batchRequests.get(0).get("custom_id").asText()).isEqualTo("request-0");
+        assertThat(batchRequests.get(0).get("params").get("model").asText())
+                .isEqualTo(CLAUDE_3_5_HAIKU_20241022.toString());
+        assertThat(batchRequests.get(0).get("params").get("max_tokens").asInt()).isEqualTo(20);
+        assertThat(batchRequests.get(2).get("params").get("max_tokens").asInt()).isEqualTo(50);
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).content().aiMessage().text()).isEqualTo("echo: first");
+        assertThat(results.get(0).content().finishReason()).isEqualTo(STOP);
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).error()).isEqualTo("Invalid request");
+        assertThat(results.get(2).content().aiMessage().text()).isEqualTo("echo: third");
+        assertThat(requests).contains("GET messages/batches/" + BATCH_ID + "/results");
+    }
+
+    @Test
+    void should_cancel_batch() {
+
+        // given
+        BatchJob submitted = model.submit(List.of(ChatRequest.builder().messages(UserMessage.from("hello")).build()));
+
+        // when
+        BatchJob cancelling = model.cancel(submitted.id());
+
+        // then
+        assertThat(cancelling.status()).isEqualTo(BatchStatus.CANCELLING);
+        assertThat(requests).contains("POST messages/batches/" + BATCH_ID + "/cancel");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath().substring("/v1/".length());
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        requests.add(method + " " + path);
+
+        if (path.equals("messages/batches")) {
+            createRequest = OBJECT_MAPPER.readTree(body);
+            respond(exchange, batch("in_progress").toString());
+        } else if (path.equals("messages/batches/" + BATCH_ID)) {
+            respond(exchange, batch(++retrievals > 1 ? "ended" : "in_progress").toString());
+        } else if (path.equals("messages/batches/" + BATCH_ID + "/cancel")) {
+            respond(exchange, batch("canceling").toString());
+        } else if (path.equals("messages/batches/" + BATCH_ID + "/results")) {
+            respond(exchange, results());
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        }
+    }
+
+    private ObjectNode batch(String processingStatus) {
+        int total = createRequest.get("requests").size();
+        int errored = ended(processingStatus) ? countFailing() : 0;
+        ObjectNode batch = OBJECT_MAPPER.createObjectNode()
+                .put("id", BATCH_ID)
+                .put("type", "message_batch")
+                .put("processing_status", processingStatus);
+        batch.putObject("request_counts")
+                .put("processing", ended(processingStatus) ? 0 : total)
+                .put("succeeded", ended(processingStatus) ? total - errored : 0)
+                .put("errored", errored)
+                .put("canceled", 0)
+                .put("expired", 0);
+        return batch;
+    }
+
+    private static boolean ended(String processingStatus) {
+        return processingStatus.equals("ended");
+    }
+
+    private int countFailing() {
+        int failing = 0;
+        for (JsonNode request : createRequest.get("requests")) {
+            if (text(request).contains("fail")) {
+                failing++;
+            }
+        }
+        return failing;
+    }
+
+    private String results() {
+        StringBuilder results = new StringBuilder();
+        for (JsonNode request : createRequest.get("requests")) {
+            String text = text(request);
+            ObjectNode line = OBJECT_MAPPER.createObjectNode().put("custom_id", request.get("custom_id").asText());
+            ObjectNode result = line.putObject("result");
+            if (text.contains("fail")) {
+                result.put("type", "errored").putObject("error")
+                        .put("type", "error")
+                        .putObject("error").put("type", "invalid_request_error").put("message", "Invalid request");
+            } else {
+                ObjectNode message = result.put("type", "succeeded").putObject("message")
+                        .put("id", "msg_" + text.hashCode())
+                        .put("type", "message")
+                        .put("role", "assistant")
+                        .put("model", request.get("params").get("model").asText())
+                        .put("stop_reason", "end_turn");
+                message.putArray("content").addObject().put("type", "text").put("text", "echo: " + text);
+                message.putObject("usage").put("input_tokens", 1).put("output_tokens", 2);
+            }
+            results.append(line).append('\n');
+        }
+        return results.toString();
+    }
+
+    private static String text(JsonNode request) {
+        return request.get("params").get("messages").get(0).get("content").get(0).get("text").asText();
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
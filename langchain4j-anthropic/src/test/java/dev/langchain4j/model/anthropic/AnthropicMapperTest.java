@@ -5,6 +5,7 @@ import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.message.*;
 import dev.langchain4j.model.anthropic.internal.api.*;
 import dev.langchain4j.model.chat.request.json.JsonObjectSchema;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -14,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.addCacheBreakpoints;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicMessages;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toAnthropicTool;
 import static dev.langchain4j.model.anthropic.internal.api.AnthropicRole.ASSISTANT;
@@ -252,6 +254,68 @@ class AnthropicMapperTest {
         );
     }
 
+    @Test
+    void should_add_cache_breakpoints_to_last_user_turns() {
+
+        // given
+        List<AnthropicMessage> anthropicMessages = toAnthropicMessages(conversation());
+
+        // when
+        addCacheBreakpoints(anthropicMessages, AnthropicCacheType.EPHEMERAL, 2, 0);
+
+        // then
+        assertThat(anthropicMessages).hasSize(5);
+        assertThat(lastContent(anthropicMessages.get(0)).cacheControl).isNull();
+        assertThat(lastContent(anthropicMessages.get(1)).cacheControl).isNull();
+        assertThat(lastContent(anthropicMessages.get(2)).cacheControl.getType()).isEqualTo("ephemeral");
+        assertThat(lastContent(anthropicMessages.get(3)).cacheControl).isNull();
+        assertThat(lastContent(anthropicMessages.get(4)).cacheControl.getType()).isEqualTo("ephemeral");
+    }
+
+    @Test
+    void should_not_exceed_max_cache_breakpoints() {
+
+        // given
+        List<AnthropicMessage> anthropicMessages = toAnthropicMessages(conversation());
+
+        // when
+        addCacheBreakpoints(anthropicMessages, AnthropicCacheType.EPHEMERAL, 3, 3);
+
+        // then
+        assertThat(anthropicMessages.stream().filter(message -> lastContent(message).cacheControl != null))
+                .containsExactly(anthropicMessages.get(4));
+    }
+
+    @Test
+    void should_not_add_cache_breakpoints_when_caching_is_disabled() {
+
+        // given
+        List<AnthropicMessage> anthropicMessages = toAnthropicMessages(conversation());
+
+        // when
+        addCacheBreakpoints(anthropicMessages, AnthropicCacheType.NO_CACHE, 2, 0);
+
+        // then
+        assertThat(anthropicMessages).containsExactlyElementsOf(toAnthropicMessages(conversation()));
+    }
+
+    private static List<ChatMessage> conversation() {
+        return asList(
+                UserMessage.from("Hello"),
+                AiMessage.from("Hi"),
+                UserMessage.from("How much is 2+2?"),
+                AiMessage.from(ToolExecutionRequest.builder()
+                        .id("12345")
+                        .name("calculator")
+                        .arguments("{\"first\": 2, \"second\": 2}")
+                        .build()),
+                ToolExecutionResultMessage.from("12345", "calculator", "4"));
+    }
+
+    private static AnthropicMessageContent lastContent(AnthropicMessage message) {
+        return message.content.get(message.content.size() - 1);
+    }
+
     @SafeVarargs
     private static <K, V> Map<K, V> mapOf(Map.Entry<K, V>... entries) {
         return Stream.of(entries).collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
@@ -13,6 +13,7 @@ import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelRequest;
 import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelResponse;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,11 @@ import static software.amazon.awssdk.regions.Region.US_EAST_1;
  */
 public class BedrockCohereEmbeddingModel implements EmbeddingModel {
 
+    /**
+     * The maximum number of texts Cohere embedding models accept in a single call.
+     */
+    static final int MAX_TEXTS_PER_CALL = 96;
+
     private final BedrockRuntimeClient client;
     private final String model;
     private final String inputType;
@@ -60,6 +66,17 @@ public class BedrockCohereEmbeddingModel implements EmbeddingModel {
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
 
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        for (int from = 0; from < textSegments.size(); from += MAX_TEXTS_PER_CALL) {
+            int to = Math.min(from + MAX_TEXTS_PER_CALL, textSegments.size());
+            embeddings.addAll(embedBatch(textSegments.subList(from, to)));
+        }
+
+        return Response.from(embeddings);
+    }
+
+    private List<Embedding> embedBatch(List<TextSegment> textSegments) {
+
         Map<String, Object> requestParameters = toRequestParameters(textSegments);
         String requestJson = toJson(requestParameters);
 
@@ -68,11 +85,9 @@ public class BedrockCohereEmbeddingModel implements EmbeddingModel {
         String responseJson = invokeModelResponse.body().asUtf8String();
         BedrockCohereEmbeddingResponse embeddingResponse = fromJson(responseJson, BedrockCohereEmbeddingResponse.class);
 
-        List<Embedding> embeddings = stream(embeddingResponse.getEmbeddings().getFloatEmbeddings())
+        return stream(embeddingResponse.getEmbeddings().getFloatEmbeddings())
                 .map(Embedding::from)
                 .collect(toList());
-
-        return Response.from(embeddings);
     }
 
     private Map<String, Object> toRequestParameters(List<TextSegment> textSegments) {
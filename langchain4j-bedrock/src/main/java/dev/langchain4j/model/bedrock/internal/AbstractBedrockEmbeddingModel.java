@@ -1,9 +1,15 @@
 package dev.langchain4j.model.bedrock.internal;
 
+import static dev.langchain4j.internal.RetryUtils.DEFAULT_RETRY_POLICY;
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.exception.NonRetriableException;
+import dev.langchain4j.internal.ExceptionMapper;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
@@ -12,33 +18,50 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeAsyncClient;
 import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
 import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelRequest;
 import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelResponse;
 
 /**
  * Abstract bedrock embedding model
+ * <br>
+ * By default, one request is sent at a time using the blocking {@link BedrockRuntimeClient}.
+ * When {@code maxConcurrentRequests} is greater than 1, requests are sent using the {@link BedrockRuntimeAsyncClient}
+ * with at most {@code maxConcurrentRequests} requests in flight, each request being retried independently.
  */
 public abstract class AbstractBedrockEmbeddingModel<T extends BedrockEmbeddingResponse> implements EmbeddingModel {
 
+    private static final Logger log = LoggerFactory.getLogger(AbstractBedrockEmbeddingModel.class);
+
     private static final Region DEFAULT_REGION = Region.US_EAST_1;
     private static final AwsCredentialsProvider DEFAULT_CREDENTIALS_PROVIDER =
             DefaultCredentialsProvider.builder().build();
     private static final Integer DEFAULT_MAX_RETRIES = 2;
+    private static final Integer DEFAULT_MAX_CONCURRENT_REQUESTS = 1;
 
     private volatile BedrockRuntimeClient client;
+    private volatile BedrockRuntimeAsyncClient asyncClient;
 
     private final Region region;
     private final AwsCredentialsProvider credentialsProvider;
     private final Integer maxRetries;
+    private final Integer maxConcurrentRequests;
 
     protected AbstractBedrockEmbeddingModel(AbstractBedrockEmbeddingModelBuilder<T, ?, ?> builder) {
         this.client = builder.client;
+        this.asyncClient = builder.asyncClient;
 
         if (builder.isRegionSet) {
             this.region = builder.region;
@@ -57,14 +80,25 @@ public abstract class AbstractBedrockEmbeddingModel<T extends BedrockEmbeddingRe
         } else {
             this.maxRetries = DEFAULT_MAX_RETRIES;
         }
+
+        if (builder.isMaxConcurrentRequestsSet) {
+            this.maxConcurrentRequests = ensureGreaterThanZero(builder.maxConcurrentRequests, "maxConcurrentRequests");
+        } else {
+            this.maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+        }
     }
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        final List<Map<String, Object>> requestParameters = getRequestParameters(textSegments);
-        final List<T> responses = requestParameters.stream()
+        final List<String> bodies = getRequestParameters(textSegments).stream()
                 .map(Json::toJson)
-                .map(body -> withRetryMappingExceptions(() -> invoke(body), maxRetries))
+                .collect(Collectors.toList());
+        final List<InvokeModelResponse> invokeModelResponses = maxConcurrentRequests > 1 && bodies.size() > 1
+                ? invokeConcurrently(bodies)
+                : bodies.stream()
+                        .map(body -> withRetryMappingExceptions(() -> invoke(body), maxRetries))
+                        .collect(Collectors.toList());
+        final List<T> responses = invokeModelResponses.stream()
                 .map(invokeModelResponse -> invokeModelResponse.body().asUtf8String())
                 .map(response -> Json.fromJson(response, getResponseClassType()))
                 .collect(Collectors.toList());
@@ -127,6 +161,144 @@ public abstract class AbstractBedrockEmbeddingModel<T extends BedrockEmbeddingRe
         return getClient().invokeModel(invokeModelRequest);
     }
 
+    /**
+     * Invokes the model once per body using the async client, with at most {@code maxConcurrentRequests}
+     * requests in flight. Stops sending new requests as soon as one of them fails (after retries),
+     * and cancels the requests that are still in flight.
+     *
+     * @param bodies request bodies
+     * @return invoke model responses, in the order of the bodies
+     */
+    private List<InvokeModelResponse> invokeConcurrently(List<String> bodies) {
+        Semaphore inFlight = new Semaphore(maxConcurrentRequests);
+        List<AsyncInvocation> invocations = new ArrayList<>(bodies.size());
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        try {
+            for (String body : bodies) {
+                inFlight.acquire();
+                if (firstFailure.isDone()) {
+                    inFlight.release();
+                    break;
+                }
+                AsyncInvocation invocation = new AsyncInvocation(body);
+                invocation.result.whenComplete((response, error) -> {
+                    if (error != null) {
+                        firstFailure.completeExceptionally(error);
+                    }
+                    inFlight.release();
+                });
+                invocations.add(invocation);
+                invocation.start(0);
+            }
+            CompletableFuture<?>[] results = invocations.stream()
+                    .map(invocation -> invocation.result)
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.anyOf(CompletableFuture.allOf(results), firstFailure).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            invocations.forEach(AsyncInvocation::cancel);
+            throw new LangChain4jException(e);
+        } catch (ExecutionException e) {
+            invocations.forEach(AsyncInvocation::cancel);
+            throw e.getCause() instanceof RuntimeException re ? re : new LangChain4jException(e.getCause());
+        }
+
+        List<InvokeModelResponse> responses = new ArrayList<>(invocations.size());
+        for (AsyncInvocation invocation : invocations) {
+            responses.add(invocation.result.join());
+        }
+        return responses;
+    }
+
+    /**
+     * A request sent using the async client, retrying retriable failures with the same backoff as the blocking mode.
+     * Cancelling it cancels the SDK future of the current attempt, which aborts the HTTP request,
+     * and prevents further retries.
+     */
+    private class AsyncInvocation {
+
+        private final String body;
+        private final CompletableFuture<InvokeModelResponse> result = new CompletableFuture<>();
+        private volatile CompletableFuture<InvokeModelResponse> attempt;
+
+        private AsyncInvocation(String body) {
+            this.body = body;
+        }
+
+        private void start(int retry) {
+            if (result.isDone()) {
+                return;
+            }
+            CompletableFuture<InvokeModelResponse> future;
+            try {
+                future = invokeAsync(body);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            attempt = future;
+            if (result.isDone()) {
+                // cancelled while the request was being sent
+                future.cancel(true);
+                return;
+            }
+            future.whenComplete((response, error) -> {
+                if (error == null) {
+                    result.complete(response);
+                    return;
+                }
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                RuntimeException mapped = ExceptionMapper.DEFAULT.mapException(cause);
+                if (mapped instanceof NonRetriableException || retry >= maxRetries || result.isDone()) {
+                    result.completeExceptionally(mapped);
+                    return;
+                }
+                log.warn(
+                        "A retriable exception occurred. Remaining retries: {} of {}",
+                        maxRetries - retry,
+                        maxRetries,
+                        mapped);
+                CompletableFuture.delayedExecutor(DEFAULT_RETRY_POLICY.jitterDelayMillis(retry), MILLISECONDS)
+                        .execute(() -> start(retry + 1));
+            });
+        }
+
+        private void cancel() {
+            result.cancel(true);
+            CompletableFuture<InvokeModelResponse> future = attempt;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Invoke model using the async client
+     *
+     * @param body body
+     * @return future invoke model response
+     */
+    protected CompletableFuture<InvokeModelResponse> invokeAsync(final String body) {
+
+        InvokeModelRequest invokeModelRequest = InvokeModelRequest.builder()
+                .modelId(getModelId())
+                .body(SdkBytes.fromString(body, Charset.defaultCharset()))
+                .build();
+        return getAsyncClient().invokeModel(invokeModelRequest);
+    }
+
+    public BedrockRuntimeAsyncClient getAsyncClient() {
+        if (asyncClient == null) {
+            synchronized (this) {
+                if (asyncClient == null) {
+                    asyncClient = initAsyncClient();
+                }
+            }
+        }
+        return asyncClient;
+    }
+
     /**
      * Create map with single entry
      *
@@ -153,6 +325,18 @@ public abstract class AbstractBedrockEmbeddingModel<T extends BedrockEmbeddingRe
                 .build();
     }
 
+    /**
+     * Initialize async bedrock client
+     *
+     * @return async bedrock client
+     */
+    private BedrockRuntimeAsyncClient initAsyncClient() {
+        return BedrockRuntimeAsyncClient.builder()
+                .region(region)
+                .credentialsProvider(credentialsProvider)
+                .build();
+    }
+
     public Region getRegion() {
         return region;
     }
@@ -165,23 +349,39 @@ public abstract class AbstractBedrockEmbeddingModel<T extends BedrockEmbeddingRe
         return maxRetries;
     }
 
+    public Integer getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
     public abstract static class AbstractBedrockEmbeddingModelBuilder<
             T extends BedrockEmbeddingResponse,
             C extends AbstractBedrockEmbeddingModel<T>,
             B extends AbstractBedrockEmbeddingModelBuilder<T, C, B>> {
         private BedrockRuntimeClient client;
+        private BedrockRuntimeAsyncClient asyncClient;
         private Region region;
         private boolean isRegionSet;
         private AwsCredentialsProvider credentialsProvider;
         private boolean isCredentialsProviderSet;
         private Integer maxRetries;
         private boolean isMaxRetriesSet;
+        private Integer maxConcurrentRequests;
+        private boolean isMaxConcurrentRequestsSet;
 
         public B client(BedrockRuntimeClient client) {
             this.client = client;
             return self();
         }
 
+        /**
+         * Sets the async client used when {@link #maxConcurrentRequests(Integer)} is greater than 1.
+         * If not set, it is created lazily using the configured region and credentials provider.
+         */
+        public B asyncClient(BedrockRuntimeAsyncClient asyncClient) {
+            this.asyncClient = asyncClient;
+            return self();
+        }
+
         public B region(Region region) {
             this.region = region;
             this.isRegionSet = true;
@@ -200,6 +400,17 @@ public abstract class AbstractBedrockEmbeddingModel<T extends BedrockEmbeddingRe
             return self();
         }
 
+        /**
+         * Sets the maximum number of requests sent concurrently by {@code embedAll}.
+         * Default is 1 (requests are sent one by one using the blocking client).
+         * When greater than 1, requests are sent using the async client.
+         */
+        public B maxConcurrentRequests(Integer maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            this.isMaxConcurrentRequestsSet = true;
+            return self();
+        }
+
         protected abstract B self();
 
         public abstract C build();
@@ -207,7 +418,8 @@ public abstract class AbstractBedrockEmbeddingModel<T extends BedrockEmbeddingRe
         public String toString() {
             return "AbstractBedrockEmbeddingModel.AbstractBedrockEmbeddingModelBuilder(client=" + this.client
                     + ", region$value=" + this.region + ", credentialsProvider$value=" + this.credentialsProvider
-                    + ", maxRetries$value=" + this.maxRetries + ")";
+                    + ", maxRetries$value=" + this.maxRetries + ", asyncClient=" + this.asyncClient
+                    + ", maxConcurrentRequests$value=" + this.maxConcurrentRequests + ")";
         }
     }
 }
@@ -11,6 +11,7 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.output.Response;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -70,6 +71,25 @@ class BedrockCohereEmbeddingModelIT {
         assertThat(embeddingModel.dimension()).isEqualTo(1024);
     }
 
+    @Test
+    void should_embed_more_texts_than_fit_in_single_call() {
+
+        BedrockCohereEmbeddingModel embeddingModel = BedrockCohereEmbeddingModel.builder()
+                .model(COHERE_EMBED_ENGLISH_V3)
+                .inputType(SEARCH_QUERY)
+                .build();
+
+        List<TextSegment> segments = IntStream.range(0, BedrockCohereEmbeddingModel.MAX_TEXTS_PER_CALL + 4)
+                .mapToObj(i -> TextSegment.from("text " + i))
+                .toList();
+
+        Response<List<Embedding>> response = embeddingModel.embedAll(segments);
+
+        assertThat(response.content()).hasSize(segments.size());
+        assertThat(response.content().get(segments.size() - 1))
+                .isEqualTo(embeddingModel.embed(segments.get(segments.size() - 1)).content());
+    }
+
     @AfterEach
     void afterEach() {
         sleepIfNeeded();
@@ -82,6 +82,32 @@ class BedrockEmbeddingIT {
         assertThat(embeddingModel.dimension()).isEqualTo(256);
     }
 
+    @Test
+    void bedrockTitanEmbeddingModelWithConcurrentRequests() {
+
+        BedrockTitanEmbeddingModel embeddingModel = BedrockTitanEmbeddingModel.builder()
+                .region(Region.US_EAST_1)
+                .model(BedrockTitanEmbeddingModel.Types.TitanEmbedTextV2.getValue())
+                .maxConcurrentRequests(4)
+                .build();
+
+        List<TextSegment> segments = List.of(
+                TextSegment.from("one"),
+                TextSegment.from("How are you?"),
+                TextSegment.from("two"),
+                TextSegment.from("How are you?"),
+                TextSegment.from("three"));
+
+        Response<List<Embedding>> response = embeddingModel.embedAll(segments);
+
+        List<Embedding> embeddings = response.content();
+        assertThat(embeddings).hasSize(5);
+        assertThat(embeddings.get(1)).isEqualTo(embeddings.get(3));
+        assertThat(embeddings.get(0)).isNotEqualTo(embeddings.get(1));
+
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(1 + 5 + 1 + 5 + 1);
+    }
+
     @Test
     void injectClientToModelBuilder() {
 
@@ -0,0 +1,158 @@
+package dev.langchain4j.model.bedrock.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.exception.InvalidRequestException;
+import dev.langchain4j.model.bedrock.BedrockTitanEmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeAsyncClient;
+import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelRequest;
+import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelResponse;
+
+class AbstractBedrockEmbeddingModelTest {
+
+    private static final Pattern INPUT_TEXT = Pattern.compile("\"inputText\"\\s*:\\s*\"([^\"]*)\"");
+
+    @Test
+    void should_limit_requests_in_flight_and_keep_order() {
+
+        // given
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        StubAsyncClient client = new StubAsyncClient(text -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(
+                    () -> {
+                        inFlight.decrementAndGet();
+                        return response(text);
+                    },
+                    CompletableFuture.delayedExecutor(20 * (10 - Integer.parseInt(text)), MILLISECONDS));
+        });
+
+        BedrockTitanEmbeddingModel model = model(client, 3, 0);
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments(10));
+
+        // then
+        assertThat(response.content())
+                .extracting(embedding -> embedding.vector()[0])
+                .containsExactly(0f, 1f, 2f, 3f, 4f, 5f, 6f, 7f, 8f, 9f);
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(10);
+        assertThat(maxInFlight).hasValue(3);
+    }
+
+    @Test
+    void should_fail_fast_and_cancel_requests_in_flight() {
+
+        // given
+        List<CompletableFuture<InvokeModelResponse>> pending = new CopyOnWriteArrayList<>();
+        StubAsyncClient client = new StubAsyncClient(text -> {
+            if (text.equals("2")) {
+                return CompletableFuture.failedFuture(new InvalidRequestException("invalid input"));
+            }
+            CompletableFuture<InvokeModelResponse> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+
+        BedrockTitanEmbeddingModel model = model(client, 3, 2);
+
+        // when-then
+        assertThatThrownBy(() -> model.embedAll(segments(10)))
+                .isExactlyInstanceOf(InvalidRequestException.class)
+                .hasMessage("invalid input");
+        assertThat(client.requests).hasSize(3);
+        assertThat(pending).hasSize(2).allSatisfy(future -> assertThat(future).isCancelled());
+    }
+
+    @Test
+    void should_retry_failed_request_asynchronously() {
+
+        // given
+        Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        StubAsyncClient client = new StubAsyncClient(text -> {
+            int attempt = attempts.computeIfAbsent(text, t -> new AtomicInteger()).incrementAndGet();
+            if (text.equals("1") && attempt == 1) {
+                return CompletableFuture.failedFuture(new RuntimeException("throttled"));
+            }
+            return CompletableFuture.completedFuture(response(text));
+        });
+
+        BedrockTitanEmbeddingModel model = model(client, 2, 1);
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments(3));
+
+        // then
+        assertThat(response.content())
+                .extracting(embedding -> embedding.vector()[0])
+                .containsExactly(0f, 1f, 2f);
+        assertThat(attempts.get("0")).hasValue(1);
+        assertThat(attempts.get("1")).hasValue(2);
+        assertThat(attempts.get("2")).hasValue(1);
+    }
+
+    private static BedrockTitanEmbeddingModel model(
+            BedrockRuntimeAsyncClient client, int maxConcurrentRequests, int maxRetries) {
+        return BedrockTitanEmbeddingModel.builder()
+                .asyncClient(client)
+                .maxConcurrentRequests(maxConcurrentRequests)
+                .maxRetries(maxRetries)
+                .build();
+    }
+
+    private static List<TextSegment> segments(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> TextSegment.from(String.valueOf(i)))
+                .toList();
+    }
+
+    private static InvokeModelResponse response(String text) {
+        String body = "{\"embedding\": [" + text + "], \"inputTextTokenCount\": 1}";
+        return InvokeModelResponse.builder().body(SdkBytes.fromUtf8String(body)).build();
+    }
+
+    private static class StubAsyncClient implements BedrockRuntimeAsyncClient {
+
+        final List<String> requests = new CopyOnWriteArrayList<>();
+        private final Function<String, CompletableFuture<InvokeModelResponse>> responder;
+
+        StubAsyncClient(Function<String, CompletableFuture<InvokeModelResponse>> responder) {
+            this.responder = responder;
+        }
+
+        @Override
+        public CompletableFuture<InvokeModelResponse> invokeModel(InvokeModelRequest request) {
+            Matcher matcher = INPUT_TEXT.matcher(request.body().asUtf8String());
+            assertThat(matcher.find()).isTrue();
+            String text = matcher.group(1);
+            requests.add(text);
+            return responder.apply(text);
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
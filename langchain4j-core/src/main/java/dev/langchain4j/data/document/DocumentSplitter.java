@@ -3,7 +3,10 @@ package dev.langchain4j.data.document;
 import dev.langchain4j.data.segment.TextSegment;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
+import static dev.langchain4j.internal.ParallelUtils.mapInParallel;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -37,4 +40,34 @@ public interface DocumentSplitter {
                 .flatMap(document -> split(document).stream())
                 .collect(toList());
     }
+
+    /**
+     * Splits a list of Documents into a list of TextSegment objects, splitting the Documents in parallel
+     * using the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param documents The list of Documents to be split.
+     * @return A list of TextSegment objects derived from the input Documents,
+     * in the same order as returned by {@link #splitAll(List)}.
+     * @see #splitAll(List, Executor)
+     */
+    default List<TextSegment> splitAllInParallel(List<Document> documents) {
+        return splitAll(documents, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Splits a list of Documents into a list of TextSegment objects, splitting the Documents in parallel
+     * using the provided {@link Executor}.
+     * Each Document is split by a single call to {@link #split(Document)},
+     * so the implementation must be safe to call concurrently.
+     *
+     * @param documents The list of Documents to be split.
+     * @param executor  The executor to split the Documents with.
+     * @return A list of TextSegment objects derived from the input Documents,
+     * in the same order (and with the same metadata) as returned by {@link #splitAll(List)}.
+     */
+    default List<TextSegment> splitAll(List<Document> documents, Executor executor) {
+        return mapInParallel(documents, this::split, executor).stream()
+                .flatMap(List::stream)
+                .collect(toList());
+    }
 }
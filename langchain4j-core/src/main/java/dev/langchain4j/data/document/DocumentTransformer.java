@@ -2,7 +2,10 @@ package dev.langchain4j.data.document;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
+import static dev.langchain4j.internal.ParallelUtils.mapInParallel;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -31,4 +34,29 @@ public interface DocumentTransformer {
                 .filter(Objects::nonNull)
                 .collect(toList());
     }
+
+    /**
+     * Transforms all the provided documents in parallel, using the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param documents A list of documents to be transformed.
+     * @return A list of transformed documents, in the same order as returned by {@link #transformAll(List)}.
+     * @see #transformAll(List, Executor)
+     */
+    default List<Document> transformAllInParallel(List<Document> documents) {
+        return transformAll(documents, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Transforms all the provided documents in parallel, using the provided {@link Executor}.
+     * {@link #transform(Document)} is called concurrently, so the implementation must be thread-safe.
+     *
+     * @param documents A list of documents to be transformed.
+     * @param executor The executor to transform the documents with.
+     * @return A list of transformed documents, in the same order as returned by {@link #transformAll(List)}.
+     */
+    default List<Document> transformAll(List<Document> documents, Executor executor) {
+        return mapInParallel(documents, this::transform, executor).stream()
+                .filter(Objects::nonNull)
+                .collect(toList());
+    }
 }
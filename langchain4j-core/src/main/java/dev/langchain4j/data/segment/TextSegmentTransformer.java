@@ -2,7 +2,10 @@ package dev.langchain4j.data.segment;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
+import static dev.langchain4j.internal.ParallelUtils.mapInParallel;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -31,4 +34,29 @@ public interface TextSegmentTransformer {
                 .filter(Objects::nonNull)
                 .collect(toList());
     }
+
+    /**
+     * Transforms all the provided segments in parallel, using the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param segments A list of segments to be transformed.
+     * @return A list of transformed segments, in the same order as returned by {@link #transformAll(List)}.
+     * @see #transformAll(List, Executor)
+     */
+    default List<TextSegment> transformAllInParallel(List<TextSegment> segments) {
+        return transformAll(segments, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Transforms all the provided segments in parallel, using the provided {@link Executor}.
+     * {@link #transform(TextSegment)} is called concurrently, so the implementation must be thread-safe.
+     *
+     * @param segments A list of segments to be transformed.
+     * @param executor The executor to transform the segments with.
+     * @return A list of transformed segments, in the same order as returned by {@link #transformAll(List)}.
+     */
+    default List<TextSegment> transformAll(List<TextSegment> segments, Executor executor) {
+        return mapInParallel(segments, this::transform, executor).stream()
+                .filter(Objects::nonNull)
+                .collect(toList());
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package dev.langchain4j.internal;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.langchain4j.Internal;
 import dev.langchain4j.spi.json.JsonCodecFactory;
 
@@ -60,6 +61,16 @@ public class Json {
         return new JacksonJsonCodec();
     }
 
+    /**
+     * Returns the Jackson {@link ObjectMapper} used by the default JSON codec.
+     *
+     * @return the {@link ObjectMapper}, or {@code null} if a custom {@link JsonCodec} is provided
+     * via {@link JsonCodecFactory}.
+     */
+    public static ObjectMapper objectMapper() {
+        return CODEC instanceof JacksonJsonCodec jacksonJsonCodec ? jacksonJsonCodec.getObjectMapper() : null;
+    }
+
     /**
      * Convert the given object to JSON.
      *
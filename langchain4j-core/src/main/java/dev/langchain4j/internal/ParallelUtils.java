@@ -0,0 +1,65 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.Internal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Utility methods for processing the elements of a list in parallel.
+ */
+@Internal
+public class ParallelUtils {
+
+    private ParallelUtils() {}
+
+    /**
+     * Applies the function to each element of the list, using the provided {@link Executor}.
+     * <p>
+     * The results are returned in the order of the input elements, regardless of the order of completion.
+     * When there is at most one element, the function is applied on the calling thread.
+     * If the function throws for any element, the first exception (in input order) is rethrown.
+     *
+     * @param elements the elements to process.
+     * @param function the function to apply to each element.
+     * @param executor the executor to use.
+     * @return the results, in the order of the input elements.
+     */
+    public static <T, R> List<R> mapInParallel(List<T> elements, Function<T, R> function, Executor executor) {
+        ensureNotNull(elements, "elements");
+        ensureNotNull(function, "function");
+        ensureNotNull(executor, "executor");
+
+        List<R> results = new ArrayList<>(elements.size());
+        if (elements.size() <= 1) {
+            for (T element : elements) {
+                results.add(function.apply(element));
+            }
+            return results;
+        }
+
+        List<CompletableFuture<R>> futures = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            futures.add(CompletableFuture.supplyAsync(() -> function.apply(element), executor));
+        }
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+}
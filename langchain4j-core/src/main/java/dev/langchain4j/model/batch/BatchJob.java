@@ -0,0 +1,128 @@
+package dev.langchain4j.model.batch;
+
+import java.util.Objects;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A batch of requests submitted with a {@link BatchModel}, processed asynchronously by the provider.
+ */
+public class BatchJob {
+
+    private final String id;
+    private final BatchStatus status;
+    private final Integer totalRequests;
+    private final Integer succeededRequests;
+    private final Integer failedRequests;
+
+    public BatchJob(Builder builder) {
+        this.id = ensureNotBlank(builder.id, "id");
+        this.status = ensureNotNull(builder.status, "status");
+        this.totalRequests = builder.totalRequests;
+        this.succeededRequests = builder.succeededRequests;
+        this.failedRequests = builder.failedRequests;
+    }
+
+    /**
+     * @return The ID of the batch, assigned by the provider.
+     */
+    public String id() {
+        return id;
+    }
+
+    public BatchStatus status() {
+        return status;
+    }
+
+    /**
+     * @return The number of requests in the batch, if known.
+     */
+    public Integer totalRequests() {
+        return totalRequests;
+    }
+
+    /**
+     * @return The number of requests processed successfully so far, if known.
+     */
+    public Integer succeededRequests() {
+        return succeededRequests;
+    }
+
+    /**
+     * @return The number of requests that failed so far, if known.
+     */
+    public Integer failedRequests() {
+        return failedRequests;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchJob that = (BatchJob) o;
+        return Objects.equals(this.id, that.id)
+                && this.status == that.status
+                && Objects.equals(this.totalRequests, that.totalRequests)
+                && Objects.equals(this.succeededRequests, that.succeededRequests)
+                && Objects.equals(this.failedRequests, that.failedRequests);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, totalRequests, succeededRequests, failedRequests);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchJob {" +
+                " id = " + id +
+                ", status = " + status +
+                ", totalRequests = " + totalRequests +
+                ", succeededRequests = " + succeededRequests +
+                ", failedRequests = " + failedRequests +
+                " }";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private String id;
+        private BatchStatus status;
+        private Integer totalRequests;
+        private Integer succeededRequests;
+        private Integer failedRequests;
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder status(BatchStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder totalRequests(Integer totalRequests) {
+            this.totalRequests = totalRequests;
+            return this;
+        }
+
+        public Builder succeededRequests(Integer succeededRequests) {
+            this.succeededRequests = succeededRequests;
+            return this;
+        }
+
+        public Builder failedRequests(Integer failedRequests) {
+            this.failedRequests = failedRequests;
+            return this;
+        }
+
+        public BatchJob build() {
+            return new BatchJob(this);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package dev.langchain4j.model.batch;
+
+import dev.langchain4j.exception.TimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Represents a provider's batch API, which processes many independent requests asynchronously,
+ * usually at a lower price and with higher rate limits than the corresponding real-time API,
+ * in exchange for a completion time of up to several hours.
+ * <br>
+ * A typical usage is:
+ * <pre>{@code
+ * BatchJob job = model.submit(requests);
+ * model.awaitCompletion(job.id(), Duration.ofMinutes(1), Duration.ofHours(24));
+ * try (Stream<BatchResult<ChatResponse>> results = model.results(job.id())) {
+ *     results.forEach(result -> ...);
+ * }
+ * }</pre>
+ * Since a batch is identified by its ID, its status and results can be retrieved from another process
+ * than the one that submitted it.
+ *
+ * @param <Request> The type of the requests (e.g., {@code ChatRequest}).
+ * @param <Result>  The type of the result of each request (e.g., {@code ChatResponse}).
+ */
+public interface BatchModel<Request, Result> {
+
+    /**
+     * Submits the requests as a single batch.
+     *
+     * @param requests The requests to process.
+     * @return The submitted batch.
+     */
+    BatchJob submit(List<Request> requests);
+
+    /**
+     * Retrieves the current state of a batch.
+     *
+     * @param batchId The ID of the batch.
+     * @return The batch.
+     */
+    BatchJob retrieve(String batchId);
+
+    /**
+     * Requests the cancellation of a batch. Requests that were already processed keep their results.
+     *
+     * @param batchId The ID of the batch.
+     * @return The batch, usually with the {@link BatchStatus#CANCELLING} status.
+     */
+    BatchJob cancel(String batchId);
+
+    /**
+     * Returns the results of the processed requests of a batch, which should have a terminal status
+     * (see {@link BatchStatus#isTerminal()}).
+     * Results are not necessarily in the order of the requests; use {@link BatchResult#index()} to match them.
+     * The returned stream may hold resources (e.g., an HTTP connection) and should be closed after use.
+     *
+     * @param batchId The ID of the batch.
+     * @return The results.
+     */
+    Stream<BatchResult<Result>> results(String batchId);
+
+    /**
+     * Polls a batch until it reaches a terminal status (see {@link BatchStatus#isTerminal()}).
+     *
+     * @param batchId      The ID of the batch.
+     * @param pollInterval The time to wait between two polls.
+     * @param timeout      The maximum time to wait.
+     * @return The batch, with a terminal status.
+     * @throws TimeoutException if the batch does not reach a terminal status within the timeout.
+     */
+    default BatchJob awaitCompletion(String batchId, Duration pollInterval, Duration timeout) {
+        ensureNotNull(pollInterval, "pollInterval");
+        ensureNotNull(timeout, "timeout");
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            BatchJob batchJob = retrieve(batchId);
+            if (batchJob.status().isTerminal()) {
+                return batchJob;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                throw new TimeoutException("Batch " + batchId + " did not complete within " + timeout
+                        + ", its status is " + batchJob.status());
+            }
+            try {
+                Thread.sleep(Math.min(pollInterval.toMillis(), Duration.ofNanos(remainingNanos).toMillis() + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package dev.langchain4j.model.batch;
+
+import java.util.Objects;
+
+/**
+ * The result of one of the requests of a {@link BatchJob}: either its content, or an error message.
+ *
+ * @param <T> The type of the content (e.g., {@code ChatResponse}).
+ */
+public class BatchResult<T> {
+
+    private final int index;
+    private final T content;
+    private final String error;
+
+    private BatchResult(int index, T content, String error) {
+        this.index = index;
+        this.content = content;
+        this.error = error;
+    }
+
+    public static <T> BatchResult<T> success(int index, T content) {
+        return new BatchResult<>(index, content, null);
+    }
+
+    public static <T> BatchResult<T> failure(int index, String error) {
+        return new BatchResult<>(index, null, error);
+    }
+
+    /**
+     * @return The index of the request in the list submitted with {@link BatchModel#submit(java.util.List)}.
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * @return The content, or {@code null} if the request failed.
+     */
+    public T content() {
+        return content;
+    }
+
+    /**
+     * @return The error message, or {@code null} if the request succeeded.
+     */
+    public String error() {
+        return error;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchResult<?> that = (BatchResult<?>) o;
+        return this.index == that.index
+                && Objects.equals(this.content, that.content)
+                && Objects.equals(this.error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, content, error);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult {" +
+                " index = " + index +
+                ", content = " + content +
+                ", error = " + error +
+                " }";
+    }
+}
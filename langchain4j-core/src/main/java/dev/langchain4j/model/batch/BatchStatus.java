@@ -0,0 +1,44 @@
+package dev.langchain4j.model.batch;
+
+/**
+ * The status of a {@link BatchJob}.
+ */
+public enum BatchStatus {
+
+    /**
+     * The batch is being validated or processed.
+     */
+    IN_PROGRESS,
+
+    /**
+     * The batch is being cancelled.
+     */
+    CANCELLING,
+
+    /**
+     * The processing of the batch has ended. Some of its requests may have failed.
+     */
+    COMPLETED,
+
+    /**
+     * The batch could not be processed (e.g., its input was invalid).
+     */
+    FAILED,
+
+    /**
+     * The batch was not completed within its completion window. Some of its requests may have been processed.
+     */
+    EXPIRED,
+
+    /**
+     * The batch was cancelled. Some of its requests may have been processed.
+     */
+    CANCELLED;
+
+    /**
+     * @return {@code true} if the batch will not be processed any further.
+     */
+    public boolean isTerminal() {
+        return this != IN_PROGRESS && this != CANCELLING;
+    }
+}
@@ -0,0 +1,77 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Set;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ChatModel} that answers from a {@link ChatResponseCache} when possible,
+ * and delegates to another {@link ChatModel} otherwise, caching its responses.
+ * <br>
+ * Cached responses are returned without calling the delegate, so its {@link ChatModelListener}s are not notified.
+ * If the response cannot be cached (e.g., because the embedding store of the semantic tier fails),
+ * a warning is logged and the response is returned anyway.
+ */
+public class CachingChatModel implements ChatModel {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingChatModel.class);
+
+    private final ChatModel delegate;
+    private final ChatResponseCache cache;
+
+    public CachingChatModel(ChatModel delegate, ChatResponseCache cache) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.cache = ensureNotNull(cache, "cache");
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        ChatResponseCache.Lookup lookup = cache.lookup(chatRequest);
+        if (lookup.response() != null) {
+            return lookup.response();
+        }
+
+        ChatResponse chatResponse = delegate.chat(chatRequest);
+        try {
+            cache.put(lookup, chatResponse);
+        } catch (Exception e) {
+            log.warn("Failed to cache the chat response", e);
+        }
+        return chatResponse;
+    }
+
+    public ChatResponseCache cache() {
+        return cache;
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public List<ChatModelListener> listeners() {
+        return delegate.listeners();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+}
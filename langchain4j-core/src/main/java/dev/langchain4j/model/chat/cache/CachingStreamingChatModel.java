@@ -0,0 +1,128 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Set;
+
+import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link StreamingChatModel} that answers from a {@link ChatResponseCache} when possible,
+ * and delegates to another {@link StreamingChatModel} otherwise, caching its complete responses.
+ * <br>
+ * A cached response is replayed to the {@link StreamingChatResponseHandler} on the calling thread:
+ * its text is delivered as a single partial response, followed by the complete response.
+ * Cached responses are returned without calling the delegate, so its {@link ChatModelListener}s are not notified.
+ * If the complete response cannot be cached (e.g., because the embedding store of the semantic tier fails),
+ * a warning is logged and the response is delivered anyway.
+ */
+public class CachingStreamingChatModel implements StreamingChatModel {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingStreamingChatModel.class);
+
+    private final StreamingChatModel delegate;
+    private final ChatResponseCache cache;
+
+    public CachingStreamingChatModel(StreamingChatModel delegate, ChatResponseCache cache) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.cache = ensureNotNull(cache, "cache");
+    }
+
+    @Override
+    public void chat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+        ChatResponseCache.Lookup lookup;
+        try {
+            lookup = cache.lookup(chatRequest);
+        } catch (Exception e) {
+            handler.onError(e);
+            return;
+        }
+
+        ChatResponse cachedResponse = lookup.response();
+        if (cachedResponse != null) {
+            replay(cachedResponse, handler);
+            return;
+        }
+
+        delegate.chat(chatRequest, new StreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                handler.onPartialResponse(partialResponse);
+            }
+
+            @Override
+            public void onPartialReasoning(String partialReasoning) {
+                handler.onPartialReasoning(partialReasoning);
+            }
+
+            @Override
+            public void onCompleteReasoning(String completeReasoning) {
+                handler.onCompleteReasoning(completeReasoning);
+            }
+
+            @Override
+            public void onRawData(Object rawData) {
+                handler.onRawData(rawData);
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                try {
+                    cache.put(lookup, completeResponse);
+                } catch (Exception e) {
+                    log.warn("Failed to cache the chat response", e);
+                }
+                handler.onCompleteResponse(completeResponse);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                handler.onError(error);
+            }
+        });
+    }
+
+    private static void replay(ChatResponse cachedResponse, StreamingChatResponseHandler handler) {
+        String text = cachedResponse.aiMessage().text();
+        if (!isNullOrEmpty(text)) {
+            handler.onPartialResponse(text);
+        }
+        handler.onCompleteResponse(cachedResponse);
+    }
+
+    public ChatResponseCache cache() {
+        return cache;
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public List<ChatModelListener> listeners() {
+        return delegate.listeners();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+}
@@ -0,0 +1,454 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import static dev.langchain4j.internal.Utils.generateUUIDFrom;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.Collections.singletonList;
+
+/**
+ * A cache of {@link ChatResponse}s, used by {@link CachingChatModel} and {@link CachingStreamingChatModel}.
+ * <br>
+ * The cache has two tiers:
+ * <ul>
+ *     <li>The exact tier returns a cached response when a {@link ChatRequest} with the same messages
+ *     (after whitespace normalization) and the same parameters has already been answered.</li>
+ *     <li>The optional semantic tier, enabled by configuring an {@link EmbeddingModel} and an {@link EmbeddingStore},
+ *     embeds the last {@link UserMessage} and returns the response cached for a similar enough user message
+ *     (see {@link Builder#minSimilarity(Double)}), provided that the rest of the request
+ *     (previous messages and parameters) is the same.
+ *     Only responses without tool execution requests are indexed in the semantic tier.</li>
+ * </ul>
+ * Entries are evicted in least-recently-used order once {@link Builder#maxSize(Integer)} is reached,
+ * and expire after {@link Builder#ttl(Duration)}, if configured.
+ * Responses that were cut short (e.g., with {@link FinishReason#LENGTH}) are not cached.
+ * <br>
+ * Hit and miss counts are available via {@link #exactHits()}, {@link #semanticHits()}, {@link #misses()}
+ * and {@link #hitRate()}.
+ */
+public class ChatResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatResponseCache.class);
+
+    static final String CACHE_KEY = "cache_key";
+    static final String CONTEXT_KEY = "context_key";
+
+    private static final int DEFAULT_MAX_SIZE = 1000;
+    private static final double DEFAULT_MIN_SIMILARITY = 0.95;
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final EmbeddingModel embeddingModel;
+    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final double minSimilarity;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder exactHits = new LongAdder();
+    private final LongAdder semanticHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ChatResponseCache(Integer maxSize,
+                             Duration ttl,
+                             EmbeddingModel embeddingModel,
+                             EmbeddingStore<TextSegment> embeddingStore,
+                             Double minSimilarity,
+                             Clock clock) {
+        this.maxSize = ensureGreaterThanZero(getOrDefault(maxSize, DEFAULT_MAX_SIZE), "maxSize");
+        this.ttl = ttl;
+        if ((embeddingModel == null) != (embeddingStore == null)) {
+            throw new IllegalArgumentException("embeddingModel and embeddingStore must be either both set or both null");
+        }
+        this.embeddingModel = embeddingModel;
+        this.embeddingStore = embeddingStore;
+        this.minSimilarity = ensureBetween(getOrDefault(minSimilarity, DEFAULT_MIN_SIMILARITY), 0, 1, "minSimilarity");
+        this.clock = getOrDefault(clock, Clock::systemUTC);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the cached response for the given request, if any.
+     *
+     * @param chatRequest The request.
+     * @return The cached response, or {@code null} if there is none.
+     */
+    public ChatResponse get(ChatRequest chatRequest) {
+        return lookup(chatRequest).response();
+    }
+
+    /**
+     * Caches the response to the given request.
+     *
+     * @param chatRequest  The request.
+     * @param chatResponse The response to the request.
+     */
+    public void put(ChatRequest chatRequest, ChatResponse chatResponse) {
+        put(new Lookup(chatRequest), chatResponse);
+    }
+
+    /**
+     * Looks the request up in the exact tier, then in the semantic tier.
+     * The returned {@link Lookup} keeps the keys and the embedding computed during the look-up,
+     * so that they are not computed again when the response is put in the cache with {@link #put(Lookup, ChatResponse)}.
+     */
+    Lookup lookup(ChatRequest chatRequest) {
+        Lookup lookup = new Lookup(chatRequest);
+
+        Entry entry = getEntry(lookup.exactKey);
+        if (entry != null) {
+            exactHits.increment();
+            lookup.response = entry.response;
+            return lookup;
+        }
+
+        if (embeddingStore != null && lookup.userMessageText != null) {
+            lookup.embedding = embeddingModel.embed(lookup.userMessageText).content();
+            entry = findSimilarEntry(lookup);
+            if (entry != null) {
+                semanticHits.increment();
+                lookup.response = entry.response;
+                return lookup;
+            }
+        }
+
+        misses.increment();
+        return lookup;
+    }
+
+    void put(Lookup lookup, ChatResponse chatResponse) {
+        if (!isCacheable(chatResponse)) {
+            return;
+        }
+
+        boolean indexed = embeddingStore != null
+                && lookup.userMessageText != null
+                && !chatResponse.aiMessage().hasToolExecutionRequests();
+
+        Entry entry = new Entry(chatResponse, lookup.contextKey, indexed, expiresAt());
+        List<String> evictedIds = new ArrayList<>();
+        synchronized (entries) {
+            Entry previous = entries.put(lookup.exactKey, entry);
+            if (previous != null && previous.indexed) {
+                evictedIds.add(lookup.exactKey);
+            }
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                Map.Entry<String, Entry> eldest = iterator.next();
+                iterator.remove();
+                if (eldest.getValue().indexed) {
+                    evictedIds.add(eldest.getKey());
+                }
+            }
+        }
+        removeFromIndex(evictedIds);
+
+        if (indexed) {
+            Embedding embedding = lookup.embedding != null
+                    ? lookup.embedding
+                    : embeddingModel.embed(lookup.userMessageText).content();
+            Metadata metadata = Metadata.from(CACHE_KEY, lookup.exactKey).put(CONTEXT_KEY, lookup.contextKey);
+            embeddingStore.addAll(
+                    singletonList(lookup.exactKey),
+                    singletonList(embedding),
+                    singletonList(TextSegment.from(lookup.userMessageText, metadata)));
+        }
+    }
+
+    private Entry getEntry(String key) {
+        Entry expired;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (!entry.isExpired(clock.millis())) {
+                return entry;
+            }
+            entries.remove(key);
+            expired = entry;
+        }
+        if (expired.indexed) {
+            removeFromIndex(singletonList(key));
+        }
+        return null;
+    }
+
+    private Entry findSimilarEntry(Lookup lookup) {
+        EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(lookup.embedding)
+                .maxResults(1)
+                .minScore(minSimilarity)
+                .filter(metadataKey(CONTEXT_KEY).isEqualTo(lookup.contextKey))
+                .build();
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.search(searchRequest).matches();
+        if (matches.isEmpty() || matches.get(0).embedded() == null) {
+            return null;
+        }
+        String key = matches.get(0).embedded().metadata().getString(CACHE_KEY);
+        if (key == null) {
+            return null;
+        }
+        Entry entry = getEntry(key);
+        if (entry == null) {
+            // evicted, but its removal from the embedding store failed or is not supported
+            return null;
+        }
+        return lookup.contextKey.equals(entry.contextKey) ? entry : null;
+    }
+
+    private void removeFromIndex(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            embeddingStore.removeAll(ids);
+        } catch (RuntimeException e) {
+            // stale entries are ignored during the look-up, as they are not in the exact tier anymore
+            log.debug("Failed to remove {} evicted entries from the embedding store", ids.size(), e);
+        }
+    }
+
+    private long expiresAt() {
+        return ttl == null ? Long.MAX_VALUE : clock.millis() + ttl.toMillis();
+    }
+
+    private static boolean isCacheable(ChatResponse chatResponse) {
+        if (chatResponse == null || chatResponse.aiMessage() == null) {
+            return false;
+        }
+        FinishReason finishReason = chatResponse.finishReason();
+        return finishReason == null || finishReason == FinishReason.STOP || finishReason == FinishReason.TOOL_EXECUTION;
+    }
+
+    /**
+     * @return The number of requests answered from the exact tier.
+     */
+    public long exactHits() {
+        return exactHits.sum();
+    }
+
+    /**
+     * @return The number of requests answered from the semantic tier.
+     */
+    public long semanticHits() {
+        return semanticHits.sum();
+    }
+
+    /**
+     * @return The number of requests answered from any tier.
+     */
+    public long hits() {
+        return exactHits() + semanticHits();
+    }
+
+    /**
+     * @return The number of requests that could not be answered from the cache.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The ratio of requests answered from the cache, between 0 and 1.
+     */
+    public double hitRate() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * @return The number of cached responses, including the expired ones that were not evicted yet.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Removes all cached responses.
+     * Hit and miss counts are not reset.
+     */
+    public void clear() {
+        List<String> ids = new ArrayList<>();
+        synchronized (entries) {
+            entries.forEach((key, entry) -> {
+                if (entry.indexed) {
+                    ids.add(key);
+                }
+            });
+            entries.clear();
+        }
+        removeFromIndex(ids);
+    }
+
+    /**
+     * The result of looking a {@link ChatRequest} up in the cache.
+     */
+    static class Lookup {
+
+        private final String contextKey;
+        private final String exactKey;
+        private final String userMessageText;
+        private Embedding embedding;
+        private ChatResponse response;
+
+        Lookup(ChatRequest chatRequest) {
+            List<ChatMessage> messages = chatRequest.messages();
+            StringBuilder context = new StringBuilder(String.valueOf(chatRequest.parameters()));
+            for (int i = 0; i < messages.size() - 1; i++) {
+                context.append('\n').append(normalize(messages.get(i)));
+            }
+            this.contextKey = generateUUIDFrom(context.toString());
+
+            ChatMessage lastMessage = messages.get(messages.size() - 1);
+            this.exactKey = generateUUIDFrom(contextKey + '\n' + normalize(lastMessage));
+            this.userMessageText = lastMessage instanceof UserMessage userMessage && userMessage.hasSingleText()
+                    ? normalize(userMessage.singleText())
+                    : null;
+        }
+
+        ChatResponse response() {
+            return response;
+        }
+
+        private static String normalize(ChatMessage message) {
+            if (message instanceof SystemMessage systemMessage) {
+                return "system: " + normalize(systemMessage.text());
+            } else if (message instanceof UserMessage userMessage && userMessage.hasSingleText()) {
+                return "user" + (userMessage.name() == null ? "" : " " + userMessage.name())
+                        + ": " + normalize(userMessage.singleText());
+            } else {
+                return message.toString();
+            }
+        }
+
+        private static String normalize(String text) {
+            return WHITESPACES.matcher(text.strip()).replaceAll(" ");
+        }
+    }
+
+    private static class Entry {
+
+        private final ChatResponse response;
+        private final String contextKey;
+        private final boolean indexed;
+        private final long expiresAt;
+
+        Entry(ChatResponse response, String contextKey, boolean indexed, long expiresAt) {
+            this.response = response;
+            this.contextKey = contextKey;
+            this.indexed = indexed;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    public static class Builder {
+
+        private Integer maxSize;
+        private Duration ttl;
+        private EmbeddingModel embeddingModel;
+        private EmbeddingStore<TextSegment> embeddingStore;
+        private Double minSimilarity;
+        private Clock clock;
+
+        /**
+         * @param maxSize The maximum number of cached responses. Default: 1000
+         * @return builder
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param ttl The time after which a cached response expires. Default: never
+         * @return builder
+         */
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * @param embeddingModel The model used to embed the last user message for the semantic tier.
+         *                       Must be set together with {@link #embeddingStore(EmbeddingStore)}.
+         * @return builder
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * @param embeddingStore The store used as the index of the semantic tier.
+         *                       It must support adding with IDs and filtering by metadata.
+         *                       Must be set together with {@link #embeddingModel(EmbeddingModel)}.
+         * @return builder
+         */
+        public Builder embeddingStore(EmbeddingStore<TextSegment> embeddingStore) {
+            this.embeddingStore = embeddingStore;
+            return this;
+        }
+
+        /**
+         * @param minSimilarity The minimum similarity score (between 0 and 1) for a cached response
+         *                      to be reused by the semantic tier. Default: 0.95
+         * @return builder
+         */
+        public Builder minSimilarity(Double minSimilarity) {
+            this.minSimilarity = minSimilarity;
+            return this;
+        }
+
+        /**
+         * @param clock The clock used to expire cached responses. Default: {@link Clock#systemUTC()}
+         * @return builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public ChatResponseCache build() {
+            return new ChatResponseCache(maxSize, ttl, embeddingModel, embeddingStore, minSimilarity, clock);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package dev.langchain4j.model.chat.response;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link StreamingChatResponseHandler} that buffers partial responses and forwards them to a delegate handler
+ * in larger pieces, so that, for example, an SSE or WebSocket writer downstream
+ * sends one network packet per group of tokens instead of one per token.
+ * <br>
+ * Buffered text is forwarded as soon as it reaches {@code maxChars} characters,
+ * or {@code maxDelay} after the first token of the piece was received, whichever comes first.
+ * It is also forwarded before any other callback (partial reasoning, complete response, error),
+ * so the delegate receives the same text, in the same order, as without coalescing.
+ * <br>
+ * Callbacks of the delegate are never invoked concurrently.
+ * If the delegate throws while delayed text is forwarded, the exception is passed to its {@code onError},
+ * and the stream is considered terminated: later callbacks are not forwarded,
+ * so the delegate receives a single terminal callback.
+ * When the delay expires, the {@code scheduler} only hands the forwarding of the buffered text to the {@code executor},
+ * so that a slow or blocking delegate (e.g. one applying backpressure) delays its own stream only,
+ * and not the delayed forwarding of other streams sharing the same scheduler.
+ */
+public class CoalescingStreamingChatResponseHandler implements StreamingChatResponseHandler {
+
+    private final StreamingChatResponseHandler delegate;
+    private final long maxDelayNanos;
+    private final int maxChars;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final StringBuilder buffer = new StringBuilder();
+    private ScheduledFuture<?> scheduledFlush;
+    private long scheduledFlushGeneration;
+    private boolean terminated;
+
+    /**
+     * Creates a handler that schedules delayed flushes on a shared daemon thread,
+     * and forwards delayed text from a shared executor: virtual threads when available,
+     * otherwise a cached pool of daemon threads.
+     *
+     * @param delegate the handler to forward coalesced partial responses and all other callbacks to
+     * @param maxDelay the maximum time text is buffered for; {@link Duration#ZERO} to buffer by size only
+     * @param maxChars the number of buffered characters that triggers forwarding
+     */
+    public CoalescingStreamingChatResponseHandler(StreamingChatResponseHandler delegate,
+                                                  Duration maxDelay,
+                                                  int maxChars) {
+        this(delegate, maxDelay, maxChars, SharedScheduler.INSTANCE);
+    }
+
+    /**
+     * Creates a handler that forwards delayed text from a shared executor: virtual threads when available,
+     * otherwise a cached pool of daemon threads.
+     *
+     * @param delegate  the handler to forward coalesced partial responses and all other callbacks to
+     * @param maxDelay  the maximum time text is buffered for; {@link Duration#ZERO} to buffer by size only
+     * @param maxChars  the number of buffered characters that triggers forwarding
+     * @param scheduler the scheduler used to detect that {@code maxDelay} has expired
+     */
+    public CoalescingStreamingChatResponseHandler(StreamingChatResponseHandler delegate,
+                                                  Duration maxDelay,
+                                                  int maxChars,
+                                                  ScheduledExecutorService scheduler) {
+        this(delegate, maxDelay, maxChars, scheduler, SharedExecutor.INSTANCE);
+    }
+
+    /**
+     * @param delegate  the handler to forward coalesced partial responses and all other callbacks to
+     * @param maxDelay  the maximum time text is buffered for; {@link Duration#ZERO} to buffer by size only
+     * @param maxChars  the number of buffered characters that triggers forwarding
+     * @param scheduler the scheduler used to detect that {@code maxDelay} has expired
+     * @param executor  the executor used to forward buffered text when {@code maxDelay} expires.
+     *                  A task may block for as long as the delegate does.
+     */
+    public CoalescingStreamingChatResponseHandler(StreamingChatResponseHandler delegate,
+                                                  Duration maxDelay,
+                                                  int maxChars,
+                                                  ScheduledExecutorService scheduler,
+                                                  Executor executor) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        ensureNotNull(maxDelay, "maxDelay");
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("maxDelay must not be negative, but is: " + maxDelay);
+        }
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxChars = ensureGreaterThanZero(maxChars, "maxChars");
+        this.scheduler = ensureNotNull(scheduler, "scheduler");
+        this.executor = ensureNotNull(executor, "executor");
+    }
+
+    @Override
+    public void onPartialResponse(String partialResponse) {
+        lock.lock();
+        try {
+            if (terminated) {
+                return;
+            }
+            buffer.append(partialResponse);
+            if (buffer.length() >= maxChars) {
+                flushBuffer();
+            } else if (scheduledFlush == null && maxDelayNanos > 0) {
+                long generation = ++scheduledFlushGeneration;
+                // the scheduler thread is shared, it must not run the (possibly blocking) delegate
+                scheduledFlush = scheduler.schedule(
+                        () -> executor.execute(() -> flushOnDelay(generation)), maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onPartialReasoning(String partialReasoning) {
+        lock.lock();
+        try {
+            if (terminated) {
+                return;
+            }
+            flushBuffer();
+            delegate.onPartialReasoning(partialReasoning);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onCompleteReasoning(String completeReasoning) {
+        lock.lock();
+        try {
+            if (terminated) {
+                return;
+            }
+            flushBuffer();
+            delegate.onCompleteReasoning(completeReasoning);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onRawData(Object rawData) {
+        delegate.onRawData(rawData);
+    }
+
+    @Override
+    public void onCompleteResponse(ChatResponse completeResponse) {
+        lock.lock();
+        try {
+            if (terminated) {
+                return;
+            }
+            flushBuffer();
+            delegate.onCompleteResponse(completeResponse);
+            terminated = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        lock.lock();
+        try {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            flushQuietly();
+            delegate.onError(error);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forwards the buffered text to the delegate immediately, if any.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            if (terminated) {
+                return;
+            }
+            flushBuffer();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushOnDelay(long generation) {
+        lock.lock();
+        try {
+            if (terminated || scheduledFlush == null || generation != scheduledFlushGeneration) {
+                // already flushed by a later callback
+                return;
+            }
+            scheduledFlush = null;
+            flushBuffer();
+        } catch (Exception e) {
+            // there is no model call to propagate the exception to
+            terminated = true;
+            buffer.setLength(0);
+            delegate.onError(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flushBuffer();
+        } catch (Exception ignored) {
+            // the original error is reported instead
+        }
+    }
+
+    /**
+     * Must be called while holding the lock.
+     */
+    private void flushBuffer() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (buffer.length() == 0) {
+            return;
+        }
+        String text = buffer.toString();
+        buffer.setLength(0);
+        delegate.onPartialResponse(text);
+    }
+
+    private static class SharedScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "langchain4j-coalescing-handler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Not bounded: a delayed flush may block for as long as its delegate does,
+     * and there is at most one delayed flush in progress per stream, since the stream is blocked behind it.
+     */
+    private static class SharedExecutor {
+
+        private static final Executor INSTANCE = createVirtualThreadExecutor(() -> Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "langchain4j-coalescing-handler-flush");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+}
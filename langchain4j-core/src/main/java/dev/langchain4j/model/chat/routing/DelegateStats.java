@@ -0,0 +1,73 @@
+package dev.langchain4j.model.chat.routing;
+
+import dev.langchain4j.model.chat.ChatModel;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the statistics that a {@link RoutingChatModel} keeps about one of its delegates,
+ * computed over the last calls to it.
+ * Latency percentiles are {@code null} until the delegate has answered successfully at least once.
+ */
+public class DelegateStats {
+
+    private final ChatModel model;
+    private final Duration p50Latency;
+    private final Duration p95Latency;
+    private final Duration p99Latency;
+    private final double failureRate;
+    private final boolean circuitOpen;
+
+    DelegateStats(ChatModel model,
+                  Duration p50Latency,
+                  Duration p95Latency,
+                  Duration p99Latency,
+                  double failureRate,
+                  boolean circuitOpen) {
+        this.model = model;
+        this.p50Latency = p50Latency;
+        this.p95Latency = p95Latency;
+        this.p99Latency = p99Latency;
+        this.failureRate = failureRate;
+        this.circuitOpen = circuitOpen;
+    }
+
+    public ChatModel model() {
+        return model;
+    }
+
+    public Duration p50Latency() {
+        return p50Latency;
+    }
+
+    public Duration p95Latency() {
+        return p95Latency;
+    }
+
+    public Duration p99Latency() {
+        return p99Latency;
+    }
+
+    /**
+     * @return The rate (between 0 and 1) of failed calls since the circuit last closed.
+     */
+    public double failureRate() {
+        return failureRate;
+    }
+
+    public boolean circuitOpen() {
+        return circuitOpen;
+    }
+
+    @Override
+    public String toString() {
+        return "DelegateStats {" +
+                " model = " + model +
+                ", p50Latency = " + p50Latency +
+                ", p95Latency = " + p95Latency +
+                ", p99Latency = " + p99Latency +
+                ", failureRate = " + failureRate +
+                ", circuitOpen = " + circuitOpen +
+                " }";
+    }
+}
@@ -0,0 +1,204 @@
+package dev.langchain4j.model.chat.routing;
+
+import dev.langchain4j.model.chat.ChatModel;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Tracks the latencies and the outcomes of the last calls to a delegate of a {@link RoutingChatModel},
+ * and implements its circuit breaker.
+ * <br>
+ * The circuit opens when, over the last {@code slidingWindowSize} calls (and at least {@code minimumNumberOfCalls}),
+ * the failure rate reaches {@code failureRateThreshold}. While open, the delegate is not called.
+ * Once {@code openDuration} has elapsed, a single trial call is let through:
+ * the circuit closes if it succeeds, and opens again if it fails.
+ */
+class DelegateTracker {
+
+    private final ChatModel model;
+    private final int minimumNumberOfCalls;
+    private final double failureRateThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private final long[] latencies;
+    private int latencyCount;
+    private int nextLatency;
+
+    private final boolean[] failures;
+    private int outcomeCount;
+    private int nextOutcome;
+    private int failureCount;
+
+    private Instant openUntil;
+    private boolean trialInProgress;
+
+    DelegateTracker(ChatModel model,
+                    int slidingWindowSize,
+                    int minimumNumberOfCalls,
+                    double failureRateThreshold,
+                    Duration openDuration,
+                    Clock clock) {
+        this.model = model;
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+        this.latencies = new long[slidingWindowSize];
+        this.failures = new boolean[slidingWindowSize];
+    }
+
+    ChatModel model() {
+        return model;
+    }
+
+    /**
+     * The outcome of {@link #tryAcquire()}.
+     */
+    enum Permit {
+
+        /**
+         * The circuit is open, the delegate must not be called.
+         */
+        DENIED,
+
+        /**
+         * The circuit is closed, the delegate can be called.
+         */
+        CALL,
+
+        /**
+         * The circuit is half-open, and the call is its single trial call.
+         */
+        TRIAL
+    }
+
+    /**
+     * Returns whether the delegate can be called, reserving the trial call if the circuit is half-open.
+     */
+    synchronized Permit tryAcquire() {
+        if (openUntil == null) {
+            return Permit.CALL;
+        }
+        if (trialInProgress || clock.instant().isBefore(openUntil)) {
+            return Permit.DENIED;
+        }
+        trialInProgress = true;
+        return Permit.TRIAL;
+    }
+
+    synchronized boolean isCallPermitted() {
+        return openUntil == null || (!trialInProgress && !clock.instant().isBefore(openUntil));
+    }
+
+    synchronized Instant openUntil() {
+        return openUntil;
+    }
+
+    /**
+     * Records the success of a call made with the given permit.
+     * A trial call closes the circuit. Other calls only count in the sliding window while the circuit is closed:
+     * a call that completes while the circuit is open (e.g., a call started before it opened)
+     * does not change the state of the circuit.
+     */
+    synchronized void onSuccess(Permit permit, long latencyNanos) {
+        latencies[nextLatency] = latencyNanos;
+        nextLatency = (nextLatency + 1) % latencies.length;
+        latencyCount = Math.min(latencyCount + 1, latencies.length);
+
+        if (permit == Permit.TRIAL) {
+            openUntil = null;
+            trialInProgress = false;
+            resetOutcomes();
+        } else if (openUntil != null) {
+            return;
+        }
+        recordOutcome(false);
+    }
+
+    /**
+     * Records the failure of a call made with the given permit.
+     * A trial call opens the circuit again. Other calls only count in the sliding window while the circuit is closed,
+     * see {@link #onSuccess(Permit, long)}.
+     */
+    synchronized void onFailure(Permit permit) {
+        if (permit == Permit.TRIAL) {
+            openUntil = clock.instant().plus(openDuration);
+            trialInProgress = false;
+            return;
+        }
+        if (openUntil != null) {
+            return;
+        }
+        recordOutcome(true);
+        if (outcomeCount >= minimumNumberOfCalls && failureRate() >= failureRateThreshold) {
+            openUntil = clock.instant().plus(openDuration);
+            resetOutcomes();
+        }
+    }
+
+    /**
+     * Called when a call is abandoned before its outcome is known (e.g., the loser of a hedged request).
+     * Releases the trial call if the abandoned call was granted it, so that another call can be tried.
+     */
+    synchronized void onCancellation(Permit permit) {
+        if (permit == Permit.TRIAL) {
+            trialInProgress = false;
+        }
+    }
+
+    /**
+     * Returns the given percentile (between 0 and 1) of the latencies of the last successful calls,
+     * or {@code null} if there was no successful call yet.
+     */
+    synchronized Duration latencyPercentile(double percentile) {
+        if (latencyCount == 0) {
+            return null;
+        }
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * latencyCount) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, Math.min(index, latencyCount - 1))]);
+    }
+
+    synchronized int latencyCount() {
+        return latencyCount;
+    }
+
+    synchronized double failureRate() {
+        return outcomeCount == 0 ? 0 : (double) failureCount / outcomeCount;
+    }
+
+    synchronized DelegateStats stats() {
+        return new DelegateStats(
+                model,
+                latencyPercentile(0.5),
+                latencyPercentile(0.95),
+                latencyPercentile(0.99),
+                failureRate(),
+                openUntil != null
+        );
+    }
+
+    private void recordOutcome(boolean failure) {
+        if (outcomeCount == failures.length && failures[nextOutcome]) {
+            failureCount--;
+        }
+        failures[nextOutcome] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        nextOutcome = (nextOutcome + 1) % failures.length;
+        outcomeCount = Math.min(outcomeCount + 1, failures.length);
+    }
+
+    private void resetOutcomes() {
+        Arrays.fill(failures, false);
+        outcomeCount = 0;
+        nextOutcome = 0;
+        failureCount = 0;
+    }
+}
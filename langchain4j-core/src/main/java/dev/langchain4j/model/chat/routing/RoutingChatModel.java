@@ -0,0 +1,505 @@
+package dev.langchain4j.model.chat.routing;
+
+import dev.langchain4j.exception.InvalidRequestException;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.routing.DelegateTracker.Permit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link ChatModel} that routes each request to one of several delegates serving the same logical model
+ * (e.g., the same model through different providers), picking the fastest healthy one.
+ * <br>
+ * For each delegate, the latencies of the last successful calls and the outcomes of the last calls are tracked
+ * (see {@link #stats()}). Delegates are tried in order of increasing median latency,
+ * delegates without any successful call yet being tried first.
+ * When a delegate fails, the request fails over to the next one,
+ * unless the failure is an {@link InvalidRequestException}, which is rethrown as is.
+ * <br>
+ * Each delegate has a circuit breaker: once its failure rate over the last calls reaches
+ * {@link Builder#failureRateThreshold(Double)}, it is not called for {@link Builder#openDuration(Duration)},
+ * after which a single trial call decides whether it is healthy again.
+ * When the circuits of all delegates are open, the delegate whose circuit opened first is called anyway.
+ * <br>
+ * When {@link Builder#hedging(Boolean)} is enabled, requests are sent from an {@link Executor}:
+ * if the first delegate has not answered after its {@link Builder#hedgingPercentile(Double)} latency,
+ * the request is also sent to the next delegate. The first successful response is returned,
+ * and the other call is cancelled by interrupting its thread.
+ * Hedging trades additional requests (about {@code 1 - hedgingPercentile} of them) for a lower tail latency.
+ * <br>
+ * The {@link ChatModel#defaultRequestParameters()} and the listeners of each delegate apply to the calls to it.
+ */
+public class RoutingChatModel implements ChatModel {
+
+    private static final Logger log = LoggerFactory.getLogger(RoutingChatModel.class);
+
+    private static final int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+    private static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 10;
+    private static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+    private static final double DEFAULT_HEDGING_PERCENTILE = 0.95;
+    private static final Duration DEFAULT_HEDGING_DELAY = Duration.ofSeconds(2);
+
+    private final List<DelegateTracker> delegates;
+    private final int minimumNumberOfCalls;
+    private final boolean hedging;
+    private final double hedgingPercentile;
+    private final Duration defaultHedgingDelay;
+    private final Executor executor;
+
+    public RoutingChatModel(List<ChatModel> delegates,
+                            Integer slidingWindowSize,
+                            Integer minimumNumberOfCalls,
+                            Double failureRateThreshold,
+                            Duration openDuration,
+                            Boolean hedging,
+                            Double hedgingPercentile,
+                            Duration defaultHedgingDelay,
+                            Executor executor,
+                            Clock clock) {
+        if (isNullOrEmpty(delegates)) {
+            throw new IllegalArgumentException("delegates cannot be null or empty");
+        }
+        int windowSize = ensureGreaterThanZero(getOrDefault(slidingWindowSize, DEFAULT_SLIDING_WINDOW_SIZE), "slidingWindowSize");
+        this.minimumNumberOfCalls = ensureGreaterThanZero(getOrDefault(minimumNumberOfCalls, DEFAULT_MINIMUM_NUMBER_OF_CALLS), "minimumNumberOfCalls");
+        double threshold = ensureBetween(getOrDefault(failureRateThreshold, DEFAULT_FAILURE_RATE_THRESHOLD), 0, 1, "failureRateThreshold");
+        Duration open = getOrDefault(openDuration, DEFAULT_OPEN_DURATION);
+        Clock finalClock = getOrDefault(clock, Clock::systemUTC);
+        this.delegates = new ArrayList<>(delegates.size());
+        for (ChatModel delegate : delegates) {
+            this.delegates.add(new DelegateTracker(ensureNotNull(delegate, "delegate"),
+                    windowSize, this.minimumNumberOfCalls, threshold, open, finalClock));
+        }
+        this.hedging = getOrDefault(hedging, false);
+        this.hedgingPercentile = ensureBetween(getOrDefault(hedgingPercentile, DEFAULT_HEDGING_PERCENTILE), 0, 1, "hedgingPercentile");
+        this.defaultHedgingDelay = getOrDefault(defaultHedgingDelay, DEFAULT_HEDGING_DELAY);
+        this.executor = this.hedging ? getOrDefault(executor, () -> DefaultExecutorHolder.EXECUTOR) : executor;
+    }
+
+    /**
+     * Holds the executor shared by all hedging instances without a configured executor, created on first use.
+     */
+    private static class DefaultExecutorHolder {
+
+        private static final int DEFAULT_MAX_THREADS = 64;
+
+        private static final Executor EXECUTOR = createVirtualThreadExecutor(() -> {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                    DEFAULT_MAX_THREADS, DEFAULT_MAX_THREADS,
+                    1, SECONDS,
+                    new LinkedBlockingQueue<>()
+            );
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            return threadPoolExecutor;
+        });
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        List<DelegateTracker> candidates = candidates();
+        return hedging ? chatHedged(chatRequest, candidates) : chatSequentially(chatRequest, candidates);
+    }
+
+    /**
+     * Returns the statistics of each delegate, in the order in which the delegates were configured.
+     */
+    public List<DelegateStats> stats() {
+        return delegates.stream().map(DelegateTracker::stats).collect(toList());
+    }
+
+    /**
+     * Returns the delegates that can currently be called, fastest first.
+     * If none can be called, returns the delegate whose circuit opened first, as a last resort.
+     */
+    private List<DelegateTracker> candidates() {
+        Map<DelegateTracker, Duration> medianLatencies = new IdentityHashMap<>();
+        List<DelegateTracker> candidates = new ArrayList<>();
+        for (DelegateTracker delegate : delegates) {
+            if (delegate.isCallPermitted()) {
+                medianLatencies.put(delegate, delegate.latencyPercentile(0.5));
+                candidates.add(delegate);
+            }
+        }
+        if (candidates.isEmpty()) {
+            delegates.stream()
+                    .filter(delegate -> delegate.openUntil() != null)
+                    .min(Comparator.comparing(DelegateTracker::openUntil, Comparator.nullsLast(Comparator.<Instant>naturalOrder())))
+                    .ifPresent(candidates::add);
+            return candidates;
+        }
+        candidates.sort(Comparator
+                .<DelegateTracker, Duration>comparing(medianLatencies::get, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingDouble(DelegateTracker::failureRate));
+        return candidates;
+    }
+
+    private ChatResponse chatSequentially(ChatRequest chatRequest, List<DelegateTracker> candidates) {
+        List<RuntimeException> failures = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            DelegateTracker delegate = candidates.get(i);
+            Permit permit = delegate.tryAcquire();
+            if (permit == Permit.DENIED && !isLastResort(candidates, i)) {
+                continue;
+            }
+            long start = System.nanoTime();
+            try {
+                ChatResponse chatResponse = delegate.model().chat(chatRequest);
+                delegate.onSuccess(permit, System.nanoTime() - start);
+                return chatResponse;
+            } catch (InvalidRequestException e) {
+                // the request itself is at fault, other delegates would reject it too
+                delegate.onCancellation(permit);
+                throw e;
+            } catch (RuntimeException e) {
+                delegate.onFailure(permit);
+                log.warn("Delegate {} failed, failing over to the next one", delegate.model(), e);
+                failures.add(e);
+            }
+        }
+        throw failure(failures);
+    }
+
+    private ChatResponse chatHedged(ChatRequest chatRequest, List<DelegateTracker> candidates) {
+        BlockingQueue<Attempt> completed = new LinkedBlockingQueue<>();
+        List<Attempt> inFlight = new ArrayList<>();
+        List<RuntimeException> failures = new ArrayList<>();
+        int next = 0;
+        boolean hedged = false;
+        try {
+            while (true) {
+                if (inFlight.isEmpty()) {
+                    next = start(chatRequest, candidates, next, completed, inFlight);
+                    if (inFlight.isEmpty()) {
+                        throw failure(failures);
+                    }
+                }
+
+                Attempt attempt;
+                if (!hedged && next < candidates.size()) {
+                    attempt = completed.poll(hedgingDelay(inFlight.get(0).delegate).toNanos(), NANOSECONDS);
+                    if (attempt == null) {
+                        hedged = true;
+                        next = start(chatRequest, candidates, next, completed, inFlight);
+                        continue;
+                    }
+                } else {
+                    attempt = completed.take();
+                }
+
+                inFlight.remove(attempt);
+                if (attempt.error == null) {
+                    return attempt.response;
+                }
+                if (attempt.error instanceof InvalidRequestException) {
+                    throw attempt.error;
+                }
+                log.warn("Delegate {} failed, failing over to the next one", attempt.delegate.model(), attempt.error);
+                failures.add(attempt.error);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            inFlight.forEach(Attempt::cancel);
+        }
+    }
+
+    /**
+     * Sends the request to the first delegate, starting at the given index, that can be called.
+     *
+     * @return the index of the next delegate to consider
+     */
+    private int start(ChatRequest chatRequest,
+                      List<DelegateTracker> candidates,
+                      int next,
+                      BlockingQueue<Attempt> completed,
+                      List<Attempt> inFlight) {
+        while (next < candidates.size()) {
+            int index = next++;
+            DelegateTracker delegate = candidates.get(index);
+            Permit permit = delegate.tryAcquire();
+            if (permit != Permit.DENIED || isLastResort(candidates, index)) {
+                Attempt attempt = new Attempt(delegate, permit, chatRequest, completed);
+                inFlight.add(attempt);
+                executor.execute(attempt);
+                break;
+            }
+        }
+        return next;
+    }
+
+    private boolean isLastResort(List<DelegateTracker> candidates, int index) {
+        return candidates.size() == 1 && index == 0 && !candidates.get(0).isCallPermitted();
+    }
+
+    private Duration hedgingDelay(DelegateTracker delegate) {
+        if (delegate.latencyCount() < minimumNumberOfCalls) {
+            return defaultHedgingDelay;
+        }
+        return delegate.latencyPercentile(hedgingPercentile);
+    }
+
+    private static RuntimeException failure(List<RuntimeException> failures) {
+        if (failures.isEmpty()) {
+            return new IllegalStateException("No delegate is available");
+        }
+        RuntimeException last = failures.get(failures.size() - 1);
+        for (int i = 0; i < failures.size() - 1; i++) {
+            last.addSuppressed(failures.get(i));
+        }
+        return last;
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        Set<Capability> capabilities = new HashSet<>(delegates.get(0).model().supportedCapabilities());
+        for (DelegateTracker delegate : delegates) {
+            capabilities.retainAll(delegate.model().supportedCapabilities());
+        }
+        return capabilities;
+    }
+
+    /**
+     * A call to a delegate, made from the {@link #executor}.
+     */
+    private static class Attempt implements Runnable {
+
+        private final DelegateTracker delegate;
+        private final Permit permit;
+        private final ChatRequest chatRequest;
+        private final BlockingQueue<Attempt> completed;
+
+        private Thread thread;
+        private boolean cancelled;
+        private boolean finished;
+        private volatile ChatResponse response;
+        private volatile RuntimeException error;
+
+        Attempt(DelegateTracker delegate, Permit permit, ChatRequest chatRequest, BlockingQueue<Attempt> completed) {
+            this.delegate = delegate;
+            this.permit = permit;
+            this.chatRequest = chatRequest;
+            this.completed = completed;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                thread = Thread.currentThread();
+            }
+            long start = System.nanoTime();
+            try {
+                response = delegate.model().chat(chatRequest);
+            } catch (RuntimeException e) {
+                error = e;
+            }
+            long latency = System.nanoTime() - start;
+            synchronized (this) {
+                // the outcome is recorded atomically with respect to cancel(), so that the trial call is released once
+                if (error == null) {
+                    delegate.onSuccess(permit, latency);
+                } else if (error instanceof InvalidRequestException) {
+                    delegate.onCancellation(permit);
+                } else if (!cancelled) {
+                    delegate.onFailure(permit);
+                }
+                thread = null;
+                finished = true;
+            }
+            if (isCancelled()) {
+                // do not leak the interruption to the next task of the executor
+                Thread.interrupted();
+            }
+            completed.add(this);
+        }
+
+        synchronized void cancel() {
+            if (finished) {
+                // the outcome has already been recorded
+                return;
+            }
+            cancelled = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+            delegate.onCancellation(permit);
+        }
+
+        private synchronized boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    public static class Builder {
+
+        private List<ChatModel> delegates;
+        private Integer slidingWindowSize;
+        private Integer minimumNumberOfCalls;
+        private Double failureRateThreshold;
+        private Duration openDuration;
+        private Boolean hedging;
+        private Double hedgingPercentile;
+        private Duration defaultHedgingDelay;
+        private Executor executor;
+        private Clock clock;
+
+        /**
+         * @param delegates The chat models to route requests to. They should serve the same logical model.
+         * @return builder
+         */
+        public Builder delegates(List<ChatModel> delegates) {
+            this.delegates = delegates;
+            return this;
+        }
+
+        /**
+         * @param delegates The chat models to route requests to. They should serve the same logical model.
+         * @return builder
+         */
+        public Builder delegates(ChatModel... delegates) {
+            return delegates(Arrays.asList(delegates));
+        }
+
+        /**
+         * @param slidingWindowSize The number of last calls of each delegate over which
+         *                          latency percentiles and the failure rate are computed. Default: 100
+         * @return builder
+         */
+        public Builder slidingWindowSize(Integer slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /**
+         * @param minimumNumberOfCalls The number of calls of a delegate required before its circuit can open,
+         *                             and before its latency percentiles are used to decide when to hedge.
+         *                             Default: 10
+         * @return builder
+         */
+        public Builder minimumNumberOfCalls(Integer minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        /**
+         * @param failureRateThreshold The failure rate (between 0 and 1) at which the circuit of a delegate opens.
+         *                             Default: 0.5
+         * @return builder
+         */
+        public Builder failureRateThreshold(Double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * @param openDuration How long a delegate is not called once its circuit has opened. Default: 30 seconds
+         * @return builder
+         */
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * @param hedging Whether to also send a request to the next delegate when the first one is slow to answer.
+         *                Default: false
+         * @return builder
+         */
+        public Builder hedging(Boolean hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
+        /**
+         * @param hedgingPercentile The percentile (between 0 and 1) of the latency of the first delegate
+         *                          after which the request is also sent to the next delegate. Default: 0.95
+         * @return builder
+         */
+        public Builder hedgingPercentile(Double hedgingPercentile) {
+            this.hedgingPercentile = hedgingPercentile;
+            return this;
+        }
+
+        /**
+         * @param defaultHedgingDelay The delay after which the request is also sent to the next delegate,
+         *                            used until the first delegate has {@link #minimumNumberOfCalls(Integer)}
+         *                            successful calls. Default: 2 seconds
+         * @return builder
+         */
+        public Builder defaultHedgingDelay(Duration defaultHedgingDelay) {
+            this.defaultHedgingDelay = defaultHedgingDelay;
+            return this;
+        }
+
+        /**
+         * @param executor The executor used to send hedged requests.
+         *                 Default: virtual threads when available, otherwise a thread pool of up to 64 threads
+         *                 shared by all instances
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param clock The clock used by the circuit breakers. Default: {@link Clock#systemUTC()}
+         * @return builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public RoutingChatModel build() {
+            return new RoutingChatModel(
+                    delegates,
+                    slidingWindowSize,
+                    minimumNumberOfCalls,
+                    failureRateThreshold,
+                    openDuration,
+                    hedging,
+                    hedgingPercentile,
+                    defaultHedgingDelay,
+                    executor,
+                    clock
+            );
+        }
+    }
+}
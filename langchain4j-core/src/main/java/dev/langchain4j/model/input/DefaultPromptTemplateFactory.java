@@ -5,7 +5,11 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.spi.prompt.PromptTemplateFactory;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -14,11 +18,38 @@ import java.util.regex.Pattern;
 @Internal
 class DefaultPromptTemplateFactory implements PromptTemplateFactory {
 
+    /**
+     * The maximum number of compiled templates kept in {@link #CACHE}.
+     * Templates are often created from dynamic strings (e.g., user messages), so the cache must be bounded.
+     */
+    private static final int MAX_CACHE_SIZE = 256;
+
+    /**
+     * Compiled templates, keyed by template string, evicted in least-recently-used order.
+     */
+    private static final Map<String, DefaultTemplate> CACHE =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, DefaultTemplate> eldest) {
+                    return size() > MAX_CACHE_SIZE;
+                }
+            });
+
     @Override
     public DefaultTemplate create(PromptTemplateFactory.Input input) {
-        return new DefaultTemplate(input.getTemplate());
+        String template = ensureNotBlank(input.getTemplate(), "template");
+        DefaultTemplate compiled = CACHE.get(template);
+        if (compiled == null) {
+            // DefaultTemplate is immutable, so a concurrent duplicate compilation is harmless
+            compiled = new DefaultTemplate(template);
+            CACHE.put(template, compiled);
+        }
+        return compiled;
     }
 
+    /**
+     * A template compiled into a sequence of literal and variable parts, rendered in a single pass.
+     */
     static class DefaultTemplate implements Template {
 
         /**
@@ -35,29 +66,67 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         private final String template;
         private final Set<String> allVariables;
 
+        /**
+         * Literal parts of the template. {@code literals[i]} precedes {@code variables[i]};
+         * the last literal follows the last variable.
+         */
+        private final String[] literals;
+        private final String[] variables;
+        private final int literalsLength;
+
         public DefaultTemplate(String template) {
             this.template = ensureNotBlank(template, "template");
-            this.allVariables = extractVariables(template);
-        }
 
-        private static Set<String> extractVariables(String template) {
-            Set<String> variables = new HashSet<>();
+            Set<String> allVariables = new LinkedHashSet<>();
+            List<String> literals = new ArrayList<>();
+            List<String> variables = new ArrayList<>();
+            int literalsLength = 0;
+            int literalStart = 0;
+
             Matcher matcher = VARIABLE_PATTERN.matcher(template);
             while (matcher.find()) {
-                variables.add(matcher.group(1));
+                String variable = matcher.group(1);
+                allVariables.add(variable);
+                if (matcher.end() - matcher.start() != variable.length() + 4) {
+                    // placeholders with spaces around the variable name (e.g. "{{ name }}") are kept as is
+                    continue;
+                }
+                String literal = template.substring(literalStart, matcher.start());
+                literals.add(literal);
+                literalsLength += literal.length();
+                variables.add(variable);
+                literalStart = matcher.end();
             }
-            return variables;
+            String lastLiteral = template.substring(literalStart);
+            literals.add(lastLiteral);
+            literalsLength += lastLiteral.length();
+
+            this.allVariables = allVariables;
+            this.literals = literals.toArray(new String[0]);
+            this.variables = variables.toArray(new String[0]);
+            this.literalsLength = literalsLength;
         }
 
         public String render(Map<String, Object> variables) {
             ensureAllVariablesProvided(variables);
+            ensureNoNullValues(variables);
+
+            if (this.variables.length == 0) {
+                return template;
+            }
 
-            String result = template;
-            for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                result = replaceAll(result, entry.getKey(), entry.getValue());
+            String[] values = new String[this.variables.length];
+            int length = literalsLength;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = variables.get(this.variables[i]).toString();
+                length += values[i].length();
             }
 
-            return result;
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < values.length; i++) {
+                sb.append(literals[i]).append(values[i]);
+            }
+            return sb.append(literals[values.length]).toString();
         }
 
         private void ensureAllVariablesProvided(Map<String, Object> providedVariables) {
@@ -68,15 +137,13 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
             }
         }
 
-        private static String replaceAll(String template, String variable, Object value) {
-            if (value == null || value.toString() == null) {
-                throw illegalArgument("Value for the variable '%s' is null", variable);
+        private static void ensureNoNullValues(Map<String, Object> providedVariables) {
+            for (Map.Entry<String, Object> entry : providedVariables.entrySet()) {
+                Object value = entry.getValue();
+                if (value == null || value.toString() == null) {
+                    throw illegalArgument("Value for the variable '%s' is null", entry.getKey());
+                }
             }
-            return template.replace(inDoubleCurlyBrackets(variable), value.toString());
-        }
-
-        private static String inDoubleCurlyBrackets(String variable) {
-            return "{{" + variable + "}}";
         }
     }
 }
@@ -2,37 +2,50 @@ package dev.langchain4j.rag;
 
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.exception.TimeoutException;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.aggregator.ContentAggregator;
 import dev.langchain4j.rag.content.aggregator.DefaultContentAggregator;
 import dev.langchain4j.rag.content.injector.ContentInjector;
 import dev.langchain4j.rag.content.injector.DefaultContentInjector;
+import dev.langchain4j.rag.content.retriever.BatchContentRetriever;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.rag.query.router.DefaultQueryRouter;
 import dev.langchain4j.rag.query.router.QueryRouter;
 import dev.langchain4j.rag.query.transformer.DefaultQueryTransformer;
 import dev.langchain4j.rag.query.transformer.QueryTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.concurrent.CompletableFuture.allOf;
-import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
@@ -94,11 +107,25 @@ import static java.util.stream.Collectors.toMap;
  * Nonetheless, you are encouraged to use one of the advanced ready-to-use implementations or create a custom one.
  * <br>
  * <br>
- * When there is only a single {@link Query} and a single {@link ContentRetriever},
+ * When there is only a single {@link Query} and a single {@link ContentRetriever} (and no timeouts are configured),
  * query routing and content retrieval are performed in the same thread.
  * Otherwise, an {@link Executor} is used to parallelize the processing.
- * By default, a modified (keepAliveTime is 1 second instead of 60 seconds) {@link Executors#newCachedThreadPool()}
- * is used, but you can provide a custom {@link Executor} instance.
+ * By default, a virtual thread per task is used when available (Java 21+),
+ * otherwise a pool of at most 64 threads (idle threads are released after 1 second) with an unbounded queue,
+ * but you can provide a custom {@link Executor} instance.
+ * <br>
+ * Optionally, timeouts can be configured for the routing of each {@link Query} ({@code routingTimeout})
+ * and for each {@link ContentRetriever} call ({@code retrievalTimeout}), so that a single slow component
+ * cannot stall the augmentation. By default, a timeout fails the augmentation with a {@link TimeoutException}.
+ * The thread of a call that times out is interrupted, so that it is released as soon as the component
+ * responds to the interruption.
+ * When {@code partialResults} is enabled, a routing or retrieval that times out or fails is logged
+ * and contributes no {@link Content}s instead, and the augmentation continues with the remaining results.
+ * <br>
+ * When multiple {@link Query}s are routed to the same {@link BatchContentRetriever}
+ * (e.g., {@link dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever}),
+ * they are retrieved with a single {@link BatchContentRetriever#retrieveAll(List)} call,
+ * once all {@link Query}s have been routed.
  *
  * @see DefaultQueryTransformer
  * @see DefaultQueryRouter
@@ -107,30 +134,55 @@ import static java.util.stream.Collectors.toMap;
  */
 public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
 
+    private static final Logger log = LoggerFactory.getLogger(DefaultRetrievalAugmentor.class);
+
+    private static final int DEFAULT_MAX_THREADS = 64;
+
     private final QueryTransformer queryTransformer;
     private final QueryRouter queryRouter;
     private final ContentAggregator contentAggregator;
     private final ContentInjector contentInjector;
     private final Executor executor;
+    private final Duration routingTimeout;
+    private final Duration retrievalTimeout;
+    private final boolean partialResults;
 
     public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
                                      QueryRouter queryRouter,
                                      ContentAggregator contentAggregator,
                                      ContentInjector contentInjector,
                                      Executor executor) {
+        this(queryTransformer, queryRouter, contentAggregator, contentInjector, executor, null, null, null);
+    }
+
+    public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
+                                     QueryRouter queryRouter,
+                                     ContentAggregator contentAggregator,
+                                     ContentInjector contentInjector,
+                                     Executor executor,
+                                     Duration routingTimeout,
+                                     Duration retrievalTimeout,
+                                     Boolean partialResults) {
         this.queryTransformer = getOrDefault(queryTransformer, DefaultQueryTransformer::new);
         this.queryRouter = ensureNotNull(queryRouter, "queryRouter");
         this.contentAggregator = getOrDefault(contentAggregator, DefaultContentAggregator::new);
         this.contentInjector = getOrDefault(contentInjector, DefaultContentInjector::new);
         this.executor = getOrDefault(executor, DefaultRetrievalAugmentor::createDefaultExecutor);
+        this.routingTimeout = routingTimeout;
+        this.retrievalTimeout = retrievalTimeout;
+        this.partialResults = getOrDefault(partialResults, false);
     }
 
     private static ExecutorService createDefaultExecutor() {
-        return new ThreadPoolExecutor(
-            0, Integer.MAX_VALUE,
-            1, SECONDS,
-            new SynchronousQueue<>()
-        );
+        return createVirtualThreadExecutor(() -> {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                DEFAULT_MAX_THREADS, DEFAULT_MAX_THREADS,
+                1, SECONDS,
+                new LinkedBlockingQueue<>()
+            );
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            return threadPoolExecutor;
+        });
     }
 
     @Override
@@ -162,23 +214,29 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
     private Map<Query, Collection<List<Content>>> process(Collection<Query> queries) {
         if (queries.size() == 1) {
             Query query = queries.iterator().next();
-            Collection<ContentRetriever> retrievers = queryRouter.route(query);
+            Collection<ContentRetriever> retrievers = routingTimeout == null && !partialResults
+                    ? queryRouter.route(query)
+                    : join(route(query));
             if (retrievers.size() == 1) {
                 ContentRetriever contentRetriever = retrievers.iterator().next();
-                List<Content> contents = contentRetriever.retrieve(query);
+                List<Content> contents = retrievalTimeout == null && !partialResults
+                        ? contentRetriever.retrieve(query)
+                        : join(retrieve(contentRetriever, query));
                 return singletonMap(query, singletonList(contents));
             } else if (retrievers.size() > 1) {
-                Collection<List<Content>> contents = retrieveFromAll(retrievers, query).join();
+                Collection<List<Content>> contents = join(retrieveFromAll(retrievers, query));
                 return singletonMap(query, contents);
             } else {
                 return emptyMap();
             }
         } else if (queries.size() > 1) {
+            Map<Query, CompletableFuture<Collection<ContentRetriever>>> queryToFutureRetrievers = new LinkedHashMap<>();
+            queries.forEach(query -> queryToFutureRetrievers.put(query, route(query)));
+            QueryBatches batches = new QueryBatches(queryToFutureRetrievers);
             Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents = new ConcurrentHashMap<>();
-            queries.forEach(query -> {
+            queryToFutureRetrievers.forEach((query, futureRetrievers) -> {
                 CompletableFuture<Collection<List<Content>>> futureContents =
-                        supplyAsync(() -> queryRouter.route(query), executor)
-                                .thenCompose(retrievers -> retrieveFromAll(retrievers, query));
+                        futureRetrievers.thenCompose(retrievers -> retrieveFromAll(retrievers, query, batches));
                 queryToFutureContents.put(query, futureContents);
             });
             return join(queryToFutureContents);
@@ -189,27 +247,201 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
 
     private CompletableFuture<Collection<List<Content>>> retrieveFromAll(Collection<ContentRetriever> retrievers,
                                                                          Query query) {
+        return retrieveFromAll(retrievers, query, null);
+    }
+
+    private CompletableFuture<Collection<List<Content>>> retrieveFromAll(Collection<ContentRetriever> retrievers,
+                                                                         Query query,
+                                                                         QueryBatches batches) {
         List<CompletableFuture<List<Content>>> futureContents = retrievers.stream()
-            .map(retriever -> supplyAsync(() -> retriever.retrieve(query), executor))
+            .map(retriever -> batches != null && retriever instanceof BatchContentRetriever batchRetriever
+                ? batches.retrieve(batchRetriever, query)
+                : retrieve(retriever, query))
             .collect(Collectors.toList());
 
-        return allOf(futureContents.toArray(new CompletableFuture[0]))
+        return allOf(futureContents.toArray(new CompletableFuture<?>[0]))
             .thenApply(ignored ->
                 futureContents.stream()
                     .map(CompletableFuture::join)
                     .collect(Collectors.toList()));
     }
 
-    private static Map<Query, Collection<List<Content>>> join(
-        Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents) {
-        return allOf(queryToFutureContents.values().toArray(new CompletableFuture[0]))
+    /**
+     * Groups the {@link Query}s routed to the same {@link BatchContentRetriever}, once all {@link Query}s are routed,
+     * so that each such retriever is called once for all its {@link Query}s.
+     * Other retrievers do not wait for the routing of the other {@link Query}s.
+     */
+    private class QueryBatches {
+
+        private final CompletableFuture<Map<BatchContentRetriever, List<Query>>> futureBatches;
+        private final Map<BatchContentRetriever, BatchRetrieval> batchRetrievals = new ConcurrentHashMap<>();
+
+        private QueryBatches(Map<Query, CompletableFuture<Collection<ContentRetriever>>> queryToFutureRetrievers) {
+            this.futureBatches = allOf(queryToFutureRetrievers.values().toArray(new CompletableFuture<?>[0]))
+                    .thenApply(ignored -> {
+                        Map<BatchContentRetriever, List<Query>> batches = new LinkedHashMap<>();
+                        queryToFutureRetrievers.forEach((query, futureRetrievers) -> {
+                            for (ContentRetriever retriever : futureRetrievers.join()) {
+                                if (retriever instanceof BatchContentRetriever batchRetriever) {
+                                    batches.computeIfAbsent(batchRetriever, r -> new ArrayList<>()).add(query);
+                                }
+                            }
+                        });
+                        return batches;
+                    });
+        }
+
+        private CompletableFuture<List<Content>> retrieve(BatchContentRetriever retriever, Query query) {
+            return futureBatches.thenCompose(batches -> {
+                List<Query> batch = batches.get(retriever);
+                if (batch.size() == 1) {
+                    return retrieve(retriever, query);
+                }
+                int index = batch.indexOf(query);
+                BatchRetrieval batchRetrieval = batchRetrievals.computeIfAbsent(retriever, r ->
+                        new BatchRetrieval(supplyAsync(() -> retriever.retrieveAll(batch)), batch.size()));
+                CompletableFuture<List<Content>> futureContents = batchRetrieval.future
+                        .thenApply(batchContents -> batchContents.get(index));
+                return withTimeout(futureContents, retrievalTimeout, emptyList(),
+                        () -> "Retrieval from " + retriever + " for the query '" + query.text() + "'")
+                        .whenComplete((contents, error) -> batchRetrieval.release());
+            });
+        }
+    }
+
+    /**
+     * A {@link BatchContentRetriever#retrieveAll(List)} call shared by the {@link Query}s of a batch,
+     * cancelled once none of them waits for it anymore (e.g., because all of them timed out).
+     */
+    private static class BatchRetrieval {
+
+        private final CompletableFuture<List<List<Content>>> future;
+        private final AtomicInteger waitingQueries;
+
+        private BatchRetrieval(CompletableFuture<List<List<Content>>> future, int waitingQueries) {
+            this.future = future;
+            this.waitingQueries = new AtomicInteger(waitingQueries);
+        }
+
+        private void release() {
+            if (waitingQueries.decrementAndGet() == 0) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private CompletableFuture<Collection<ContentRetriever>> route(Query query) {
+        return withTimeout(supplyAsync(() -> queryRouter.route(query)), routingTimeout, emptyList(),
+                () -> "Routing of the query '" + query.text() + "'");
+    }
+
+    private CompletableFuture<List<Content>> retrieve(ContentRetriever retriever, Query query) {
+        return withTimeout(supplyAsync(() -> retriever.retrieve(query)), retrievalTimeout, emptyList(),
+                () -> "Retrieval from " + retriever + " for the query '" + query.text() + "'");
+    }
+
+    /**
+     * Runs the supplier on the executor, like {@link CompletableFuture#supplyAsync(Supplier, Executor)},
+     * except that when the returned future completes exceptionally (e.g., because it timed out) or is cancelled
+     * before the supplier completes, the supplier is not started or its thread is interrupted,
+     * so that it does not keep holding a thread of the executor.
+     * <br>
+     * The returned future is completed by the task once it is done, so the task is never interrupted
+     * by its own completion.
+     */
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        FutureTask<T> task = new FutureTask<>(supplier::get) {
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    future.cancel(false);
+                    return;
+                }
+                try {
+                    future.complete(get());
+                } catch (ExecutionException e) {
+                    future.completeExceptionally(e.getCause());
+                } catch (InterruptedException e) {
+                    // not thrown, as the task is done
+                    Thread.currentThread().interrupt();
+                    future.completeExceptionally(e);
+                }
+            }
+        };
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                task.cancel(true);
+            }
+        });
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Applies the timeout (if any) to the future and, when {@code partialResults} is enabled,
+     * replaces a timeout or a failure with the fallback value.
+     */
+    private <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future,
+                                                 Duration timeout,
+                                                 T fallback,
+                                                 Supplier<String> stage) {
+        if (timeout == null && !partialResults) {
+            return future;
+        }
+        if (timeout != null) {
+            future.orTimeout(timeout.toMillis(), MILLISECONDS);
+        }
+        return future.handle((result, error) -> {
+            if (error == null) {
+                return result;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            boolean timedOut = cause instanceof java.util.concurrent.TimeoutException;
+            if (partialResults) {
+                log.warn("{} {}, continuing without its results", stage.get(),
+                        timedOut ? "timed out after " + timeout.toMillis() + " ms" : "failed: " + cause.getMessage());
+                return fallback;
+            }
+            if (timedOut) {
+                throw new TimeoutException(stage.get() + " timed out after " + timeout.toMillis() + " ms", cause);
+            }
+            throw error instanceof CompletionException completionException
+                    ? completionException
+                    : new CompletionException(cause);
+        });
+    }
+
+    /**
+     * Waits for the future, rethrowing a {@link TimeoutException} as is, rather than wrapped.
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException timeoutException) {
+                throw timeoutException;
+            }
+            throw e;
+        }
+    }
+
+    private static <T> Map<Query, T> join(Map<Query, CompletableFuture<T>> queryToFutureContents) {
+        return join(allOf(queryToFutureContents.values().toArray(new CompletableFuture<?>[0]))
             .thenApply(ignored ->
                 queryToFutureContents.entrySet().stream()
                     .collect(toMap(
                         Map.Entry::getKey,
                         entry -> entry.getValue().join()
                     ))
-            ).join();
+            ));
     }
 
     public static DefaultRetrievalAugmentorBuilder builder() {
@@ -223,6 +455,9 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         private ContentAggregator contentAggregator;
         private ContentInjector contentInjector;
         private Executor executor;
+        private Duration routingTimeout;
+        private Duration retrievalTimeout;
+        private Boolean partialResults;
 
         DefaultRetrievalAugmentorBuilder() {
         }
@@ -257,8 +492,35 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
             return this;
         }
 
+        /**
+         * @param routingTimeout The maximum time to route each {@link Query}. Default: no timeout.
+         */
+        public DefaultRetrievalAugmentorBuilder routingTimeout(Duration routingTimeout) {
+            this.routingTimeout = routingTimeout;
+            return this;
+        }
+
+        /**
+         * @param retrievalTimeout The maximum time for each {@link ContentRetriever} to retrieve {@link Content}s
+         *                         for a {@link Query}. Default: no timeout.
+         */
+        public DefaultRetrievalAugmentorBuilder retrievalTimeout(Duration retrievalTimeout) {
+            this.retrievalTimeout = retrievalTimeout;
+            return this;
+        }
+
+        /**
+         * @param partialResults Whether to continue without the results of a routing or retrieval that times out
+         *                       or fails (a warning is logged), instead of failing the augmentation.
+         *                       Default: {@code false}.
+         */
+        public DefaultRetrievalAugmentorBuilder partialResults(Boolean partialResults) {
+            this.partialResults = partialResults;
+            return this;
+        }
+
         public DefaultRetrievalAugmentor build() {
-            return new DefaultRetrievalAugmentor(this.queryTransformer, this.queryRouter, this.contentAggregator, this.contentInjector, this.executor);
+            return new DefaultRetrievalAugmentor(this.queryTransformer, this.queryRouter, this.contentAggregator, this.contentInjector, this.executor, this.routingTimeout, this.retrievalTimeout, this.partialResults);
         }
     }
 }
@@ -7,16 +7,18 @@ import dev.langchain4j.rag.content.ContentMetadata;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.rag.query.transformer.ExpandingQueryTransformer;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.rag.content.ContentMetadata.RERANKED_SCORE;
 import static java.util.Collections.emptyList;
@@ -43,6 +45,13 @@ import static java.util.Collections.emptyList;
  * - {@link #minScore}: the minimum score for {@link Content}s to be returned.
  * {@link Content}s scoring below this threshold (as determined by the {@link ScoringModel})
  * are excluded from the results.
+ * <br>
+ * - {@link #maxResults}: the maximum number of {@link Content}s to be returned.
+ * <br>
+ * - {@link #maxCandidates}: the maximum number of fused {@link Content}s (those ranked best by the fusion)
+ * to be scored by the {@link ScoringModel}. {@link Content}s ranked lower by the fusion are not scored,
+ * which reduces the cost of re-ranking when many {@link Content}s are retrieved.
+ * By default, all fused {@link Content}s are scored.
  *
  * @see DefaultContentAggregator
  */
@@ -65,6 +74,7 @@ public class ReRankingContentAggregator implements ContentAggregator {
     private final Function<Map<Query, Collection<List<Content>>>, Query> querySelector;
     private final Double minScore;
     private final Integer maxResults;
+    private final Integer maxCandidates;
 
     public ReRankingContentAggregator(ScoringModel scoringModel) {
         this(scoringModel, DEFAULT_QUERY_SELECTOR, null);
@@ -80,10 +90,19 @@ public class ReRankingContentAggregator implements ContentAggregator {
                                       Function<Map<Query, Collection<List<Content>>>, Query> querySelector,
                                       Double minScore,
                                       Integer maxResults) {
+        this(scoringModel, querySelector, minScore, maxResults, null);
+    }
+
+    public ReRankingContentAggregator(ScoringModel scoringModel,
+                                      Function<Map<Query, Collection<List<Content>>>, Query> querySelector,
+                                      Double minScore,
+                                      Integer maxResults,
+                                      Integer maxCandidates) {
         this.scoringModel = ensureNotNull(scoringModel, "scoringModel");
         this.querySelector = getOrDefault(querySelector, DEFAULT_QUERY_SELECTOR);
         this.minScore = minScore;
         this.maxResults = getOrDefault(maxResults, Integer.MAX_VALUE);
+        this.maxCandidates = ensureGreaterThanZero(getOrDefault(maxCandidates, Integer.MAX_VALUE), "maxCandidates");
     }
 
     public static ReRankingContentAggregatorBuilder builder() {
@@ -103,8 +122,8 @@ public class ReRankingContentAggregator implements ContentAggregator {
         // For each query, fuse all contents retrieved from different sources using that query
         Map<Query, List<Content>> queryToFusedContents = fuse(queryToContents);
 
-        // Fuse all contents retrieved using all queries
-        List<Content> fusedContents = ReciprocalRankFuser.fuse(queryToFusedContents.values());
+        // Fuse all contents retrieved using all queries, keeping only the candidates to be re-ranked
+        List<Content> fusedContents = ReciprocalRankFuser.fuse(queryToFusedContents.values(), 60, maxCandidates);
 
         if (fusedContents.isEmpty()) {
             return fusedContents;
@@ -125,23 +144,39 @@ public class ReRankingContentAggregator implements ContentAggregator {
 
     protected List<Content> reRankAndFilter(List<Content> contents, Query query) {
 
-        List<TextSegment> segments = contents.stream()
-                .map(Content::textSegment)
-                .collect(Collectors.toList());
+        List<TextSegment> segments = new ArrayList<>(contents.size());
+        for (Content content : contents) {
+            segments.add(content.textSegment());
+        }
 
         List<Double> scores = scoringModel.scoreAll(segments, query.text()).content();
 
-        Map<TextSegment, Double> segmentToScore = new HashMap<>();
+        // scores of the segments passing minScore, so that only those are sorted
+        int[] indexes = new int[segments.size()];
+        double[] passingScores = new double[segments.size()];
+        int passing = 0;
         for (int i = 0; i < segments.size(); i++) {
-            segmentToScore.put(segments.get(i), scores.get(i));
+            double score = scores.get(i);
+            if (minScore == null || score >= minScore) {
+                indexes[passing] = i;
+                passingScores[passing] = score;
+                passing++;
+            }
         }
 
-        return segmentToScore.entrySet().stream()
-                .filter(entry -> minScore == null || entry.getValue() >= minScore)
-                .sorted(Map.Entry.<TextSegment, Double>comparingByValue().reversed())
-                .map(entry ->  Content.from(entry.getKey(), Map.of(RERANKED_SCORE, entry.getValue())))
-                .limit(maxResults)
-                .collect(Collectors.toList());
+        List<Content> reRanked = new ArrayList<>(Math.min(passing, maxResults));
+        Set<TextSegment> reRankedSegments = new HashSet<>();
+        for (int i : TopK.sort(passingScores, passing)) {
+            TextSegment segment = segments.get(indexes[i]);
+            // fused contents are distinct, but the same segment could be passed more than once by a subclass
+            if (reRankedSegments.add(segment)) {
+                reRanked.add(Content.from(segment, Map.of(RERANKED_SCORE, passingScores[i])));
+                if (reRanked.size() >= maxResults) {
+                    break;
+                }
+            }
+        }
+        return reRanked;
     }
 
     public static class ReRankingContentAggregatorBuilder {
@@ -149,6 +184,7 @@ public class ReRankingContentAggregator implements ContentAggregator {
         private Function<Map<Query, Collection<List<Content>>>, Query> querySelector;
         private Double minScore;
         private Integer maxResults;
+        private Integer maxCandidates;
 
         ReRankingContentAggregatorBuilder() {
         }
@@ -173,8 +209,17 @@ public class ReRankingContentAggregator implements ContentAggregator {
             return this;
         }
 
+        /**
+         * @param maxCandidates The maximum number of fused {@link Content}s (those ranked best by the fusion)
+         *                      to be scored by the {@link ScoringModel}. Default: all fused {@link Content}s.
+         */
+        public ReRankingContentAggregatorBuilder maxCandidates(Integer maxCandidates) {
+            this.maxCandidates = maxCandidates;
+            return this;
+        }
+
         public ReRankingContentAggregator build() {
-            return new ReRankingContentAggregator(this.scoringModel, this.querySelector, this.minScore, this.maxResults);
+            return new ReRankingContentAggregator(this.scoringModel, this.querySelector, this.minScore, this.maxResults, this.maxCandidates);
         }
     }
 }
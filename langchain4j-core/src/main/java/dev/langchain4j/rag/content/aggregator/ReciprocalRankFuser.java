@@ -4,8 +4,7 @@ import dev.langchain4j.rag.content.Content;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -46,21 +45,51 @@ public class ReciprocalRankFuser {
      * @return A single {@code List<Content>}, the result of the fusion.
      */
     public static List<Content> fuse(Collection<List<Content>> listsOfContents, int k) {
+        return fuse(listsOfContents, k, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Fuses multiple {@code List<Content>} into a single {@code List<Content>}
+     * using the Reciprocal Rank Fusion (RRF) algorithm, and returns only the {@code maxResults} best ranked
+     * {@link Content}s. This is equivalent to, but cheaper than, taking the first {@code maxResults} elements
+     * of {@link #fuse(Collection, int)}.
+     *
+     * @param listsOfContents A {@link Collection} of {@code List<Content>} to be fused together.
+     * @param k               A ranking constant, see {@link #fuse(Collection, int)}.
+     * @param maxResults      The maximum number of {@link Content}s to return. Must be greater than or equal to 1.
+     * @return A single {@code List<Content>}, the result of the fusion.
+     */
+    public static List<Content> fuse(Collection<List<Content>> listsOfContents, int k, int maxResults) {
         ensureBetween(k, 1, Integer.MAX_VALUE, "k");
+        ensureBetween(maxResults, 1, Integer.MAX_VALUE, "maxResults");
+
+        int totalSize = 0;
+        for (List<Content> singleListOfContent : listsOfContents) {
+            totalSize += singleListOfContent.size();
+        }
 
-        Map<Content, Double> scores = new LinkedHashMap<>();
+        // each distinct content is hashed once per occurrence, its score is accumulated in a primitive array
+        Map<Content, Integer> indexes = new HashMap<>(Math.max(16, (int) (totalSize / 0.75f) + 1));
+        List<Content> contents = new ArrayList<>(totalSize);
+        double[] scores = new double[totalSize];
         for (List<Content> singleListOfContent : listsOfContents) {
             for (int i = 0; i < singleListOfContent.size(); i++) {
                 Content content = singleListOfContent.get(i);
-                double currentScore = scores.getOrDefault(content, 0.0);
+                Integer index = indexes.putIfAbsent(content, contents.size());
+                if (index == null) {
+                    index = contents.size();
+                    contents.add(content);
+                }
                 int rank = i + 1;
-                double newScore = currentScore + 1.0 / (k + rank);
-                scores.put(content, newScore);
+                scores[index] += 1.0 / (k + rank);
             }
         }
 
-        List<Content> fused = new ArrayList<>(scores.keySet());
-        fused.sort(Comparator.comparingDouble(scores::get).reversed());
+        int[] best = TopK.select(scores, contents.size(), maxResults);
+        List<Content> fused = new ArrayList<>(best.length);
+        for (int index : best) {
+            fused.add(contents.get(index));
+        }
         return fused;
     }
 }
@@ -0,0 +1,92 @@
+package dev.langchain4j.rag.content.aggregator;
+
+/**
+ * Selects the indexes of the highest scores, without boxing and without sorting all scores
+ * when only a few of them are needed.
+ */
+class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * Returns the indexes of the (at most) {@code k} highest of the first {@code size} {@code scores},
+     * ordered by descending score. Equal scores are ordered by ascending index, as a stable sort would.
+     */
+    static int[] select(double[] scores, int size, int k) {
+        int n = Math.min(size, k);
+        if (n == 0) {
+            return new int[0];
+        }
+
+        // a min-heap of the best n indexes seen so far, the worst one at the root
+        int[] heap = new int[n];
+        int heapSize = 0;
+        for (int index = 0; index < size; index++) {
+            if (heapSize < n) {
+                heap[heapSize++] = index;
+                siftUp(heap, heapSize - 1, scores);
+            } else if (isBetter(index, heap[0], scores)) {
+                heap[0] = index;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+
+        int[] result = new int[n];
+        for (int i = n - 1; i >= 0; i--) {
+            result[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indexes of the first {@code size} {@code scores}, ordered by descending score.
+     * Equal scores are ordered by ascending index, as a stable sort would.
+     */
+    static int[] sort(double[] scores, int size) {
+        return select(scores, size, size);
+    }
+
+    private static boolean isBetter(int index, int otherIndex, double[] scores) {
+        int comparison = Double.compare(scores[index], scores[otherIndex]);
+        return comparison > 0 || (comparison == 0 && index < otherIndex);
+    }
+
+    private static void siftUp(int[] heap, int position, double[] scores) {
+        int index = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isBetter(heap[parent], index, scores)) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = index;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, double[] scores) {
+        if (heapSize == 0) {
+            return;
+        }
+        int index = heap[0];
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && isBetter(heap[child], heap[child + 1], scores)) {
+                child++;
+            }
+            if (!isBetter(index, heap[child], scores)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = index;
+    }
+}
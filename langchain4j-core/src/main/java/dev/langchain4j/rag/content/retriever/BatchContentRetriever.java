@@ -0,0 +1,29 @@
+package dev.langchain4j.rag.content.retriever;
+
+import dev.langchain4j.rag.DefaultRetrievalAugmentor;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.query.Query;
+
+import java.util.List;
+
+/**
+ * A {@link ContentRetriever} that can retrieve {@link Content}s for multiple {@link Query}s at once,
+ * more efficiently than one {@link Query} at a time (e.g., by embedding all queries in a single call).
+ * <br>
+ * When a {@link Query} is transformed into multiple {@link Query}s (e.g., by an {@code ExpandingQueryTransformer}),
+ * {@link DefaultRetrievalAugmentor} retrieves all {@link Query}s routed to the same {@code BatchContentRetriever}
+ * with a single {@link #retrieveAll(List)} call.
+ *
+ * @see EmbeddingStoreContentRetriever
+ */
+public interface BatchContentRetriever extends ContentRetriever {
+
+    /**
+     * Retrieves relevant {@link Content}s for each of the given {@link Query}s.
+     * The result for each {@link Query} is the same as what {@link #retrieve(Query)} would return for it.
+     *
+     * @param queries The {@link Query}s to use for retrieval.
+     * @return A list of retrieved {@link Content}s for each {@link Query}, in the order of the given {@link Query}s.
+     */
+    List<List<Content>> retrieveAll(List<Query> queries);
+}
@@ -12,17 +12,24 @@ import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static dev.langchain4j.internal.ParallelUtils.mapInParallel;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * A {@link ContentRetriever} that retrieves from an {@link EmbeddingStore}.
@@ -54,8 +61,19 @@ import static dev.langchain4j.spi.ServiceHelper.loadFactories;
  * - {@code dynamicFilter}: It is a {@link Function} that accepts a {@link Query} and returns a {@code filter} value.
  * It can be used to dynamically define {@code filter} value, depending on factors such as the query,
  * the user (using Metadata#chatMemoryId()} from {@link Query#metadata()}), etc.
+ * <br>
+ * - {@code executor}: The {@link Executor} used to run the searches of {@link #retrieveAll(List)} concurrently.
+ * By default, virtual threads are used when available, otherwise a bounded thread pool shared by all instances.
+ * <br>
+ * - {@code batchSearch}: Whether {@link #retrieveAll(List)} passes all searches to a single
+ * {@link EmbeddingStore#searchAll(List)} call instead of running them concurrently. Useful for stores that override
+ * {@code searchAll} to search in a single round trip. Default: {@code false}.
+ * <br>
+ * <br>
+ * When retrieving for multiple {@link Query}s at once (see {@link #retrieveAll(List)}),
+ * all {@link Query}s are embedded with a single {@link EmbeddingModel#embedAll(List)} call.
  */
-public class EmbeddingStoreContentRetriever implements ContentRetriever {
+public class EmbeddingStoreContentRetriever implements BatchContentRetriever {
 
     public static final Function<Query, Integer> DEFAULT_MAX_RESULTS = (query) -> 3;
     public static final Function<Query, Double> DEFAULT_MIN_SCORE = (query) -> 0.0;
@@ -72,6 +90,9 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
 
     private final String displayName;
 
+    private final Executor executor;
+    private final boolean batchSearch;
+
     public EmbeddingStoreContentRetriever(EmbeddingStore<TextSegment> embeddingStore,
                                           EmbeddingModel embeddingModel) {
         this(
@@ -80,7 +101,9 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
                 embeddingModel,
                 DEFAULT_MAX_RESULTS,
                 DEFAULT_MIN_SCORE,
-                DEFAULT_FILTER
+                DEFAULT_FILTER,
+                null,
+                null
         );
     }
 
@@ -93,7 +116,9 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
                 embeddingModel,
                 (query) -> maxResults,
                 DEFAULT_MIN_SCORE,
-                DEFAULT_FILTER
+                DEFAULT_FILTER,
+                null,
+                null
         );
     }
 
@@ -107,7 +132,9 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
                 embeddingModel,
                 (query) -> maxResults,
                 (query) -> minScore,
-                DEFAULT_FILTER
+                DEFAULT_FILTER,
+                null,
+                null
         );
     }
 
@@ -116,7 +143,9 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
                                            EmbeddingModel embeddingModel,
                                            Function<Query, Integer> dynamicMaxResults,
                                            Function<Query, Double> dynamicMinScore,
-                                           Function<Query, Filter> dynamicFilter) {
+                                           Function<Query, Filter> dynamicFilter,
+                                           Executor executor,
+                                           Boolean batchSearch) {
         this.displayName = getOrDefault(displayName, DEFAULT_DISPLAY_NAME);
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
         this.embeddingModel = ensureNotNull(
@@ -126,6 +155,30 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
         this.maxResultsProvider = getOrDefault(dynamicMaxResults, DEFAULT_MAX_RESULTS);
         this.minScoreProvider = getOrDefault(dynamicMinScore, DEFAULT_MIN_SCORE);
         this.filterProvider = getOrDefault(dynamicFilter, DEFAULT_FILTER);
+        this.executor = executor;
+        this.batchSearch = getOrDefault(batchSearch, false);
+    }
+
+    private Executor executor() {
+        return executor != null ? executor : DefaultExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Holds the executor shared by all instances without a configured executor, created on first use.
+     */
+    private static class DefaultExecutorHolder {
+
+        private static final int DEFAULT_MAX_THREADS = 64;
+
+        private static final Executor EXECUTOR = createVirtualThreadExecutor(() -> {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                    DEFAULT_MAX_THREADS, DEFAULT_MAX_THREADS,
+                    1, SECONDS,
+                    new LinkedBlockingQueue<>()
+            );
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            return threadPoolExecutor;
+        });
     }
 
     private static EmbeddingModel loadEmbeddingModel() {
@@ -154,6 +207,8 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
         private Function<Query, Integer> dynamicMaxResults;
         private Function<Query, Double> dynamicMinScore;
         private Function<Query, Filter> dynamicFilter;
+        private Executor executor;
+        private Boolean batchSearch;
 
         EmbeddingStoreContentRetrieverBuilder() {
         }
@@ -209,8 +264,39 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
             return this;
         }
 
+        /**
+         * Sets the {@link Executor} used to run the searches of {@link EmbeddingStoreContentRetriever#retrieveAll(List)} concurrently,
+         * one search per {@link Query}. Not used when {@link #batchSearch(Boolean)} is enabled.
+         * <br>
+         * By default, an executor shared by all instances is created on first use:
+         * virtual threads when available, otherwise a thread pool bounded to 64 threads.
+         *
+         * @param executor the executor to run the searches on.
+         * @return builder
+         */
+        public EmbeddingStoreContentRetrieverBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets whether {@link EmbeddingStoreContentRetriever#retrieveAll(List)} passes the searches of all {@link Query}s
+         * to a single {@link EmbeddingStore#searchAll(List)} call.
+         * <br>
+         * This is opt-in, and only pays off for stores that override {@code searchAll} to search
+         * in a single round trip. By default ({@code false}), the searches run in parallel, one per {@link Query},
+         * on the {@link #executor(Executor)}.
+         *
+         * @param batchSearch whether to search for all queries with a single call.
+         * @return builder
+         */
+        public EmbeddingStoreContentRetrieverBuilder batchSearch(Boolean batchSearch) {
+            this.batchSearch = batchSearch;
+            return this;
+        }
+
         public EmbeddingStoreContentRetriever build() {
-            return new EmbeddingStoreContentRetriever(this.displayName, this.embeddingStore, this.embeddingModel, this.dynamicMaxResults, this.dynamicMinScore, this.dynamicFilter);
+            return new EmbeddingStoreContentRetriever(this.displayName, this.embeddingStore, this.embeddingModel, this.dynamicMaxResults, this.dynamicMinScore, this.dynamicFilter, this.executor, this.batchSearch);
         }
     }
 
@@ -227,15 +313,46 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
 
         Embedding embeddedQuery = embeddingModel.embed(query.text()).content();
 
-        EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+        EmbeddingSearchResult<TextSegment> searchResult = embeddingStore.search(searchRequest(query, embeddedQuery));
+
+        return toContents(searchResult);
+    }
+
+    @Override
+    public List<List<Content>> retrieveAll(List<Query> queries) {
+        if (queries.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<TextSegment> queryTexts = queries.stream()
+                .map(query -> TextSegment.from(query.text()))
+                .collect(Collectors.toList());
+        List<Embedding> embeddedQueries = embeddingModel.embedAll(queryTexts).content();
+
+        List<EmbeddingSearchRequest> searchRequests = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            searchRequests.add(searchRequest(queries.get(i), embeddedQueries.get(i)));
+        }
+
+        List<EmbeddingSearchResult<TextSegment>> searchResults = batchSearch
+                ? embeddingStore.searchAll(searchRequests)
+                : mapInParallel(searchRequests, embeddingStore::search, executor());
+
+        return searchResults.stream()
+                .map(EmbeddingStoreContentRetriever::toContents)
+                .collect(Collectors.toList());
+    }
+
+    private EmbeddingSearchRequest searchRequest(Query query, Embedding embeddedQuery) {
+        return EmbeddingSearchRequest.builder()
                 .queryEmbedding(embeddedQuery)
                 .maxResults(maxResultsProvider.apply(query))
                 .minScore(minScoreProvider.apply(query))
                 .filter(filterProvider.apply(query))
                 .build();
+    }
 
-        EmbeddingSearchResult<TextSegment> searchResult = embeddingStore.search(searchRequest);
-
+    private static List<Content> toContents(EmbeddingSearchResult<TextSegment> searchResult) {
         return searchResult.matches().stream()
                 .map(embeddingMatch -> Content.from(
                         embeddingMatch.embedded(),
@@ -0,0 +1,72 @@
+package dev.langchain4j.store.embedding;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The fingerprint of an ingested document, as recorded in an {@link IngestionManifest}:
+ * the hash of the document content (text and metadata) and the IDs of the segments produced from it,
+ * keyed by the hash of each segment (text and metadata).
+ */
+public class DocumentFingerprint {
+
+    private String contentHash;
+    private Map<String, String> segmentIdsByHash;
+
+    @SuppressWarnings("unused")
+    private DocumentFingerprint() { // for deserialization
+    }
+
+    public DocumentFingerprint(String contentHash, Map<String, String> segmentIdsByHash) {
+        this.contentHash = ensureNotBlank(contentHash, "contentHash");
+        this.segmentIdsByHash = new LinkedHashMap<>(ensureNotNull(segmentIdsByHash, "segmentIdsByHash"));
+    }
+
+    /**
+     * @return the hash of the document content (text and metadata).
+     */
+    public String contentHash() {
+        return contentHash;
+    }
+
+    /**
+     * @return the IDs of the segments in the {@link EmbeddingStore}, keyed by the hash of each segment.
+     */
+    public Map<String, String> segmentIdsByHash() {
+        return segmentIdsByHash;
+    }
+
+    /**
+     * @return the IDs of the segments in the {@link EmbeddingStore}.
+     */
+    public Collection<String> segmentIds() {
+        return segmentIdsByHash.values();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DocumentFingerprint that = (DocumentFingerprint) o;
+        return Objects.equals(contentHash, that.contentHash)
+                && Objects.equals(segmentIdsByHash, that.segmentIdsByHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contentHash, segmentIdsByHash);
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentFingerprint {" +
+                " contentHash = \"" + contentHash + "\"" +
+                ", segmentIdsByHash = " + segmentIdsByHash +
+                " }";
+    }
+}
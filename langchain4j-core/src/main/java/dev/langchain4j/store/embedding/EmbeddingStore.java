@@ -140,4 +140,22 @@ public interface EmbeddingStore<Embedded> {
      * @return An {@link EmbeddingSearchResult} containing all found {@link Embedding}s.
      */
     EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest request);
+
+    /**
+     * Performs multiple searches, e.g., for multiple variants of the same query.
+     * <br>
+     * By default, the searches are performed one by one, using {@link #search(EmbeddingSearchRequest)}.
+     * Implementations backed by a database that supports multi-vector queries can override this method
+     * to perform all searches in a single round trip.
+     *
+     * @param requests The requests to search in an {@link EmbeddingStore}.
+     * @return An {@link EmbeddingSearchResult} for each request, in the order of the requests.
+     */
+    default List<EmbeddingSearchResult<Embedded>> searchAll(List<EmbeddingSearchRequest> requests) {
+        List<EmbeddingSearchResult<Embedded>> results = new ArrayList<>(requests.size());
+        for (EmbeddingSearchRequest request : requests) {
+            results.add(search(request));
+        }
+        return results;
+    }
 }
@@ -3,20 +3,34 @@ package dev.langchain4j.store.embedding;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.DocumentTransformer;
+import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.Utils.generateUUIDFrom;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.Arrays.asList;
@@ -51,6 +65,8 @@ import static java.util.stream.Collectors.toList;
  */
 public class EmbeddingStoreIngestor {
 
+    private static final String SEGMENT_INDEX = "index";
+
     private static final Logger log = LoggerFactory.getLogger(EmbeddingStoreIngestor.class);
 
     private final DocumentTransformer documentTransformer;
@@ -58,6 +74,8 @@ public class EmbeddingStoreIngestor {
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final IngestionManifest ingestionManifest;
+    private final Function<Document, String> documentIdProvider;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -75,6 +93,30 @@ public class EmbeddingStoreIngestor {
                                   TextSegmentTransformer textSegmentTransformer,
                                   EmbeddingModel embeddingModel,
                                   EmbeddingStore<TextSegment> embeddingStore) {
+        this(documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore, null, null);
+    }
+
+    /**
+     * Creates an instance of an {@code EmbeddingStoreIngestor}.
+     *
+     * @param documentTransformer    The {@link DocumentTransformer} to use. Optional.
+     * @param documentSplitter       The {@link DocumentSplitter} to use. Optional.
+     *                               If none is specified, it tries to load one through SPI (see {@link DocumentSplitterFactory}).
+     * @param textSegmentTransformer The {@link TextSegmentTransformer} to use. Optional.
+     * @param embeddingModel         The {@link EmbeddingModel} to use. Mandatory.
+     *                               If none is specified, it tries to load one through SPI (see {@link EmbeddingModelFactory}).
+     * @param embeddingStore         The {@link EmbeddingStore} to use. Mandatory.
+     * @param ingestionManifest      The {@link IngestionManifest} to use for incremental ingestion. Optional.
+     * @param documentIdProvider     Identifies documents across ingestions. Optional.
+     *                               See {@link Builder#documentIdProvider(Function)}.
+     */
+    public EmbeddingStoreIngestor(DocumentTransformer documentTransformer,
+                                  DocumentSplitter documentSplitter,
+                                  TextSegmentTransformer textSegmentTransformer,
+                                  EmbeddingModel embeddingModel,
+                                  EmbeddingStore<TextSegment> embeddingStore,
+                                  IngestionManifest ingestionManifest,
+                                  Function<Document, String> documentIdProvider) {
         this.documentTransformer = documentTransformer;
         this.documentSplitter = getOrDefault(documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
         this.textSegmentTransformer = textSegmentTransformer;
@@ -83,6 +125,8 @@ public class EmbeddingStoreIngestor {
                 "embeddingModel"
         );
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.ingestionManifest = ingestionManifest;
+        this.documentIdProvider = getOrDefault(documentIdProvider, EmbeddingStoreIngestor::sourceDocumentId);
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
@@ -173,10 +217,82 @@ public class EmbeddingStoreIngestor {
      * Ingests specified documents into an {@link EmbeddingStore} that was specified
      * during the creation of this {@code EmbeddingStoreIngestor}.
      *
+     * <br>
+     * When an {@link IngestionManifest} is configured, only new or changed documents are ingested
+     * (see {@link Builder#ingestionManifest(IngestionManifest)}).
+     *
      * @param documents the documents to ingest.
      * @return result including information related to ingestion process.
      */
     public IngestionResult ingest(List<Document> documents) {
+        if (ingestionManifest != null) {
+            return ingestIncrementally(documents);
+        }
+        return new IngestionResult(ingestAll(documents));
+    }
+
+    /**
+     * Removes the segments of the specified documents from the {@link EmbeddingStore}
+     * and forgets the documents in the {@link IngestionManifest}.
+     * Documents that were never ingested are ignored.
+     *
+     * @param documentIds the IDs of the documents to remove
+     *                    (see {@link Builder#documentIdProvider(Function)}).
+     * @throws IllegalStateException if no {@link IngestionManifest} is configured.
+     */
+    public void remove(Collection<String> documentIds) {
+        ensureIngestionManifest();
+
+        List<String> segmentIds = new ArrayList<>();
+        List<String> removedDocumentIds = new ArrayList<>();
+        for (String documentId : documentIds) {
+            DocumentFingerprint fingerprint = ingestionManifest.get(documentId);
+            if (fingerprint != null) {
+                segmentIds.addAll(fingerprint.segmentIds());
+                removedDocumentIds.add(documentId);
+            }
+        }
+        if (!segmentIds.isEmpty()) {
+            embeddingStore.removeAll(segmentIds);
+            log.debug("Removed {} text segments of {} documents from the embedding store",
+                    segmentIds.size(), removedDocumentIds.size());
+        }
+        removedDocumentIds.forEach(ingestionManifest::remove);
+    }
+
+    /**
+     * Removes all documents recorded in the {@link IngestionManifest} that are not among the specified documents,
+     * typically because their source was deleted since the last ingestion.
+     * The segments of the removed documents are removed from the {@link EmbeddingStore}.
+     * <br>
+     * This is meant to be called with the full, current set of documents,
+     * for example right after ingesting them with {@link #ingest(List)}.
+     *
+     * @param documents the documents to keep.
+     * @return the IDs of the removed documents.
+     * @throws IllegalStateException if no {@link IngestionManifest} is configured.
+     */
+    public Set<String> removeAllExcept(List<Document> documents) {
+        ensureIngestionManifest();
+
+        Set<String> documentIdsToRemove = ingestionManifest.documentIds();
+        for (Document document : documents) {
+            String documentId = documentIdProvider.apply(document);
+            if (documentId != null) {
+                documentIdsToRemove.remove(documentId);
+            }
+        }
+        remove(documentIdsToRemove);
+        return documentIdsToRemove;
+    }
+
+    private void ensureIngestionManifest() {
+        if (ingestionManifest == null) {
+            throw new IllegalStateException("An IngestionManifest must be configured to remove documents");
+        }
+    }
+
+    private TokenUsage ingestAll(List<Document> documents) {
 
         log.debug("Starting to ingest {} documents", documents.size());
 
@@ -206,7 +322,174 @@ public class EmbeddingStoreIngestor {
         embeddingStore.addAll(embeddingsResponse.content(), segments);
         log.debug("Finished storing {} text segments into the embedding store", segments.size());
 
-        return new IngestionResult(embeddingsResponse.tokenUsage());
+        return embeddingsResponse.tokenUsage();
+    }
+
+    /**
+     * Ingests only the documents that are new or have changed since they were last ingested,
+     * according to the {@link IngestionManifest}. Within a changed document, only the new or changed segments
+     * are embedded and stored, and the segments that are no longer produced are removed from the store.
+     * Documents without an ID are ingested as if no manifest was configured.
+     * If several documents have the same ID, only the last one is ingested.
+     */
+    private IngestionResult ingestIncrementally(List<Document> documents) {
+
+        log.debug("Starting to incrementally ingest {} documents", documents.size());
+
+        List<Document> documentsWithoutId = new ArrayList<>();
+        Map<String, Document> documentsById = new LinkedHashMap<>();
+        for (Document document : documents) {
+            String documentId = documentIdProvider.apply(document);
+            if (documentId == null) {
+                documentsWithoutId.add(document);
+            } else if (documentsById.put(documentId, document) != null) {
+                log.warn("Document '{}' is ingested more than once, only its last occurrence is ingested", documentId);
+            }
+        }
+
+        Map<String, DocumentFingerprint> fingerprints = new LinkedHashMap<>();
+        List<String> idsToAdd = new ArrayList<>();
+        List<TextSegment> segmentsToAdd = new ArrayList<>();
+        List<String> idsToRemove = new ArrayList<>();
+        int unchangedDocuments = 0;
+
+        for (Map.Entry<String, Document> entry : documentsById.entrySet()) {
+            String documentId = entry.getKey();
+            Document document = entry.getValue();
+
+            String contentHash = hash(document.text(), document.metadata());
+            DocumentFingerprint previous = ingestionManifest.get(documentId);
+            if (previous != null && previous.contentHash().equals(contentHash)) {
+                unchangedDocuments++;
+                continue;
+            }
+            Map<String, String> previousSegmentIds = previous == null ? Map.of() : previous.segmentIdsByHash();
+
+            Map<String, String> segmentIds = new LinkedHashMap<>();
+            for (TextSegment segment : toSegments(document)) {
+                String segmentHash = segmentHash(segment);
+                while (segmentIds.containsKey(segmentHash)) {
+                    // the same segment is produced more than once
+                    segmentHash = generateUUIDFrom(segmentHash);
+                }
+                String segmentId = previousSegmentIds.get(segmentHash);
+                if (segmentId == null) {
+                    segmentId = randomUUID();
+                    idsToAdd.add(segmentId);
+                    segmentsToAdd.add(segment);
+                }
+                segmentIds.put(segmentHash, segmentId);
+            }
+            for (Map.Entry<String, String> previousSegment : previousSegmentIds.entrySet()) {
+                if (!segmentIds.containsKey(previousSegment.getKey())) {
+                    idsToRemove.add(previousSegment.getValue());
+                }
+            }
+
+            fingerprints.put(documentId, new DocumentFingerprint(contentHash, segmentIds));
+        }
+
+        log.debug("{} documents are unchanged, {} documents are new or changed, {} documents have no ID",
+                unchangedDocuments, fingerprints.size(), documentsWithoutId.size());
+
+        TokenUsage tokenUsage = null;
+        if (!segmentsToAdd.isEmpty()) {
+            log.debug("Starting to embed {} new or changed text segments", segmentsToAdd.size());
+            Response<List<Embedding>> embeddingsResponse = embeddingModel.embedAll(segmentsToAdd);
+            embeddingStore.addAll(idsToAdd, embeddingsResponse.content(), segmentsToAdd);
+            tokenUsage = embeddingsResponse.tokenUsage();
+            log.debug("Finished storing {} new or changed text segments", segmentsToAdd.size());
+        }
+        if (!idsToRemove.isEmpty()) {
+            embeddingStore.removeAll(idsToRemove);
+            log.debug("Removed {} stale text segments from the embedding store", idsToRemove.size());
+        }
+        fingerprints.forEach(ingestionManifest::put);
+
+        if (!documentsWithoutId.isEmpty()) {
+            tokenUsage = TokenUsage.sum(tokenUsage, ingestAll(documentsWithoutId));
+        }
+        return new IngestionResult(tokenUsage);
+    }
+
+    private List<TextSegment> toSegments(Document document) {
+        if (documentTransformer != null) {
+            document = documentTransformer.transform(document);
+            if (document == null) {
+                return List.of();
+            }
+        }
+        List<TextSegment> segments = documentSplitter != null
+                ? documentSplitter.split(document)
+                : singletonList(document.toTextSegment());
+        if (textSegmentTransformer != null) {
+            segments = textSegmentTransformer.transformAll(segments);
+        }
+        return segments;
+    }
+
+    private static String hash(String text, Metadata metadata) {
+        return generateUUIDFrom(text + "\n" + new TreeMap<>(metadata.toMap()));
+    }
+
+    /**
+     * Hashes the text and the metadata of a segment, except for its position within the document,
+     * so that a segment that is only shifted (e.g., because a paragraph was inserted before it) is not re-embedded.
+     */
+    private static String segmentHash(TextSegment segment) {
+        Map<String, Object> metadata = new TreeMap<>(segment.metadata().toMap());
+        metadata.remove(SEGMENT_INDEX);
+        return generateUUIDFrom(segment.text() + "\n" + metadata);
+    }
+
+    /**
+     * Identifies a document by its source: the {@link Document#URL} metadata entry for documents loaded from a URL,
+     * or the {@link Document#ABSOLUTE_DIRECTORY_PATH} and {@link Document#FILE_NAME} metadata entries
+     * for documents loaded from the file system.
+     */
+    private static String sourceDocumentId(Document document) {
+        Metadata metadata = document.metadata();
+        String url = metadata.getString(Document.URL);
+        if (url != null) {
+            return url;
+        }
+        String directory = metadata.getString(Document.ABSOLUTE_DIRECTORY_PATH);
+        String fileName = metadata.getString(Document.FILE_NAME);
+        if (directory != null && fileName != null) {
+            return Paths.get(directory, fileName).toString();
+        }
+        return null;
+    }
+
+    /**
+     * Ingests the documents of the provided stream in batches of {@code batchSize} documents,
+     * so that the documents do not need to be held in memory all at once.
+     * The stream is consumed, but not closed.
+     * <br>
+     * If the stream throws while it is being consumed (e.g., an {@link java.io.UncheckedIOException}
+     * when a directory can no longer be traversed), the exception is propagated and the ingestion stops.
+     * The batches ingested before the failure remain in the {@link EmbeddingStore}; when an
+     * {@link IngestionManifest} is configured, they are also recorded in it, so that ingesting the same source again
+     * only processes the remaining documents.
+     *
+     * @param documents The documents to ingest.
+     * @param batchSize The number of documents to ingest at once.
+     * @return The result of the ingestion, with the token usage summed over all batches.
+     */
+    public IngestionResult ingest(Stream<Document> documents, int batchSize) {
+        ensureGreaterThanZero(batchSize, "batchSize");
+
+        TokenUsage tokenUsage = null;
+        List<Document> batch = new ArrayList<>(batchSize);
+        Iterator<Document> iterator = documents.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == batchSize || !iterator.hasNext()) {
+                tokenUsage = TokenUsage.sum(tokenUsage, ingest(batch).tokenUsage());
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        return new IngestionResult(tokenUsage);
     }
 
     /**
@@ -228,6 +511,8 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private IngestionManifest ingestionManifest;
+        private Function<Document, String> documentIdProvider;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
@@ -294,6 +579,44 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the ingestion manifest, which enables incremental ingestion. Optional.
+         * <br>
+         * With a manifest, documents that have not changed since they were last ingested are skipped,
+         * only the new or changed segments of changed documents are embedded and stored,
+         * and segments that are no longer produced are removed from the {@link EmbeddingStore}
+         * (which must then support {@link EmbeddingStore#removeAll(java.util.Collection)}).
+         * Segments are matched by their text and metadata, ignoring the {@code index} metadata entry,
+         * so a segment that only moved within its document is kept as stored, with its original {@code index}.
+         * Documents whose source was deleted are removed with {@link EmbeddingStoreIngestor#removeAllExcept(List)}
+         * or {@link EmbeddingStoreIngestor#remove(Collection)}.
+         * The manifest must describe the content of the configured {@link EmbeddingStore}.
+         *
+         * @param ingestionManifest the ingestion manifest.
+         * @return {@code this}
+         * @see #documentIdProvider(Function)
+         */
+        public Builder ingestionManifest(IngestionManifest ingestionManifest) {
+            this.ingestionManifest = ingestionManifest;
+            return this;
+        }
+
+        /**
+         * Sets how documents are identified across ingestions when an {@link IngestionManifest} is configured. Optional.
+         * <br>
+         * By default, documents are identified by their source: the {@link Document#URL} metadata entry,
+         * or the {@link Document#ABSOLUTE_DIRECTORY_PATH} and {@link Document#FILE_NAME} metadata entries
+         * (as set by {@code UrlSource} and {@code FileSystemSource}).
+         * Documents that cannot be identified ({@code null} is returned) are always ingested.
+         *
+         * @param documentIdProvider returns the ID of a document, or {@code null}.
+         * @return {@code this}
+         */
+        public Builder documentIdProvider(Function<Document, String> documentIdProvider) {
+            this.documentIdProvider = documentIdProvider;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
@@ -305,7 +628,9 @@ public class EmbeddingStoreIngestor {
                     documentSplitter,
                     textSegmentTransformer,
                     embeddingModel,
-                    embeddingStore
+                    embeddingStore,
+                    ingestionManifest,
+                    documentIdProvider
             );
         }
     }
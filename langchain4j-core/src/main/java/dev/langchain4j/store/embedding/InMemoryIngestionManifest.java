@@ -0,0 +1,80 @@
+package dev.langchain4j.store.embedding;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+
+import dev.langchain4j.internal.Json;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link IngestionManifest} that keeps the fingerprints in memory.
+ * <p>
+ * It can be persisted using {@link #serializeToJson()} and {@link #serializeToFile(Path)},
+ * and recreated using {@link #fromJson(String)} and {@link #fromFile(Path)},
+ * typically next to the {@link EmbeddingStore} it describes.
+ */
+public class InMemoryIngestionManifest implements IngestionManifest {
+
+    private Map<String, DocumentFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    public InMemoryIngestionManifest() {
+    }
+
+    private InMemoryIngestionManifest(Map<String, DocumentFingerprint> fingerprints) {
+        this.fingerprints.putAll(fingerprints);
+    }
+
+    @Override
+    public DocumentFingerprint get(String documentId) {
+        return fingerprints.get(ensureNotBlank(documentId, "documentId"));
+    }
+
+    @Override
+    public void put(String documentId, DocumentFingerprint fingerprint) {
+        fingerprints.put(ensureNotBlank(documentId, "documentId"), ensureNotNull(fingerprint, "fingerprint"));
+    }
+
+    @Override
+    public void remove(String documentId) {
+        fingerprints.remove(ensureNotBlank(documentId, "documentId"));
+    }
+
+    @Override
+    public Set<String> documentIds() {
+        return new HashSet<>(fingerprints.keySet());
+    }
+
+    public String serializeToJson() {
+        return Json.toJson(this);
+    }
+
+    public void serializeToFile(Path filePath) {
+        try {
+            Files.writeString(filePath, serializeToJson(), CREATE, TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static InMemoryIngestionManifest fromJson(String json) {
+        InMemoryIngestionManifest deserialized = Json.fromJson(json, InMemoryIngestionManifest.class);
+        return new InMemoryIngestionManifest(deserialized.fingerprints);
+    }
+
+    public static InMemoryIngestionManifest fromFile(Path filePath) {
+        try {
+            return fromJson(Files.readString(filePath));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package dev.langchain4j.store.embedding;
+
+import java.util.Set;
+
+/**
+ * Keeps track of the documents ingested by an {@link EmbeddingStoreIngestor}, so that re-ingesting
+ * a mostly unchanged set of documents only embeds and stores what has changed.
+ * <p>
+ * For each document ID (see {@link EmbeddingStoreIngestor.Builder#documentIdProvider(java.util.function.Function)}),
+ * the manifest holds a {@link DocumentFingerprint}: a hash of the document content and the IDs
+ * (in the {@link EmbeddingStore}) of the segments produced from it.
+ * <p>
+ * The manifest must be kept in sync with the {@link EmbeddingStore}: it should be persisted together with
+ * the store, and cleared if the store is cleared.
+ *
+ * @see InMemoryIngestionManifest
+ */
+public interface IngestionManifest {
+
+    /**
+     * @param documentId the ID of the document.
+     * @return the fingerprint of the document as it was last ingested, or {@code null} if it was never ingested.
+     */
+    DocumentFingerprint get(String documentId);
+
+    /**
+     * Records the fingerprint of an ingested document.
+     *
+     * @param documentId  the ID of the document.
+     * @param fingerprint the fingerprint of the document.
+     */
+    void put(String documentId, DocumentFingerprint fingerprint);
+
+    /**
+     * Forgets an ingested document.
+     *
+     * @param documentId the ID of the document.
+     */
+    void remove(String documentId);
+
+    /**
+     * @return the IDs of all ingested documents.
+     */
+    Set<String> documentIds();
+}
@@ -2,6 +2,8 @@ package dev.langchain4j.data.segment;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -39,4 +41,34 @@ class TextSegmentTransformerTest implements WithAssertions {
                         TextSegment.from("segment"),
                         TextSegment.from("transformer"));
     }
+
+    @Test
+    void transform_all_in_parallel() {
+        TextSegmentTransformer transformer = new LowercaseFnordTransformer();
+
+        List<TextSegment> segmentList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            segmentList.add(TextSegment.from(i % 10 == 0 ? "Fnord " + i : "Segment " + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertThat(transformer.transformAll(segmentList, executor))
+                    .containsExactlyElementsOf(transformer.transformAll(segmentList));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void transform_all_in_parallel_should_propagate_exception() {
+        TextSegmentTransformer transformer = segment -> {
+            throw new IllegalStateException("failed to transform " + segment.text());
+        };
+
+        assertThatThrownBy(() -> transformer.transformAllInParallel(
+                        List.of(TextSegment.from("first"), TextSegment.from("second"))))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("failed to transform first");
+    }
 }
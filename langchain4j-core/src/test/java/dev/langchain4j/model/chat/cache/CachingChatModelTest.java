@@ -0,0 +1,286 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingChatModelTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final ChatModel chatModel = new ChatModel() {
+
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            calls.incrementAndGet();
+            UserMessage userMessage = (UserMessage) chatRequest.messages().get(chatRequest.messages().size() - 1);
+            return ChatResponse.builder()
+                    .aiMessage(AiMessage.from("answer to: " + userMessage.singleText()))
+                    .finishReason(userMessage.singleText().contains("long") ? FinishReason.LENGTH : FinishReason.STOP)
+                    .build();
+        }
+    };
+
+    @Test
+    void should_answer_normalized_duplicates_from_cache() {
+
+        // given
+        CachingChatModel model = new CachingChatModel(chatModel, ChatResponseCache.builder().build());
+
+        // when
+        String first = model.chat("What is the capital of France?");
+        String second = model.chat("  What is the   capital of France? ");
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(calls).hasValue(1);
+        assertThat(model.cache().exactHits()).isEqualTo(1);
+        assertThat(model.cache().misses()).isEqualTo(1);
+        assertThat(model.cache().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void should_not_answer_from_cache_when_context_differs() {
+
+        // given
+        CachingChatModel model = new CachingChatModel(chatModel, ChatResponseCache.builder().build());
+
+        // when
+        model.chat(UserMessage.from("What is the capital of France?"));
+        model.chat(SystemMessage.from("Be brief"), UserMessage.from("What is the capital of France?"));
+        model.chat(ChatRequest.builder()
+                .messages(UserMessage.from("What is the capital of France?"))
+                .temperature(0.0)
+                .build());
+
+        // then
+        assertThat(calls).hasValue(3);
+        assertThat(model.cache().hits()).isZero();
+    }
+
+    @Test
+    void should_not_cache_truncated_responses() {
+
+        // given
+        CachingChatModel model = new CachingChatModel(chatModel, ChatResponseCache.builder().build());
+
+        // when
+        model.chat("Tell me a long story");
+        model.chat("Tell me a long story");
+
+        // then
+        assertThat(calls).hasValue(2);
+        assertThat(model.cache().size()).isZero();
+    }
+
+    @Test
+    void should_expire_and_evict_entries() {
+
+        // given
+        AtomicLong now = new AtomicLong();
+        ChatResponseCache cache = ChatResponseCache.builder()
+                .maxSize(2)
+                .ttl(Duration.ofMinutes(1))
+                .clock(clock(now))
+                .build();
+        CachingChatModel model = new CachingChatModel(chatModel, cache);
+
+        // when
+        model.chat("a");
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+        model.chat("a");
+
+        // then
+        assertThat(calls).hasValue(2);
+
+        // when
+        model.chat("b");
+        model.chat("c");
+        model.chat("a");
+
+        // then
+        assertThat(calls).hasValue(5);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void should_answer_similar_questions_from_semantic_cache() {
+
+        // given
+        ChatResponseCache cache = ChatResponseCache.builder()
+                .embeddingModel(new BagOfWordsEmbeddingModel("capital", "france", "paris", "weather", "today"))
+                .embeddingStore(new TestEmbeddingStore())
+                .minSimilarity(0.9)
+                .build();
+        CachingChatModel model = new CachingChatModel(chatModel, cache);
+
+        // when
+        String first = model.chat("What is the capital of France?");
+        String similar = model.chat("capital of france");
+        model.chat("What is the weather today?");
+        model.chat(SystemMessage.from("Be brief"), UserMessage.from("capital of france"));
+
+        // then
+        assertThat(similar).isEqualTo(first);
+        assertThat(calls).hasValue(3);
+        assertThat(cache.semanticHits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(3);
+    }
+
+    @Test
+    void should_return_response_when_it_cannot_be_cached() {
+
+        // given
+        ChatResponseCache cache = ChatResponseCache.builder()
+                .embeddingModel(new BagOfWordsEmbeddingModel("capital", "france"))
+                .embeddingStore(new FailingEmbeddingStore())
+                .build();
+        CachingChatModel model = new CachingChatModel(chatModel, cache);
+
+        // when
+        String answer = model.chat("What is the capital of France?");
+
+        // then
+        assertThat(answer).isEqualTo("answer to: What is the capital of France?");
+        assertThat(calls).hasValue(1);
+    }
+
+    static Clock clock(AtomicLong millis) {
+        return new Clock() {
+
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+    }
+
+    static class BagOfWordsEmbeddingModel implements EmbeddingModel {
+
+        private final String[] vocabulary;
+
+        BagOfWordsEmbeddingModel(String... vocabulary) {
+            this.vocabulary = vocabulary;
+        }
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            List<Embedding> embeddings = new ArrayList<>();
+            for (TextSegment textSegment : textSegments) {
+                float[] vector = new float[vocabulary.length];
+                for (int i = 0; i < vocabulary.length; i++) {
+                    vector[i] = textSegment.text().toLowerCase().contains(vocabulary[i]) ? 1 : 0;
+                }
+                embeddings.add(Embedding.from(vector));
+            }
+            return Response.from(embeddings);
+        }
+    }
+
+    static class FailingEmbeddingStore extends TestEmbeddingStore {
+
+        @Override
+        public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+            throw new RuntimeException("store is unavailable");
+        }
+    }
+
+    static class TestEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+        private final Map<String, Embedding> embeddings = new LinkedHashMap<>();
+        private final Map<String, TextSegment> segments = new LinkedHashMap<>();
+
+        @Override
+        public String add(Embedding embedding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(String id, Embedding embedding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String add(Embedding embedding, TextSegment textSegment) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+            for (int i = 0; i < ids.size(); i++) {
+                this.embeddings.put(ids.get(i), embeddings.get(i));
+                this.segments.put(ids.get(i), textSegments.get(i));
+            }
+        }
+
+        @Override
+        public void removeAll(Collection<String> ids) {
+            ids.forEach(id -> {
+                embeddings.remove(id);
+                segments.remove(id);
+            });
+        }
+
+        @Override
+        public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+            List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+            embeddings.forEach((id, embedding) -> {
+                TextSegment segment = segments.get(id);
+                double score = RelevanceScore.fromCosineSimilarity(
+                        CosineSimilarity.between(embedding, request.queryEmbedding()));
+                if (score >= request.minScore()
+                        && (request.filter() == null || request.filter().test(segment.metadata()))) {
+                    matches.add(new EmbeddingMatch<>(score, id, embedding, segment));
+                }
+            });
+            matches.sort(Comparator.comparingDouble(EmbeddingMatch<TextSegment>::score).reversed());
+            return new EmbeddingSearchResult<>(matches.subList(0, Math.min(request.maxResults(), matches.size())));
+        }
+    }
+}
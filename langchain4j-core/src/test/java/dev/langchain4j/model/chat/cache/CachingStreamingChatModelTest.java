@@ -0,0 +1,66 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.model.chat.TestStreamingChatResponseHandler;
+import dev.langchain4j.model.chat.cache.CachingChatModelTest.BagOfWordsEmbeddingModel;
+import dev.langchain4j.model.chat.cache.CachingChatModelTest.FailingEmbeddingStore;
+import dev.langchain4j.model.chat.mock.StreamingChatModelMock;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingStreamingChatModelTest {
+
+    @Test
+    void should_replay_cached_response() {
+
+        // given
+        StreamingChatModelMock streamingChatModel = StreamingChatModelMock.thatAlwaysStreams("Hel", "lo");
+        CachingStreamingChatModel model =
+                new CachingStreamingChatModel(streamingChatModel, ChatResponseCache.builder().build());
+
+        TestStreamingChatResponseHandler handler1 = new TestStreamingChatResponseHandler();
+        model.chat("Hi", handler1);
+        ChatResponse first = handler1.get();
+
+        // when
+        List<String> partialResponses = new ArrayList<>();
+        TestStreamingChatResponseHandler handler2 = new TestStreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                partialResponses.add(partialResponse);
+                super.onPartialResponse(partialResponse);
+            }
+        };
+        model.chat("Hi", handler2);
+
+        // then
+        assertThat(handler2.get()).isEqualTo(first);
+        assertThat(partialResponses).containsExactly("Hello");
+        assertThat(model.cache().exactHits()).isEqualTo(1);
+        assertThat(model.cache().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void should_deliver_complete_response_when_it_cannot_be_cached() {
+
+        // given
+        ChatResponseCache cache = ChatResponseCache.builder()
+                .embeddingModel(new BagOfWordsEmbeddingModel("hi"))
+                .embeddingStore(new FailingEmbeddingStore())
+                .build();
+        CachingStreamingChatModel model =
+                new CachingStreamingChatModel(StreamingChatModelMock.thatAlwaysStreams("Hel", "lo"), cache);
+        TestStreamingChatResponseHandler handler = new TestStreamingChatResponseHandler();
+
+        // when
+        model.chat("Hi", handler);
+
+        // then
+        assertThat(handler.get().aiMessage().text()).isEqualTo("Hello");
+    }
+}
@@ -0,0 +1,214 @@
+package dev.langchain4j.model.chat.response;
+
+import dev.langchain4j.data.message.AiMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescingStreamingChatResponseHandlerTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void should_forward_buffered_text_when_max_chars_is_reached() {
+
+        // given
+        RecordingHandler delegate = new RecordingHandler();
+        CoalescingStreamingChatResponseHandler handler =
+                new CoalescingStreamingChatResponseHandler(delegate, Duration.ZERO, 5, scheduler);
+
+        // when
+        handler.onPartialResponse("He");
+        handler.onPartialResponse("ll");
+        handler.onPartialResponse("o, ");
+        handler.onPartialResponse("world");
+        handler.onPartialResponse("!");
+
+        // then
+        assertThat(delegate.events).containsExactly("partial:Hello, ", "partial:world");
+    }
+
+    @Test
+    void should_forward_buffered_text_before_other_callbacks() {
+
+        // given
+        RecordingHandler delegate = new RecordingHandler();
+        CoalescingStreamingChatResponseHandler handler =
+                new CoalescingStreamingChatResponseHandler(delegate, Duration.ofMinutes(1), 100, scheduler);
+
+        // when
+        handler.onPartialResponse("Hello");
+        handler.onPartialReasoning("hmm");
+        handler.onPartialResponse(", ");
+        handler.onPartialResponse("world");
+        handler.onCompleteResponse(ChatResponse.builder().aiMessage(AiMessage.from("Hello, world")).build());
+
+        // then
+        assertThat(delegate.events).containsExactly(
+                "partial:Hello", "reasoning:hmm", "partial:, world", "complete:Hello, world");
+    }
+
+    @Test
+    void should_forward_buffered_text_before_error() {
+
+        // given
+        RecordingHandler delegate = new RecordingHandler();
+        CoalescingStreamingChatResponseHandler handler =
+                new CoalescingStreamingChatResponseHandler(delegate, Duration.ofMinutes(1), 100, scheduler);
+
+        // when
+        handler.onPartialResponse("Hel");
+        handler.onError(new RuntimeException("boom"));
+
+        // then
+        assertThat(delegate.events).containsExactly("partial:Hel", "error:boom");
+    }
+
+    @Test
+    void should_forward_buffered_text_when_max_delay_expires() throws Exception {
+
+        // given
+        CountDownLatch forwarded = new CountDownLatch(1);
+        RecordingHandler delegate = new RecordingHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                super.onPartialResponse(partialResponse);
+                forwarded.countDown();
+            }
+        };
+        CoalescingStreamingChatResponseHandler handler =
+                new CoalescingStreamingChatResponseHandler(delegate, Duration.ofMillis(20), 100, scheduler);
+
+        // when
+        handler.onPartialResponse("Hello");
+        handler.onPartialResponse(", world");
+
+        // then
+        assertThat(forwarded.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(delegate.events).containsExactly("partial:Hello, world");
+    }
+
+    @Test
+    void should_not_delay_other_streams_when_delegate_blocks() throws Exception {
+
+        // given
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingHandler blockingDelegate = new RecordingHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                blocked.countDown();
+                try {
+                    unblock.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onPartialResponse(partialResponse);
+            }
+        };
+        CountDownLatch forwarded = new CountDownLatch(1);
+        RecordingHandler otherDelegate = new RecordingHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                super.onPartialResponse(partialResponse);
+                forwarded.countDown();
+            }
+        };
+        ExecutorService executor = Executors.newCachedThreadPool();
+        CoalescingStreamingChatResponseHandler blockingHandler =
+                new CoalescingStreamingChatResponseHandler(blockingDelegate, Duration.ofMillis(20), 100, scheduler, executor);
+        CoalescingStreamingChatResponseHandler otherHandler =
+                new CoalescingStreamingChatResponseHandler(otherDelegate, Duration.ofMillis(40), 100, scheduler, executor);
+
+        try {
+            // when
+            blockingHandler.onPartialResponse("Hello");
+            assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+            otherHandler.onPartialResponse("world");
+
+            // then
+            assertThat(forwarded.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(otherDelegate.events).containsExactly("partial:world");
+            assertThat(blockingDelegate.events).isEmpty();
+        } finally {
+            unblock.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_drop_callbacks_after_delayed_forwarding_failed() throws Exception {
+
+        // given
+        CountDownLatch failed = new CountDownLatch(1);
+        RecordingHandler delegate = new RecordingHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                throw new IllegalStateException("connection closed");
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                super.onError(error);
+                failed.countDown();
+            }
+        };
+        CoalescingStreamingChatResponseHandler handler =
+                new CoalescingStreamingChatResponseHandler(delegate, Duration.ofMillis(20), 100, scheduler, Runnable::run);
+
+        handler.onPartialResponse("Hello");
+        assertThat(failed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        handler.onPartialResponse(", world");
+        handler.onCompleteResponse(ChatResponse.builder().aiMessage(AiMessage.from("Hello, world")).build());
+        handler.onError(new RuntimeException("stream failed"));
+
+        // then
+        assertThat(delegate.events).containsExactly("error:connection closed");
+    }
+
+    private static class RecordingHandler implements StreamingChatResponseHandler {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onPartialResponse(String partialResponse) {
+            events.add("partial:" + partialResponse);
+        }
+
+        @Override
+        public void onPartialReasoning(String partialReasoning) {
+            events.add("reasoning:" + partialReasoning);
+        }
+
+        @Override
+        public void onCompleteResponse(ChatResponse completeResponse) {
+            events.add("complete:" + completeResponse.aiMessage().text());
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            events.add("error:" + error.getMessage());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package dev.langchain4j.model.chat.routing;
+
+import dev.langchain4j.model.chat.routing.DelegateTracker.Permit;
+import dev.langchain4j.model.chat.routing.RoutingChatModelTest.TestChatModel;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static dev.langchain4j.model.chat.routing.RoutingChatModelTest.clock;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DelegateTrackerTest {
+
+    private final AtomicLong millis = new AtomicLong();
+
+    @Test
+    void should_keep_trial_reserved_when_other_call_is_cancelled() {
+
+        // given
+        DelegateTracker tracker = halfOpenTracker();
+        assertThat(tracker.tryAcquire()).isEqualTo(Permit.TRIAL);
+
+        // when
+        tracker.onCancellation(Permit.CALL);
+
+        // then
+        assertThat(tracker.isCallPermitted()).isFalse();
+        assertThat(tracker.tryAcquire()).isEqualTo(Permit.DENIED);
+    }
+
+    @Test
+    void should_release_trial_when_trial_call_is_cancelled() {
+
+        // given
+        DelegateTracker tracker = halfOpenTracker();
+        assertThat(tracker.tryAcquire()).isEqualTo(Permit.TRIAL);
+
+        // when
+        tracker.onCancellation(Permit.TRIAL);
+
+        // then
+        assertThat(tracker.isCallPermitted()).isTrue();
+        assertThat(tracker.tryAcquire()).isEqualTo(Permit.TRIAL);
+    }
+
+    @Test
+    void should_ignore_straggler_call_that_succeeds_while_trial_is_in_progress() {
+
+        // given
+        DelegateTracker tracker = halfOpenTracker();
+        assertThat(tracker.tryAcquire()).isEqualTo(Permit.TRIAL);
+
+        // when
+        tracker.onSuccess(Permit.CALL, 1_000);
+
+        // then
+        assertThat(tracker.stats().circuitOpen()).isTrue();
+        assertThat(tracker.tryAcquire()).isEqualTo(Permit.DENIED);
+    }
+
+    @Test
+    void should_ignore_straggler_call_that_fails_while_trial_is_in_progress() {
+
+        // given
+        DelegateTracker tracker = halfOpenTracker();
+        assertThat(tracker.tryAcquire()).isEqualTo(Permit.TRIAL);
+        Instant openUntil = tracker.openUntil();
+
+        // when
+        millis.addAndGet(Duration.ofSeconds(1).toMillis());
+        tracker.onFailure(Permit.CALL);
+
+        // then
+        assertThat(tracker.openUntil()).isEqualTo(openUntil);
+        assertThat(tracker.tryAcquire()).isEqualTo(Permit.DENIED);
+
+        // when
+        tracker.onSuccess(Permit.TRIAL, 1_000);
+
+        // then
+        assertThat(tracker.stats().circuitOpen()).isFalse();
+        assertThat(tracker.tryAcquire()).isEqualTo(Permit.CALL);
+    }
+
+    private DelegateTracker halfOpenTracker() {
+        DelegateTracker tracker = new DelegateTracker(
+                new TestChatModel("model", 0), 10, 2, 0.5, Duration.ofSeconds(10), clock(millis));
+        tracker.onFailure(Permit.CALL);
+        tracker.onFailure(Permit.CALL);
+        assertThat(tracker.tryAcquire()).isEqualTo(Permit.DENIED);
+        millis.addAndGet(Duration.ofSeconds(11).toMillis());
+        return tracker;
+    }
+}
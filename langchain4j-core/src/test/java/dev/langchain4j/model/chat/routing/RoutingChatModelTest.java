@@ -0,0 +1,192 @@
+package dev.langchain4j.model.chat.routing;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.exception.InvalidRequestException;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoutingChatModelTest {
+
+    @Test
+    void should_route_to_fastest_delegate() {
+
+        // given
+        TestChatModel slow = new TestChatModel("slow", 50);
+        TestChatModel fast = new TestChatModel("fast", 1);
+        RoutingChatModel model = RoutingChatModel.builder()
+                .delegates(slow, fast)
+                .build();
+
+        // when
+        model.chat("warm up"); // both delegates are tried once before their latencies are known
+        model.chat("warm up");
+        for (int i = 0; i < 5; i++) {
+            assertThat(model.chat("hi")).isEqualTo("fast");
+        }
+
+        // then
+        assertThat(slow.calls).hasValue(1);
+        assertThat(fast.calls).hasValue(6);
+        assertThat(model.stats().get(0).p50Latency()).isGreaterThan(model.stats().get(1).p50Latency());
+    }
+
+    @Test
+    void should_fail_over_to_next_delegate() {
+
+        // given
+        TestChatModel failing = new TestChatModel("failing", 0);
+        failing.fail = true;
+        TestChatModel healthy = new TestChatModel("healthy", 0);
+        RoutingChatModel model = RoutingChatModel.builder()
+                .delegates(failing, healthy)
+                .build();
+
+        // when-then
+        assertThat(model.chat("hi")).isEqualTo("healthy");
+        assertThat(failing.calls).hasValue(1);
+        assertThat(model.stats().get(0).failureRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    void should_not_fail_over_invalid_requests() {
+
+        // given
+        ChatModel rejecting = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                throw new InvalidRequestException("invalid request");
+            }
+        };
+        TestChatModel other = new TestChatModel("other", 0);
+        RoutingChatModel model = RoutingChatModel.builder()
+                .delegates(rejecting, other)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> model.chat("hi")).isExactlyInstanceOf(InvalidRequestException.class);
+        assertThat(other.calls).hasValue(0);
+    }
+
+    @Test
+    void should_open_and_close_circuit() {
+
+        // given
+        AtomicLong millis = new AtomicLong();
+        TestChatModel flaky = new TestChatModel("flaky", 0);
+        flaky.fail = true;
+        TestChatModel healthy = new TestChatModel("healthy", 1);
+        RoutingChatModel model = RoutingChatModel.builder()
+                .delegates(flaky, healthy)
+                .minimumNumberOfCalls(3)
+                .openDuration(Duration.ofSeconds(10))
+                .clock(clock(millis))
+                .build();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(model.chat("hi")).isEqualTo("healthy");
+        }
+
+        // then
+        assertThat(flaky.calls).hasValue(3);
+        assertThat(model.stats().get(0).circuitOpen()).isTrue();
+
+        // when
+        millis.set(Duration.ofSeconds(11).toMillis());
+        flaky.fail = false;
+
+        // then
+        assertThat(model.chat("hi")).isEqualTo("flaky");
+        assertThat(model.stats().get(0).circuitOpen()).isFalse();
+    }
+
+    @Test
+    void should_hedge_slow_request_and_cancel_loser() throws Exception {
+
+        // given
+        TestChatModel first = new TestChatModel("first", 2_000);
+        TestChatModel second = new TestChatModel("second", 1);
+        RoutingChatModel model = RoutingChatModel.builder()
+                .delegates(first, second)
+                .hedging(true)
+                .defaultHedgingDelay(Duration.ofMillis(50))
+                .build();
+
+        // when
+        long start = System.nanoTime();
+        String answer = model.chat("hi");
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(answer).isEqualTo("second");
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(1));
+        Thread.sleep(200);
+        assertThat(first.interruptions).hasValue(1);
+        assertThat(model.stats().get(0).failureRate()).isZero();
+    }
+
+    static class TestChatModel implements ChatModel {
+
+        final String name;
+        final long latencyMillis;
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger interruptions = new AtomicInteger();
+        volatile boolean fail;
+
+        TestChatModel(String name, long latencyMillis) {
+            this.name = name;
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                interruptions.incrementAndGet();
+                throw new RuntimeException(e);
+            }
+            if (fail) {
+                throw new RuntimeException(name + " failed");
+            }
+            return ChatResponse.builder()
+                    .aiMessage(AiMessage.from(name))
+                    .build();
+        }
+    }
+
+    static Clock clock(AtomicLong millis) {
+        return new Clock() {
+
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+    }
+}
@@ -202,4 +202,36 @@ class PromptTemplateTest {
         // then
         assertThat(prompt.text()).isEqualTo("This is " + s + ".");
     }
+
+    @Test
+    void should_not_substitute_variables_inside_values() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("{{first}} and {{second}}");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("first", "{{second}}");
+        variables.put("second", "{{first}}");
+
+        // when
+        Prompt prompt = promptTemplate.apply(variables);
+
+        // then
+        assertThat(prompt.text()).isEqualTo("{{second}} and {{first}}");
+    }
+
+    @Test
+    void should_reuse_compiled_template() {
+
+        // given
+        DefaultPromptTemplateFactory factory = new DefaultPromptTemplateFactory();
+        String template = "Hello {{name}}, today is {{current_date}}.";
+
+        // when
+        DefaultPromptTemplateFactory.DefaultTemplate template1 = factory.create(() -> template);
+        DefaultPromptTemplateFactory.DefaultTemplate template2 = factory.create(() -> new String(template));
+
+        // then
+        assertThat(template2).isSameAs(template1);
+    }
 }
@@ -6,6 +6,7 @@ import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -18,9 +19,11 @@ import static org.mockito.Mockito.when;
 
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.exception.TimeoutException;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.aggregator.ContentAggregator;
 import dev.langchain4j.rag.content.injector.ContentInjector;
+import dev.langchain4j.rag.content.retriever.BatchContentRetriever;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
 import dev.langchain4j.rag.query.Metadata;
 import dev.langchain4j.rag.query.Query;
@@ -28,12 +31,15 @@ import dev.langchain4j.rag.query.router.DefaultQueryRouter;
 import dev.langchain4j.rag.query.router.QueryRouter;
 import dev.langchain4j.rag.query.transformer.DefaultQueryTransformer;
 import dev.langchain4j.rag.query.transformer.QueryTransformer;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -223,6 +229,159 @@ class DefaultRetrievalAugmentorTest {
         verifyNoMoreInteractions(executor);
     }
 
+    @ParameterizedTest
+    @MethodSource("executors")
+    void should_retrieve_multiple_queries_in_a_single_call_to_batch_retriever(Executor executor) {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        QueryTransformer queryTransformer = new TestQueryTransformer(query1, query2);
+
+        Content content1 = Content.from("content 1");
+        Content content2 = Content.from("content 2");
+        BatchContentRetriever contentRetriever1 = spy(new TestBatchContentRetriever());
+
+        Content content3 = Content.from("content 3");
+        ContentRetriever contentRetriever2 = spy(new TestContentRetriever(content3));
+
+        QueryRouter queryRouter = new DefaultQueryRouter(contentRetriever1, contentRetriever2);
+
+        ContentAggregator contentAggregator = spy(new TestContentAggregator());
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(queryTransformer)
+                .queryRouter(queryRouter)
+                .contentAggregator(contentAggregator)
+                .contentInjector(new TestContentInjector())
+                .executor(executor)
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+
+        // when
+        retrievalAugmentor.augment(new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null)));
+
+        // then
+        verify(contentRetriever1).retrieveAll(asList(query1, query2));
+        verifyNoMoreInteractions(contentRetriever1);
+
+        verify(contentRetriever2).retrieve(query1);
+        verify(contentRetriever2).retrieve(query2);
+        verifyNoMoreInteractions(contentRetriever2);
+
+        Map<Query, Collection<List<Content>>> queryToContents = new HashMap<>();
+        queryToContents.put(query1, asList(asList(Content.from("query 1")), asList(content3)));
+        queryToContents.put(query2, asList(asList(Content.from("query 2")), asList(content3)));
+
+        verify(contentAggregator).aggregate(queryToContents);
+    }
+
+    @Test
+    void should_fail_when_retriever_times_out() {
+
+        // given
+        ContentRetriever slowContentRetriever = new SlowContentRetriever(Content.from("content 1"));
+        ContentRetriever contentRetriever = new TestContentRetriever(Content.from("content 2"));
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryRouter(new DefaultQueryRouter(slowContentRetriever, contentRetriever))
+                .retrievalTimeout(Duration.ofMillis(100))
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        AugmentationRequest request = new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null));
+
+        // when-then
+        assertThatThrownBy(() -> retrievalAugmentor.augment(request))
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasMessageContaining("timed out after 100 ms");
+    }
+
+    @Test
+    void should_interrupt_retriever_that_times_out() throws Exception {
+
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ContentRetriever blockingContentRetriever = query -> {
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return emptyList();
+        };
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .contentRetriever(blockingContentRetriever)
+                .retrievalTimeout(Duration.ofMillis(100))
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        AugmentationRequest request = new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null));
+
+        // when
+        assertThatThrownBy(() -> retrievalAugmentor.augment(request))
+                .isExactlyInstanceOf(TimeoutException.class);
+
+        // then
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void should_not_interrupt_thread_of_retriever_that_fails() {
+
+        // given
+        ContentRetriever failingContentRetriever = query -> {
+            throw new RuntimeException("failed");
+        };
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .contentRetriever(failingContentRetriever)
+                .executor(new TestExecutor())
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        AugmentationRequest request = new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null));
+
+        // when
+        assertThatThrownBy(() -> retrievalAugmentor.augment(request))
+                .hasMessageContaining("failed");
+
+        // then
+        assertThat(Thread.interrupted()).isFalse();
+    }
+
+    @Test
+    void should_continue_with_partial_results_when_retriever_times_out_or_fails() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+
+        ContentRetriever slowContentRetriever = new SlowContentRetriever(Content.from("content 1"));
+        ContentRetriever failingContentRetriever = query -> {
+            throw new RuntimeException("failed");
+        };
+        ContentRetriever contentRetriever = new TestContentRetriever(Content.from("content 2"));
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(new TestQueryTransformer(query1, query2))
+                .queryRouter(new DefaultQueryRouter(slowContentRetriever, failingContentRetriever, contentRetriever))
+                .retrievalTimeout(Duration.ofMillis(100))
+                .partialResults(true)
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+
+        // when
+        AugmentationResult result =
+                retrievalAugmentor.augment(new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null)));
+
+        // then
+        assertThat(result.contents()).containsExactly(Content.from("content 2"));
+    }
+
     private static class TestExecutor implements Executor {
 
         @Override
@@ -376,6 +535,36 @@ class DefaultRetrievalAugmentorTest {
         }
     }
 
+    static class SlowContentRetriever extends TestContentRetriever {
+
+        SlowContentRetriever(Content... contents) {
+            super(contents);
+        }
+
+        @Override
+        public List<Content> retrieve(Query query) {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.retrieve(query);
+        }
+    }
+
+    static class TestBatchContentRetriever implements BatchContentRetriever {
+
+        @Override
+        public List<Content> retrieve(Query query) {
+            return asList(Content.from(query.text()));
+        }
+
+        @Override
+        public List<List<Content>> retrieveAll(List<Query> queries) {
+            return queries.stream().map(query -> asList(Content.from(query.text()))).collect(toList());
+        }
+    }
+
     static class TestContentAggregator implements ContentAggregator {
 
         @Override
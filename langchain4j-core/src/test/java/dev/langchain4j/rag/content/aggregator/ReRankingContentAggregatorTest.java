@@ -105,6 +105,37 @@ class ReRankingContentAggregatorTest {
         assertReRankedContentScore(aggregated, 0.9, 0.7, 0.5);
     }
 
+    @Test
+    void should_score_only_max_candidates() {
+
+        // given
+        Query query = Query.from("query");
+
+        Content content1 = Content.from("content 1");
+        Content content2 = Content.from("content 2");
+        Content content3 = Content.from("content 3");
+
+        Map<Query, Collection<List<Content>>> queryToContents =
+                singletonMap(query, singletonList(asList(content1, content2, content3)));
+
+        ScoringModel scoringModel = mock(ScoringModel.class);
+        when(scoringModel.scoreAll(asList(content1.textSegment(), content2.textSegment()), query.text()))
+                .thenReturn(Response.from(asList(0.5, 0.7)));
+
+        ContentAggregator aggregator = ReRankingContentAggregator.builder()
+                .scoringModel(scoringModel)
+                .maxCandidates(2)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(queryToContents);
+
+        // then
+        // content3 was ranked out of the candidates by the fusion, so it was not scored
+        assertReRankedContentOrder(aggregated, content2, content1);
+        assertReRankedContentScore(aggregated, 0.7, 0.5);
+    }
+
     @Test
     void should_fail_when_multiple_queries_with_default_query_selector() {
 
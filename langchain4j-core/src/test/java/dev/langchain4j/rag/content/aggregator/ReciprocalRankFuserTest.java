@@ -90,6 +90,15 @@ class ReciprocalRankFuserTest {
                 .build();
     }
 
+    @ParameterizedTest
+    @MethodSource("should_fuse")
+    void should_fuse_top_results(Collection<List<Content>> contents, List<Content> expected) {
+        for (int maxResults = 1; maxResults <= expected.size() + 1; maxResults++) {
+            assertThat(fuse(contents, 60, maxResults))
+                    .isEqualTo(expected.subList(0, Math.min(maxResults, expected.size())));
+        }
+    }
+
     private static List<Content> list(Content... contents) {
         return asList(contents);
     }
@@ -4,6 +4,7 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
@@ -13,12 +14,19 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -335,4 +343,112 @@ class EmbeddingStoreContentRetrieverTest {
         // then
         assertThat(result).contains(EmbeddingStoreContentRetriever.DEFAULT_DISPLAY_NAME);
     }
+
+    @Test
+    void should_retrieve_all_queries_with_single_embedding_call_and_batch_search() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        Embedding embedding1 = Embedding.from(asList(1f, 0f, 0f));
+        Embedding embedding2 = Embedding.from(asList(0f, 1f, 0f));
+        when(EMBEDDING_MODEL.embedAll(any())).thenReturn(Response.from(asList(embedding1, embedding2)));
+
+        EmbeddingSearchResult<TextSegment> result1 = new EmbeddingSearchResult<>(asList(
+                new EmbeddingMatch<>(0.9, "id 1", null, TextSegment.from("content 1"))));
+        EmbeddingSearchResult<TextSegment> result2 = new EmbeddingSearchResult<>(asList(
+                new EmbeddingMatch<>(0.8, "id 2", null, TextSegment.from("content 2"))));
+        when(EMBEDDING_STORE.searchAll(any())).thenReturn(asList(result1, result2));
+
+        BatchContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(EMBEDDING_STORE)
+                .embeddingModel(EMBEDDING_MODEL)
+                .maxResults(CUSTOM_MAX_RESULTS)
+                .batchSearch(true)
+                .build();
+
+        // when
+        List<List<Content>> contents = contentRetriever.retrieveAll(asList(query1, query2));
+
+        // then
+        assertThat(contents).hasSize(2);
+        assertThat(contents.get(0)).extracting(content -> content.textSegment().text()).containsExactly("content 1");
+        assertThat(contents.get(1)).extracting(content -> content.textSegment().text()).containsExactly("content 2");
+
+        verify(EMBEDDING_MODEL).embedAll(asList(TextSegment.from("query 1"), TextSegment.from("query 2")));
+        verifyNoMoreInteractions(EMBEDDING_MODEL);
+        verify(EMBEDDING_STORE).searchAll(asList(
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embedding1)
+                        .maxResults(CUSTOM_MAX_RESULTS)
+                        .minScore(DEFAULT_MIN_SCORE)
+                        .build(),
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embedding2)
+                        .maxResults(CUSTOM_MAX_RESULTS)
+                        .minScore(DEFAULT_MIN_SCORE)
+                        .build()));
+        verifyNoMoreInteractions(EMBEDDING_STORE);
+    }
+
+    @Test
+    void should_retrieve_all_queries_with_concurrent_searches() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        when(EMBEDDING_MODEL.embedAll(any())).thenReturn(Response.from(asList(EMBEDDING, EMBEDDING)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        BatchContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(EMBEDDING_STORE)
+                .embeddingModel(EMBEDDING_MODEL)
+                .executor(executor)
+                .build();
+
+        try {
+            // when
+            List<List<Content>> contents = contentRetriever.retrieveAll(asList(query1, query2));
+
+            // then
+            assertThat(contents).hasSize(2);
+            assertThat(contents).allSatisfy(queryContents -> assertThat(queryContents).hasSize(2));
+            verify(EMBEDDING_MODEL).embedAll(any());
+            verifyNoMoreInteractions(EMBEDDING_MODEL);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_retrieve_all_queries_with_concurrent_searches_by_default() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        when(EMBEDDING_MODEL.embedAll(any())).thenReturn(Response.from(asList(EMBEDDING, EMBEDDING)));
+
+        CountDownLatch searchesStarted = new CountDownLatch(2);
+        when(EMBEDDING_STORE.search(any())).thenAnswer(invocation -> {
+            searchesStarted.countDown();
+            if (!searchesStarted.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("searches were not executed concurrently");
+            }
+            return new EmbeddingSearchResult<>(asList(
+                    new EmbeddingMatch<>(0.9, "id 1", null, TextSegment.from("content 1"))));
+        });
+
+        BatchContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(EMBEDDING_STORE)
+                .embeddingModel(EMBEDDING_MODEL)
+                .build();
+
+        // when
+        List<List<Content>> contents = contentRetriever.retrieveAll(asList(query1, query2));
+
+        // then
+        assertThat(contents).hasSize(2);
+        assertThat(contents).allSatisfy(queryContents -> assertThat(queryContents).hasSize(1));
+        verify(EMBEDDING_STORE, never()).searchAll(any());
+    }
 }
@@ -4,7 +4,11 @@ import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -19,6 +23,10 @@ import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class EmbeddingStoreIngestorTest {
@@ -192,4 +200,217 @@ class EmbeddingStoreIngestorTest {
 
         assertThat(ingestionResult.tokenUsage()).isEqualTo(tokenUsage);
     }
+
+    @Test
+    void should_ingest_stream_of_documents_in_batches() {
+
+        // given
+        TextSegment firstSegment = TextSegment.from("first", Metadata.from("index", "0"));
+        TextSegment secondSegment = TextSegment.from("second", Metadata.from("index", "0"));
+        TextSegment thirdSegment = TextSegment.from("third", Metadata.from("index", "0"));
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(asList(firstSegment, secondSegment)))
+                .thenReturn(Response.from(
+                        asList(Embedding.from(new float[] {1}), Embedding.from(new float[] {2})),
+                        new TokenUsage(1, 2, 3)));
+        when(embeddingModel.embedAll(singletonList(thirdSegment)))
+                .thenReturn(Response.from(singletonList(Embedding.from(new float[] {3})), new TokenUsage(3, 5, 8)));
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(
+                Stream.of(Document.from("first"), Document.from("second"), Document.from("third")), 2);
+
+        // then
+        verify(embeddingStore)
+                .addAll(
+                        asList(Embedding.from(new float[] {1}), Embedding.from(new float[] {2})),
+                        asList(firstSegment, secondSegment));
+        verify(embeddingStore).addAll(singletonList(Embedding.from(new float[] {3})), singletonList(thirdSegment));
+        verifyNoMoreInteractions(embeddingStore);
+
+        assertThat(ingestionResult.tokenUsage()).isEqualTo(new TokenUsage(4, 7, 11));
+    }
+
+    @Test
+    void should_ingest_only_new_or_changed_documents_and_segments_when_manifest_is_configured() {
+
+        // given
+        DocumentSplitter documentSplitter = document -> Stream.of(document.text().split("\\. "))
+                .map(sentence -> TextSegment.from(sentence, document.metadata().copy()))
+                .toList();
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            List<Embedding> embeddings = segments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                    .toList();
+            return Response.from(embeddings, new TokenUsage(segments.size()));
+        });
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        InMemoryIngestionManifest manifest = new InMemoryIngestionManifest();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .ingestionManifest(manifest)
+                .build();
+
+        Document first = Document.from("First sentence. Second sentence", Metadata.from(Document.URL, "first"));
+        Document second = Document.from("Another document", Metadata.from(Document.URL, "second"));
+
+        // when
+        IngestionResult initialResult = ingestor.ingest(first, second);
+
+        // then
+        assertThat(initialResult.tokenUsage().inputTokenCount()).isEqualTo(3);
+        assertThat(manifest.documentIds()).containsExactlyInAnyOrder("first", "second");
+        String staleSegmentId = manifest.get("first").segmentIdsByHash().values().stream()
+                .skip(1)
+                .findFirst()
+                .orElseThrow();
+
+        // when
+        IngestionResult unchangedResult = ingestor.ingest(first, second);
+
+        // then
+        assertThat(unchangedResult.tokenUsage()).isNull();
+
+        // when
+        Document changedFirst =
+                Document.from("First sentence. Changed sentence", Metadata.from(Document.URL, "first"));
+        IngestionResult changedResult = ingestor.ingest(changedFirst, second);
+
+        // then
+        assertThat(changedResult.tokenUsage().inputTokenCount()).isEqualTo(1);
+        verify(embeddingModel).embedAll(singletonList(TextSegment.from("Changed sentence", changedFirst.metadata())));
+        verify(embeddingStore).removeAll(singletonList(staleSegmentId));
+        assertThat(manifest.get("first").segmentIds()).hasSize(2).doesNotContain(staleSegmentId);
+    }
+
+    @Test
+    void should_not_re_embed_segments_that_only_moved_within_document() {
+
+        // given
+        DocumentSplitter documentSplitter = document -> {
+            String[] sentences = document.text().split("\\. ");
+            List<TextSegment> segments = new ArrayList<>();
+            for (int i = 0; i < sentences.length; i++) {
+                segments.add(TextSegment.from(sentences[i], document.metadata().copy().put("index", String.valueOf(i))));
+            }
+            return segments;
+        };
+        EmbeddingModel embeddingModel = embeddingModelReturningOneTokenPerSegment();
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .ingestionManifest(new InMemoryIngestionManifest())
+                .build();
+
+        ingestor.ingest(Document.from("First sentence. Second sentence", Metadata.from(Document.URL, "doc")));
+
+        // when
+        IngestionResult result = ingestor.ingest(
+                Document.from("Inserted sentence. First sentence. Second sentence", Metadata.from(Document.URL, "doc")));
+
+        // then
+        assertThat(result.tokenUsage().inputTokenCount()).isEqualTo(1);
+        verify(embeddingStore, never()).removeAll(anyCollection());
+    }
+
+    @Test
+    void should_remove_documents_that_are_no_longer_present() {
+
+        // given
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        InMemoryIngestionManifest manifest = new InMemoryIngestionManifest();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModelReturningOneTokenPerSegment())
+                .embeddingStore(embeddingStore)
+                .ingestionManifest(manifest)
+                .build();
+
+        Document kept = Document.from("Kept document", Metadata.from(Document.URL, "kept"));
+        Document deleted = Document.from("Deleted document", Metadata.from(Document.URL, "deleted"));
+        ingestor.ingest(kept, deleted);
+        List<String> deletedSegmentIds = List.copyOf(manifest.get("deleted").segmentIds());
+
+        // when
+        Set<String> removedDocumentIds = ingestor.removeAllExcept(List.of(kept));
+
+        // then
+        assertThat(removedDocumentIds).containsExactly("deleted");
+        verify(embeddingStore).removeAll(deletedSegmentIds);
+        assertThat(manifest.documentIds()).containsExactly("kept");
+    }
+
+    @Test
+    void should_ingest_only_last_of_documents_with_same_id() {
+
+        // given
+        EmbeddingModel embeddingModel = embeddingModelReturningOneTokenPerSegment();
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        InMemoryIngestionManifest manifest = new InMemoryIngestionManifest();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .ingestionManifest(manifest)
+                .build();
+
+        Document older = Document.from("Older version", Metadata.from(Document.URL, "doc"));
+        Document newer = Document.from("Newer version", Metadata.from(Document.URL, "doc"));
+
+        // when
+        IngestionResult result = ingestor.ingest(older, newer);
+
+        // then
+        assertThat(result.tokenUsage().inputTokenCount()).isEqualTo(1);
+        verify(embeddingModel).embedAll(singletonList(newer.toTextSegment()));
+        verify(embeddingStore).addAll(
+                List.copyOf(manifest.get("doc").segmentIds()),
+                singletonList(Embedding.from(new float[] {"Newer version".length()})),
+                singletonList(newer.toTextSegment()));
+        assertThat(manifest.documentIds()).containsExactly("doc");
+    }
+
+    @Test
+    void should_fail_to_remove_documents_without_manifest() {
+
+        // given
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(mock(EmbeddingModel.class))
+                .embeddingStore(mock(EmbeddingStore.class))
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> ingestor.removeAllExcept(List.of()))
+                .isExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    private static EmbeddingModel embeddingModelReturningOneTokenPerSegment() {
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            List<Embedding> embeddings = segments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().length()}))
+                    .toList();
+            return Response.from(embeddings, new TokenUsage(segments.size()));
+        });
+        return embeddingModel;
+    }
 }
@@ -0,0 +1,75 @@
+package dev.langchain4j.store.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InMemoryIngestionManifestTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_serialize_to_and_deserialize_from_json() {
+
+        // given
+        InMemoryIngestionManifest manifest = manifestWithTwoDocuments();
+
+        // when
+        String json = manifest.serializeToJson();
+        InMemoryIngestionManifest deserialized = InMemoryIngestionManifest.fromJson(json);
+
+        // then
+        assertThat(deserialized.documentIds()).containsExactlyInAnyOrder("first", "second");
+        assertThat(deserialized.get("first")).isEqualTo(manifest.get("first"));
+        assertThat(deserialized.get("second")).isEqualTo(manifest.get("second"));
+        assertThat(deserialized.get("first").segmentIdsByHash().keySet())
+                .containsExactly("segment-hash-1", "segment-hash-2");
+    }
+
+    @Test
+    void should_serialize_to_and_deserialize_from_file() {
+
+        // given
+        InMemoryIngestionManifest manifest = manifestWithTwoDocuments();
+        Path file = tempDir.resolve("manifest.json");
+
+        // when
+        manifest.serializeToFile(file);
+        InMemoryIngestionManifest deserialized = InMemoryIngestionManifest.fromFile(file);
+
+        // then
+        assertThat(deserialized.documentIds()).containsExactlyInAnyOrder("first", "second");
+        assertThat(deserialized.get("second")).isEqualTo(manifest.get("second"));
+    }
+
+    @Test
+    void should_remain_usable_after_deserialization() {
+
+        // given
+        InMemoryIngestionManifest deserialized =
+                InMemoryIngestionManifest.fromJson(manifestWithTwoDocuments().serializeToJson());
+
+        // when
+        deserialized.remove("first");
+        deserialized.put("third", new DocumentFingerprint("content-hash-3", Map.of()));
+
+        // then
+        assertThat(deserialized.documentIds()).containsExactlyInAnyOrder("second", "third");
+    }
+
+    private static InMemoryIngestionManifest manifestWithTwoDocuments() {
+        Map<String, String> firstSegmentIds = new LinkedHashMap<>();
+        firstSegmentIds.put("segment-hash-1", "segment-id-1");
+        firstSegmentIds.put("segment-hash-2", "segment-id-2");
+
+        InMemoryIngestionManifest manifest = new InMemoryIngestionManifest();
+        manifest.put("first", new DocumentFingerprint("content-hash-1", firstSegmentIds));
+        manifest.put("second", new DocumentFingerprint("content-hash-2", Map.of("segment-hash-3", "segment-id-3")));
+        return manifest;
+    }
+}
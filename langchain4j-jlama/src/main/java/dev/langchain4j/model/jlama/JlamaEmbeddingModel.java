@@ -13,14 +13,42 @@ import dev.langchain4j.model.output.Response;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 
+import static dev.langchain4j.internal.ParallelUtils.mapInParallel;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
+/**
+ * An embedding model that runs a BERT model in-process using Jlama.
+ * <br>
+ * By default, {@link #embedAll(List)} embeds the segments one by one on the calling thread.
+ * When {@code parallelism} is greater than 1, the segments are grouped into batches of up to {@code batchSize}
+ * segments of similar length, and up to {@code parallelism} batches are embedded concurrently.
+ * Since Jlama models are not documented to be thread-safe, {@code parallelism} copies of the model are loaded,
+ * each used by one thread at a time. The copies do not get their own compute threads: Jlama runs the tensor
+ * operations of all models on one process-wide pool (sized by {@code threadCount} when set),
+ * so concurrent batches share it rather than oversubscribing the CPU.
+ */
 public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
+
+    private static final int DEFAULT_BATCH_SIZE = 16;
+
     private final BertModel model;
+    private final BlockingQueue<BertModel> idleModels;
     private final Generator.PoolingType poolingType;
+    private final int batchSize;
+    private final int parallelism;
+    private final ThreadPoolExecutor executor;
 
     public JlamaEmbeddingModel(Path modelCachePath,
                                String modelName,
@@ -29,6 +57,19 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
                                Boolean quantizeModelAtRuntime,
                                Generator.PoolingType poolingType,
                                Path workingDirectory) {
+        this(modelCachePath, modelName, authToken, threadCount, quantizeModelAtRuntime, poolingType, workingDirectory,
+                null, null);
+    }
+
+    public JlamaEmbeddingModel(Path modelCachePath,
+                               String modelName,
+                               String authToken,
+                               Integer threadCount,
+                               Boolean quantizeModelAtRuntime,
+                               Generator.PoolingType poolingType,
+                               Path workingDirectory,
+                               Integer batchSize,
+                               Integer parallelism) {
 
         JlamaModelRegistry registry = JlamaModelRegistry.getOrCreate(modelCachePath);
         JlamaModel jlamaModel = RetryUtils.withRetryMappingExceptions(() -> registry.downloadModel(modelName, Optional.ofNullable(authToken)), 2);
@@ -41,6 +82,7 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         if (quantizeModelAtRuntime != null && quantizeModelAtRuntime)
             loader = loader.quantized();
 
+        int replicas = ensureGreaterThanZero(getOrDefault(parallelism, 1), "parallelism");
         if (threadCount != null)
             loader = loader.threadCount(threadCount);
 
@@ -53,6 +95,27 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.dimension = model.getConfig().embeddingLength;
 
         this.poolingType = poolingType == null ? Generator.PoolingType.MODEL : poolingType;
+
+        this.batchSize = ensureGreaterThanZero(getOrDefault(batchSize, DEFAULT_BATCH_SIZE), "batchSize");
+        this.parallelism = replicas;
+        if (this.parallelism > 1) {
+            this.idleModels = new ArrayBlockingQueue<>(this.parallelism);
+            this.idleModels.add(model);
+            for (int i = 1; i < this.parallelism; i++) {
+                this.idleModels.add((BertModel) loader.load());
+            }
+            // the threads are daemon threads that stop when idle, so the pool does not need to be shut down
+            this.executor = new ThreadPoolExecutor(
+                    this.parallelism, this.parallelism, 1, SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "jlama-embedding");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            this.executor.allowCoreThreadTimeOut(true);
+        } else {
+            this.idleModels = null;
+            this.executor = null;
+        }
     }
 
     public static JlamaEmbeddingModelBuilder builder() {
@@ -64,13 +127,84 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<Embedding> embeddings = new ArrayList<>();
+        if (executor == null || textSegments.size() <= 1) {
+            BertModel bertModel = acquireModel();
+            try {
+                List<Embedding> embeddings = new ArrayList<>();
 
-        textSegments.forEach(textSegment -> {
-            embeddings.add(Embedding.from(model.embed(textSegment.text(), poolingType)));
-        });
+                textSegments.forEach(textSegment -> {
+                    embeddings.add(embedOne(bertModel, textSegment));
+                });
+
+                return Response.from(embeddings);
+            } finally {
+                releaseModel(bertModel);
+            }
+        }
 
-        return Response.from(embeddings);
+        Embedding[] embeddings = new Embedding[textSegments.size()];
+        mapInParallel(toBatches(textSegments), batch -> {
+            BertModel bertModel = acquireModel();
+            try {
+                for (int index : batch) {
+                    embeddings[index] = embedOne(bertModel, textSegments.get(index));
+                }
+            } finally {
+                releaseModel(bertModel);
+            }
+            return null;
+        }, executor);
+
+        return Response.from(Arrays.asList(embeddings));
+    }
+
+    private Embedding embedOne(BertModel bertModel, TextSegment textSegment) {
+        return Embedding.from(bertModel.embed(textSegment.text(), poolingType));
+    }
+
+    /**
+     * @return a copy of the model that is not used by any other thread
+     */
+    private BertModel acquireModel() {
+        if (idleModels == null) {
+            return model;
+        }
+        try {
+            return idleModels.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void releaseModel(BertModel bertModel) {
+        if (idleModels != null) {
+            idleModels.add(bertModel);
+        }
+    }
+
+    /**
+     * Groups the indexes of the segments into batches of up to {@code batchSize} segments of similar length,
+     * so that each worker processes sequences of comparable cost and the batches finish at about the same time.
+     */
+    private List<int[]> toBatches(List<TextSegment> textSegments) {
+        Integer[] byLength = new Integer[textSegments.size()];
+        for (int i = 0; i < byLength.length; i++) {
+            byLength[i] = i;
+        }
+        Arrays.sort(byLength, Comparator.comparingInt(i -> textSegments.get(i).text().length()));
+
+        // smaller batches when there are too few segments to keep all workers busy
+        int size = Math.max(1, Math.min(batchSize, (byLength.length + parallelism - 1) / parallelism));
+        List<int[]> batches = new ArrayList<>();
+        for (int from = 0; from < byLength.length; from += size) {
+            int[] batch = new int[Math.min(size, byLength.length - from)];
+            for (int i = 0; i < batch.length; i++) {
+                batch[i] = byLength[from + i];
+            }
+            batches.add(batch);
+        }
+        return batches;
     }
 
     public static class JlamaEmbeddingModelBuilder {
@@ -81,6 +215,8 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Boolean quantizeModelAtRuntime;
         private Generator.PoolingType poolingType;
         private Path workingDirectory;
+        private Integer batchSize;
+        private Integer parallelism;
 
         public JlamaEmbeddingModelBuilder() {
             // This is public, so it can be extended
@@ -122,12 +258,31 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * The maximum number of segments of similar length embedded by a worker as one unit of work.
+         * Only used when {@link #parallelism(Integer)} is greater than 1. Default is 16.
+         */
+        public JlamaEmbeddingModelBuilder batchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * The maximum number of batches embedded concurrently by {@link JlamaEmbeddingModel#embedAll(List)}.
+         * As many copies of the model are loaded, so memory usage grows accordingly.
+         * Default is 1 (segments are embedded one by one on the calling thread).
+         */
+        public JlamaEmbeddingModelBuilder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         public JlamaEmbeddingModel build() {
-            return new JlamaEmbeddingModel(this.modelCachePath, this.modelName, this.authToken, this.threadCount, this.quantizeModelAtRuntime, this.poolingType, this.workingDirectory);
+            return new JlamaEmbeddingModel(this.modelCachePath, this.modelName, this.authToken, this.threadCount, this.quantizeModelAtRuntime, this.poolingType, this.workingDirectory, this.batchSize, this.parallelism);
         }
 
         public String toString() {
-            return "JlamaEmbeddingModel.JlamaEmbeddingModelBuilder(modelCachePath=" + this.modelCachePath + ", modelName=" + this.modelName + ", authToken=" + this.authToken + ", threadCount=" + this.threadCount + ", quantizeModelAtRuntime=" + this.quantizeModelAtRuntime + ", poolingType=" + this.poolingType + ", workingDirectory=" + this.workingDirectory + ")";
+            return "JlamaEmbeddingModel.JlamaEmbeddingModelBuilder(modelCachePath=" + this.modelCachePath + ", modelName=" + this.modelName + ", authToken=" + this.authToken + ", threadCount=" + this.threadCount + ", quantizeModelAtRuntime=" + this.quantizeModelAtRuntime + ", poolingType=" + this.poolingType + ", workingDirectory=" + this.workingDirectory + ", batchSize=" + this.batchSize + ", parallelism=" + this.parallelism + ")";
         }
     }
 }
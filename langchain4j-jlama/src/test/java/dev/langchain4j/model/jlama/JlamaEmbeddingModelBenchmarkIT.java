@@ -0,0 +1,74 @@
+package dev.langchain4j.model.jlama;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reports the throughput (segments/sec) of {@link JlamaEmbeddingModel#embedAll(List)}
+ * for different batch sizes and levels of parallelism, and checks that all of them produce the same embeddings.
+ */
+class JlamaEmbeddingModelBenchmarkIT {
+
+    private static final String MODEL_NAME = "intfloat/e5-small-v2";
+    private static final int SEGMENTS = 256;
+
+    static File tmpDir;
+
+    static List<TextSegment> segments;
+
+    @BeforeAll
+    static void setup() {
+        tmpDir = new File(System.getProperty("java.io.tmpdir") + File.separator + "jlama_tests");
+        tmpDir.mkdirs();
+
+        segments = new ArrayList<>();
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments.add(TextSegment.from("Segment " + i + ": " + "lorem ipsum dolor sit amet ".repeat(1 + i % 16)));
+        }
+    }
+
+    @Test
+    void should_report_segments_per_second_for_different_batch_sizes() {
+
+        List<Embedding> expected = null;
+
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int[][] configurations = {{1, 1}, {1, parallelism}, {4, parallelism}, {16, parallelism}, {64, parallelism}};
+
+        for (int[] configuration : configurations) {
+            JlamaEmbeddingModel model = JlamaEmbeddingModel.builder()
+                    .modelName(MODEL_NAME)
+                    .modelCachePath(tmpDir.toPath())
+                    .batchSize(configuration[0])
+                    .parallelism(configuration[1])
+                    .build();
+
+            // warm up
+            model.embedAll(segments.subList(0, 16));
+
+            long start = System.nanoTime();
+            List<Embedding> embeddings = model.embedAll(segments).content();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("batchSize=%d, parallelism=%d: %.1f segments/sec%n",
+                    configuration[0], configuration[1], SEGMENTS / seconds);
+
+            if (expected == null) {
+                expected = embeddings;
+            } else {
+                assertThat(embeddings).hasSameSizeAs(expected);
+                for (int i = 0; i < expected.size(); i++) {
+                    assertThat(embeddings.get(i).vector()).containsExactly(expected.get(i).vector());
+                }
+            }
+        }
+    }
+}
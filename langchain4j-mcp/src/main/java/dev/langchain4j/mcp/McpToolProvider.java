@@ -11,7 +11,9 @@ import dev.langchain4j.service.tool.ToolProviderRequest;
 import dev.langchain4j.service.tool.ToolProviderResult;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
@@ -30,6 +32,7 @@ public class McpToolProvider implements ToolProvider {
     private final boolean failIfOneServerFails;
     private final AtomicReference<BiPredicate<McpClient, ToolSpecification>> mcpToolsFilter;
     private final Function<ToolExecutor, ToolExecutor> toolWrapper;
+    private final Map<McpClient, ToolExecutor> toolExecutors = new ConcurrentHashMap<>();
     private static final Logger log = LoggerFactory.getLogger(McpToolProvider.class);
 
     private McpToolProvider(Builder builder) {
@@ -64,6 +67,7 @@ public class McpToolProvider implements ToolProvider {
      */
     public void removeMcpClient(McpClient client) {
         mcpClients.remove(client);
+        toolExecutors.remove(client);
     }
 
     /**
@@ -107,11 +111,13 @@ public class McpToolProvider implements ToolProvider {
     protected ToolProviderResult provideTools(ToolProviderRequest request, BiPredicate<McpClient, ToolSpecification> mcpToolsFilter) {
         ToolProviderResult.Builder builder = ToolProviderResult.builder();
         for (McpClient mcpClient : mcpClients) {
-            var defaultToolExecutor = new DefaultToolExecutor(mcpClient);
+            // executors are stateless apart from the client, so they are created once per client and reused
+            ToolExecutor toolExecutor = toolExecutors.computeIfAbsent(
+                    mcpClient, client -> toolWrapper.apply(new DefaultToolExecutor(client)));
             try {
                 mcpClient.listTools().stream().filter(tool -> mcpToolsFilter.test(mcpClient, tool))
                         .forEach(toolSpecification -> {
-                    builder.add(toolSpecification, toolWrapper.apply(defaultToolExecutor));
+                    builder.add(toolSpecification, toolExecutor);
                 });
             } catch (IllegalConfigurationException e) {
                 throw e;
@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -72,6 +73,7 @@ public class DefaultMcpClient implements McpClient {
     private final AtomicReference<List<ToolSpecification>> toolListRefs = new AtomicReference<>();
     private final AtomicBoolean toolListOutOfDate = new AtomicBoolean(true);
     private final AtomicReference<CompletableFuture<Void>> toolListUpdateInProgress = new AtomicReference<>(null);
+    private final List<Runnable> toolListChangedListeners = new CopyOnWriteArrayList<>();
     private final Duration reconnectInterval;
 
     private Map<String, String> presetParameterMap = new HashMap<>();
@@ -93,7 +95,7 @@ public class DefaultMcpClient implements McpClient {
                 getOrDefault(builder.toolExecutionTimeoutErrorMessage, "There was a timeout executing the tool");
         RESULT_TIMEOUT = JsonNodeFactory.instance.objectNode();
         messageHandler = new McpOperationHandler(
-                pendingOperations, transport, logHandler::handleLogMessage, () -> toolListOutOfDate.set(true));
+                pendingOperations, transport, logHandler::handleLogMessage, this::onToolListChanged);
         ((ObjectNode) RESULT_TIMEOUT)
                 .putObject("result")
                 .putArray("content")
@@ -152,6 +154,22 @@ public class DefaultMcpClient implements McpClient {
         return key;
     }
 
+    private void onToolListChanged() {
+        toolListOutOfDate.set(true);
+        for (Runnable listener : toolListChangedListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                log.warn("Tool list changed listener failed", e);
+            }
+        }
+    }
+
+    @Override
+    public void addToolListChangedListener(Runnable listener) {
+        toolListChangedListeners.add(ensureNotNull(listener, "listener"));
+    }
+
     @Override
     public List<ToolSpecification> listTools() {
         if (toolListOutOfDate.get()) {
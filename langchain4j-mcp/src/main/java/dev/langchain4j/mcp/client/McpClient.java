@@ -23,6 +23,14 @@ public interface McpClient extends AutoCloseable {
      */
     List<ToolSpecification> listTools();
 
+    /**
+     * Registers a listener that is notified when the MCP server reports that its list of tools has changed.
+     * This can be used, for example, to invalidate tools cached by a {@code CachingToolProvider}.
+     * The default implementation does nothing, for clients that do not support such notifications.
+     */
+    default void addToolListChangedListener(Runnable listener) {
+    }
+
     /**
      * Executes a tool on the MCP server and returns the result as a String.
      * Currently, this expects a tool execution to only contain text-based results.
@@ -0,0 +1,149 @@
+package dev.langchain4j.mcp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.mcp.client.McpClient;
+import dev.langchain4j.mcp.client.McpGetPromptResult;
+import dev.langchain4j.mcp.client.McpPrompt;
+import dev.langchain4j.mcp.client.McpReadResourceResult;
+import dev.langchain4j.mcp.client.McpResource;
+import dev.langchain4j.mcp.client.McpResourceTemplate;
+import dev.langchain4j.mcp.client.transport.PresetParameter;
+import dev.langchain4j.service.tool.ToolExecutor;
+import dev.langchain4j.service.tool.ToolProviderRequest;
+import dev.langchain4j.service.tool.ToolProviderResult;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class McpToolProviderTest {
+
+    private static final ToolProviderRequest REQUEST = new ToolProviderRequest("default", UserMessage.from("hi"));
+
+    @Test
+    void should_wrap_tool_executor_once_per_client() {
+
+        // given
+        FakeMcpClient client1 = new FakeMcpClient("client1", "tool_a", "tool_b");
+        FakeMcpClient client2 = new FakeMcpClient("client2", "tool_c");
+        AtomicInteger wrappings = new AtomicInteger();
+        McpToolProvider toolProvider = McpToolProvider.builder()
+                .mcpClients(client1, client2)
+                .toolWrapper(toolExecutor -> {
+                    wrappings.incrementAndGet();
+                    return (request, memoryId) -> "wrapped " + toolExecutor.execute(request, memoryId);
+                })
+                .build();
+
+        // when
+        ToolProviderResult result1 = toolProvider.provideTools(REQUEST);
+        ToolProviderResult result2 = toolProvider.provideTools(REQUEST);
+
+        // then
+        assertThat(wrappings).hasValue(2);
+        ToolExecutor toolA = result1.toolExecutorByName("tool_a");
+        assertThat(result1.toolExecutorByName("tool_b")).isSameAs(toolA);
+        assertThat(result2.toolExecutorByName("tool_a")).isSameAs(toolA);
+        assertThat(result1.toolExecutorByName("tool_c")).isNotSameAs(toolA);
+
+        assertThat(toolA.execute(request("tool_a"), "default")).isEqualTo("wrapped client1 executed tool_a");
+        assertThat(result1.toolExecutorByName("tool_c").execute(request("tool_c"), "default"))
+                .isEqualTo("wrapped client2 executed tool_c");
+    }
+
+    @Test
+    void should_wrap_tool_executor_again_after_client_is_re_added() {
+
+        // given
+        FakeMcpClient client = new FakeMcpClient("client", "tool_a");
+        AtomicInteger wrappings = new AtomicInteger();
+        McpToolProvider toolProvider = McpToolProvider.builder()
+                .mcpClients(client)
+                .toolWrapper(toolExecutor -> {
+                    wrappings.incrementAndGet();
+                    return toolExecutor;
+                })
+                .build();
+
+        // when
+        ToolExecutor toolExecutor1 = toolProvider.provideTools(REQUEST).toolExecutorByName("tool_a");
+        toolProvider.removeMcpClient(client);
+        toolProvider.addMcpClient(client);
+        ToolExecutor toolExecutor2 = toolProvider.provideTools(REQUEST).toolExecutorByName("tool_a");
+
+        // then
+        assertThat(toolExecutor2).isNotSameAs(toolExecutor1);
+        assertThat(wrappings).hasValue(2);
+    }
+
+    private static ToolExecutionRequest request(String toolName) {
+        return ToolExecutionRequest.builder().name(toolName).arguments("{}").build();
+    }
+
+    private static class FakeMcpClient implements McpClient {
+
+        private final String key;
+        private final List<ToolSpecification> tools;
+
+        FakeMcpClient(String key, String... toolNames) {
+            this.key = key;
+            this.tools = Arrays.stream(toolNames)
+                    .map(name -> ToolSpecification.builder().name(name).build())
+                    .toList();
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public List<ToolSpecification> listTools() {
+            return tools;
+        }
+
+        @Override
+        public String executeTool(ToolExecutionRequest executionRequest) {
+            return key + " executed " + executionRequest.name();
+        }
+
+        @Override
+        public List<McpResource> listResources() {
+            return List.of();
+        }
+
+        @Override
+        public List<McpResourceTemplate> listResourceTemplates() {
+            return List.of();
+        }
+
+        @Override
+        public McpReadResourceResult readResource(String uri) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<McpPrompt> listPrompts() {
+            return List.of();
+        }
+
+        @Override
+        public McpGetPromptResult getPrompt(String name, Map<String, Object> arguments) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void checkHealth() {}
+
+        @Override
+        public void presetParameters(List<PresetParameter> presetParameters) {}
+
+        @Override
+        public void close() {}
+    }
+}
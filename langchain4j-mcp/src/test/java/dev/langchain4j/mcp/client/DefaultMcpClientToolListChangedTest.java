@@ -0,0 +1,118 @@
+package dev.langchain4j.mcp.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.mcp.McpToolProvider;
+import dev.langchain4j.mcp.client.protocol.McpClientMessage;
+import dev.langchain4j.mcp.client.protocol.McpInitializeRequest;
+import dev.langchain4j.mcp.client.transport.McpOperationHandler;
+import dev.langchain4j.mcp.client.transport.McpTransport;
+import dev.langchain4j.service.tool.CachingToolProvider;
+import dev.langchain4j.service.tool.ToolProviderRequest;
+import dev.langchain4j.service.tool.ToolProviderResult;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class DefaultMcpClientToolListChangedTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void should_notify_listeners_and_refresh_tools_when_tool_list_changes() {
+
+        // given
+        FakeTransport transport = new FakeTransport();
+        McpClient mcpClient = new DefaultMcpClient.Builder().transport(transport).build();
+        AtomicInteger notifications = new AtomicInteger();
+        mcpClient.addToolListChangedListener(notifications::incrementAndGet);
+
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_1");
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_1");
+
+        // when
+        transport.notifyToolListChanged();
+
+        // then
+        assertThat(notifications).hasValue(1);
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_2");
+    }
+
+    @Test
+    void should_invalidate_caching_tool_provider_when_tool_list_changes() {
+
+        // given
+        FakeTransport transport = new FakeTransport();
+        McpClient mcpClient = new DefaultMcpClient.Builder().transport(transport).build();
+        CachingToolProvider toolProvider = CachingToolProvider.builder()
+                .toolProvider(McpToolProvider.builder().mcpClients(mcpClient).build())
+                .build();
+        mcpClient.addToolListChangedListener(toolProvider::invalidateAll);
+        ToolProviderRequest request = new ToolProviderRequest("default", UserMessage.from("hi"));
+
+        ToolProviderResult result1 = toolProvider.provideTools(request);
+        assertThat(toolProvider.provideTools(request)).isSameAs(result1);
+
+        // when
+        transport.notifyToolListChanged();
+        ToolProviderResult result2 = toolProvider.provideTools(request);
+
+        // then
+        assertThat(result2).isNotSameAs(result1);
+        assertThat(result1.toolSpecificationByName("tool_1")).isNotNull();
+        assertThat(result2.toolSpecificationByName("tool_2")).isNotNull();
+        assertThat(transport.toolListRequests).hasValue(2);
+    }
+
+    private static class FakeTransport implements McpTransport {
+
+        private final AtomicInteger toolListRequests = new AtomicInteger();
+        private McpOperationHandler messageHandler;
+
+        @Override
+        public void start(McpOperationHandler messageHandler) {
+            this.messageHandler = messageHandler;
+        }
+
+        @Override
+        public CompletableFuture<JsonNode> initialize(McpInitializeRequest request) {
+            ObjectNode response = OBJECT_MAPPER.createObjectNode();
+            response.putObject("result");
+            return CompletableFuture.completedFuture(response);
+        }
+
+        @Override
+        public CompletableFuture<JsonNode> executeOperationWithResponse(McpClientMessage request) {
+            ObjectNode response = OBJECT_MAPPER.createObjectNode();
+            ObjectNode tool = response.putObject("result").putArray("tools").addObject();
+            tool.put("name", "tool_" + toolListRequests.incrementAndGet());
+            tool.put("description", "a tool");
+            tool.putObject("inputSchema").put("type", "object").putObject("properties");
+            return CompletableFuture.completedFuture(response);
+        }
+
+        @Override
+        public void executeOperationWithoutResponse(McpClientMessage request) {}
+
+        @Override
+        public void checkHealth() {}
+
+        @Override
+        public void onFailure(Runnable actionOnFailure) {}
+
+        @Override
+        public void close() {}
+
+        void notifyToolListChanged() {
+            ObjectNode notification = OBJECT_MAPPER.createObjectNode();
+            notification.put("jsonrpc", "2.0");
+            notification.put("method", "notifications/tools/list_changed");
+            messageHandler.handle(notification);
+        }
+    }
+}
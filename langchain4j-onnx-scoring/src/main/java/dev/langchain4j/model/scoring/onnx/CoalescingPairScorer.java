@@ -0,0 +1,162 @@
+package dev.langchain4j.model.scoring.onnx;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Scores tokenized (query, document) pairs in batches.
+ * <br>
+ * Pairs are sorted by length and scored in batches of up to {@code batchSize} pairs,
+ * each batch being padded only to its own longest pair.
+ * Pairs from concurrent {@link #scoreAll(List)} calls are coalesced into shared batches:
+ * calls enqueue their pairs, and whichever calls hold one of the {@code maxConcurrentBatches} permits
+ * score all pairs pending at that moment, on behalf of all callers.
+ */
+class CoalescingPairScorer {
+
+    /**
+     * Scores one padded batch, returning one score per row.
+     */
+    interface BatchScorer {
+
+        List<Double> score(long[][] inputIds, long[][] attentionMask, long[][] tokenTypeIds) throws Exception;
+    }
+
+    /**
+     * A tokenized (query, document) pair, as it is fed to the model.
+     */
+    static class TokenizedPair {
+
+        final long[] inputIds;
+        final long[] attentionMask;
+        final long[] tokenTypeIds;
+        final int tokenCount;
+        final CompletableFuture<Double> score = new CompletableFuture<>();
+
+        TokenizedPair(long[] inputIds, long[] attentionMask, long[] tokenTypeIds, long[] specialTokenMask) {
+            this.inputIds = inputIds;
+            this.attentionMask = attentionMask;
+            this.tokenTypeIds = tokenTypeIds;
+            this.tokenCount = countTokens(attentionMask, specialTokenMask);
+        }
+
+        int length() {
+            return inputIds.length;
+        }
+
+        /**
+         * Counts the tokens of the query and of the document that are fed to the model,
+         * not counting tokens removed by truncation, special tokens ([CLS], [SEP]) and padding.
+         */
+        private static int countTokens(long[] attentionMask, long[] specialTokenMask) {
+            int count = 0;
+            for (int i = 0; i < attentionMask.length; i++) {
+                if (attentionMask[i] == 1 && specialTokenMask[i] == 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private final BatchScorer batchScorer;
+    private final int batchSize;
+
+    private final Queue<TokenizedPair> pending = new ConcurrentLinkedQueue<>();
+    private final Semaphore runners;
+
+    CoalescingPairScorer(BatchScorer batchScorer, int batchSize, int maxConcurrentBatches) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than zero, but is: " + batchSize);
+        }
+        if (maxConcurrentBatches < 1) {
+            throw new IllegalArgumentException("maxConcurrentBatches must be greater than zero, but is: " + maxConcurrentBatches);
+        }
+        this.batchScorer = batchScorer;
+        this.batchSize = batchSize;
+        this.runners = new Semaphore(maxConcurrentBatches);
+    }
+
+    List<Double> scoreAll(List<TokenizedPair> pairs) {
+        if (pairs.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        pending.addAll(pairs);
+        runners.acquireUninterruptibly();
+        try {
+            // the pairs may have already been scored by another caller, together with its own pairs
+            if (pairs.stream().anyMatch(pair -> !pair.score.isDone())) {
+                scorePending();
+            }
+        } finally {
+            runners.release();
+        }
+
+        List<Double> scores = new ArrayList<>(pairs.size());
+        try {
+            for (TokenizedPair pair : pairs) {
+                scores.add(pair.score.join());
+            }
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+        }
+        return scores;
+    }
+
+    int pendingPairs() {
+        return pending.size();
+    }
+
+    /**
+     * Scores all pairs pending at the moment of the call, from all callers, in length-bucketed batches.
+     */
+    private void scorePending() {
+        List<TokenizedPair> drained = new ArrayList<>();
+        TokenizedPair pair;
+        while ((pair = pending.poll()) != null) {
+            drained.add(pair);
+        }
+        drained.sort(Comparator.comparingInt(TokenizedPair::length));
+
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<TokenizedPair> batch = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            try {
+                List<Double> scores = scoreBatch(batch);
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).score.complete(scores.get(i));
+                }
+            } catch (Exception e) {
+                RuntimeException exception = e instanceof RuntimeException re ? re : new RuntimeException(e);
+                batch.forEach(failed -> failed.score.completeExceptionally(exception));
+            }
+        }
+    }
+
+    private List<Double> scoreBatch(List<TokenizedPair> batch) throws Exception {
+        int maxLength = 0;
+        for (TokenizedPair pair : batch) {
+            maxLength = Math.max(maxLength, pair.length());
+        }
+
+        // padding positions are left as zeros, and are ignored thanks to the attention mask
+        long[][] inputIds = new long[batch.size()][maxLength];
+        long[][] attentionMask = new long[batch.size()][maxLength];
+        long[][] tokenTypeIds = new long[batch.size()][maxLength];
+
+        for (int i = 0; i < batch.size(); i++) {
+            TokenizedPair pair = batch.get(i);
+            System.arraycopy(pair.inputIds, 0, inputIds[i], 0, pair.length());
+            System.arraycopy(pair.attentionMask, 0, attentionMask[i], 0, pair.length());
+            System.arraycopy(pair.tokenTypeIds, 0, tokenTypeIds[i], 0, pair.length());
+        }
+
+        return batchScorer.score(inputIds, attentionMask, tokenTypeIds);
+    }
+}
@@ -2,27 +2,43 @@ package dev.langchain4j.model.scoring.onnx;
 
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
-import ai.djl.util.PairList;
 import ai.onnxruntime.OnnxTensor;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 import ai.onnxruntime.OrtSession.Result;
+import dev.langchain4j.model.scoring.onnx.CoalescingPairScorer.TokenizedPair;
 
 import java.nio.file.Paths;
 import java.util.*;
 
 import static ai.onnxruntime.OnnxTensor.createTensor;
 
+/**
+ * Scores (query, document) pairs with a BERT cross-encoder.
+ * <br>
+ * Each pair is tokenized once, then batched, padded and coalesced with pairs of concurrent calls
+ * by a {@link CoalescingPairScorer}.
+ */
 class OnnxScoringBertCrossEncoder {
 
+    static final int DEFAULT_BATCH_SIZE = 32;
+    static final int DEFAULT_MAX_CONCURRENT_BATCHES = 1;
+
     private final OrtEnvironment environment;
     private final OrtSession session;
     private final Set<String> expectedInputs;
     private final HuggingFaceTokenizer tokenizer;
     private final boolean normalize;
 
+    private final CoalescingPairScorer pairScorer;
+
     public OnnxScoringBertCrossEncoder(String modelPath, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize) {
+        this(modelPath, options, pathToTokenizer, modelMaxLength, normalize, DEFAULT_BATCH_SIZE, DEFAULT_MAX_CONCURRENT_BATCHES);
+    }
+
+    public OnnxScoringBertCrossEncoder(String modelPath, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize,
+                                       int batchSize, int maxConcurrentBatches) {
         try {
             this.environment = OrtEnvironment.getEnvironment();
             this.session = this.environment.createSession(modelPath, options);
@@ -37,6 +53,7 @@ class OnnxScoringBertCrossEncoder {
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        this.pairScorer = new CoalescingPairScorer(this::scoreBatch, batchSize, maxConcurrentBatches);
     }
 
     static class ScoringAndTokenCount {
@@ -51,34 +68,25 @@ class OnnxScoringBertCrossEncoder {
     }
 
     ScoringAndTokenCount scoreAll(String query, List<String> documents) {
-        List<Double> scores;
+        List<TokenizedPair> pairs = new ArrayList<>(documents.size());
         int tokenCount = 0;
-        int queryTokenCount = tokenizer.tokenize(query).size() - 2;
-        PairList<String, String> pairs = new PairList<>();
         for (String document : documents) {
-            pairs.add(query, document);
-            tokenCount += queryTokenCount + tokenizer.tokenize(document).size() - 2; // do not count special tokens [CLS] and [SEP]
+            Encoding encoding = tokenizer.encode(query, document);
+            TokenizedPair pair = new TokenizedPair(
+                    encoding.getIds(), encoding.getAttentionMask(), encoding.getTypeIds(), encoding.getSpecialTokenMask());
+            pairs.add(pair);
+            tokenCount += pair.tokenCount;
         }
-        try (Result result = this.encode(pairs)) {
-            scores = this.toScore(result);
-        } catch (OrtException e) {
-            throw new RuntimeException(e);
-        }
-        return new ScoringAndTokenCount(scores, tokenCount);
+        return new ScoringAndTokenCount(pairScorer.scoreAll(pairs), tokenCount);
     }
 
-    private Result encode(PairList<String, String> pairs) throws OrtException {
-        Encoding[] encodings = this.tokenizer.batchEncode(pairs);
-        long[][] inputIds = new long[encodings.length][];
-        long[][] attentionMask = new long[encodings.length][];
-        long[][] tokenTypeIds = new long[encodings.length][];
-
-        for (int i = 0; i < encodings.length; i++) {
-            inputIds[i] = encodings[i].getIds();
-            attentionMask[i] = encodings[i].getAttentionMask();
-            tokenTypeIds[i] = encodings[i].getTypeIds();
+    private List<Double> scoreBatch(long[][] inputIds, long[][] attentionMask, long[][] tokenTypeIds) throws OrtException {
+        try (Result result = this.encode(inputIds, attentionMask, tokenTypeIds)) {
+            return this.toScore(result);
         }
+    }
 
+    private Result encode(long[][] inputIds, long[][] attentionMask, long[][] tokenTypeIds) throws OrtException {
         try (
                 OnnxTensor inputIdsTensor = createTensor(environment, inputIds);
                 OnnxTensor attentionMaskTensor = createTensor(environment, attentionMask);
@@ -1,5 +1,6 @@
 package dev.langchain4j.model.scoring.onnx;
 
+import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 
 public class OnnxScoringModel extends AbstractInProcessScoringModel {
@@ -26,6 +27,38 @@ public class OnnxScoringModel extends AbstractInProcessScoringModel {
         this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, options, pathToTokenizer, modelMaxLength, normalize);
     }
 
+    /**
+     * @param batchSize            the maximum number of (query, segment) pairs scored in a single inference run.
+     * @param maxConcurrentBatches the maximum number of inference runs executed concurrently.
+     *                             Pairs from concurrent {@link #scoreAll} calls are coalesced into shared batches.
+     */
+    public OnnxScoringModel(String pathToModel, OrtSession.SessionOptions options, String pathToTokenizer, int modelMaxLength, boolean normalize,
+                            int batchSize, int maxConcurrentBatches) {
+        this.onnxBertBiEncoder = loadFromFileSystem(pathToModel, options, pathToTokenizer, modelMaxLength, normalize, batchSize, maxConcurrentBatches);
+    }
+
+    /**
+     * Creates session options tuned for scoring batches: all graph optimizations are enabled,
+     * and each inference run executes its operators sequentially, using all available processors.
+     * These options are opt-in: pass them to a constructor accepting {@link OrtSession.SessionOptions}.
+     * When {@code maxConcurrentBatches} is greater than 1, consider lowering the intra-op threads,
+     * so that concurrent inference runs do not oversubscribe the CPU.
+     *
+     * @return new session options tuned for scoring batches.
+     */
+    public static OrtSession.SessionOptions tunedSessionOptions() {
+        try {
+            OrtSession.SessionOptions options = new OrtSession.SessionOptions();
+            options.setExecutionMode(OrtSession.SessionOptions.ExecutionMode.SEQUENTIAL);
+            options.setIntraOpNumThreads(Runtime.getRuntime().availableProcessors());
+            options.setInterOpNumThreads(1);
+            options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+            return options;
+        } catch (OrtException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     protected OnnxScoringBertCrossEncoder model() {
         return this.onnxBertBiEncoder;
     }
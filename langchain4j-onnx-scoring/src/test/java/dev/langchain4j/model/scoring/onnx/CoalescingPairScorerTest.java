@@ -0,0 +1,203 @@
+package dev.langchain4j.model.scoring.onnx;
+
+import dev.langchain4j.model.scoring.onnx.CoalescingPairScorer.TokenizedPair;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingPairScorerTest {
+
+    @Test
+    void should_score_pairs_in_batches_of_similar_length() {
+
+        // given
+        List<long[][]> batches = new CopyOnWriteArrayList<>();
+        CoalescingPairScorer scorer = new CoalescingPairScorer(recording(batches), 2, 1);
+
+        // when
+        List<Double> scores = scorer.scoreAll(List.of(pair(5), pair(2), pair(4), pair(3), pair(1)));
+
+        // then
+        assertThat(scores).containsExactly(5.0, 2.0, 4.0, 3.0, 1.0);
+        assertThat(batches).extracting(CoalescingPairScorerTest::lengths).containsExactly(
+                List.of(1, 2),
+                List.of(3, 4),
+                List.of(5)
+        );
+    }
+
+    @Test
+    void should_pad_each_batch_to_its_longest_pair() {
+
+        // given
+        List<long[][]> inputIds = new CopyOnWriteArrayList<>();
+        List<long[][]> attentionMasks = new CopyOnWriteArrayList<>();
+        CoalescingPairScorer scorer = new CoalescingPairScorer((ids, attentionMask, tokenTypeIds) -> {
+            inputIds.add(ids);
+            attentionMasks.add(attentionMask);
+            return scoresOf(ids);
+        }, 2, 1);
+
+        // when
+        scorer.scoreAll(List.of(pair(2), pair(3), pair(6)));
+
+        // then
+        assertThat(inputIds).hasSize(2);
+        assertThat(inputIds.get(0)).isDeepEqualTo(new long[][]{{2, 2, 0}, {3, 3, 3}});
+        assertThat(attentionMasks.get(0)).isDeepEqualTo(new long[][]{{1, 1, 0}, {1, 1, 1}});
+        assertThat(inputIds.get(1)).isDeepEqualTo(new long[][]{{6, 6, 6, 6, 6, 6}});
+    }
+
+    @Test
+    void should_coalesce_pairs_of_concurrent_calls() throws Exception {
+
+        // given
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<long[][]> batches = new CopyOnWriteArrayList<>();
+        CoalescingPairScorer scorer = new CoalescingPairScorer((ids, attentionMask, tokenTypeIds) -> {
+            batches.add(ids);
+            if (batches.size() == 1) {
+                firstBatchStarted.countDown();
+                assertThat(releaseFirstBatch.await(10, TimeUnit.SECONDS)).isTrue();
+            }
+            return scoresOf(ids);
+        }, 10, 1);
+
+        // the callers block, so they must not run on the common pool, which may have fewer threads
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            Future<List<Double>> first = callers.submit(() -> scorer.scoreAll(List.of(pair(1))));
+            assertThat(firstBatchStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<List<Double>>> others = new ArrayList<>();
+            for (int length = 2; length <= 4; length++) {
+                List<TokenizedPair> pairs = List.of(pair(length));
+                others.add(callers.submit(() -> scorer.scoreAll(pairs)));
+            }
+            awaitPending(scorer, 3);
+
+            // when
+            releaseFirstBatch.countDown();
+
+            // then
+            assertThat(first.get(10, TimeUnit.SECONDS)).containsExactly(1.0);
+            assertThat(others.get(0).get(10, TimeUnit.SECONDS)).containsExactly(2.0);
+            assertThat(others.get(1).get(10, TimeUnit.SECONDS)).containsExactly(3.0);
+            assertThat(others.get(2).get(10, TimeUnit.SECONDS)).containsExactly(4.0);
+            assertThat(batches).extracting(CoalescingPairScorerTest::lengths).containsExactly(
+                    List.of(1),
+                    List.of(2, 3, 4)
+            );
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_fail_only_pairs_of_failed_batch() {
+
+        // given
+        CoalescingPairScorer scorer = new CoalescingPairScorer((ids, attentionMask, tokenTypeIds) -> {
+            if (ids[0].length == 3) {
+                throw new IllegalStateException("inference failed");
+            }
+            return scoresOf(ids);
+        }, 1, 1);
+
+        // when-then
+        assertThatThrownBy(() -> scorer.scoreAll(List.of(pair(2), pair(3))))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("inference failed");
+        assertThat(scorer.scoreAll(List.of(pair(2)))).containsExactly(2.0);
+    }
+
+    @Test
+    void should_count_only_tokens_fed_to_the_model() {
+
+        // given
+        // [CLS] query [SEP] document (truncated) [SEP] [PAD] [PAD]
+        long[] inputIds = {101, 7, 102, 8, 9, 102, 0, 0};
+        long[] attentionMask = {1, 1, 1, 1, 1, 1, 0, 0};
+        long[] tokenTypeIds = {0, 0, 0, 1, 1, 1, 0, 0};
+        long[] specialTokenMask = {1, 0, 1, 0, 0, 1, 1, 1};
+
+        // when
+        TokenizedPair pair = new TokenizedPair(inputIds, attentionMask, tokenTypeIds, specialTokenMask);
+
+        // then
+        assertThat(pair.tokenCount).isEqualTo(3);
+    }
+
+    @Test
+    void should_return_no_scores_when_there_are_no_pairs() {
+
+        // given
+        CoalescingPairScorer scorer = new CoalescingPairScorer((ids, attentionMask, tokenTypeIds) -> {
+            throw new IllegalStateException("should not be called");
+        }, 1, 1);
+
+        // when-then
+        assertThat(scorer.scoreAll(List.of())).isEmpty();
+    }
+
+    /**
+     * Creates a pair of the given length, whose tokens and expected score are equal to its length.
+     */
+    private static TokenizedPair pair(int length) {
+        long[] ids = new long[length];
+        long[] ones = new long[length];
+        Arrays.fill(ids, length);
+        Arrays.fill(ones, 1);
+        return new TokenizedPair(ids, ones, new long[length], new long[length]);
+    }
+
+    private static CoalescingPairScorer.BatchScorer recording(List<long[][]> batches) {
+        return (ids, attentionMask, tokenTypeIds) -> {
+            batches.add(ids);
+            return scoresOf(ids);
+        };
+    }
+
+    /**
+     * Scores each row with its first token, which is the length of its pair.
+     */
+    private static List<Double> scoresOf(long[][] ids) {
+        List<Double> scores = new ArrayList<>();
+        for (long[] row : ids) {
+            scores.add((double) row[0]);
+        }
+        return scores;
+    }
+
+    private static List<Integer> lengths(long[][] ids) {
+        List<Integer> lengths = new ArrayList<>();
+        for (long[] row : ids) {
+            int length = 0;
+            while (length < row.length && row[length] != 0) {
+                length++;
+            }
+            lengths.add(length);
+        }
+        return lengths;
+    }
+
+    private static void awaitPending(CoalescingPairScorer scorer, int pairs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (scorer.pendingPairs() < pairs) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
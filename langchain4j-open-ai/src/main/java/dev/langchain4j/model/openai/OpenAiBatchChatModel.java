@@ -0,0 +1,237 @@
+package dev.langchain4j.model.openai;
+
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.model.batch.BatchJob;
+import dev.langchain4j.model.batch.BatchModel;
+import dev.langchain4j.model.batch.BatchResult;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.openai.internal.OpenAiClient;
+import dev.langchain4j.model.openai.internal.batch.BatchRequestLine;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.model.openai.OpenAiBatchSupport.customId;
+import static dev.langchain4j.model.openai.OpenAiBatchSupport.index;
+import static dev.langchain4j.model.openai.OpenAiChatModel.toChatResponse;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_USER_AGENT;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.toOpenAiChatRequest;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.validate;
+import static java.time.Duration.ofSeconds;
+
+/**
+ * Sends {@link ChatRequest}s through the OpenAI <a href="https://platform.openai.com/docs/guides/batch">Batch API</a>,
+ * which processes them asynchronously, within 24 hours, at a lower price and with separate rate limits
+ * than the chat completion API used by {@link OpenAiChatModel}.
+ * <br>
+ * The requests are uploaded as a JSONL file (at most 50,000 requests and 200 MB per batch),
+ * and the responses are mapped back to {@link ChatResponse}s, identified by the index of their request.
+ * <br>
+ * Each {@link ChatRequest} is merged with the {@link #defaultRequestParameters()},
+ * the same way as {@link OpenAiChatModel} does.
+ */
+public class OpenAiBatchChatModel implements BatchModel<ChatRequest, ChatResponse> {
+
+    static final String ENDPOINT = "/v1/chat/completions";
+
+    private final OpenAiBatchSupport batchSupport;
+    private final OpenAiChatRequestParameters defaultRequestParameters;
+    private final boolean strictTools;
+    private final boolean strictJsonSchema;
+
+    public OpenAiBatchChatModel(OpenAiBatchChatModelBuilder builder) {
+
+        OpenAiClient client = OpenAiClient.builder()
+                .httpClientBuilder(builder.httpClientBuilder)
+                .baseUrl(getOrDefault(builder.baseUrl, DEFAULT_OPENAI_URL))
+                .apiKey(builder.apiKey)
+                .organizationId(builder.organizationId)
+                .projectId(builder.projectId)
+                .connectTimeout(getOrDefault(builder.timeout, ofSeconds(15)))
+                .readTimeout(getOrDefault(builder.timeout, ofSeconds(60)))
+                .logRequests(getOrDefault(builder.logRequests, false))
+                .logResponses(getOrDefault(builder.logResponses, false))
+                .userAgent(DEFAULT_USER_AGENT)
+                .customHeaders(builder.customHeaders)
+                .build();
+        this.batchSupport = new OpenAiBatchSupport(client,
+                getOrDefault(builder.completionWindow, "24h"), getOrDefault(builder.maxRetries, 2));
+
+        ChatRequestParameters commonParameters = getOrDefault(builder.defaultRequestParameters,
+                () -> OpenAiChatRequestParameters.builder().build());
+        validate(commonParameters);
+        this.defaultRequestParameters = OpenAiChatRequestParameters.builder()
+                .overrideWith(commonParameters)
+                .modelName(getOrDefault(builder.modelName, commonParameters.modelName()))
+                .build();
+        this.strictTools = getOrDefault(builder.strictTools, false);
+        this.strictJsonSchema = getOrDefault(builder.strictJsonSchema, false);
+    }
+
+    public OpenAiChatRequestParameters defaultRequestParameters() {
+        return defaultRequestParameters;
+    }
+
+    @Override
+    public BatchJob submit(List<ChatRequest> chatRequests) {
+        List<BatchRequestLine> lines = new ArrayList<>(chatRequests.size());
+        for (int i = 0; i < chatRequests.size(); i++) {
+            ChatRequest chatRequest = chatRequests.get(i);
+            OpenAiChatRequestParameters parameters = defaultRequestParameters.overrideWith(chatRequest.parameters());
+            validate(parameters);
+            lines.add(BatchRequestLine.builder()
+                    .customId(customId(i))
+                    .method("POST")
+                    .url(ENDPOINT)
+                    .body(toOpenAiChatRequest(chatRequest, parameters, strictTools, strictJsonSchema).build())
+                    .build());
+        }
+        return batchSupport.submit(ENDPOINT, lines);
+    }
+
+    @Override
+    public BatchJob retrieve(String batchId) {
+        return batchSupport.retrieve(batchId);
+    }
+
+    @Override
+    public BatchJob cancel(String batchId) {
+        return batchSupport.cancel(batchId);
+    }
+
+    @Override
+    public Stream<BatchResult<ChatResponse>> results(String batchId) {
+        return batchSupport.responseLines(batchId, ChatCompletionResponse.class)
+                .map(line -> line.body() != null
+                        ? BatchResult.success(index(line.customId()), toChatResponse(line.body()))
+                        : BatchResult.<ChatResponse>failure(index(line.customId()), line.error()));
+    }
+
+    public static OpenAiBatchChatModelBuilder builder() {
+        return new OpenAiBatchChatModelBuilder();
+    }
+
+    public static class OpenAiBatchChatModelBuilder {
+
+        private HttpClientBuilder httpClientBuilder;
+        private String baseUrl;
+        private String apiKey;
+        private String organizationId;
+        private String projectId;
+
+        private ChatRequestParameters defaultRequestParameters;
+        private String modelName;
+        private Boolean strictTools;
+        private Boolean strictJsonSchema;
+        private String completionWindow;
+        private Duration timeout;
+        private Integer maxRetries;
+        private Boolean logRequests;
+        private Boolean logResponses;
+        private Map<String, String> customHeaders;
+
+        public OpenAiBatchChatModelBuilder() {
+            // This is public so it can be extended
+        }
+
+        public OpenAiBatchChatModelBuilder httpClientBuilder(HttpClientBuilder httpClientBuilder) {
+            this.httpClientBuilder = httpClientBuilder;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder apiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder organizationId(String organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder projectId(String projectId) {
+            this.projectId = projectId;
+            return this;
+        }
+
+        /**
+         * Sets default common {@link ChatRequestParameters} or OpenAI-specific {@link OpenAiChatRequestParameters},
+         * applied to each submitted {@link ChatRequest}.
+         */
+        public OpenAiBatchChatModelBuilder defaultRequestParameters(ChatRequestParameters parameters) {
+            this.defaultRequestParameters = parameters;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder modelName(OpenAiChatModelName modelName) {
+            this.modelName = modelName.toString();
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder strictTools(Boolean strictTools) {
+            this.strictTools = strictTools;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder strictJsonSchema(Boolean strictJsonSchema) {
+            this.strictJsonSchema = strictJsonSchema;
+            return this;
+        }
+
+        /**
+         * @param completionWindow The time frame within which the batch should be processed. Default: "24h"
+         * @return builder
+         */
+        public OpenAiBatchChatModelBuilder completionWindow(String completionWindow) {
+            this.completionWindow = completionWindow;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder logRequests(Boolean logRequests) {
+            this.logRequests = logRequests;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder logResponses(Boolean logResponses) {
+            this.logResponses = logResponses;
+            return this;
+        }
+
+        public OpenAiBatchChatModelBuilder customHeaders(Map<String, String> customHeaders) {
+            this.customHeaders = customHeaders;
+            return this;
+        }
+
+        public OpenAiBatchChatModel build() {
+            return new OpenAiBatchChatModel(this);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package dev.langchain4j.model.openai;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.model.batch.BatchJob;
+import dev.langchain4j.model.batch.BatchModel;
+import dev.langchain4j.model.batch.BatchResult;
+import dev.langchain4j.model.openai.internal.OpenAiClient;
+import dev.langchain4j.model.openai.internal.batch.BatchRequestLine;
+import dev.langchain4j.model.openai.internal.batch.BatchResponseLine;
+import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
+import dev.langchain4j.model.openai.internal.embedding.EmbeddingResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.model.openai.OpenAiBatchSupport.customId;
+import static dev.langchain4j.model.openai.OpenAiBatchSupport.index;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
+import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_USER_AGENT;
+import static java.time.Duration.ofSeconds;
+
+/**
+ * Embeds {@link TextSegment}s through the OpenAI <a href="https://platform.openai.com/docs/guides/batch">Batch API</a>,
+ * which processes them asynchronously, within 24 hours, at a lower price and with separate rate limits
+ * than the embeddings API used by {@link OpenAiEmbeddingModel}.
+ * <br>
+ * Consecutive segments are grouped into requests of up to {@code maxSegmentsPerRequest} segments,
+ * so that large inputs stay within the limit of 50,000 requests per batch.
+ * The request counts of the returned {@link BatchJob}s are counts of such requests, not of segments.
+ * Results are returned per segment; when a request fails, all its segments fail.
+ */
+public class OpenAiBatchEmbeddingModel implements BatchModel<TextSegment, Embedding> {
+
+    static final String ENDPOINT = "/v1/embeddings";
+
+    private final OpenAiBatchSupport batchSupport;
+    private final String modelName;
+    private final Integer dimensions;
+    private final String user;
+    private final int maxSegmentsPerRequest;
+
+    public OpenAiBatchEmbeddingModel(OpenAiBatchEmbeddingModelBuilder builder) {
+
+        OpenAiClient client = OpenAiClient.builder()
+                .httpClientBuilder(builder.httpClientBuilder)
+                .baseUrl(getOrDefault(builder.baseUrl, DEFAULT_OPENAI_URL))
+                .apiKey(builder.apiKey)
+                .organizationId(builder.organizationId)
+                .projectId(builder.projectId)
+                .connectTimeout(getOrDefault(builder.timeout, ofSeconds(15)))
+                .readTimeout(getOrDefault(builder.timeout, ofSeconds(60)))
+                .logRequests(getOrDefault(builder.logRequests, false))
+                .logResponses(getOrDefault(builder.logResponses, false))
+                .userAgent(DEFAULT_USER_AGENT)
+                .customHeaders(builder.customHeaders)
+                .build();
+        this.batchSupport = new OpenAiBatchSupport(client,
+                getOrDefault(builder.completionWindow, "24h"), getOrDefault(builder.maxRetries, 2));
+        this.modelName = builder.modelName;
+        this.dimensions = builder.dimensions;
+        this.user = builder.user;
+        this.maxSegmentsPerRequest = ensureGreaterThanZero(getOrDefault(builder.maxSegmentsPerRequest, 2048),
+                "maxSegmentsPerRequest");
+    }
+
+    public String modelName() {
+        return modelName;
+    }
+
+    @Override
+    public BatchJob submit(List<TextSegment> textSegments) {
+        List<BatchRequestLine> lines = new ArrayList<>();
+        for (int from = 0; from < textSegments.size(); from += maxSegmentsPerRequest) {
+            int to = Math.min(from + maxSegmentsPerRequest, textSegments.size());
+            List<String> texts = textSegments.subList(from, to).stream().map(TextSegment::text).toList();
+            lines.add(BatchRequestLine.builder()
+                    // the custom ID is the index of the first segment of the request, followed by the number of segments
+                    .customId(customId(from) + "-" + (to - from))
+                    .method("POST")
+                    .url(ENDPOINT)
+                    .body(EmbeddingRequest.builder()
+                            .input(texts)
+                            .model(modelName)
+                            .dimensions(dimensions)
+                            .user(user)
+                            .build())
+                    .build());
+        }
+        return batchSupport.submit(ENDPOINT, lines);
+    }
+
+    @Override
+    public BatchJob retrieve(String batchId) {
+        return batchSupport.retrieve(batchId);
+    }
+
+    @Override
+    public BatchJob cancel(String batchId) {
+        return batchSupport.cancel(batchId);
+    }
+
+    @Override
+    public Stream<BatchResult<Embedding>> results(String batchId) {
+        return batchSupport.responseLines(batchId, EmbeddingResponse.class)
+                .flatMap(OpenAiBatchEmbeddingModel::toResults);
+    }
+
+    private static Stream<BatchResult<Embedding>> toResults(BatchResponseLine<EmbeddingResponse> line) {
+        String customId = line.customId();
+        int separator = customId.lastIndexOf('-');
+        int from = index(customId.substring(0, separator));
+        int size = Integer.parseInt(customId.substring(separator + 1));
+
+        if (line.body() == null) {
+            return IntStream.range(from, from + size)
+                    .mapToObj(index -> BatchResult.failure(index, line.error()));
+        }
+        return line.body().data().stream()
+                .map(embedding -> BatchResult.success(from + embedding.index(), Embedding.from(embedding.embedding())));
+    }
+
+    public static OpenAiBatchEmbeddingModelBuilder builder() {
+        return new OpenAiBatchEmbeddingModelBuilder();
+    }
+
+    public static class OpenAiBatchEmbeddingModelBuilder {
+
+        private HttpClientBuilder httpClientBuilder;
+        private String baseUrl;
+        private String apiKey;
+        private String organizationId;
+        private String projectId;
+
+        private String modelName;
+        private Integer dimensions;
+        private String user;
+        private Integer maxSegmentsPerRequest;
+        private String completionWindow;
+        private Duration timeout;
+        private Integer maxRetries;
+        private Boolean logRequests;
+        private Boolean logResponses;
+        private Map<String, String> customHeaders;
+
+        public OpenAiBatchEmbeddingModelBuilder() {
+            // This is public so it can be extended
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder httpClientBuilder(HttpClientBuilder httpClientBuilder) {
+            this.httpClientBuilder = httpClientBuilder;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder apiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder organizationId(String organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder projectId(String projectId) {
+            this.projectId = projectId;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder modelName(OpenAiEmbeddingModelName modelName) {
+            this.modelName = modelName.toString();
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder dimensions(Integer dimensions) {
+            this.dimensions = dimensions;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder user(String user) {
+            this.user = user;
+            return this;
+        }
+
+        /**
+         * @param maxSegmentsPerRequest The maximum number of segments embedded by each request of the batch.
+         *                              Default: 2048
+         * @return builder
+         */
+        public OpenAiBatchEmbeddingModelBuilder maxSegmentsPerRequest(Integer maxSegmentsPerRequest) {
+            this.maxSegmentsPerRequest = maxSegmentsPerRequest;
+            return this;
+        }
+
+        /**
+         * @param completionWindow The time frame within which the batch should be processed. Default: "24h"
+         * @return builder
+         */
+        public OpenAiBatchEmbeddingModelBuilder completionWindow(String completionWindow) {
+            this.completionWindow = completionWindow;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder logRequests(Boolean logRequests) {
+            this.logRequests = logRequests;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder logResponses(Boolean logResponses) {
+            this.logResponses = logResponses;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModelBuilder customHeaders(Map<String, String> customHeaders) {
+            this.customHeaders = customHeaders;
+            return this;
+        }
+
+        public OpenAiBatchEmbeddingModel build() {
+            return new OpenAiBatchEmbeddingModel(this);
+        }
+    }
+}
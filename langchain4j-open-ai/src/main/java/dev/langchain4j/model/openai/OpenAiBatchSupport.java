@@ -0,0 +1,120 @@
+package dev.langchain4j.model.openai;
+
+import dev.langchain4j.model.batch.BatchJob;
+import dev.langchain4j.model.batch.BatchStatus;
+import dev.langchain4j.model.openai.internal.OpenAiClient;
+import dev.langchain4j.model.openai.internal.batch.Batch;
+import dev.langchain4j.model.openai.internal.batch.BatchRequestCounts;
+import dev.langchain4j.model.openai.internal.batch.BatchRequestLine;
+import dev.langchain4j.model.openai.internal.batch.BatchResponseLine;
+import dev.langchain4j.model.openai.internal.batch.CreateBatchRequest;
+import dev.langchain4j.model.openai.internal.batch.OpenAiFile;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.model.openai.internal.batch.BatchJsonl.fromJsonl;
+import static dev.langchain4j.model.openai.internal.batch.BatchJsonl.toJsonl;
+
+/**
+ * The lifecycle of a batch, shared by {@link OpenAiBatchChatModel} and {@link OpenAiBatchEmbeddingModel}:
+ * the requests are uploaded as a JSONL file, a batch is created from it,
+ * and the responses are read from the output and error files of the batch once it has ended.
+ */
+class OpenAiBatchSupport {
+
+    private static final String CUSTOM_ID_PREFIX = "request-";
+
+    private final OpenAiClient client;
+    private final String completionWindow;
+    private final int maxRetries;
+
+    OpenAiBatchSupport(OpenAiClient client, String completionWindow, int maxRetries) {
+        this.client = client;
+        this.completionWindow = completionWindow;
+        this.maxRetries = maxRetries;
+    }
+
+    static String customId(int index) {
+        return CUSTOM_ID_PREFIX + index;
+    }
+
+    static int index(String customId) {
+        if (customId == null || !customId.startsWith(CUSTOM_ID_PREFIX)) {
+            throw new IllegalArgumentException("Unexpected custom_id: " + customId);
+        }
+        return Integer.parseInt(customId.substring(CUSTOM_ID_PREFIX.length()));
+    }
+
+    BatchJob submit(String endpoint, List<BatchRequestLine> lines) {
+        ensureNotEmpty(lines, "requests");
+
+        String jsonl = toJsonl(lines);
+        OpenAiFile file = withRetryMappingExceptions(() ->
+                client.uploadFile("batch.jsonl", "batch", jsonl).execute(), maxRetries);
+
+        CreateBatchRequest request = CreateBatchRequest.builder()
+                .inputFileId(file.id())
+                .endpoint(endpoint)
+                .completionWindow(completionWindow)
+                .build();
+        Batch batch = withRetryMappingExceptions(() -> client.createBatch(request).execute(), maxRetries);
+        return toBatchJob(batch);
+    }
+
+    BatchJob retrieve(String batchId) {
+        ensureNotBlank(batchId, "batchId");
+        return toBatchJob(withRetryMappingExceptions(() -> client.retrieveBatch(batchId).execute(), maxRetries));
+    }
+
+    BatchJob cancel(String batchId) {
+        ensureNotBlank(batchId, "batchId");
+        return toBatchJob(withRetryMappingExceptions(() -> client.cancelBatch(batchId).execute(), maxRetries));
+    }
+
+    /**
+     * Returns the lines of the output file, then of the error file, of the batch.
+     * Each file is downloaded only when the stream reaches it, and is read line by line as the stream is consumed.
+     * The returned stream must be closed to release the connection of a file that was not fully read.
+     */
+    <T> Stream<BatchResponseLine<T>> responseLines(String batchId, Class<T> bodyType) {
+        ensureNotBlank(batchId, "batchId");
+        Batch batch = withRetryMappingExceptions(() -> client.retrieveBatch(batchId).execute(), maxRetries);
+        // the streams of the files are closed by flatMap once they are consumed, or when the returned stream is closed
+        return Stream.of(batch.outputFileId(), batch.errorFileId())
+                .filter(Objects::nonNull)
+                .flatMap(fileId -> withRetryMappingExceptions(() -> client.fileContentLines(fileId), maxRetries))
+                .filter(line -> !line.isBlank())
+                .map(line -> fromJsonl(line, bodyType));
+    }
+
+    static BatchJob toBatchJob(Batch batch) {
+        BatchRequestCounts counts = batch.requestCounts();
+        return BatchJob.builder()
+                .id(batch.id())
+                .status(toBatchStatus(batch.status()))
+                .totalRequests(counts == null ? null : counts.total())
+                .succeededRequests(counts == null ? null : counts.completed())
+                .failedRequests(counts == null ? null : counts.failed())
+                .build();
+    }
+
+    static BatchStatus toBatchStatus(String status) {
+        if (status == null) {
+            return BatchStatus.IN_PROGRESS;
+        }
+        return switch (status) {
+            case "completed" -> BatchStatus.COMPLETED;
+            case "failed" -> BatchStatus.FAILED;
+            case "expired" -> BatchStatus.EXPIRED;
+            case "cancelling" -> BatchStatus.CANCELLING;
+            case "cancelled" -> BatchStatus.CANCELLED;
+            // "validating", "in_progress" and "finalizing"
+            default -> BatchStatus.IN_PROGRESS;
+        };
+    }
+}
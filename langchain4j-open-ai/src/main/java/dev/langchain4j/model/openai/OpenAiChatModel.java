@@ -142,6 +142,11 @@ public class OpenAiChatModel implements ChatModel {
         ChatCompletionResponse openAiResponse = withRetryMappingExceptions(() ->
                 client.chatCompletion(openAiRequest).execute(), maxRetries);
 
+        return toChatResponse(openAiResponse);
+    }
+
+    static ChatResponse toChatResponse(ChatCompletionResponse openAiResponse) {
+
         OpenAiChatResponseMetadata responseMetadata = OpenAiChatResponseMetadata.builder()
                 .id(openAiResponse.id())
                 .modelName(openAiResponse.model())
@@ -12,10 +12,7 @@ import dev.langchain4j.model.chat.request.DefaultChatRequestParameters;
 import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.model.openai.internal.OpenAiClient;
-import dev.langchain4j.model.openai.internal.chat.ChatCompletionChoice;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionRequest;
-import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
-import dev.langchain4j.model.openai.internal.chat.Delta;
 import dev.langchain4j.model.openai.internal.shared.StreamOptions;
 import dev.langchain4j.model.openai.spi.OpenAiStreamingChatModelBuilderFactory;
 
@@ -26,7 +23,6 @@ import java.util.Map;
 
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.Utils.getOrDefault;
-import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.model.ModelProvider.OPEN_AI;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_USER_AGENT;
@@ -128,11 +124,8 @@ public class OpenAiStreamingChatModel implements StreamingChatModel {
 
         OpenAiStreamingResponseBuilder openAiResponseBuilder = new OpenAiStreamingResponseBuilder();
 
-        client.chatCompletion(openAiRequest)
-                .onPartialResponse(partialResponse -> {
-                    openAiResponseBuilder.append(partialResponse);
-                    handle(partialResponse, handler);
-                })
+        client.chatCompletionJson(openAiRequest)
+                .onPartialResponse(partialResponse -> openAiResponseBuilder.append(partialResponse, handler))
                 .onComplete(() -> {
                     ChatResponse chatResponse = openAiResponseBuilder.build();
                     handler.onCompleteResponse(chatResponse);
@@ -143,45 +136,6 @@ public class OpenAiStreamingChatModel implements StreamingChatModel {
                 .execute();
     }
 
-    private static void handle(ChatCompletionResponse partialResponse,
-                               StreamingChatResponseHandler handler) {
-        if (partialResponse == null) {
-            return;
-        }
-
-        List<ChatCompletionChoice> choices = partialResponse.choices();
-        if (choices == null || choices.isEmpty()) {
-            return;
-        }
-
-        ChatCompletionChoice chatCompletionChoice = choices.get(0);
-        if (chatCompletionChoice == null) {
-            return;
-        }
-
-        Delta delta = chatCompletionChoice.delta();
-        if (delta == null) {
-            return;
-        }
-
-        // Extract content and reasoning from delta
-        String content = delta.content();
-        String reasoningContent = delta.reasoningContent();
-        String reasoning = delta.reasoning();
-        
-        // Handle reasoning content first
-        if (!isNullOrEmpty(reasoningContent)) {
-            handler.onPartialReasoning(reasoningContent);
-        } else if (!isNullOrEmpty(reasoning)) {
-            handler.onPartialReasoning(reasoning);
-        }
-        
-        // Handle regular content
-        if (!isNullOrEmpty(content)) {
-            handler.onPartialResponse(content);
-        }
-    }
-
     @Override
     public List<ChatModelListener> listeners() {
         return listeners;
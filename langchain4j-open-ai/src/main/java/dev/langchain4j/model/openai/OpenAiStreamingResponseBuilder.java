@@ -1,6 +1,10 @@
 package dev.langchain4j.model.openai;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.langchain4j.Internal;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionChoice;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
 import dev.langchain4j.model.openai.internal.chat.Delta;
@@ -15,11 +19,19 @@ import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.output.FinishReason;
 import dev.langchain4j.model.output.TokenUsage;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
-
+import java.util.TreeMap;
+
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_NULL;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_STRING;
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.finishReasonFrom;
@@ -28,27 +40,42 @@ import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 /**
- * This class needs to be thread safe because it is called when a streaming result comes back
- * and there is no guarantee that this thread will be the same as the one that initiated the request,
- * in fact it almost certainly won't be.
+ * Accumulates the chunks of a single streamed response.
+ * <br>
+ * This class is not thread safe: the chunks of a stream are delivered one after another
+ * (although not necessarily on the thread that initiated the request), so no synchronization is needed.
+ * <br>
+ * Chat completion chunks can be appended either as parsed {@link ChatCompletionResponse}s,
+ * or as raw JSON with {@link #append(String, StreamingChatResponseHandler)},
+ * which reads only the fields that are present with a streaming {@link JsonParser},
+ * without building the {@link ChatCompletionResponse} object graph for every token.
  */
 @Internal
 public class OpenAiStreamingResponseBuilder {
 
-    private final StringBuffer contentBuilder = new StringBuffer();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().disable(FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final StringBuilder contentBuilder = new StringBuilder();
 
-    private final StringBuffer toolNameBuilder = new StringBuffer();
-    private final StringBuffer toolArgumentsBuilder = new StringBuffer();
+    private final StringBuilder toolNameBuilder = new StringBuilder();
+    private final StringBuilder toolArgumentsBuilder = new StringBuilder();
 
-    private final Map<Integer, ToolExecutionRequestBuilder> indexToToolExecutionRequestBuilder = new ConcurrentHashMap<>();
+    private final Map<Integer, ToolExecutionRequestBuilder> indexToToolExecutionRequestBuilder = new TreeMap<>();
+    private ToolExecutionRequestBuilder lastToolExecutionRequestBuilder;
+    private int lastToolExecutionRequestIndex;
 
-    private final AtomicReference<String> id = new AtomicReference<>();
-    private final AtomicReference<Long> created = new AtomicReference<>();
-    private final AtomicReference<String> model = new AtomicReference<>();
-    private final AtomicReference<String> serviceTier = new AtomicReference<>();
-    private final AtomicReference<String> systemFingerprint = new AtomicReference<>();
-    private final AtomicReference<TokenUsage> tokenUsage = new AtomicReference<>();
-    private final AtomicReference<FinishReason> finishReason = new AtomicReference<>();
+    private String id;
+    private Long created;
+    private String model;
+    private String serviceTier;
+    private String systemFingerprint;
+    private TokenUsage tokenUsage;
+    private FinishReason finishReason;
+
+    // content and reasoning of the chunk being parsed
+    private String partialContent;
+    private String partialReasoningContent;
+    private String partialReasoning;
 
     public void append(ChatCompletionResponse partialResponse) {
         if (partialResponse == null) {
@@ -56,24 +83,24 @@ public class OpenAiStreamingResponseBuilder {
         }
 
         if (!isNullOrBlank(partialResponse.id())) {
-            this.id.set(partialResponse.id());
+            this.id = partialResponse.id();
         }
         if (partialResponse.created() != null) {
-            this.created.set(partialResponse.created());
+            this.created = partialResponse.created();
         }
         if (!isNullOrBlank(partialResponse.model())) {
-            this.model.set(partialResponse.model());
+            this.model = partialResponse.model();
         }
         if (!isNullOrBlank(partialResponse.serviceTier())) {
-            this.serviceTier.set(partialResponse.serviceTier());
+            this.serviceTier = partialResponse.serviceTier();
         }
         if (!isNullOrBlank(partialResponse.systemFingerprint())) {
-            this.systemFingerprint.set(partialResponse.systemFingerprint());
+            this.systemFingerprint = partialResponse.systemFingerprint();
         }
 
         Usage usage = partialResponse.usage();
         if (usage != null) {
-            this.tokenUsage.set(tokenUsageFrom(usage));
+            this.tokenUsage = tokenUsageFrom(usage);
         }
 
         List<ChatCompletionChoice> choices = partialResponse.choices();
@@ -88,7 +115,7 @@ public class OpenAiStreamingResponseBuilder {
 
         String finishReason = chatCompletionChoice.finishReason();
         if (finishReason != null) {
-            this.finishReason.set(finishReasonFrom(finishReason));
+            this.finishReason = finishReasonFrom(finishReason);
         }
 
         Delta delta = chatCompletionChoice.delta();
@@ -116,10 +143,7 @@ public class OpenAiStreamingResponseBuilder {
         if (delta.toolCalls() != null && !delta.toolCalls().isEmpty()) {
             ToolCall toolCall = delta.toolCalls().get(0);
 
-            ToolExecutionRequestBuilder builder = this.indexToToolExecutionRequestBuilder.computeIfAbsent(
-                    toolCall.index(),
-                    idx -> new ToolExecutionRequestBuilder()
-            );
+            ToolExecutionRequestBuilder builder = toolExecutionRequestBuilder(toolCall.index());
 
             if (toolCall.id() != null) {
                 builder.idBuilder.append(toolCall.id());
@@ -135,6 +159,225 @@ public class OpenAiStreamingResponseBuilder {
         }
     }
 
+    /**
+     * Parses a chat completion chunk and appends it, then forwards its reasoning and content
+     * (if any) to the {@code handler}.
+     *
+     * @param partialResponseJson the JSON data of a chat completion chunk
+     * @param handler             the handler to forward the partial reasoning and response to
+     */
+    public void append(String partialResponseJson, StreamingChatResponseHandler handler) {
+        partialContent = null;
+        partialReasoningContent = null;
+        partialReasoning = null;
+
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(partialResponseJson)) {
+            if (parser.nextToken() != START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "id" -> id = nonBlankOr(textOf(parser), id);
+                    case "created" -> created = parser.currentToken().isNumeric() ? parser.getLongValue() : created;
+                    case "model" -> model = nonBlankOr(textOf(parser), model);
+                    case "service_tier" -> serviceTier = nonBlankOr(textOf(parser), serviceTier);
+                    case "system_fingerprint" -> systemFingerprint = nonBlankOr(textOf(parser), systemFingerprint);
+                    case "usage" -> tokenUsage = tokenUsageFrom(OBJECT_MAPPER.readValue(parser, Usage.class));
+                    case "choices" -> parseChoices(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!isNullOrEmpty(partialReasoningContent)) {
+            handler.onPartialReasoning(partialReasoningContent);
+        } else if (!isNullOrEmpty(partialReasoning)) {
+            handler.onPartialReasoning(partialReasoning);
+        }
+        if (!isNullOrEmpty(partialContent)) {
+            handler.onPartialResponse(partialContent);
+        }
+    }
+
+    private void parseChoices(JsonParser parser) throws IOException {
+        if (parser.currentToken() != START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        // only the first choice is taken into account
+        if (parser.nextToken() == START_OBJECT) {
+            while (parser.nextToken() == FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "finish_reason" -> finishReason = finishReasonFrom(textOf(parser));
+                    case "delta" -> parseDelta(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        skipToEndOfArray(parser);
+    }
+
+    private void parseDelta(JsonParser parser) throws IOException {
+        if (parser.currentToken() != START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "content" -> {
+                    partialContent = textOf(parser);
+                    if (partialContent != null) {
+                        contentBuilder.append(partialContent);
+                    }
+                }
+                case "reasoning_content" -> partialReasoningContent = textOf(parser);
+                case "reasoning" -> partialReasoning = textOf(parser);
+                case "function_call" -> parseFunctionCall(parser);
+                case "tool_calls" -> parseToolCalls(parser);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void parseFunctionCall(JsonParser parser) throws IOException {
+        if (parser.currentToken() != START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "name" -> appendText(parser, toolNameBuilder);
+                case "arguments" -> appendText(parser, toolArgumentsBuilder);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void parseToolCalls(JsonParser parser) throws IOException {
+        if (parser.currentToken() != START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == START_OBJECT) {
+            parseToolCall(parser);
+        }
+    }
+
+    private void parseToolCall(JsonParser parser) throws IOException {
+        ToolExecutionRequestBuilder builder = null;
+        // the index is usually the first field; other fields are buffered until it is known
+        String id = null;
+        String name = null;
+        String arguments = null;
+        while (parser.nextToken() == FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "index" -> builder = toolExecutionRequestBuilder(parser.getIntValue());
+                case "id" -> id = textOf(parser);
+                case "function" -> {
+                    if (parser.currentToken() != START_OBJECT) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    while (parser.nextToken() == FIELD_NAME) {
+                        String functionField = parser.currentName();
+                        if (parser.nextToken() == VALUE_NULL) {
+                            continue;
+                        }
+                        if (functionField.equals("name")) {
+                            name = textOf(parser);
+                        } else if (functionField.equals("arguments") && builder != null) {
+                            appendText(parser, builder.argumentsBuilder);
+                        } else if (functionField.equals("arguments")) {
+                            arguments = textOf(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (builder == null) {
+            builder = toolExecutionRequestBuilder(0);
+        }
+        if (id != null) {
+            builder.idBuilder.append(id);
+        }
+        if (name != null) {
+            builder.nameBuilder.append(name);
+        }
+        if (arguments != null) {
+            builder.argumentsBuilder.append(arguments);
+        }
+    }
+
+    private ToolExecutionRequestBuilder toolExecutionRequestBuilder(int index) {
+        // consecutive chunks almost always continue the same tool call
+        if (lastToolExecutionRequestBuilder == null || lastToolExecutionRequestIndex != index) {
+            lastToolExecutionRequestBuilder =
+                    indexToToolExecutionRequestBuilder.computeIfAbsent(index, idx -> new ToolExecutionRequestBuilder());
+            lastToolExecutionRequestIndex = index;
+        }
+        return lastToolExecutionRequestBuilder;
+    }
+
+    private static String textOf(JsonParser parser) throws IOException {
+        if (parser.currentToken().isScalarValue()) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * Appends the current string value straight from the parser buffer, without creating a {@link String}.
+     */
+    private static void appendText(JsonParser parser, StringBuilder builder) throws IOException {
+        if (parser.currentToken() == VALUE_STRING) {
+            builder.append(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } else {
+            String text = textOf(parser);
+            if (text != null) {
+                builder.append(text);
+            }
+        }
+    }
+
+    private static String nonBlankOr(String value, String defaultValue) {
+        return isNullOrBlank(value) ? defaultValue : value;
+    }
+
+    private static void skipToEndOfArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        while (token != END_ARRAY && token != null) {
+            parser.skipChildren();
+            token = parser.nextToken();
+        }
+    }
+
     public void append(CompletionResponse partialResponse) {
         if (partialResponse == null) {
             return;
@@ -142,7 +385,7 @@ public class OpenAiStreamingResponseBuilder {
 
         Usage usage = partialResponse.usage();
         if (usage != null) {
-            this.tokenUsage.set(tokenUsageFrom(usage));
+            this.tokenUsage = tokenUsageFrom(usage);
         }
 
         List<CompletionChoice> choices = partialResponse.choices();
@@ -157,7 +400,7 @@ public class OpenAiStreamingResponseBuilder {
 
         String finishReason = completionChoice.finishReason();
         if (finishReason != null) {
-            this.finishReason.set(finishReasonFrom(finishReason));
+            this.finishReason = finishReasonFrom(finishReason);
         }
 
         String token = completionChoice.text();
@@ -169,13 +412,13 @@ public class OpenAiStreamingResponseBuilder {
     public ChatResponse build() {
 
         OpenAiChatResponseMetadata chatResponseMetadata = OpenAiChatResponseMetadata.builder()
-                .id(id.get())
-                .modelName(model.get())
-                .tokenUsage(tokenUsage.get())
-                .finishReason(finishReason.get())
-                .created(created.get())
-                .serviceTier(serviceTier.get())
-                .systemFingerprint(systemFingerprint.get())
+                .id(id)
+                .modelName(model)
+                .tokenUsage(tokenUsage)
+                .finishReason(finishReason)
+                .created(created)
+                .serviceTier(serviceTier)
+                .systemFingerprint(systemFingerprint)
                 .build();
 
         String text = contentBuilder.toString();
@@ -229,8 +472,8 @@ public class OpenAiStreamingResponseBuilder {
 
     private static class ToolExecutionRequestBuilder {
 
-        private final StringBuffer idBuilder = new StringBuffer();
-        private final StringBuffer nameBuilder = new StringBuffer();
-        private final StringBuffer argumentsBuilder = new StringBuffer();
+        private final StringBuilder idBuilder = new StringBuilder();
+        private final StringBuilder nameBuilder = new StringBuilder();
+        private final StringBuilder argumentsBuilder = new StringBuilder();
     }
 }
@@ -5,6 +5,9 @@ import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.http.client.HttpClientBuilderLoader;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.log.LoggingHttpClient;
+import dev.langchain4j.model.openai.internal.batch.Batch;
+import dev.langchain4j.model.openai.internal.batch.CreateBatchRequest;
+import dev.langchain4j.model.openai.internal.batch.OpenAiFile;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionRequest;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
 import dev.langchain4j.model.openai.internal.completion.CompletionRequest;
@@ -18,7 +21,10 @@ import dev.langchain4j.model.openai.internal.moderation.ModerationResponse;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.http.client.HttpMethod.GET;
 import static dev.langchain4j.http.client.HttpMethod.POST;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
@@ -102,6 +108,15 @@ public class DefaultOpenAiClient extends OpenAiClient {
 
     @Override
     public SyncOrAsyncOrStreaming<ChatCompletionResponse> chatCompletion(ChatCompletionRequest request) {
+        return chatCompletion(request, ChatCompletionResponse.class);
+    }
+
+    @Override
+    public SyncOrAsyncOrStreaming<String> chatCompletionJson(ChatCompletionRequest request) {
+        return chatCompletion(request, String.class);
+    }
+
+    private <T> SyncOrAsyncOrStreaming<T> chatCompletion(ChatCompletionRequest request, Class<T> responseClass) {
 
         HttpRequest httpRequest = HttpRequest.builder()
                 .method(POST)
@@ -119,7 +134,7 @@ public class DefaultOpenAiClient extends OpenAiClient {
                 .body(Json.toJson(ChatCompletionRequest.builder().from(request).stream(true).build()))
                 .build();
 
-        return new RequestExecutor<>(httpClient, httpRequest, streamingHttpRequest, ChatCompletionResponse.class);
+        return new RequestExecutor<>(httpClient, httpRequest, streamingHttpRequest, responseClass);
     }
 
     @Override
@@ -162,4 +177,78 @@ public class DefaultOpenAiClient extends OpenAiClient {
 
         return new RequestExecutor<>(httpClient, httpRequest, GenerateImagesResponse.class);
     }
+
+    @Override
+    public SyncOrAsync<OpenAiFile> uploadFile(String fileName, String purpose, String content) {
+
+        String boundary = "----langchain4j" + UUID.randomUUID().toString().replace("-", "");
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"purpose\"\r\n\r\n"
+                + purpose + "\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: application/jsonl\r\n\r\n"
+                + content + "\r\n"
+                + "--" + boundary + "--\r\n";
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, "files")
+                .addHeader("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .addHeaders(defaultHeaders)
+                .body(body)
+                .build();
+
+        return new RequestExecutor<>(httpClient, httpRequest, OpenAiFile.class);
+    }
+
+    @Override
+    public Stream<String> fileContentLines(String fileId) {
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(GET)
+                .url(baseUrl, "files/" + fileId + "/content")
+                .addHeaders(defaultHeaders)
+                .build();
+
+        return HttpResponseLines.execute(httpClient, httpRequest);
+    }
+
+    @Override
+    public SyncOrAsync<Batch> createBatch(CreateBatchRequest request) {
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, "batches")
+                .addHeader("Content-Type", "application/json")
+                .addHeaders(defaultHeaders)
+                .body(Json.toJson(request))
+                .build();
+
+        return new RequestExecutor<>(httpClient, httpRequest, Batch.class);
+    }
+
+    @Override
+    public SyncOrAsync<Batch> retrieveBatch(String batchId) {
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(GET)
+                .url(baseUrl, "batches/" + batchId)
+                .addHeaders(defaultHeaders)
+                .build();
+
+        return new RequestExecutor<>(httpClient, httpRequest, Batch.class);
+    }
+
+    @Override
+    public SyncOrAsync<Batch> cancelBatch(String batchId) {
+
+        HttpRequest httpRequest = HttpRequest.builder()
+                .method(POST)
+                .url(baseUrl, "batches/" + batchId + "/cancel")
+                .addHeaders(defaultHeaders)
+                .build();
+
+        return new RequestExecutor<>(httpClient, httpRequest, Batch.class);
+    }
 }
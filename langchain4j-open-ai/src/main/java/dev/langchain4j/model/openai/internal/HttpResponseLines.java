@@ -0,0 +1,157 @@
+package dev.langchain4j.model.openai.internal;
+
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.ServerSentEvent;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Streams the body of an HTTP response line by line while it is downloaded,
+ * so that a large body (e.g., the JSONL output of a batch) is never held in memory at once.
+ * <br>
+ * The {@link HttpClient} reads the body on its own thread, as if it were a stream of server-sent events
+ * with one event per line, and hands the lines over to the consumer through a bounded queue,
+ * so that reading does not get ahead of consuming.
+ * The returned stream must be closed to stop reading and release the connection.
+ */
+class HttpResponseLines implements ServerSentEventParser, ServerSentEventListener {
+
+    private static final int CAPACITY = 1024;
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private final CompletableFuture<Void> opened = new CompletableFuture<>();
+    private volatile boolean closed;
+
+    private HttpResponseLines() {
+    }
+
+    /**
+     * Executes the request and waits for the response, so that an unsuccessful response is thrown from here.
+     */
+    static Stream<String> execute(HttpClient httpClient, HttpRequest request) {
+        HttpResponseLines lines = new HttpResponseLines();
+        httpClient.execute(request, lines, lines);
+        try {
+            lines.opened.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new RuntimeException(e.getCause());
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lines.iterator(), ORDERED | NONNULL), false)
+                .onClose(lines::close);
+    }
+
+    @Override
+    public void parse(InputStream httpResponseBody, ServerSentEventListener listener) {
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(httpResponseBody, UTF_8));
+            String line;
+            while (!closed && (line = reader.readLine()) != null) {
+                listener.onEvent(new ServerSentEvent(null, line));
+            }
+        } catch (IOException e) {
+            listener.onError(e);
+            return;
+        }
+        hand(END);
+    }
+
+    @Override
+    public void onOpen(SuccessfulHttpResponse response) {
+        opened.complete(null);
+    }
+
+    @Override
+    public void onEvent(ServerSentEvent event) {
+        hand(event.data());
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        if (!opened.completeExceptionally(error)) {
+            hand(error);
+        }
+    }
+
+    /**
+     * Waits until the consumer makes room in the queue, or closes the stream.
+     */
+    private void hand(Object element) {
+        try {
+            while (!closed) {
+                if (queue.offer(element, 100, MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    private Iterator<String> iterator() {
+        return new Iterator<>() {
+
+            private Object next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = take();
+                }
+                if (next instanceof Throwable error) {
+                    throw error instanceof RuntimeException runtimeException
+                            ? runtimeException
+                            : new RuntimeException(error);
+                }
+                return next != END;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String line = (String) next;
+                next = null;
+                return line;
+            }
+        };
+    }
+
+    private Object take() {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package dev.langchain4j.model.openai.internal;
 
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.model.openai.internal.batch.Batch;
+import dev.langchain4j.model.openai.internal.batch.CreateBatchRequest;
+import dev.langchain4j.model.openai.internal.batch.OpenAiFile;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionRequest;
 import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
 import dev.langchain4j.model.openai.internal.completion.CompletionRequest;
@@ -16,6 +19,8 @@ import dev.langchain4j.model.openai.internal.spi.ServiceHelper;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public abstract class OpenAiClient {
 
@@ -23,12 +28,70 @@ public abstract class OpenAiClient {
 
     public abstract SyncOrAsyncOrStreaming<ChatCompletionResponse> chatCompletion(ChatCompletionRequest request);
 
+    /**
+     * Same as {@link #chatCompletion(ChatCompletionRequest)}, but the response (or each streamed chunk)
+     * is returned as raw JSON, so that it can be parsed incrementally, reading only the fields that are needed.
+     * <br>
+     * The default implementation serializes the responses of {@link #chatCompletion(ChatCompletionRequest)}
+     * back to JSON; implementations should override it to pass the JSON received through.
+     */
+    public SyncOrAsyncOrStreaming<String> chatCompletionJson(ChatCompletionRequest request) {
+        SyncOrAsyncOrStreaming<ChatCompletionResponse> chatCompletion = chatCompletion(request);
+        return new SyncOrAsyncOrStreaming<>() {
+
+            @Override
+            public String execute() {
+                return Json.toJson(chatCompletion.execute());
+            }
+
+            @Override
+            public AsyncResponseHandling onResponse(Consumer<String> responseHandler) {
+                return chatCompletion.onResponse(response -> responseHandler.accept(Json.toJson(response)));
+            }
+
+            @Override
+            public StreamingResponseHandling onPartialResponse(Consumer<String> partialResponseHandler) {
+                return chatCompletion.onPartialResponse(
+                        partialResponse -> partialResponseHandler.accept(Json.toJson(partialResponse)));
+            }
+        };
+    }
+
     public abstract SyncOrAsync<EmbeddingResponse> embedding(EmbeddingRequest request);
 
     public abstract SyncOrAsync<ModerationResponse> moderation(ModerationRequest request);
 
     public abstract SyncOrAsync<GenerateImagesResponse> imagesGeneration(GenerateImagesRequest request);
 
+    public SyncOrAsync<OpenAiFile> uploadFile(String fileName, String purpose, String content) {
+        throw unsupported("uploadFile");
+    }
+
+    /**
+     * Reads the content of a file (e.g., the JSONL output of a batch) lazily, one line at a time.
+     * The returned stream must be closed to release the underlying connection.
+     */
+    public Stream<String> fileContentLines(String fileId) {
+        throw unsupported("fileContentLines");
+    }
+
+    public SyncOrAsync<Batch> createBatch(CreateBatchRequest request) {
+        throw unsupported("createBatch");
+    }
+
+    public SyncOrAsync<Batch> retrieveBatch(String batchId) {
+        throw unsupported("retrieveBatch");
+    }
+
+    public SyncOrAsync<Batch> cancelBatch(String batchId) {
+        throw unsupported("cancelBatch");
+    }
+
+    private UnsupportedOperationException unsupported(String method) {
+        return new UnsupportedOperationException(
+                method + "() is not supported by the client implementation " + getClass().getName());
+    }
+
     @SuppressWarnings("rawtypes")
     public static Builder builder() {
         for (OpenAiClientBuilderFactory factory : ServiceHelper.loadFactories(OpenAiClientBuilderFactory.class)) {
@@ -106,7 +106,9 @@ class StreamingRequestExecutor<Response> {
                         errorHandler.accept(new RuntimeException(event.data()));
                         return;
                     }
-                    Response response = Json.fromJson(event.data(), responseClass);
+                    Response response = responseClass == String.class
+                            ? responseClass.cast(event.data())
+                            : Json.fromJson(event.data(), responseClass);
                     if (response != null) {
                         partialResponseHandler.accept(response); // do not handle exception, fail-fast
                     }
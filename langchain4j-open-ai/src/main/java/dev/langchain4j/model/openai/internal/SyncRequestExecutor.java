@@ -18,6 +18,9 @@ class SyncRequestExecutor<Response> {
 
     Response execute() {
         SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(httpRequest);
+        if (responseClass == String.class) {
+            return responseClass.cast(successfulHttpResponse.body());
+        }
         return Json.fromJson(successfulHttpResponse.body(), responseClass);
     }
 }
@@ -0,0 +1,202 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import java.util.Objects;
+
+@JsonDeserialize(builder = Batch.Builder.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public final class Batch {
+
+    @JsonProperty
+    private final String id;
+    @JsonProperty
+    private final String endpoint;
+    @JsonProperty
+    private final String status;
+    @JsonProperty
+    private final String inputFileId;
+    @JsonProperty
+    private final String outputFileId;
+    @JsonProperty
+    private final String errorFileId;
+    @JsonProperty
+    private final String completionWindow;
+    @JsonProperty
+    private final Long createdAt;
+    @JsonProperty
+    private final BatchRequestCounts requestCounts;
+
+    public Batch(Builder builder) {
+        this.id = builder.id;
+        this.endpoint = builder.endpoint;
+        this.status = builder.status;
+        this.inputFileId = builder.inputFileId;
+        this.outputFileId = builder.outputFileId;
+        this.errorFileId = builder.errorFileId;
+        this.completionWindow = builder.completionWindow;
+        this.createdAt = builder.createdAt;
+        this.requestCounts = builder.requestCounts;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public String status() {
+        return status;
+    }
+
+    public String inputFileId() {
+        return inputFileId;
+    }
+
+    public String outputFileId() {
+        return outputFileId;
+    }
+
+    public String errorFileId() {
+        return errorFileId;
+    }
+
+    public String completionWindow() {
+        return completionWindow;
+    }
+
+    public Long createdAt() {
+        return createdAt;
+    }
+
+    public BatchRequestCounts requestCounts() {
+        return requestCounts;
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) return true;
+        return another instanceof Batch
+                && equalTo((Batch) another);
+    }
+
+    private boolean equalTo(Batch another) {
+        return Objects.equals(id, another.id)
+                && Objects.equals(endpoint, another.endpoint)
+                && Objects.equals(status, another.status)
+                && Objects.equals(inputFileId, another.inputFileId)
+                && Objects.equals(outputFileId, another.outputFileId)
+                && Objects.equals(errorFileId, another.errorFileId)
+                && Objects.equals(completionWindow, another.completionWindow)
+                && Objects.equals(createdAt, another.createdAt)
+                && Objects.equals(requestCounts, another.requestCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 5381;
+        h += (h << 5) + Objects.hashCode(id);
+        h += (h << 5) + Objects.hashCode(endpoint);
+        h += (h << 5) + Objects.hashCode(status);
+        h += (h << 5) + Objects.hashCode(inputFileId);
+        h += (h << 5) + Objects.hashCode(outputFileId);
+        h += (h << 5) + Objects.hashCode(errorFileId);
+        h += (h << 5) + Objects.hashCode(completionWindow);
+        h += (h << 5) + Objects.hashCode(createdAt);
+        h += (h << 5) + Objects.hashCode(requestCounts);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "Batch{"
+                + "id=" + id
+                + ", endpoint=" + endpoint
+                + ", status=" + status
+                + ", inputFileId=" + inputFileId
+                + ", outputFileId=" + outputFileId
+                + ", errorFileId=" + errorFileId
+                + ", completionWindow=" + completionWindow
+                + ", createdAt=" + createdAt
+                + ", requestCounts=" + requestCounts
+                + "}";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static final class Builder {
+
+        private String id;
+        private String endpoint;
+        private String status;
+        private String inputFileId;
+        private String outputFileId;
+        private String errorFileId;
+        private String completionWindow;
+        private Long createdAt;
+        private BatchRequestCounts requestCounts;
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder endpoint(String endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder status(String status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder inputFileId(String inputFileId) {
+            this.inputFileId = inputFileId;
+            return this;
+        }
+
+        public Builder outputFileId(String outputFileId) {
+            this.outputFileId = outputFileId;
+            return this;
+        }
+
+        public Builder errorFileId(String errorFileId) {
+            this.errorFileId = errorFileId;
+            return this;
+        }
+
+        public Builder completionWindow(String completionWindow) {
+            this.completionWindow = completionWindow;
+            return this;
+        }
+
+        public Builder createdAt(Long createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder requestCounts(BatchRequestCounts requestCounts) {
+            this.requestCounts = requestCounts;
+            return this;
+        }
+
+        public Batch build() {
+            return new Batch(this);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+
+/**
+ * Reads and writes the JSONL files of the Batch API: one JSON object per line.
+ */
+public final class BatchJsonl {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private BatchJsonl() {
+    }
+
+    public static String toJsonl(List<BatchRequestLine> lines) {
+        StringBuilder jsonl = new StringBuilder();
+        for (BatchRequestLine line : lines) {
+            try {
+                jsonl.append(OBJECT_MAPPER.writeValueAsString(line)).append('\n');
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return jsonl.toString();
+    }
+
+    public static <T> BatchResponseLine<T> fromJsonl(String line, Class<T> bodyType) {
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(line);
+            String customId = node.path("custom_id").asText(null);
+
+            JsonNode response = node.path("response");
+            Integer statusCode = response.hasNonNull("status_code") ? response.get("status_code").asInt() : null;
+            JsonNode body = response.path("body");
+
+            if (statusCode != null && statusCode == 200 && body.isObject()) {
+                return new BatchResponseLine<>(customId, statusCode, OBJECT_MAPPER.treeToValue(body, bodyType), null);
+            }
+
+            String error = node.path("error").path("message").asText(null);
+            if (error == null) {
+                error = body.path("error").path("message").asText(null);
+            }
+            if (error == null) {
+                error = "Request failed with status code " + statusCode;
+            }
+            return new BatchResponseLine<>(customId, statusCode, null, error);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
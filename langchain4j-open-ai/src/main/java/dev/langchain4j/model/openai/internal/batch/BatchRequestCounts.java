@@ -0,0 +1,106 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import java.util.Objects;
+
+@JsonDeserialize(builder = BatchRequestCounts.Builder.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public final class BatchRequestCounts {
+
+    @JsonProperty
+    private final Integer total;
+    @JsonProperty
+    private final Integer completed;
+    @JsonProperty
+    private final Integer failed;
+
+    public BatchRequestCounts(Builder builder) {
+        this.total = builder.total;
+        this.completed = builder.completed;
+        this.failed = builder.failed;
+    }
+
+    public Integer total() {
+        return total;
+    }
+
+    public Integer completed() {
+        return completed;
+    }
+
+    public Integer failed() {
+        return failed;
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) return true;
+        return another instanceof BatchRequestCounts
+                && equalTo((BatchRequestCounts) another);
+    }
+
+    private boolean equalTo(BatchRequestCounts another) {
+        return Objects.equals(total, another.total)
+                && Objects.equals(completed, another.completed)
+                && Objects.equals(failed, another.failed);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 5381;
+        h += (h << 5) + Objects.hashCode(total);
+        h += (h << 5) + Objects.hashCode(completed);
+        h += (h << 5) + Objects.hashCode(failed);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRequestCounts{"
+                + "total=" + total
+                + ", completed=" + completed
+                + ", failed=" + failed
+                + "}";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static final class Builder {
+
+        private Integer total;
+        private Integer completed;
+        private Integer failed;
+
+        public Builder total(Integer total) {
+            this.total = total;
+            return this;
+        }
+
+        public Builder completed(Integer completed) {
+            this.completed = completed;
+            return this;
+        }
+
+        public Builder failed(Integer failed) {
+            this.failed = failed;
+            return this;
+        }
+
+        public BatchRequestCounts build() {
+            return new BatchRequestCounts(this);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import java.util.Objects;
+
+@JsonDeserialize(builder = BatchRequestLine.Builder.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public final class BatchRequestLine {
+
+    @JsonProperty
+    private final String customId;
+    @JsonProperty
+    private final String method;
+    @JsonProperty
+    private final String url;
+    @JsonProperty
+    private final Object body;
+
+    public BatchRequestLine(Builder builder) {
+        this.customId = builder.customId;
+        this.method = builder.method;
+        this.url = builder.url;
+        this.body = builder.body;
+    }
+
+    public String customId() {
+        return customId;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public Object body() {
+        return body;
+    }
+
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) return true;
+        return another instanceof BatchRequestLine
+                && equalTo((BatchRequestLine) another);
+    }
+
+    private boolean equalTo(BatchRequestLine another) {
+        return Objects.equals(customId, another.customId)
+                && Objects.equals(method, another.method)
+                && Objects.equals(url, another.url)
+                && Objects.equals(body, another.body);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 5381;
+        h += (h << 5) + Objects.hashCode(customId);
+        h += (h << 5) + Objects.hashCode(method);
+        h += (h << 5) + Objects.hashCode(url);
+        h += (h << 5) + Objects.hashCode(body);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRequestLine{"
+                + "customId=" + customId
+                + ", method=" + method
+                + ", url=" + url
+                + ", body=" + body
+                + "}";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static final class Builder {
+
+        private String customId;
+        private String method;
+        private String url;
+        private Object body;
+
+        public Builder customId(String customId) {
+            this.customId = customId;
+            return this;
+        }
+
+        public Builder method(String method) {
+            this.method = method;
+            return this;
+        }
+
+        public Builder url(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder body(Object body) {
+            this.body = body;
+            return this;
+        }
+
+        public BatchRequestLine build() {
+            return new BatchRequestLine(this);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.langchain4j.model.openai.internal.batch;
+
+/**
+ * A line of the output or error file of a batch, with the body of the response deserialized into {@code T}.
+ *
+ * @param <T> The type of the body of a successful response.
+ */
+public final class BatchResponseLine<T> {
+
+    private final String customId;
+    private final Integer statusCode;
+    private final T body;
+    private final String error;
+
+    BatchResponseLine(String customId, Integer statusCode, T body, String error) {
+        this.customId = customId;
+        this.statusCode = statusCode;
+        this.body = body;
+        this.error = error;
+    }
+
+    public String customId() {
+        return customId;
+    }
+
+    public Integer statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return The body of the response, or {@code null} if the request failed.
+     */
+    public T body() {
+        return body;
+    }
+
+    /**
+     * @return The error message, or {@code null} if the request succeeded.
+     */
+    public String error() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResponseLine{"
+                + "customId=" + customId
+                + ", statusCode=" + statusCode
+                + ", body=" + body
+                + ", error=" + error
+                + "}";
+    }
+}
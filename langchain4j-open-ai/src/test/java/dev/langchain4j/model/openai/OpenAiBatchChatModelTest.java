@@ -0,0 +1,164 @@
+package dev.langchain4j.model.openai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.batch.BatchJob;
+import dev.langchain4j.model.batch.BatchResult;
+import dev.langchain4j.model.batch.BatchStatus;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static dev.langchain4j.model.output.FinishReason.STOP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAiBatchChatModelTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private OpenAiBatchStubServer server;
+    private OpenAiBatchChatModel model;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new OpenAiBatchStubServer(OpenAiBatchChatModelTest::respond);
+        model = OpenAiBatchChatModel.builder()
+                .baseUrl(server.baseUrl())
+                .apiKey("test")
+                .modelName("gpt-4o-mini")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void should_submit_await_and_map_results() throws Exception {
+
+        // given
+        List<ChatRequest> requests = List.of(
+                chatRequest("first"),
+                chatRequest("please fail"),
+                chatRequest("third"));
+
+        // when
+        BatchJob submitted = model.submit(requests);
+        BatchJob completed = model.awaitCompletion(submitted.id(), Duration.ofMillis(10), Duration.ofSeconds(5));
+
+        // then
+        assertThat(submitted.status()).isEqualTo(BatchStatus.IN_PROGRESS);
+        assertThat(completed.status()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(completed.totalRequests()).isEqualTo(3);
+        assertThat(completed.succeededRequests()).isEqualTo(2);
+        assertThat(completed.failedRequests()).isEqualTo(1);
+
+        String[] inputLines = server.lastUploadedFile().split("\n");
+        assertThat(inputLines).hasSize(3);
+        JsonNode firstLine = OBJECT_MAPPER.readTree(inputLines[0]);
+        assertThat(firstLine.get("custom_id").asText()).isEqualTo("request-0");
+        assertThat(firstLine.get("method").asText()).isEqualTo("POST");
+        assertThat(firstLine.get("url").asText()).isEqualTo("/v1/chat/completions");
+        assertThat(firstLine.get("body").get("model").asText()).isEqualTo("gpt-4o-mini");
+
+        List<BatchResult<ChatResponse>> results;
+        try (Stream<BatchResult<ChatResponse>> stream = model.results(submitted.id())) {
+            results = stream.sorted(Comparator.comparingInt(BatchResult::index)).toList();
+        }
+        assertThat(results).hasSize(3);
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(0).content().aiMessage().text()).isEqualTo("echo: first");
+        assertThat(results.get(0).content().finishReason()).isEqualTo(STOP);
+        assertThat(results.get(0).content().tokenUsage().totalTokenCount()).isEqualTo(3);
+
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).error()).isEqualTo("Invalid request");
+
+        assertThat(results.get(2).content().aiMessage().text()).isEqualTo("echo: third");
+    }
+
+    @Test
+    void should_read_results_line_by_line_until_stream_is_closed() {
+
+        // given
+        List<ChatRequest> requests = IntStream.range(0, 3_000)
+                .mapToObj(i -> chatRequest("request " + i))
+                .toList();
+        BatchJob submitted = model.submit(requests);
+        model.awaitCompletion(submitted.id(), Duration.ofMillis(10), Duration.ofSeconds(5));
+
+        // when
+        long count;
+        try (Stream<BatchResult<ChatResponse>> stream = model.results(submitted.id())) {
+            count = stream.count();
+        }
+        BatchResult<ChatResponse> first;
+        try (Stream<BatchResult<ChatResponse>> stream = model.results(submitted.id())) {
+            first = stream.findFirst().orElseThrow();
+        }
+
+        // then
+        assertThat(count).isEqualTo(3_000);
+        assertThat(first.content().aiMessage().text()).isEqualTo("echo: request 0");
+        assertThat(model.retrieve(submitted.id()).status()).isEqualTo(BatchStatus.COMPLETED);
+    }
+
+    @Test
+    void should_cancel_batch() {
+
+        // given
+        BatchJob submitted = model.submit(List.of(chatRequest("hello")));
+
+        // when
+        BatchJob cancelling = model.cancel(submitted.id());
+        BatchJob cancelled = model.retrieve(submitted.id());
+
+        // then
+        assertThat(cancelling.status()).isEqualTo(BatchStatus.CANCELLING);
+        assertThat(cancelled.status()).isEqualTo(BatchStatus.CANCELLED);
+        assertThat(server.requests()).contains("POST batches/" + submitted.id() + "/cancel");
+    }
+
+    private static ChatRequest chatRequest(String text) {
+        return ChatRequest.builder()
+                .messages(UserMessage.from(text))
+                .build();
+    }
+
+    private static JsonNode respond(JsonNode request) {
+        JsonNode messages = request.get("messages");
+        String text = messages.get(messages.size() - 1).get("content").asText();
+        if (text.contains("fail")) {
+            return null;
+        }
+
+        ObjectNode response = OBJECT_MAPPER.createObjectNode()
+                .put("id", "chatcmpl-" + text.hashCode())
+                .put("object", "chat.completion")
+                .put("created", 1)
+                .put("model", request.get("model").asText());
+        ObjectNode choice = response.putArray("choices").addObject()
+                .put("index", 0)
+                .put("finish_reason", "stop");
+        choice.putObject("message")
+                .put("role", "assistant")
+                .put("content", "echo: " + text);
+        response.putObject("usage")
+                .put("prompt_tokens", 1)
+                .put("completion_tokens", 2)
+                .put("total_tokens", 3);
+        return response;
+    }
+}
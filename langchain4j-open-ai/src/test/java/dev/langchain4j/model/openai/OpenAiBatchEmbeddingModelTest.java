@@ -0,0 +1,94 @@
+package dev.langchain4j.model.openai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.batch.BatchJob;
+import dev.langchain4j.model.batch.BatchResult;
+import dev.langchain4j.model.batch.BatchStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAiBatchEmbeddingModelTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void should_group_segments_into_requests_and_map_results_back_to_segments() throws Exception {
+
+        try (OpenAiBatchStubServer server = new OpenAiBatchStubServer(OpenAiBatchEmbeddingModelTest::respond)) {
+
+            // given
+            OpenAiBatchEmbeddingModel model = OpenAiBatchEmbeddingModel.builder()
+                    .baseUrl(server.baseUrl())
+                    .apiKey("test")
+                    .modelName("text-embedding-3-small")
+                    .maxSegmentsPerRequest(2)
+                    .build();
+
+            List<TextSegment> segments = List.of(
+                    TextSegment.from("a"),
+                    TextSegment.from("bb"),
+                    TextSegment.from("please fail"),
+                    TextSegment.from("dddd"),
+                    TextSegment.from("eeeee"));
+
+            // when
+            BatchJob submitted = model.submit(segments);
+            BatchJob completed = model.awaitCompletion(submitted.id(), Duration.ofMillis(10), Duration.ofSeconds(5));
+
+            List<BatchResult<Embedding>> results;
+            try (Stream<BatchResult<Embedding>> stream = model.results(submitted.id())) {
+                results = stream.sorted(Comparator.comparingInt(BatchResult::index)).toList();
+            }
+
+            // then
+            assertThat(server.lastUploadedFile().split("\n")).hasSize(3);
+            assertThat(completed.status()).isEqualTo(BatchStatus.COMPLETED);
+            assertThat(completed.totalRequests()).isEqualTo(3);
+            assertThat(completed.failedRequests()).isEqualTo(1);
+
+            assertThat(results).hasSize(5);
+            assertThat(results.get(0).content().vector()).containsExactly(1f);
+            assertThat(results.get(1).content().vector()).containsExactly(2f);
+            // "please fail" and "dddd" were sent in the same request
+            assertThat(results.get(2).error()).isEqualTo("Invalid request");
+            assertThat(results.get(3).error()).isEqualTo("Invalid request");
+            assertThat(results.get(4).content().vector()).containsExactly(5f);
+        }
+    }
+
+    /**
+     * Embeds each text as a single-dimension vector holding its length.
+     */
+    private static JsonNode respond(JsonNode request) {
+        JsonNode input = request.get("input");
+        ObjectNode response = OBJECT_MAPPER.createObjectNode()
+                .put("object", "list")
+                .put("model", request.get("model").asText());
+        ArrayNode data = response.putArray("data");
+        for (int i = 0; i < input.size(); i++) {
+            String text = input.get(i).asText();
+            if (text.contains("fail")) {
+                return null;
+            }
+            ObjectNode embedding = data.addObject()
+                    .put("object", "embedding")
+                    .put("index", i);
+            embedding.putArray("embedding").add(text.length());
+        }
+        response.putObject("usage")
+                .put("prompt_tokens", input.size())
+                .put("total_tokens", input.size());
+        return response;
+    }
+}
@@ -0,0 +1,178 @@
+package dev.langchain4j.model.openai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A local stub of the OpenAI Files and Batch APIs.
+ * <br>
+ * A batch is reported as in progress the first time it is retrieved, and as completed afterwards.
+ * Each request line of the input file is answered by the {@code responder}:
+ * a response body goes to the output file, and {@code null} produces a line in the error file.
+ */
+class OpenAiBatchStubServer implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final Function<JsonNode, JsonNode> responder;
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+    private final Map<String, ObjectNode> batches = new ConcurrentHashMap<>();
+    private final AtomicInteger ids = new AtomicInteger();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private volatile String lastUploadedFile;
+
+    OpenAiBatchStubServer(Function<JsonNode, JsonNode> responder) throws IOException {
+        this.responder = responder;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/v1/", this::handle);
+        this.server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v1";
+    }
+
+    /**
+     * @return The requests received so far, as "METHOD path".
+     */
+    List<String> requests() {
+        return requests;
+    }
+
+    /**
+     * @return The content of the last uploaded file.
+     */
+    String lastUploadedFile() {
+        return lastUploadedFile;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath().substring("/v1/".length());
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        requests.add(method + " " + path);
+
+        String[] segments = path.split("/");
+        if (method.equals("POST") && path.equals("files")) {
+            respond(exchange, 200, upload(exchange, body));
+        } else if (method.equals("GET") && segments[0].equals("files") && segments.length == 3) {
+            respond(exchange, 200, files.get(segments[1]));
+        } else if (method.equals("POST") && path.equals("batches")) {
+            respond(exchange, 200, createBatch(OBJECT_MAPPER.readTree(body)).toString());
+        } else if (method.equals("GET") && segments[0].equals("batches") && batches.containsKey(segments[1])) {
+            respond(exchange, 200, retrieveBatch(segments[1]).toString());
+        } else if (method.equals("POST") && segments[0].equals("batches") && path.endsWith("/cancel")) {
+            ObjectNode batch = batches.get(segments[1]);
+            batch.put("status", "cancelling");
+            respond(exchange, 200, batch.toString());
+        } else {
+            respond(exchange, 404, "{\"error\":{\"message\":\"Not found: " + path + "\"}}");
+        }
+    }
+
+    private String upload(HttpExchange exchange, String body) {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        String boundary = "--" + contentType.substring(contentType.indexOf("boundary=") + "boundary=".length());
+        String filePart = body.substring(body.indexOf("filename="));
+        String content = filePart.substring(filePart.indexOf("\r\n\r\n") + 4, filePart.indexOf("\r\n" + boundary));
+
+        String id = "file-" + ids.incrementAndGet();
+        files.put(id, content);
+        lastUploadedFile = content;
+        return "{\"id\":\"" + id + "\",\"object\":\"file\",\"purpose\":\"batch\"}";
+    }
+
+    private ObjectNode createBatch(JsonNode request) {
+        String id = "batch_" + ids.incrementAndGet();
+        ObjectNode batch = OBJECT_MAPPER.createObjectNode()
+                .put("id", id)
+                .put("object", "batch")
+                .put("endpoint", request.get("endpoint").asText())
+                .put("input_file_id", request.get("input_file_id").asText())
+                .put("completion_window", request.get("completion_window").asText())
+                .put("status", "validating");
+        batches.put(id, batch);
+        return batch;
+    }
+
+    private ObjectNode retrieveBatch(String id) throws IOException {
+        ObjectNode batch = batches.get(id);
+        switch (batch.get("status").asText()) {
+            case "validating" -> batch.put("status", "in_progress");
+            case "in_progress" -> complete(batch);
+            case "cancelling" -> batch.put("status", "cancelled");
+            default -> {
+            }
+        }
+        return batch;
+    }
+
+    private void complete(ObjectNode batch) throws IOException {
+        StringBuilder output = new StringBuilder();
+        StringBuilder errors = new StringBuilder();
+        int completed = 0;
+        int failed = 0;
+        for (String line : files.get(batch.get("input_file_id").asText()).split("\n")) {
+            JsonNode request = OBJECT_MAPPER.readTree(line);
+            JsonNode responseBody = responder.apply(request.get("body"));
+            ObjectNode responseLine = OBJECT_MAPPER.createObjectNode()
+                    .put("id", "batch_req_" + ids.incrementAndGet())
+                    .put("custom_id", request.get("custom_id").asText());
+            if (responseBody != null) {
+                responseLine.putObject("response").put("status_code", 200).set("body", responseBody);
+                responseLine.putNull("error");
+                output.append(responseLine).append('\n');
+                completed++;
+            } else {
+                responseLine.putObject("response").put("status_code", 400).putObject("body")
+                        .putObject("error").put("message", "Invalid request");
+                responseLine.putNull("error");
+                errors.append(responseLine).append('\n');
+                failed++;
+            }
+        }
+
+        String outputFileId = "file-" + ids.incrementAndGet();
+        files.put(outputFileId, output.toString());
+        batch.put("output_file_id", outputFileId);
+        if (failed > 0) {
+            String errorFileId = "file-" + ids.incrementAndGet();
+            files.put(errorFileId, errors.toString());
+            batch.put("error_file_id", errorFileId);
+        }
+        batch.put("status", "completed");
+        batch.putObject("request_counts")
+                .put("total", completed + failed)
+                .put("completed", completed)
+                .put("failed", failed);
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
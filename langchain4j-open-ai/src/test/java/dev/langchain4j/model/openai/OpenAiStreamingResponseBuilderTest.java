@@ -0,0 +1,120 @@
+package dev.langchain4j.model.openai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.openai.internal.chat.ChatCompletionResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.model.output.FinishReason.STOP;
+import static dev.langchain4j.model.output.FinishReason.TOOL_EXECUTION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAiStreamingResponseBuilderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void should_accumulate_content_and_forward_partial_responses() {
+
+        // given
+        List<String> chunks = List.of(
+                "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":1700000000,\"model\":\"gpt-4o-mini\",\"system_fingerprint\":\"fp_1\",\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"content\":\"\",\"refusal\":null},\"logprobs\":null,\"finish_reason\":null}],\"usage\":null}",
+                "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":1700000000,\"model\":\"gpt-4o-mini\",\"choices\":[{\"index\":0,\"delta\":{\"reasoning_content\":\"thinking\"},\"finish_reason\":null}]}",
+                "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":1700000000,\"model\":\"gpt-4o-mini\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"Hello\"},\"finish_reason\":null}]}",
+                "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":1700000000,\"model\":\"gpt-4o-mini\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\", \\\"world\\\"\"},\"finish_reason\":null}]}",
+                "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":1700000000,\"model\":\"gpt-4o-mini\",\"choices\":[{\"index\":0,\"delta\":{},\"finish_reason\":\"stop\"}]}",
+                "{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":1700000000,\"model\":\"gpt-4o-mini\",\"service_tier\":\"default\",\"choices\":[],\"usage\":{\"prompt_tokens\":5,\"completion_tokens\":3,\"total_tokens\":8,\"prompt_tokens_details\":{\"cached_tokens\":2,\"audio_tokens\":0},\"completion_tokens_details\":{\"reasoning_tokens\":1}}}");
+
+        OpenAiStreamingResponseBuilder builder = new OpenAiStreamingResponseBuilder();
+        RecordingHandler handler = new RecordingHandler();
+
+        // when
+        chunks.forEach(chunk -> builder.append(chunk, handler));
+        ChatResponse response = builder.build();
+
+        // then
+        assertThat(handler.partialResponses).containsExactly("Hello", ", \"world\"");
+        assertThat(handler.partialReasoning).containsExactly("thinking");
+
+        assertThat(response.aiMessage().text()).isEqualTo("Hello, \"world\"");
+        OpenAiChatResponseMetadata metadata = (OpenAiChatResponseMetadata) response.metadata();
+        assertThat(metadata.id()).isEqualTo("chatcmpl-1");
+        assertThat(metadata.modelName()).isEqualTo("gpt-4o-mini");
+        assertThat(metadata.created()).isEqualTo(1700000000L);
+        assertThat(metadata.serviceTier()).isEqualTo("default");
+        assertThat(metadata.systemFingerprint()).isEqualTo("fp_1");
+        assertThat(metadata.finishReason()).isEqualTo(STOP);
+        assertThat(metadata.tokenUsage().inputTokenCount()).isEqualTo(5);
+        assertThat(metadata.tokenUsage().outputTokenCount()).isEqualTo(3);
+        assertThat(metadata.tokenUsage().inputTokensDetails().cachedTokens()).isEqualTo(2);
+    }
+
+    @Test
+    void should_assemble_tool_calls_like_the_parsed_response_path() throws Exception {
+
+        // given
+        List<String> chunks = List.of(
+                "{\"id\":\"chatcmpl-2\",\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"tool_calls\":[{\"index\":0,\"id\":\"call_1\",\"type\":\"function\",\"function\":{\"name\":\"weather\",\"arguments\":\"\"}}]}}]}",
+                "{\"id\":\"chatcmpl-2\",\"choices\":[{\"index\":0,\"delta\":{\"tool_calls\":[{\"index\":0,\"function\":{\"arguments\":\"{\\\"city\\\":\"}}]}}]}",
+                "{\"id\":\"chatcmpl-2\",\"choices\":[{\"index\":0,\"delta\":{\"tool_calls\":[{\"index\":0,\"function\":{\"arguments\":\"\\\"Paris\\\"}\"}}]}}]}",
+                // the index is not necessarily the first field
+                "{\"id\":\"chatcmpl-2\",\"choices\":[{\"index\":0,\"delta\":{\"tool_calls\":[{\"function\":{\"name\":\"time\",\"arguments\":\"{}\"},\"id\":\"call_2\",\"index\":1}]}}]}",
+                "{\"id\":\"chatcmpl-2\",\"choices\":[{\"index\":0,\"delta\":{},\"finish_reason\":\"tool_calls\"}]}");
+
+        OpenAiStreamingResponseBuilder jsonBuilder = new OpenAiStreamingResponseBuilder();
+        OpenAiStreamingResponseBuilder parsedBuilder = new OpenAiStreamingResponseBuilder();
+        RecordingHandler handler = new RecordingHandler();
+
+        // when
+        for (String chunk : chunks) {
+            jsonBuilder.append(chunk, handler);
+            parsedBuilder.append(OBJECT_MAPPER.readValue(chunk, ChatCompletionResponse.class));
+        }
+        ChatResponse response = jsonBuilder.build();
+
+        // then
+        assertThat(handler.partialResponses).isEmpty();
+        assertThat(response).isEqualTo(parsedBuilder.build());
+        assertThat(response.finishReason()).isEqualTo(TOOL_EXECUTION);
+        assertThat(response.aiMessage().toolExecutionRequests()).containsExactly(
+                ToolExecutionRequest.builder()
+                        .id("call_1")
+                        .name("weather")
+                        .arguments("{\"city\":\"Paris\"}")
+                        .build(),
+                ToolExecutionRequest.builder()
+                        .id("call_2")
+                        .name("time")
+                        .arguments("{}")
+                        .build());
+    }
+
+    private static class RecordingHandler implements StreamingChatResponseHandler {
+
+        private final List<String> partialResponses = new ArrayList<>();
+        private final List<String> partialReasoning = new ArrayList<>();
+
+        @Override
+        public void onPartialResponse(String partialResponse) {
+            partialResponses.add(partialResponse);
+        }
+
+        @Override
+        public void onPartialReasoning(String partialReasoning) {
+            this.partialReasoning.add(partialReasoning);
+        }
+
+        @Override
+        public void onCompleteResponse(ChatResponse completeResponse) {
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+    }
+}
@@ -482,6 +482,34 @@ public class FileSystemDocumentLoader {
         return loadDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
     }
 
+    /**
+     * Recursively loads matching {@link Document}s from the specified directory and its subdirectories,
+     * as a lazily consumed {@link Stream}.
+     * <br>
+     * Unlike {@link #loadDocumentsRecursively(Path, PathMatcher, DocumentParser)}, files are parsed only when
+     * the stream is consumed, so documents can be processed while the directory tree is still being traversed.
+     * The returned stream must be closed after use.
+     * To parse files in parallel, use {@link StreamingFileSystemDocumentLoader} directly.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths match the provided {@link PathMatcher} will be loaded.
+     *                       See {@link #loadDocumentsRecursively(Path, PathMatcher, DocumentParser)} for details.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(
+            Path directoryPath, PathMatcher pathMatcher, DocumentParser documentParser) {
+        return StreamingFileSystemDocumentLoader.builder()
+                .directoryPath(directoryPath)
+                .pathMatcher(pathMatcher)
+                .documentParser(documentParser)
+                .build()
+                .stream();
+    }
+
     private static List<Document> loadDocuments(
             Stream<Path> pathStream, PathMatcher pathMatcher, Path pathMatcherRoot, DocumentParser documentParser) {
         List<Document> documents = new ArrayList<>();
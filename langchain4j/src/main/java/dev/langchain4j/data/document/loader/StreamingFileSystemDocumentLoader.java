@@ -0,0 +1,278 @@
+package dev.langchain4j.data.document.loader;
+
+import static dev.langchain4j.data.document.source.FileSystemSource.from;
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.file.Files.isDirectory;
+
+import dev.langchain4j.data.document.BlankDocumentException;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentLoader;
+import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import dev.langchain4j.spi.data.document.parser.DocumentParserFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads {@link Document}s from a directory as a lazily consumed {@link Stream}, so that documents can be ingested
+ * while the directory is still being traversed, without holding all documents in memory.
+ * <br>
+ * By default, files are parsed one by one on the thread consuming the stream.
+ * When an {@link Builder#executor(Executor)} is configured, files are parsed in parallel on that executor,
+ * with at most {@link Builder#maxDocumentsInFlight(int)} files being parsed (or parsed but not yet consumed)
+ * at any time. In both cases, documents are returned in the order in which the files are traversed.
+ * <br>
+ * Files that fail to load do not abort the stream: they are reported to the
+ * {@link Builder#failureHandler(BiConsumer)} (by default, a warning is logged) and skipped.
+ * Blank files are skipped silently.
+ * A failure to traverse the directory itself (e.g., a subdirectory that cannot be read) is not tied to a file:
+ * it is thrown from the stream as an {@link UncheckedIOException} and ends the stream.
+ * <br>
+ * The returned stream must be closed (e.g., using try-with-resources) to release the directory handles:
+ * <pre>
+ * try (Stream&lt;Document&gt; documents = loader.stream()) {
+ *     ingestor.ingest(documents, 100);
+ * }
+ * </pre>
+ *
+ * @see FileSystemDocumentLoader
+ */
+public class StreamingFileSystemDocumentLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingFileSystemDocumentLoader.class);
+
+    private static final DocumentParser DEFAULT_DOCUMENT_PARSER =
+            getOrDefault(DocumentParserLoader.loadDocumentParser(), TextDocumentParser::new);
+
+    private static final int DEFAULT_MAX_DOCUMENTS_IN_FLIGHT = 16;
+
+    private final Path directoryPath;
+    private final PathMatcher pathMatcher;
+    private final boolean recursive;
+    private final DocumentParser documentParser;
+    private final Executor executor;
+    private final int maxDocumentsInFlight;
+    private final BiConsumer<Path, Exception> failureHandler;
+
+    public StreamingFileSystemDocumentLoader(Builder builder) {
+        this.directoryPath = ensureNotNull(builder.directoryPath, "directoryPath");
+        this.pathMatcher = getOrDefault(builder.pathMatcher, path -> true);
+        this.recursive = getOrDefault(builder.recursive, true);
+        this.documentParser = getOrDefault(builder.documentParser, DEFAULT_DOCUMENT_PARSER);
+        this.executor = builder.executor;
+        this.maxDocumentsInFlight = executor == null
+                ? 1
+                : ensureGreaterThanZero(
+                        getOrDefault(builder.maxDocumentsInFlight, DEFAULT_MAX_DOCUMENTS_IN_FLIGHT),
+                        "maxDocumentsInFlight");
+        this.failureHandler =
+                getOrDefault(builder.failureHandler, StreamingFileSystemDocumentLoader::logFailure);
+    }
+
+    /**
+     * Starts traversing the directory and returns the loaded documents as a lazily consumed stream.
+     *
+     * @return a stream of documents, which must be closed after use.
+     * @throws IllegalArgumentException If the configured path is not a directory.
+     */
+    public Stream<Document> stream() {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+
+        Stream<Path> pathStream;
+        try {
+            pathStream = recursive ? Files.walk(directoryPath) : Files.list(directoryPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Iterator<Path> files = pathStream
+                .filter(Files::isRegularFile)
+                // converting absolute path into relative before using pathMatcher
+                // because patterns defined in pathMatcher are relative to directoryPath
+                .map(directoryPath::relativize)
+                .filter(pathMatcher::matches)
+                // converting relative path back into absolute before loading document
+                .map(directoryPath::resolve)
+                .iterator();
+
+        DocumentIterator documents = new DocumentIterator(files);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(documents, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(documents::cancel)
+                .onClose(pathStream::close);
+    }
+
+    private Document loadOrNull(Path file) {
+        try {
+            return DocumentLoader.load(from(file), documentParser);
+        } catch (BlankDocumentException ignored) {
+            // blank/empty documents are ignored
+            return null;
+        } catch (Exception e) {
+            failureHandler.accept(file, e);
+            return null;
+        }
+    }
+
+    private static void logFailure(Path file, Exception e) {
+        String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+        log.warn("Failed to load '{}': {}", file, message);
+    }
+
+    /**
+     * Keeps up to {@code maxDocumentsInFlight} files being loaded ahead of the consumer.
+     */
+    private class DocumentIterator implements Iterator<Document> {
+
+        private final Iterator<Path> files;
+        private final Deque<CompletableFuture<Document>> inFlight = new ArrayDeque<>();
+        private Document next;
+
+        private DocumentIterator(Iterator<Path> files) {
+            this.files = files;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (executor == null) {
+                    if (!files.hasNext()) {
+                        return false;
+                    }
+                    next = loadOrNull(files.next());
+                } else {
+                    while (inFlight.size() < maxDocumentsInFlight && files.hasNext()) {
+                        Path file = files.next();
+                        inFlight.add(CompletableFuture.supplyAsync(() -> loadOrNull(file), executor));
+                    }
+                    if (inFlight.isEmpty()) {
+                        return false;
+                    }
+                    next = inFlight.poll().join();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Document next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Document document = next;
+            next = null;
+            return document;
+        }
+
+        private void cancel() {
+            inFlight.forEach(future -> future.cancel(false));
+            inFlight.clear();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Path directoryPath;
+        private PathMatcher pathMatcher;
+        private Boolean recursive;
+        private DocumentParser documentParser;
+        private Executor executor;
+        private Integer maxDocumentsInFlight;
+        private BiConsumer<Path, Exception> failureHandler;
+
+        /**
+         * @param directoryPath The path to the directory with files.
+         */
+        public Builder directoryPath(Path directoryPath) {
+            this.directoryPath = directoryPath;
+            return this;
+        }
+
+        /**
+         * @param pathMatcher Only files whose paths match the provided {@link PathMatcher} will be loaded.
+         *                    Each file path is converted from absolute to relative (relative to {@code directoryPath})
+         *                    before being matched, so {@code pathMatcher} should use relative patterns.
+         *                    By default, all files are loaded.
+         */
+        public Builder pathMatcher(PathMatcher pathMatcher) {
+            this.pathMatcher = pathMatcher;
+            return this;
+        }
+
+        /**
+         * @param recursive Whether to load files from the subdirectories as well. Default: {@code true}.
+         */
+        public Builder recursive(Boolean recursive) {
+            this.recursive = recursive;
+            return this;
+        }
+
+        /**
+         * @param documentParser The parser to be used for parsing text from each file.
+         *                       By default, the {@link DocumentParser} is loaded through SPI
+         *                       (see {@link DocumentParserFactory}), or a {@link TextDocumentParser} is used.
+         */
+        public Builder documentParser(DocumentParser documentParser) {
+            this.documentParser = documentParser;
+            return this;
+        }
+
+        /**
+         * @param executor The executor to parse files in parallel with.
+         *                 By default, files are parsed on the thread consuming the stream.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param maxDocumentsInFlight The maximum number of files being parsed, or parsed but not yet consumed,
+         *                             at any time. Only applies when an {@link #executor(Executor)} is configured.
+         *                             Default: 16.
+         */
+        public Builder maxDocumentsInFlight(Integer maxDocumentsInFlight) {
+            this.maxDocumentsInFlight = maxDocumentsInFlight;
+            return this;
+        }
+
+        /**
+         * @param failureHandler Called with the path and the exception for each file that fails to load.
+         *                       It can be called from the executor threads. By default, a warning is logged.
+         */
+        public Builder failureHandler(BiConsumer<Path, Exception> failureHandler) {
+            this.failureHandler = failureHandler;
+            return this;
+        }
+
+        public StreamingFileSystemDocumentLoader build() {
+            return new StreamingFileSystemDocumentLoader(this);
+        }
+    }
+}
@@ -20,6 +20,9 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * <p>
  * Sentence boundaries are detected using the Apache OpenNLP library with the English sentence model.
  * <p>
+ * The default English sentence model is loaded once per JVM, on first use, and shared by all instances.
+ * Instances are thread-safe: each thread uses its own sentence detector.
+ * <p>
  * If multiple sentences fit within {@code maxSegmentSize}, they are joined together using a space (" ").
  * <p>
  * If a single sentence is too long and exceeds {@code maxSegmentSize},
@@ -32,26 +35,34 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  */
 public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
 
+    private static final String DEFAULT_SENTENCE_MODEL_FILE_PATH = "/opennlp/opennlp-en-ud-ewt-sentence-1.2-2.5.0.bin";
+
+    private static volatile SentenceModel defaultSentenceModel;
+
     private final SentenceModel sentenceModel;
+    private final ThreadLocal<SentenceDetectorME> sentenceDetector;
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
+        this.sentenceDetector = createSentenceDetector();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
+        this.sentenceDetector = createSentenceDetector();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
                                       int maxOverlapSizeInTokens,
                                       TokenCountEstimator tokenCountEstimator) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, null);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
+        this.sentenceDetector = createSentenceDetector();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
@@ -59,7 +70,8 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
                                       TokenCountEstimator tokenCountEstimator,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this.sentenceModel = defaultSentenceModel();
+        this.sentenceDetector = createSentenceDetector();
     }
 
     /**
@@ -74,21 +86,39 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
                                       SentenceModel sentenceModel) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenCountEstimator, subSplitter);
         this.sentenceModel = ensureNotNull(sentenceModel, "sentenceModel");
+        this.sentenceDetector = createSentenceDetector();
+    }
+
+    private static SentenceModel defaultSentenceModel() {
+        SentenceModel sentenceModel = defaultSentenceModel;
+        if (sentenceModel == null) {
+            synchronized (DocumentBySentenceSplitter.class) {
+                sentenceModel = defaultSentenceModel;
+                if (sentenceModel == null) {
+                    sentenceModel = createSentenceModel();
+                    defaultSentenceModel = sentenceModel;
+                }
+            }
+        }
+        return sentenceModel;
     }
 
-    private SentenceModel createSentenceModel() {
-        String sentenceModelFilePath = "/opennlp/opennlp-en-ud-ewt-sentence-1.2-2.5.0.bin";
-        try (InputStream is = getClass().getResourceAsStream(sentenceModelFilePath)) {
+    private static SentenceModel createSentenceModel() {
+        try (InputStream is = DocumentBySentenceSplitter.class.getResourceAsStream(DEFAULT_SENTENCE_MODEL_FILE_PATH)) {
             return new SentenceModel(is);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    private ThreadLocal<SentenceDetectorME> createSentenceDetector() {
+        // SentenceDetectorME is not thread-safe, but it is cheap to create once the model is loaded
+        return ThreadLocal.withInitial(() -> new SentenceDetectorME(sentenceModel));
+    }
+
     @Override
     public String[] split(String text) {
-        SentenceDetectorME sentenceDetector = new SentenceDetectorME(sentenceModel);
-        return sentenceDetector.sentDetect(text);
+        return sentenceDetector.get().sentDetect(text);
     }
 
     @Override
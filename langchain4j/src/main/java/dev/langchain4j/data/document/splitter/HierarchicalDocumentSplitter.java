@@ -24,13 +24,17 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * when a single segment is too long.
  */
 public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
-    private HierarchicalDocumentSplitter overlapSentenceSplitter;
 
-    private HierarchicalDocumentSplitter getOverlapSentenceSplitter() {
-        if (overlapSentenceSplitter == null) {
-            overlapSentenceSplitter = new DocumentBySentenceSplitter(1, 0, null, null);
-        }
-        return overlapSentenceSplitter;
+    /**
+     * Sentence splitter used to compute overlaps, shared by all instances (it is thread-safe).
+     * Created on first use, so that the sentence model is not loaded when no overlap is needed.
+     */
+    private static class OverlapSentenceSplitterHolder {
+        private static final HierarchicalDocumentSplitter INSTANCE = new DocumentBySentenceSplitter(1, 0, null, null);
+    }
+
+    private static HierarchicalDocumentSplitter getOverlapSentenceSplitter() {
+        return OverlapSentenceSplitterHolder.INSTANCE;
     }
 
     private static final String INDEX = "index";
@@ -132,7 +136,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
             if (segmentBuilder.hasSpaceFor(partSize)) {
                 // The part fits in the current segment, so we append it.
-                segmentBuilder.append(part);
+                segmentBuilder.append(part, partSize);
                 continue;
             }
 
@@ -149,7 +153,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
                     if (segmentBuilder.hasSpaceFor(partSize)) {
                         // The part fits in the current segment, so we append it.
-                        segmentBuilder.append(part);
+                        segmentBuilder.append(part, partSize);
                         continue;
                     }
                 }
@@ -168,7 +172,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
             }
 
             // Delegate the splitting of the part to the sub-splitter.
-            segmentBuilder.append(part);
+            segmentBuilder.append(part, partSize);
             for (TextSegment segment : subSplitter.split(Document.from(segmentBuilder.toString()))) {
                 segments.add(createSegment(segment.text(), document, index.getAndIncrement()));
             }
@@ -204,8 +208,9 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
         SegmentBuilder overlapBuilder = new SegmentBuilder(maxOverlapSize, this::estimateSize, joinDelimiter());
         for (String sentence : sentences) {
-            if (overlapBuilder.hasSpaceFor(sentence)) {
-                overlapBuilder.prepend(sentence);
+            int sentenceSize = overlapBuilder.sizeOf(sentence);
+            if (overlapBuilder.hasSpaceFor(sentenceSize)) {
+                overlapBuilder.prepend(sentence, sentenceSize);
             } else {
                 break;
             }
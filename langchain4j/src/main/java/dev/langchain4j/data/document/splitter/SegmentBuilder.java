@@ -9,6 +9,14 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
  * Segment builder utility class for HierarchicalDocumentSplitter.
+ * <p>
+ * The size of the segment is tracked incrementally: appending or prepending a text adds its size
+ * (and the size of the separator) to the current size, so the accumulated segment is not re-measured
+ * by the {@code sizeFunction} after each change. This sum is an upper bound of the actual size of the segment,
+ * assuming the size of a concatenation does not exceed the sum of the sizes of its parts
+ * (which holds for character counts and, in practice, for token counts).
+ * The segment is measured as a whole only when this upper bound is insufficient to make a decision,
+ * typically once, when the segment is about to be full.
  */
 @Internal
 class SegmentBuilder {
@@ -17,8 +25,10 @@ class SegmentBuilder {
     private final Function<String, Integer> sizeFunction;
     private final String joinSeparator;
     private final int joinSeparatorSize;
-    private String segment = "";
+    private final StringBuilder segment = new StringBuilder();
+    private int estimatedSegmentSize = 0;
     private int segmentSize = 0;
+    private boolean segmentSizeKnown = true;
 
     /**
      * Creates a new instance of {@link SegmentBuilder}.
@@ -40,6 +50,11 @@ class SegmentBuilder {
      * @return The current size of the segment.
      */
     public int getSize() {
+        if (!segmentSizeKnown) {
+            segmentSize = sizeOf(segment.toString());
+            segmentSizeKnown = true;
+            estimatedSegmentSize = segmentSize;
+        }
         return segmentSize;
     }
 
@@ -50,11 +65,7 @@ class SegmentBuilder {
      * @return {@code true} if the provided text can be added to the current segment.
      */
     public boolean hasSpaceFor(String text) {
-        int totalSize = sizeOf(text);
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
-        }
-        return totalSize <= maxSegmentSize;
+        return hasSpaceFor(sizeOf(text));
     }
 
     /**
@@ -64,11 +75,13 @@ class SegmentBuilder {
      * @return {@code true} if the provided size can be added to the current segment.
      */
     public boolean hasSpaceFor(int size) {
-        int totalSize = size;
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
+        if (!isNotEmpty()) {
+            return size <= maxSegmentSize;
+        }
+        if (estimatedSegmentSize + joinSeparatorSize + size <= maxSegmentSize) {
+            return true;
         }
-        return totalSize <= maxSegmentSize;
+        return getSize() + joinSeparatorSize + size <= maxSegmentSize;
     }
 
     /**
@@ -87,11 +100,23 @@ class SegmentBuilder {
      * @param text The text to append.
      */
     public void append(String text) {
+        append(text, sizeOf(text));
+    }
+
+    /**
+     * Appends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text The text to append.
+     * @param size The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void append(String text, int size) {
         if (isNotEmpty()) {
-            segment += joinSeparator;
+            segment.append(joinSeparator);
+            grow(joinSeparatorSize + size);
+        } else {
+            set(size);
         }
-        segment += text;
-        segmentSize = sizeOf(segment);
+        segment.append(text);
     }
 
     /**
@@ -100,12 +125,34 @@ class SegmentBuilder {
      * @param text The text to prepend.
      */
     public void prepend(String text) {
+        prepend(text, sizeOf(text));
+    }
+
+    /**
+     * Prepends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text The text to prepend.
+     * @param size The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void prepend(String text, int size) {
         if (isNotEmpty()) {
-            segment = text + joinSeparator + segment;
+            segment.insert(0, joinSeparator).insert(0, text);
+            grow(size + joinSeparatorSize);
         } else {
-            segment = text;
+            segment.append(text);
+            set(size);
         }
-        segmentSize = sizeOf(segment);
+    }
+
+    private void grow(int size) {
+        estimatedSegmentSize += size;
+        segmentSizeKnown = false;
+    }
+
+    private void set(int size) {
+        estimatedSegmentSize = size;
+        segmentSize = size;
+        segmentSizeKnown = true;
     }
 
     /**
@@ -114,19 +161,19 @@ class SegmentBuilder {
      * @return {@code true} if the current segment is not empty.
      */
     public boolean isNotEmpty() {
-        return !segment.isEmpty();
+        return segment.length() > 0;
     }
 
     @Override
     public String toString() {
-        return segment.trim();
+        return segment.toString().trim();
     }
 
     /**
      * Resets the current segment.
      */
     public void reset() {
-        segment = "";
-        segmentSize = 0;
+        segment.setLength(0);
+        set(0);
     }
 }
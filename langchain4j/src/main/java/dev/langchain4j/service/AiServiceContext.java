@@ -10,6 +10,7 @@ import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.service.tool.ToolService;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 @Internal
@@ -32,6 +33,12 @@ public class AiServiceContext {
 
     public Function<Object, Optional<String>> systemMessageProvider = DEFAULT_MESSAGE_PROVIDER;
 
+    /**
+     * When set, the steps preparing the first request of an invocation
+     * (chat memory loading, retrieval augmentation and tool resolution) run concurrently on this executor.
+     */
+    public Executor requestPreparationExecutor;
+
     public AiServiceContext(Class<?> aiServiceClass) {
         this.aiServiceClass = aiServiceClass;
     }
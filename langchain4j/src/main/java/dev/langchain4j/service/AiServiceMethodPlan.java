@@ -0,0 +1,345 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
+import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
+
+import dev.langchain4j.Internal;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.request.json.JsonSchema;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.service.output.ServiceOutputParser;
+import dev.langchain4j.spi.services.TokenStreamAdapter;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.function.Function;
+
+/**
+ * An immutable, precomputed plan of how a method of an AI Service is invoked.
+ * <p>
+ * Everything that depends only on the method (and not on the arguments of a particular call) is resolved once,
+ * when the AI Service is built: annotations, parsed prompt templates, parameter bindings, JSON schema,
+ * output format instructions, output parser and streaming adapter.
+ * <p>
+ * Configuration errors are not thrown when the plan is created, but on each invocation of the method
+ * (see {@link #ensureValid()}), so that a single misconfigured method does not prevent the whole AI Service
+ * from being built.
+ */
+@Internal
+class AiServiceMethodPlan {
+
+    private static final int NOT_FOUND = -1;
+
+    private final Method method;
+    private final RuntimeException configurationError;
+
+    private final Parameter[] parameters;
+    private final String[] variableNames;
+    private final int indexOfVariableIt;
+    private final int memoryIdIndex;
+    private final int userNameIndex;
+
+    private final PromptTemplate systemMessageTemplate;
+    private final boolean systemMessageTemplateContainsIt;
+
+    private final PromptTemplate userMessageTemplate;
+    private final boolean userMessageTemplateContainsIt;
+    private final int userMessageTemplateIndex;
+
+    private final Type returnType;
+    private final boolean returnsResult;
+    private final boolean streaming;
+    private final TokenStreamAdapter tokenStreamAdapter;
+    private final Optional<JsonSchema> jsonSchema;
+    private final String outputFormatInstructions;
+    private final Function<ChatResponse, Object> outputParser;
+    private final boolean moderated;
+
+    AiServiceMethodPlan(Method method,
+                        ServiceOutputParser serviceOutputParser,
+                        Collection<TokenStreamAdapter> tokenStreamAdapters,
+                        boolean supportsJsonSchema) {
+        this.method = method;
+        Planner planner = new Planner(method);
+        RuntimeException error = null;
+        try {
+            planner.plan(serviceOutputParser, tokenStreamAdapters, supportsJsonSchema);
+        } catch (RuntimeException e) {
+            error = e;
+        }
+        this.configurationError = error;
+
+        this.parameters = planner.parameters;
+        this.variableNames = planner.variableNames;
+        this.indexOfVariableIt = planner.indexOfVariableIt;
+        this.memoryIdIndex = planner.memoryIdIndex;
+        this.userNameIndex = planner.userNameIndex;
+        this.systemMessageTemplate = planner.systemMessageTemplate;
+        this.systemMessageTemplateContainsIt = planner.systemMessageTemplateContainsIt;
+        this.userMessageTemplate = planner.userMessageTemplate;
+        this.userMessageTemplateContainsIt = planner.userMessageTemplateContainsIt;
+        this.userMessageTemplateIndex = planner.userMessageTemplateIndex;
+        this.returnType = planner.returnType;
+        this.returnsResult = planner.returnsResult;
+        this.streaming = planner.streaming;
+        this.tokenStreamAdapter = planner.tokenStreamAdapter;
+        this.jsonSchema = planner.jsonSchema;
+        this.outputFormatInstructions = planner.outputFormatInstructions;
+        this.outputParser = planner.outputParser;
+        this.moderated = planner.moderated;
+    }
+
+    /**
+     * Resolves the plan step by step. If a step fails, the values resolved so far are kept,
+     * and the remaining ones are left at their defaults.
+     */
+    private static class Planner {
+
+        private final Method method;
+
+        private Parameter[] parameters;
+        private String[] variableNames;
+        private int indexOfVariableIt = NOT_FOUND;
+        private int memoryIdIndex = NOT_FOUND;
+        private int userNameIndex = NOT_FOUND;
+
+        private PromptTemplate systemMessageTemplate;
+        private boolean systemMessageTemplateContainsIt;
+
+        private PromptTemplate userMessageTemplate;
+        private boolean userMessageTemplateContainsIt;
+        private int userMessageTemplateIndex = NOT_FOUND;
+
+        private Type returnType;
+        private boolean returnsResult;
+        private boolean streaming;
+        private TokenStreamAdapter tokenStreamAdapter;
+        private Optional<JsonSchema> jsonSchema = Optional.empty();
+        private String outputFormatInstructions;
+        private Function<ChatResponse, Object> outputParser;
+        private boolean moderated;
+
+        private Planner(Method method) {
+            this.method = method;
+        }
+
+        private void plan(ServiceOutputParser serviceOutputParser,
+                          Collection<TokenStreamAdapter> tokenStreamAdapters,
+                          boolean supportsJsonSchema) {
+
+            DefaultAiServices.validateParameters(method);
+
+            parameters = method.getParameters();
+            variableNames = InternalReflectionVariableResolver.variableNames(parameters);
+            indexOfVariableIt = InternalReflectionVariableResolver.indexOfVariableIt(parameters);
+            memoryIdIndex = indexOfParameterAnnotatedWith(MemoryId.class);
+            userNameIndex = indexOfParameterAnnotatedWith(UserName.class);
+
+            dev.langchain4j.service.SystemMessage systemMessage =
+                    method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
+            if (systemMessage != null) {
+                String template = getTemplate(
+                        method, "System", systemMessage.fromResource(), systemMessage.value(), systemMessage.delimiter());
+                systemMessageTemplate = PromptTemplate.from(template);
+                systemMessageTemplateContainsIt = containsIt(template);
+            }
+
+            planUserMessage();
+
+            returnType = method.getGenericReturnType();
+            returnsResult = typeHasRawClass(returnType, Result.class);
+            if (returnType != TokenStream.class) {
+                for (TokenStreamAdapter adapter : tokenStreamAdapters) {
+                    if (adapter.canAdaptTokenStreamTo(returnType)) {
+                        tokenStreamAdapter = adapter;
+                        break;
+                    }
+                }
+            }
+            streaming = returnType == TokenStream.class || tokenStreamAdapter != null;
+
+            if (!streaming) {
+                if (supportsJsonSchema) {
+                    jsonSchema = serviceOutputParser.jsonSchema(returnType);
+                }
+                if (jsonSchema.isEmpty()) {
+                    outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+                }
+                outputParser = serviceOutputParser.parserFor(returnType);
+            }
+
+            moderated = method.isAnnotationPresent(Moderate.class);
+        }
+
+        private void planUserMessage() {
+            dev.langchain4j.service.UserMessage userMessage =
+                    method.getAnnotation(dev.langchain4j.service.UserMessage.class);
+            int annotatedParameterIndex = indexOfParameterAnnotatedWith(dev.langchain4j.service.UserMessage.class);
+
+            if (userMessage != null && annotatedParameterIndex != NOT_FOUND) {
+                throw illegalConfiguration(
+                        "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
+                        method.getName());
+            }
+
+            if (userMessage != null) {
+                String template = getTemplate(
+                        method, "User", userMessage.fromResource(), userMessage.value(), userMessage.delimiter());
+                userMessageTemplate = PromptTemplate.from(template);
+                userMessageTemplateContainsIt = containsIt(template);
+            } else if (annotatedParameterIndex != NOT_FOUND) {
+                userMessageTemplateIndex = annotatedParameterIndex;
+            } else if (parameters.length == 1 && parameters[0].getAnnotations().length == 0) {
+                userMessageTemplateIndex = 0;
+            } else {
+                throw illegalConfiguration(
+                        "Error: The method '%s' does not have a user message defined.", method.getName());
+            }
+        }
+
+        private int indexOfParameterAnnotatedWith(Class<? extends java.lang.annotation.Annotation> annotation) {
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i].isAnnotationPresent(annotation)) {
+                    return i;
+                }
+            }
+            return NOT_FOUND;
+        }
+    }
+
+    void ensureValid() {
+        if (configurationError != null) {
+            throw configurationError;
+        }
+    }
+
+    Optional<Object> findMemoryId(Object[] args) {
+        if (memoryIdIndex == NOT_FOUND) {
+            return Optional.empty();
+        }
+        Object memoryId = args[memoryIdIndex];
+        if (memoryId == null) {
+            throw illegalArgument(
+                    "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
+                    parameters[memoryIdIndex].getName(), method.getName());
+        }
+        return Optional.of(memoryId);
+    }
+
+    boolean hasSystemMessageTemplate() {
+        return systemMessageTemplate != null;
+    }
+
+    SystemMessage prepareSystemMessage(Object[] args) {
+        return systemMessageTemplate
+                .apply(variables(systemMessageTemplateContainsIt, args))
+                .toSystemMessage();
+    }
+
+    SystemMessage prepareSystemMessage(String template, Object[] args) {
+        return PromptTemplate.from(template)
+                .apply(variables(containsIt(template), args))
+                .toSystemMessage();
+    }
+
+    UserMessage prepareUserMessage(Object[] args) {
+        Prompt prompt;
+        if (userMessageTemplate != null) {
+            prompt = userMessageTemplate.apply(variables(userMessageTemplateContainsIt, args));
+        } else {
+            String template = InternalReflectionVariableResolver.asString(args[userMessageTemplateIndex]);
+            prompt = PromptTemplate.from(template).apply(variables(containsIt(template), args));
+        }
+
+        if (userNameIndex != NOT_FOUND) {
+            return UserMessage.from(args[userNameIndex].toString(), prompt.text());
+        }
+        return prompt.toUserMessage();
+    }
+
+    private Map<String, Object> variables(boolean templateContainsIt, Object[] args) {
+        return InternalReflectionVariableResolver.findTemplateVariables(
+                templateContainsIt, variableNames, indexOfVariableIt, args);
+    }
+
+    boolean returnsResult() {
+        return returnsResult;
+    }
+
+    boolean streaming() {
+        return streaming;
+    }
+
+    /**
+     * @return the adapter for a streaming method that does not return {@link TokenStream} directly, otherwise null
+     */
+    TokenStreamAdapter tokenStreamAdapter() {
+        return tokenStreamAdapter;
+    }
+
+    Optional<JsonSchema> jsonSchema() {
+        return jsonSchema;
+    }
+
+    /**
+     * @return the output format instructions to append to the user message, or null if not required
+     */
+    String outputFormatInstructions() {
+        return outputFormatInstructions;
+    }
+
+    Function<ChatResponse, Object> outputParser() {
+        return outputParser;
+    }
+
+    boolean moderated() {
+        return moderated;
+    }
+
+    private static boolean containsIt(String template) {
+        return template.contains("{{it}}");
+    }
+
+    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
+        String messageTemplate;
+        if (!resource.trim().isEmpty()) {
+            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
+            if (messageTemplate == null) {
+                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
+            }
+        } else {
+            messageTemplate = String.join(delimiter, value);
+        }
+        if (messageTemplate.trim().isEmpty()) {
+            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
+        }
+        return messageTemplate;
+    }
+
+    private static String getResourceText(Class<?> clazz, String resource) {
+        InputStream inputStream = clazz.getResourceAsStream(resource);
+        if (inputStream == null) {
+            inputStream = clazz.getResourceAsStream("/" + resource);
+        }
+        return getText(inputStream);
+    }
+
+    private static String getText(InputStream inputStream) {
+        if (inputStream == null) {
+            return null;
+        }
+        try (Scanner scanner = new Scanner(inputStream);
+                Scanner s = scanner.useDelimiter("\\A")) {
+            return s.hasNext() ? s.next() : "";
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 import static dev.langchain4j.internal.Utils.copy;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -48,6 +49,9 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
     private final BiFunction<String, Object, Boolean> reasoningDetector;
     private final String reasoningJsonPath;
 
+    // applied to the handler of each follow-up request (e.g. to coalesce partial responses)
+    private final UnaryOperator<StreamingChatResponseHandler> handlerDecorator;
+
     private final List<ChatMessage> temporaryMemory;
     private final TokenUsage tokenUsage;
 
@@ -66,7 +70,7 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
                                       Map<String, ToolExecutor> toolExecutors) {
         this(context, memoryId, partialResponseHandler, toolExecutionHandler, completeResponseHandler,
              errorHandler, temporaryMemory, tokenUsage, toolSpecifications, toolExecutors,
-             null, null, null, null);
+             null, null, null, null, UnaryOperator.identity());
     }
 
     AiServiceStreamingResponseHandler(AiServiceContext context,
@@ -82,7 +86,8 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
                                       Consumer<String> partialReasoningHandler,
                                       Consumer<String> completeReasoningHandler,
                                       BiFunction<String, Object, Boolean> reasoningDetector,
-                                      String reasoningJsonPath) {
+                                      String reasoningJsonPath,
+                                      UnaryOperator<StreamingChatResponseHandler> handlerDecorator) {
         this.context = ensureNotNull(context, "context");
         this.memoryId = ensureNotNull(memoryId, "memoryId");
 
@@ -95,6 +100,7 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
         this.completeReasoningHandler = completeReasoningHandler;
         this.reasoningDetector = reasoningDetector;
         this.reasoningJsonPath = reasoningJsonPath;
+        this.handlerDecorator = ensureNotNull(handlerDecorator, "handlerDecorator");
 
         this.temporaryMemory = new ArrayList<>(temporaryMemory);
         this.tokenUsage = ensureNotNull(tokenUsage, "tokenUsage");
@@ -189,20 +195,18 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
         addToMemory(aiMessage);
 
         if (aiMessage.hasToolExecutionRequests()) {
-            for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
-                String toolName = toolExecutionRequest.name();
-                ToolExecutor toolExecutor = toolExecutors.get(toolName);
-                String toolExecutionResult = toolExecutor.execute(toolExecutionRequest, memoryId);
-                ToolExecutionResultMessage toolExecutionResultMessage = ToolExecutionResultMessage.from(
-                        toolExecutionRequest,
-                        toolExecutionResult
-                );
+            List<ToolExecutionRequest> toolExecutionRequests = aiMessage.toolExecutionRequests();
+            List<ToolExecutionResultMessage> toolExecutionResultMessages =
+                    context.toolService.executeTools(toolExecutionRequests, toolExecutors, memoryId);
+
+            for (int i = 0; i < toolExecutionResultMessages.size(); i++) {
+                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutionResultMessages.get(i);
                 addToMemory(toolExecutionResultMessage);
 
                 if (toolExecutionHandler != null) {
                     ToolExecution toolExecution = ToolExecution.builder()
-                            .request(toolExecutionRequest)
-                            .result(toolExecutionResult)
+                            .request(toolExecutionRequests.get(i))
+                            .result(toolExecutionResultMessage.text())
                             .build();
                     toolExecutionHandler.accept(toolExecution);
                 }
@@ -223,10 +227,15 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
                     temporaryMemory,
                     TokenUsage.sum(tokenUsage, completeResponse.metadata().tokenUsage()),
                     toolSpecifications,
-                    toolExecutors
+                    toolExecutors,
+                    null,
+                    null,
+                    null,
+                    null,
+                    handlerDecorator
             );
 
-            context.streamingChatModel.chat(chatRequest, handler);
+            context.streamingChatModel.chat(chatRequest, handlerDecorator.apply(handler));
         } else {
             if (completeResponseHandler != null) {
                 ChatResponse finalChatResponse = ChatResponse.builder()
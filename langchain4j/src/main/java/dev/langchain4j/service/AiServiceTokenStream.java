@@ -5,12 +5,14 @@ import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.CoalescingStreamingChatResponseHandler;
 import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.service.tool.ToolExecution;
 import dev.langchain4j.service.tool.ToolExecutor;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +20,7 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import static dev.langchain4j.internal.Utils.copy;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.util.Collections.emptyList;
@@ -45,6 +48,9 @@ public class AiServiceTokenStream implements TokenStream {
     private BiFunction<String, Object, Boolean> reasoningDetector;
     private String reasoningJsonPath;
 
+    private Duration coalescingMaxDelay;
+    private int coalescingMaxChars;
+
     private int onPartialResponseInvoked;
     private int onCompleteResponseInvoked;
     private int onRetrievedInvoked;
@@ -128,6 +134,13 @@ public class AiServiceTokenStream implements TokenStream {
         return this;
     }
 
+    @Override
+    public TokenStream coalescePartialResponses(Duration maxDelay, int maxChars) {
+        this.coalescingMaxDelay = ensureNotNull(maxDelay, "maxDelay");
+        this.coalescingMaxChars = ensureGreaterThanZero(maxChars, "maxChars");
+        return this;
+    }
+
     @Override
     public void start() {
         validateConfiguration();
@@ -151,13 +164,21 @@ public class AiServiceTokenStream implements TokenStream {
                 originalPartialReasoningHandler,
                 completeReasoningHandler,
                 reasoningDetector,
-                reasoningJsonPath);
+                reasoningJsonPath,
+                this::decorate);
 
         if (contentsHandler != null && retrievedContents != null) {
             contentsHandler.accept(retrievedContents);
         }
 
-        context.streamingChatModel.chat(chatRequest, handler);
+        context.streamingChatModel.chat(chatRequest, decorate(handler));
+    }
+
+    private StreamingChatResponseHandler decorate(StreamingChatResponseHandler handler) {
+        if (coalescingMaxDelay == null) {
+            return handler;
+        }
+        return new CoalescingStreamingChatResponseHandler(handler, coalescingMaxDelay, coalescingMaxChars);
     }
 
     private void validateConfiguration() {
@@ -28,11 +28,13 @@ import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
 import dev.langchain4j.service.tool.ToolExecutor;
 import dev.langchain4j.service.tool.ToolProvider;
 import dev.langchain4j.spi.services.AiServicesFactory;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 
@@ -346,6 +348,86 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Configures the AI Service to execute the tools requested by the LLM in a single response concurrently.
+     * Tool execution results are still added to the {@link ChatMemory} in the order in which the tools were requested.
+     * <br>
+     * By default, tools are executed sequentially on the calling thread.
+     * This method uses an executor backed by virtual threads when they are available,
+     * or a bounded thread pool otherwise.
+     *
+     * @return builder
+     * @see #executeToolsConcurrently(Executor)
+     * @see #toolExecutionTimeout(Duration)
+     */
+    public AiServices<T> executeToolsConcurrently() {
+        context.toolService.executeToolsConcurrently();
+        return this;
+    }
+
+    /**
+     * Configures the AI Service to execute the tools requested by the LLM in a single response concurrently,
+     * using the provided {@link Executor}.
+     * Tool execution results are still added to the {@link ChatMemory} in the order in which the tools were requested.
+     *
+     * @param executor The executor to be used to execute the tools.
+     * @return builder
+     * @see #toolExecutionTimeout(Duration)
+     */
+    public AiServices<T> executeToolsConcurrently(Executor executor) {
+        context.toolService.executeToolsConcurrently(executor);
+        return this;
+    }
+
+    /**
+     * Configures the maximum time a single tool execution can take when tools are executed concurrently
+     * (see {@link #executeToolsConcurrently()}). It is measured from the moment the tool is submitted to the executor.
+     * If a tool does not complete in time, it is interrupted, and a message describing the timeout is sent to the LLM
+     * as the result of that tool execution.
+     * <br>
+     * The timeout has no effect when tools are executed sequentially on the calling thread (the default).
+     *
+     * @param toolExecutionTimeout The maximum duration of a single tool execution.
+     * @return builder
+     */
+    public AiServices<T> toolExecutionTimeout(Duration toolExecutionTimeout) {
+        context.toolService.toolExecutionTimeout(toolExecutionTimeout);
+        return this;
+    }
+
+    /**
+     * Configures the AI Service to prepare the first request of each invocation concurrently:
+     * loading the {@link ChatMemory} and then retrieving content with the {@link RetrievalAugmentor}
+     * (which needs the messages of the chat memory) run concurrently with the resolution of tools
+     * (which may call a {@link ToolProvider}, e.g. an MCP server).
+     * This way, the time before the first call to the LLM is bounded by the slowest of these steps
+     * instead of their sum.
+     * <br>
+     * In this mode, the {@link ToolProvider} receives the user message before retrieval augmentation.
+     * <br>
+     * By default, these steps are executed sequentially on the calling thread.
+     * This method uses an executor shared by all AI services, backed by virtual threads when they are available,
+     * or by a pool of up to 64 threads otherwise.
+     *
+     * @return builder
+     * @see #prepareRequestConcurrently(Executor)
+     */
+    public AiServices<T> prepareRequestConcurrently() {
+        return prepareRequestConcurrently(DefaultAiServices.DefaultExecutorHolder.EXECUTOR);
+    }
+
+    /**
+     * Configures the AI Service to prepare the first request of each invocation concurrently,
+     * using the provided {@link Executor}. See {@link #prepareRequestConcurrently()} for details.
+     *
+     * @param executor The executor to be used to prepare the request.
+     * @return builder
+     */
+    public AiServices<T> prepareRequestConcurrently(Executor executor) {
+        context.requestPreparationExecutor = ensureNotNull(executor, "executor");
+        return this;
+    }
+
     /**
      * Configures the strategy to be used when the LLM hallucinates a tool name (i.e., attempts to call a nonexistent tool).
      *
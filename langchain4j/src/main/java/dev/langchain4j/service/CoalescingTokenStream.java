@@ -0,0 +1,166 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.CoalescingStreamingChatResponseHandler;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.service.tool.ToolExecution;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * A {@link TokenStream} that coalesces the partial responses of another token stream,
+ * see {@link TokenStream#coalescePartialResponses(Duration, int)}.
+ * <br>
+ * The handlers set on this token stream are wrapped by a {@link CoalescingStreamingChatResponseHandler},
+ * which is registered on the wrapped token stream when this one is started.
+ */
+class CoalescingTokenStream implements TokenStream {
+
+    private final TokenStream tokenStream;
+    private final Duration maxDelay;
+    private final int maxChars;
+
+    private Consumer<String> partialResponseHandler;
+    private Consumer<ToolExecution> toolExecutionHandler;
+    private Consumer<ChatResponse> completeResponseHandler;
+    private Consumer<String> partialReasoningHandler;
+    private Consumer<String> completeReasoningHandler;
+    private Consumer<Throwable> errorHandler;
+
+    CoalescingTokenStream(TokenStream tokenStream, Duration maxDelay, int maxChars) {
+        this.tokenStream = ensureNotNull(tokenStream, "tokenStream");
+        this.maxDelay = ensureNotNull(maxDelay, "maxDelay");
+        this.maxChars = ensureGreaterThanZero(maxChars, "maxChars");
+    }
+
+    @Override
+    public TokenStream onPartialResponse(Consumer<String> partialResponseHandler) {
+        this.partialResponseHandler = partialResponseHandler;
+        return this;
+    }
+
+    @Override
+    public TokenStream onRetrieved(Consumer<List<Content>> contentHandler) {
+        tokenStream.onRetrieved(contentHandler);
+        return this;
+    }
+
+    @Override
+    public TokenStream onToolExecuted(Consumer<ToolExecution> toolExecuteHandler) {
+        this.toolExecutionHandler = toolExecuteHandler;
+        return this;
+    }
+
+    @Override
+    public TokenStream onCompleteResponse(Consumer<ChatResponse> completeResponseHandler) {
+        this.completeResponseHandler = completeResponseHandler;
+        return this;
+    }
+
+    @Override
+    public TokenStream onPartialReasoning(Consumer<String> partialReasoningHandler) {
+        this.partialReasoningHandler = partialReasoningHandler;
+        return this;
+    }
+
+    @Override
+    public TokenStream onCompleteReasoning(Consumer<String> completeReasoningHandler) {
+        this.completeReasoningHandler = completeReasoningHandler;
+        return this;
+    }
+
+    @Override
+    public TokenStream onReasoningDetected(BiFunction<String, Object, Boolean> reasoningDetector, String jsonPath) {
+        tokenStream.onReasoningDetected(reasoningDetector, jsonPath);
+        return this;
+    }
+
+    @Override
+    public void processRawData(Object rawData) {
+        tokenStream.processRawData(rawData);
+    }
+
+    @Override
+    public TokenStream onError(Consumer<Throwable> errorHandler) {
+        this.errorHandler = errorHandler;
+        return this;
+    }
+
+    @Override
+    public TokenStream ignoreErrors() {
+        tokenStream.ignoreErrors();
+        return this;
+    }
+
+    @Override
+    public void start() {
+        CoalescingStreamingChatResponseHandler coalescingHandler =
+                new CoalescingStreamingChatResponseHandler(new HandlerAdapter(), maxDelay, maxChars);
+
+        if (partialResponseHandler != null) {
+            tokenStream.onPartialResponse(coalescingHandler::onPartialResponse);
+        }
+        if (partialReasoningHandler != null) {
+            tokenStream.onPartialReasoning(coalescingHandler::onPartialReasoning);
+        }
+        if (completeReasoningHandler != null) {
+            tokenStream.onCompleteReasoning(coalescingHandler::onCompleteReasoning);
+        }
+        if (errorHandler != null) {
+            tokenStream.onError(coalescingHandler::onError);
+        }
+        // registered even without handlers, so that buffered text is forwarded before tools are executed
+        // and before the stream completes
+        tokenStream.onToolExecuted(toolExecution -> {
+            coalescingHandler.flush();
+            if (toolExecutionHandler != null) {
+                toolExecutionHandler.accept(toolExecution);
+            }
+        });
+        tokenStream.onCompleteResponse(coalescingHandler::onCompleteResponse);
+
+        tokenStream.start();
+    }
+
+    /**
+     * Forwards the callbacks of the {@link CoalescingStreamingChatResponseHandler} to the handlers of this token stream.
+     */
+    private class HandlerAdapter implements StreamingChatResponseHandler {
+
+        @Override
+        public void onPartialResponse(String partialResponse) {
+            partialResponseHandler.accept(partialResponse);
+        }
+
+        @Override
+        public void onPartialReasoning(String partialReasoning) {
+            partialReasoningHandler.accept(partialReasoning);
+        }
+
+        @Override
+        public void onCompleteReasoning(String completeReasoning) {
+            completeReasoningHandler.accept(completeReasoning);
+        }
+
+        @Override
+        public void onCompleteResponse(ChatResponse completeResponse) {
+            if (completeResponseHandler != null) {
+                completeResponseHandler.accept(completeResponse);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            // also called when forwarding delayed text fails, even if errors are ignored
+            if (errorHandler != null) {
+                errorHandler.accept(error);
+            }
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package dev.langchain4j.service;
 
-import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.isNotNullOrBlank;
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
 import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
 import static dev.langchain4j.model.chat.request.ResponseFormatType.JSON;
 import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
-import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.data.message.ChatMessage;
@@ -18,8 +20,6 @@ import dev.langchain4j.model.chat.request.ChatRequestParameters;
 import dev.langchain4j.model.chat.request.ResponseFormat;
 import dev.langchain4j.model.chat.request.json.JsonSchema;
 import dev.langchain4j.model.chat.response.ChatResponse;
-import dev.langchain4j.model.input.Prompt;
-import dev.langchain4j.model.input.PromptTemplate;
 import dev.langchain4j.model.moderation.Moderation;
 import dev.langchain4j.rag.AugmentationRequest;
 import dev.langchain4j.rag.AugmentationResult;
@@ -30,22 +30,25 @@ import dev.langchain4j.service.output.ServiceOutputParser;
 import dev.langchain4j.service.tool.ToolServiceContext;
 import dev.langchain4j.service.tool.ToolServiceResult;
 import dev.langchain4j.spi.services.TokenStreamAdapter;
-import java.io.InputStream;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Proxy;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Internal
 class DefaultAiServices<T> extends AiServices<T> {
@@ -115,6 +118,14 @@ class DefaultAiServices<T> extends AiServices<T> {
             }
         }
 
+        boolean supportsJsonSchema = supportsJsonSchema();
+        Map<Method, AiServiceMethodPlan> plans = new ConcurrentHashMap<>();
+        for (Method method : context.aiServiceClass.getMethods()) {
+            if (method.getDeclaringClass() != Object.class && method.getDeclaringClass() != ChatMemoryAccess.class) {
+                plans.put(method, createPlan(method, supportsJsonSchema));
+            }
+        }
+
         Object proxyInstance = Proxy.newProxyInstance(
                 context.aiServiceClass.getClassLoader(),
                 new Class<?>[] {context.aiServiceClass},
@@ -140,33 +151,56 @@ class DefaultAiServices<T> extends AiServices<T> {
                             };
                         }
 
-                        validateParameters(method);
-
-                        final Object memoryId = findMemoryId(method, args).orElse(ChatMemoryService.DEFAULT);
-                        final ChatMemory chatMemory = context.hasChatMemory()
-                                ? context.chatMemoryService.getOrCreateChatMemory(memoryId)
-                                : null;
-
-                        Optional<SystemMessage> systemMessage = prepareSystemMessage(memoryId, method, args);
-                        UserMessage userMessage = prepareUserMessage(method, args);
-                        AugmentationResult augmentationResult = null;
-                        if (context.retrievalAugmentor != null) {
-                            List<ChatMessage> chatMemoryMessages = chatMemory != null ? chatMemory.messages() : null;
-                            Metadata metadata = Metadata.from(userMessage, memoryId, chatMemoryMessages);
-                            AugmentationRequest augmentationRequest = new AugmentationRequest(userMessage, metadata);
-                            augmentationResult = context.retrievalAugmentor.augment(augmentationRequest);
-                            userMessage = (UserMessage) augmentationResult.chatMessage();
-                        }
+                        AiServiceMethodPlan plan = plans.computeIfAbsent(method, m -> createPlan(m, supportsJsonSchema));
+                        plan.ensureValid();
+
+                        final Object memoryId = plan.findMemoryId(args).orElse(ChatMemoryService.DEFAULT);
+                        final UserMessage originalUserMessage = plan.prepareUserMessage(args);
 
-                        Type returnType = method.getGenericReturnType();
-                        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
-                        boolean supportsJsonSchema = supportsJsonSchema();
-                        Optional<JsonSchema> jsonSchema = Optional.empty();
-                        if (supportsJsonSchema && !streaming) {
-                            jsonSchema = serviceOutputParser.jsonSchema(returnType);
+                        final ChatMemory chatMemory;
+                        Optional<SystemMessage> systemMessage;
+                        AugmentationResult augmentationResult;
+                        ToolServiceContext toolServiceContext = null;
+
+                        Executor preparationExecutor = context.requestPreparationExecutor;
+                        if (preparationExecutor == null) {
+                            chatMemory = getOrCreateChatMemory(memoryId);
+                            systemMessage = prepareSystemMessage(memoryId, plan, args);
+                            augmentationResult = augment(originalUserMessage, memoryId, chatMemory);
+                        } else {
+                            CompletableFuture<ToolServiceContext> toolServiceContextFuture = supplyAsync(
+                                    () -> context.toolService.createContext(memoryId, originalUserMessage),
+                                    preparationExecutor);
+                            CompletableFuture<ChatMemory> chatMemoryFuture = context.hasChatMemory()
+                                    ? supplyAsync(() -> getOrCreateChatMemory(memoryId), preparationExecutor)
+                                    : completedFuture(null);
+                            // async even without chat memory, so that retrieval does not run on the calling thread
+                            CompletableFuture<AugmentationResult> augmentationResultFuture = chatMemoryFuture
+                                    .thenApplyAsync(memory -> augment(originalUserMessage, memoryId, memory),
+                                            preparationExecutor);
+
+                            try {
+                                systemMessage = prepareSystemMessage(memoryId, plan, args);
+
+                                chatMemory = join(chatMemoryFuture);
+                                augmentationResult = join(augmentationResultFuture);
+                                toolServiceContext = join(toolServiceContextFuture);
+                            } catch (RuntimeException | Error e) {
+                                // the steps that have not started yet are not started anymore
+                                augmentationResultFuture.cancel(true);
+                                toolServiceContextFuture.cancel(true);
+                                throw e;
+                            }
                         }
-                        if ((!supportsJsonSchema || jsonSchema.isEmpty()) && !streaming) {
-                            userMessage = appendOutputFormatInstructions(returnType, userMessage);
+
+                        UserMessage userMessage = augmentationResult != null
+                                ? (UserMessage) augmentationResult.chatMessage()
+                                : originalUserMessage;
+
+                        boolean streaming = plan.streaming();
+                        Optional<JsonSchema> jsonSchema = plan.jsonSchema();
+                        if (plan.outputFormatInstructions() != null) {
+                            userMessage = appendOutputFormatInstructions(plan.outputFormatInstructions(), userMessage);
                         }
 
                         List<ChatMessage> messages;
@@ -180,10 +214,11 @@ class DefaultAiServices<T> extends AiServices<T> {
                             messages.add(userMessage);
                         }
 
-                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(method, messages);
+                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(plan, messages);
 
-                        ToolServiceContext toolServiceContext =
-                                context.toolService.createContext(memoryId, userMessage);
+                        if (toolServiceContext == null) {
+                            toolServiceContext = context.toolService.createContext(memoryId, userMessage);
+                        }
 
                         if (streaming) {
                             TokenStream tokenStream = new AiServiceTokenStream(AiServiceTokenStreamParameters.builder()
@@ -196,15 +231,15 @@ class DefaultAiServices<T> extends AiServices<T> {
                                     .memoryId(memoryId)
                                     .build());
                             // TODO moderation
-                            if (returnType == TokenStream.class) {
+                            if (plan.tokenStreamAdapter() == null) {
                                 return tokenStream;
                             } else {
-                                return adapt(tokenStream, returnType);
+                                return plan.tokenStreamAdapter().adapt(tokenStream);
                             }
                         }
 
                         ResponseFormat responseFormat = null;
-                        if (supportsJsonSchema && jsonSchema.isPresent()) {
+                        if (jsonSchema.isPresent()) {
                             responseFormat = ResponseFormat.builder()
                                     .type(JSON)
                                     .jsonSchema(jsonSchema.get())
@@ -236,8 +271,8 @@ class DefaultAiServices<T> extends AiServices<T> {
 
                         chatResponse = toolServiceResult.chatResponse();
 
-                        Object parsedResponse = serviceOutputParser.parse(chatResponse, returnType);
-                        if (typeHasRawClass(returnType, Result.class)) {
+                        Object parsedResponse = plan.outputParser().apply(chatResponse);
+                        if (plan.returnsResult()) {
                             return Result.builder()
                                     .content(parsedResponse)
                                     .tokenUsage(chatResponse.tokenUsage())
@@ -250,31 +285,22 @@ class DefaultAiServices<T> extends AiServices<T> {
                         }
                     }
 
-                    private boolean canAdaptTokenStreamTo(Type returnType) {
-                        for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
-                            if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
-                                return true;
-                            }
-                        }
-                        return false;
+                    private ChatMemory getOrCreateChatMemory(Object memoryId) {
+                        return context.hasChatMemory() ? context.chatMemoryService.getOrCreateChatMemory(memoryId) : null;
                     }
 
-                    private Object adapt(TokenStream tokenStream, Type returnType) {
-                        for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
-                            if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
-                                return tokenStreamAdapter.adapt(tokenStream);
-                            }
+                    private AugmentationResult augment(UserMessage userMessage, Object memoryId, ChatMemory chatMemory) {
+                        if (context.retrievalAugmentor == null) {
+                            return null;
                         }
-                        throw new IllegalStateException("Can't find suitable TokenStreamAdapter");
+                        List<ChatMessage> chatMemoryMessages = chatMemory != null ? chatMemory.messages() : null;
+                        Metadata metadata = Metadata.from(userMessage, memoryId, chatMemoryMessages);
+                        AugmentationRequest augmentationRequest = new AugmentationRequest(userMessage, metadata);
+                        return context.retrievalAugmentor.augment(augmentationRequest);
                     }
 
-                    private boolean supportsJsonSchema() {
-                        return context.chatModel != null
-                                && context.chatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA);
-                    }
-
-                    private UserMessage appendOutputFormatInstructions(Type returnType, UserMessage userMessage) {
-                        String outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+                    private UserMessage appendOutputFormatInstructions(String outputFormatInstructions,
+                                                                       UserMessage userMessage) {
                         String text = userMessage.singleText() + outputFormatInstructions;
                         if (isNotNullOrBlank(userMessage.name())) {
                             userMessage = UserMessage.from(userMessage.name(), text);
@@ -284,8 +310,9 @@ class DefaultAiServices<T> extends AiServices<T> {
                         return userMessage;
                     }
 
-                    private Future<Moderation> triggerModerationIfNeeded(Method method, List<ChatMessage> messages) {
-                        if (method.isAnnotationPresent(Moderate.class)) {
+                    private Future<Moderation> triggerModerationIfNeeded(AiServiceMethodPlan plan,
+                                                                         List<ChatMessage> messages) {
+                        if (plan.moderated()) {
                             return executor.submit(() -> {
                                 List<ChatMessage> messagesToModerate = removeToolMessages(messages);
                                 return context.moderationModel
@@ -300,144 +327,53 @@ class DefaultAiServices<T> extends AiServices<T> {
         return (T) proxyInstance;
     }
 
-    private Optional<SystemMessage> prepareSystemMessage(Object memoryId, Method method, Object[] args) {
-        return findSystemMessageTemplate(memoryId, method).map(systemMessageTemplate -> PromptTemplate.from(
-                        systemMessageTemplate)
-                .apply(InternalReflectionVariableResolver.findTemplateVariables(systemMessageTemplate, method, args))
-                .toSystemMessage());
-    }
-
-    private Optional<String> findSystemMessageTemplate(Object memoryId, Method method) {
-        dev.langchain4j.service.SystemMessage annotation =
-                method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
-        if (annotation != null) {
-            return Optional.of(getTemplate(
-                    method, "System", annotation.fromResource(), annotation.value(), annotation.delimiter()));
-        }
-
-        return context.systemMessageProvider.apply(memoryId);
-    }
-
-    private static UserMessage prepareUserMessage(Method method, Object[] args) {
-
-        String template = getUserMessageTemplate(method, args);
-        Map<String, Object> variables =
-                InternalReflectionVariableResolver.findTemplateVariables(template, method, args);
-
-        Prompt prompt = PromptTemplate.from(template).apply(variables);
-
-        Optional<String> maybeUserName = findUserName(method.getParameters(), args);
-        return maybeUserName
-                .map(userName -> UserMessage.from(userName, prompt.text()))
-                .orElseGet(prompt::toUserMessage);
+    /**
+     * Holds the executor shared by all AI services, created on first use,
+     * that prepares requests with {@link AiServices#prepareRequestConcurrently()}.
+     */
+    static class DefaultExecutorHolder {
+
+        private static final int DEFAULT_MAX_THREADS = 64;
+
+        static final ExecutorService EXECUTOR = createVirtualThreadExecutor(() -> {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                    DEFAULT_MAX_THREADS, DEFAULT_MAX_THREADS,
+                    1, SECONDS,
+                    new LinkedBlockingQueue<>()
+            );
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            return threadPoolExecutor;
+        });
     }
 
-    private static String getUserMessageTemplate(Method method, Object[] args) {
-
-        Optional<String> templateFromMethodAnnotation = findUserMessageTemplateFromMethodAnnotation(method);
-        Optional<String> templateFromParameterAnnotation =
-                findUserMessageTemplateFromAnnotatedParameter(method.getParameters(), args);
-
-        if (templateFromMethodAnnotation.isPresent() && templateFromParameterAnnotation.isPresent()) {
-            throw illegalConfiguration(
-                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
-                    method.getName());
-        }
-
-        if (templateFromMethodAnnotation.isPresent()) {
-            return templateFromMethodAnnotation.get();
-        }
-        if (templateFromParameterAnnotation.isPresent()) {
-            return templateFromParameterAnnotation.get();
-        }
-
-        Optional<String> templateFromTheOnlyArgument =
-                findUserMessageTemplateFromTheOnlyArgument(method.getParameters(), args);
-        if (templateFromTheOnlyArgument.isPresent()) {
-            return templateFromTheOnlyArgument.get();
-        }
-
-        throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
-    }
-
-    private static Optional<String> findUserMessageTemplateFromMethodAnnotation(Method method) {
-        return Optional.ofNullable(method.getAnnotation(dev.langchain4j.service.UserMessage.class))
-                .map(a -> getTemplate(method, "User", a.fromResource(), a.value(), a.delimiter()));
-    }
-
-    private static Optional<String> findUserMessageTemplateFromAnnotatedParameter(
-            Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)) {
-                return Optional.of(InternalReflectionVariableResolver.asString(args[i]));
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserMessageTemplateFromTheOnlyArgument(Parameter[] parameters, Object[] args) {
-        if (parameters != null && parameters.length == 1 && parameters[0].getAnnotations().length == 0) {
-            return Optional.of(InternalReflectionVariableResolver.asString(args[0]));
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserName(Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(UserName.class)) {
-                return Optional.of(args[i].toString());
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
-        }
-        return Optional.empty();
-    }
-
-    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
-        String messageTemplate;
-        if (!resource.trim().isEmpty()) {
-            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
-            if (messageTemplate == null) {
-                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
+            if (e.getCause() instanceof Error error) {
+                throw error;
             }
-        } else {
-            messageTemplate = String.join(delimiter, value);
+            throw e;
         }
-        if (messageTemplate.trim().isEmpty()) {
-            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
-        }
-        return messageTemplate;
     }
 
-    private static String getResourceText(Class<?> clazz, String resource) {
-        InputStream inputStream = clazz.getResourceAsStream(resource);
-        if (inputStream == null) {
-            inputStream = clazz.getResourceAsStream("/" + resource);
-        }
-        return getText(inputStream);
+    private AiServiceMethodPlan createPlan(Method method, boolean supportsJsonSchema) {
+        return new AiServiceMethodPlan(method, serviceOutputParser, tokenStreamAdapters, supportsJsonSchema);
     }
 
-    private static String getText(InputStream inputStream) {
-        if (inputStream == null) {
-            return null;
-        }
-        try (Scanner scanner = new Scanner(inputStream);
-                Scanner s = scanner.useDelimiter("\\A")) {
-            return s.hasNext() ? s.next() : "";
-        }
+    private boolean supportsJsonSchema() {
+        return context.chatModel != null
+                && context.chatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA);
     }
 
-    private static Optional<Object> findMemoryId(Method method, Object[] args) {
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(MemoryId.class)) {
-                Object memoryId = args[i];
-                if (memoryId == null) {
-                    throw illegalArgument(
-                            "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
-                            parameters[i].getName(), method.getName());
-                }
-                return Optional.of(memoryId);
-            }
+    private Optional<SystemMessage> prepareSystemMessage(Object memoryId, AiServiceMethodPlan plan, Object[] args) {
+        if (plan.hasSystemMessageTemplate()) {
+            return Optional.of(plan.prepareSystemMessage(args));
         }
-        return Optional.empty();
+        return context.systemMessageProvider.apply(memoryId)
+                .map(systemMessageTemplate -> plan.prepareSystemMessage(systemMessageTemplate, args));
     }
 }
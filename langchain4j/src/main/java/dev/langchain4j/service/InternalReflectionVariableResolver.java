@@ -29,22 +29,46 @@ public class InternalReflectionVariableResolver {
             return Collections.emptyMap();
         }
         Parameter[] parameters = method.getParameters();
+        return findTemplateVariables(
+                template.contains("{{it}}"), variableNames(parameters), indexOfVariableIt(parameters), args);
+    }
+
+    /**
+     * Same as {@link #findTemplateVariables(String, Method, Object[])}, but with everything that depends only on
+     * the method and the template resolved upfront (see {@link #variableNames(Parameter[])}
+     * and {@link #indexOfVariableIt(Parameter[])}).
+     */
+    static Map<String, Object> findTemplateVariables(boolean templateContainsIt,
+                                                     String[] variableNames,
+                                                     int indexOfVariableIt,
+                                                     Object[] args) {
+        if (args == null) {
+            return Collections.emptyMap();
+        }
 
         Map<String, Object> variables = new HashMap<>();
         for (int i = 0; i < args.length; i++) {
-            String variableName = getVariableName(parameters[i]);
-            Object variableValue = args[i];
-            variables.put(variableName, variableValue);
+            variables.put(variableNames[i], args[i]);
         }
 
-        if (template.contains("{{it}}") && !variables.containsKey("it")) {
-            String itValue = getValueOfVariableIt(parameters, args);
-            variables.put("it", itValue);
+        if (templateContainsIt && !variables.containsKey("it")) {
+            if (indexOfVariableIt < 0) {
+                throw illegalConfiguration("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+            }
+            variables.put("it", asString(args[indexOfVariableIt]));
         }
 
         return variables;
     }
 
+    static String[] variableNames(Parameter[] parameters) {
+        String[] variableNames = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            variableNames[i] = getVariableName(parameters[i]);
+        }
+        return variableNames;
+    }
+
     private static String getVariableName(Parameter parameter) {
         V annotation = parameter.getAnnotation(V.class);
         if (annotation != null) {
@@ -54,26 +78,28 @@ public class InternalReflectionVariableResolver {
         }
     }
 
-    private static String getValueOfVariableIt(Parameter[] parameters, Object[] args) {
-        if (args != null) {
-            if (args.length == 1) {
-                Parameter parameter = parameters[0];
-                if (!parameter.isAnnotationPresent(MemoryId.class)
-                        && !parameter.isAnnotationPresent(UserMessage.class)
-                        && !parameter.isAnnotationPresent(UserName.class)
-                        && (!parameter.isAnnotationPresent(V.class) || isAnnotatedWithIt(parameter))) {
-                    return asString(args[0]);
-                }
+    /**
+     * @return the index of the parameter providing the value of the "{{it}}" template variable,
+     * or -1 if there is no such parameter
+     */
+    static int indexOfVariableIt(Parameter[] parameters) {
+        if (parameters.length == 1) {
+            Parameter parameter = parameters[0];
+            if (!parameter.isAnnotationPresent(MemoryId.class)
+                    && !parameter.isAnnotationPresent(UserMessage.class)
+                    && !parameter.isAnnotationPresent(UserName.class)
+                    && (!parameter.isAnnotationPresent(V.class) || isAnnotatedWithIt(parameter))) {
+                return 0;
             }
+        }
 
-            for (int i = 0; i < args.length; i++) {
-                if (isAnnotatedWithIt(parameters[i])) {
-                    return asString(args[i]);
-                }
+        for (int i = 0; i < parameters.length; i++) {
+            if (isAnnotatedWithIt(parameters[i])) {
+                return i;
             }
         }
 
-        throw illegalConfiguration("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+        return -1;
     }
 
     private static boolean isAnnotatedWithIt(Parameter parameter) {
@@ -1,10 +1,13 @@
 package dev.langchain4j.service;
 
 import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.CoalescingStreamingChatResponseHandler;
 import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.service.tool.ToolExecution;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Flow;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -109,6 +112,46 @@ public interface TokenStream {
      */
     TokenStream ignoreErrors();
 
+    /**
+     * Buffers partial responses and forwards them to the {@link #onPartialResponse(Consumer)} handler in larger pieces:
+     * as soon as {@code maxChars} characters are buffered, or {@code maxDelay} after the first buffered token.
+     * This is useful when partial responses are written to a network connection (e.g. SSE or WebSocket),
+     * to send one packet per group of tokens instead of one per token.
+     * <p>
+     * Buffered text is always forwarded before the response is completed, a tool is executed or an error is reported.
+     * <p>
+     * The default implementation returns a token stream wrapping this one: handlers must be set on the returned
+     * token stream, after calling this method.
+     *
+     * @param maxDelay the maximum time a token is buffered for; {@link Duration#ZERO} to buffer by size only
+     * @param maxChars the number of buffered characters that triggers forwarding
+     * @return token stream instance used to configure or start stream processing
+     * @see CoalescingStreamingChatResponseHandler
+     */
+    default TokenStream coalescePartialResponses(Duration maxDelay, int maxChars) {
+        return new CoalescingTokenStream(this, maxDelay, maxChars);
+    }
+
+    /**
+     * Returns a demand-driven {@link Flow.Publisher} of the partial responses of this token stream.
+     * The stream is started when the publisher is subscribed to, and it can only be subscribed to once.
+     * <p>
+     * Partial responses received while the subscriber has no outstanding demand are concatenated
+     * and delivered as a single item on the next request.
+     * Once {@code maxBufferedChars} characters are pending, the thread delivering partial responses
+     * (usually the thread reading the HTTP response) is blocked until the subscriber requests more,
+     * so a slow subscriber applies backpressure instead of being buffered for without limit.
+     * <p>
+     * The publisher sets the {@link #onPartialResponse(Consumer)}, {@link #onCompleteResponse(Consumer)}
+     * and {@link #onError(Consumer)} handlers of this token stream, so they must not be set by the caller.
+     *
+     * @param maxBufferedChars the number of pending characters above which the producer is blocked
+     * @return a publisher of partial responses
+     */
+    default Flow.Publisher<String> toPublisher(int maxBufferedChars) {
+        return new TokenStreamPublisher(this, maxBufferedChars);
+    }
+
     /**
      * Completes the current token stream building and starts processing.
      * <p>
@@ -0,0 +1,224 @@
+package dev.langchain4j.service;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.model.chat.response.ChatResponse;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link Flow.Publisher} of the partial responses of a {@link TokenStream}, see {@link TokenStream#toPublisher(int)}.
+ * <br>
+ * Partial responses received while the subscriber has no outstanding demand are concatenated,
+ * and delivered as a single item once it requests more.
+ * When {@code maxBufferedChars} characters are pending, the thread delivering partial responses
+ * (usually the thread reading the HTTP response) is blocked until the subscriber requests more or cancels,
+ * so a slow subscriber slows down reading from the network instead of letting memory grow.
+ */
+class TokenStreamPublisher implements Flow.Publisher<String> {
+
+    private final TokenStream tokenStream;
+    private final int maxBufferedChars;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    TokenStreamPublisher(TokenStream tokenStream, int maxBufferedChars) {
+        this.tokenStream = ensureNotNull(tokenStream, "tokenStream");
+        this.maxBufferedChars = ensureGreaterThanZero(maxBufferedChars, "maxBufferedChars");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super String> subscriber) {
+        ensureNotNull(subscriber, "subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("A TokenStream can only be subscribed to once"));
+            return;
+        }
+
+        TokenSubscription subscription = new TokenSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    private class TokenSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super String> subscriber;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition demandOrCancellation = lock.newCondition();
+        private final StringBuilder pending = new StringBuilder();
+        private long demand;
+        private boolean completed;
+        private Throwable error;
+        private boolean cancelled;
+        private boolean terminated;
+
+        private final AtomicInteger drainRequests = new AtomicInteger();
+        // threads inside start() or a subscriber callback, which must never block waiting for demand
+        private final ThreadLocal<Boolean> nonBlocking = ThreadLocal.withInitial(() -> false);
+
+        TokenSubscription(Flow.Subscriber<? super String> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void start() {
+            nonBlocking.set(true);
+            try {
+                tokenStream
+                        .onPartialResponse(this::onPartialResponse)
+                        .onCompleteResponse(this::onCompleteResponse)
+                        .onError(this::onError)
+                        .start();
+            } catch (Exception e) {
+                onError(e);
+            } finally {
+                nonBlocking.remove();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (n <= 0) {
+                    error = new IllegalArgumentException("The number of requested items must be positive, but is: " + n);
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+                demandOrCancellation.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                pending.setLength(0);
+                demandOrCancellation.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onPartialResponse(String partialResponse) {
+            lock.lock();
+            try {
+                while (!cancelled && error == null && demand == 0
+                        && pending.length() >= maxBufferedChars && !nonBlocking.get()) {
+                    demandOrCancellation.await();
+                }
+                if (cancelled) {
+                    return;
+                }
+                pending.append(partialResponse);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error = e;
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        private void onCompleteResponse(ChatResponse completeResponse) {
+            lock.lock();
+            try {
+                completed = true;
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        private void onError(Throwable error) {
+            lock.lock();
+            try {
+                if (this.error == null) {
+                    this.error = error;
+                }
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        /**
+         * Delivers pending items and terminal signals, serially, from whichever thread gets here first.
+         */
+        private void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (deliverNext()) {
+                    // keep delivering while there is demand and data
+                }
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private boolean deliverNext() {
+            String next = null;
+            Throwable failure = null;
+            boolean complete = false;
+
+            lock.lock();
+            try {
+                if (cancelled || terminated) {
+                    return false;
+                }
+                if (error != null) {
+                    terminated = true;
+                    failure = error;
+                    pending.setLength(0);
+                } else if (demand > 0 && pending.length() > 0) {
+                    next = pending.toString();
+                    pending.setLength(0);
+                    demand--;
+                    demandOrCancellation.signalAll();
+                } else if (completed && pending.length() == 0) {
+                    terminated = true;
+                    complete = true;
+                } else {
+                    return false;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            boolean wasNonBlocking = nonBlocking.get();
+            nonBlocking.set(true);
+            try {
+                if (next != null) {
+                    subscriber.onNext(next);
+                    return true;
+                } else if (failure != null) {
+                    subscriber.onError(failure);
+                } else if (complete) {
+                    subscriber.onComplete();
+                }
+                return false;
+            } finally {
+                if (!wasNonBlocking) {
+                    nonBlocking.remove();
+                }
+            }
+        }
+    }
+}
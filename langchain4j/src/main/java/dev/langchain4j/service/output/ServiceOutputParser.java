@@ -11,6 +11,7 @@ import dev.langchain4j.service.TokenStream;
 import java.lang.reflect.Type;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.service.TypeUtils.getRawClass;
@@ -32,6 +33,17 @@ public class ServiceOutputParser {
     }
 
     public Object parse(ChatResponse chatResponse, Type returnType) {
+        return parserFor(returnType).apply(chatResponse);
+    }
+
+    /**
+     * Resolves how a {@link ChatResponse} is parsed into the given return type,
+     * so that the resolution can be done once and reused for every response.
+     *
+     * @param returnType the return type of an AI Service method
+     * @return a function parsing a {@link ChatResponse} into an instance of {@code returnType}
+     */
+    public Function<ChatResponse, Object> parserFor(Type returnType) {
 
         if (typeHasRawClass(returnType, Result.class)) {
             // In the case of returnType = Result<List<String>>, returnType will be set to List<String>
@@ -46,21 +58,20 @@ public class ServiceOutputParser {
 
         if (rawClass == Response.class) {
             // legacy
-            return Response.from(chatResponse.aiMessage(), chatResponse.tokenUsage(), chatResponse.finishReason());
+            return chatResponse -> Response.from(
+                    chatResponse.aiMessage(), chatResponse.tokenUsage(), chatResponse.finishReason());
         }
 
-        AiMessage aiMessage = chatResponse.aiMessage();
         if (rawClass == AiMessage.class) {
-            return aiMessage;
+            return ChatResponse::aiMessage;
         }
 
-        String text = aiMessage.text();
         if (rawClass == String.class) {
-            return text;
+            return chatResponse -> chatResponse.aiMessage().text();
         }
 
         OutputParser<?> outputParser = outputParserFactory.get(rawClass, typeArgumentClass);
-        return outputParser.parse(text);
+        return chatResponse -> outputParser.parse(chatResponse.aiMessage().text());
     }
 
     public Optional<JsonSchema> jsonSchema(Type returnType) {
@@ -0,0 +1,183 @@
+package dev.langchain4j.service.tool;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ToolProvider} that caches the {@link ToolProviderResult}s computed by another {@link ToolProvider}.
+ * <p>
+ * Results are cached by a key derived from the {@link ToolProviderRequest} (see {@link Builder#cacheKey(Function)}).
+ * By default, all requests share the same key, which is suitable for providers that return the same tools
+ * regardless of the user message and chat memory ID (e.g., a provider backed by MCP servers).
+ * Keys are expected to have a low cardinality, as entries are only removed on expiration or invalidation.
+ * <p>
+ * Concurrent requests for the same key wait for a single computation, which runs outside of any lock.
+ * Failed computations and {@code null} results are not cached.
+ * <p>
+ * A cached result is recomputed when it is older than the configured {@link Builder#timeToLive(Duration)}
+ * (if any), or after {@link #invalidate(Object)} or {@link #invalidateAll()} is called.
+ * For example, to refresh the tools when an MCP server notifies that its tool list has changed:
+ * <pre>
+ * CachingToolProvider toolProvider = CachingToolProvider.builder()
+ *         .toolProvider(mcpToolProvider)
+ *         .build();
+ * mcpClient.addToolListChangedListener(toolProvider::invalidateAll);
+ * </pre>
+ * <p>
+ * Since a cached {@link ToolProviderResult} is returned as the same instance on each call,
+ * AI Services can also reuse the tool context they derived from it.
+ */
+public class CachingToolProvider implements ToolProvider {
+
+    private static final Object DEFAULT_CACHE_KEY = new Object();
+
+    private final ToolProvider toolProvider;
+    private final Function<ToolProviderRequest, Object> cacheKeyProvider;
+    private final Duration timeToLive;
+    private final Map<Object, CachedResult> cache = new ConcurrentHashMap<>();
+
+    public CachingToolProvider(ToolProvider toolProvider,
+                               Function<ToolProviderRequest, Object> cacheKeyProvider,
+                               Duration timeToLive) {
+        this.toolProvider = ensureNotNull(toolProvider, "toolProvider");
+        this.cacheKeyProvider = getOrDefault(cacheKeyProvider, request -> DEFAULT_CACHE_KEY);
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public ToolProviderResult provideTools(ToolProviderRequest request) {
+        Object cacheKey = ensureNotNull(cacheKeyProvider.apply(request), "cacheKey");
+        while (true) {
+            CachedResult cachedResult = cache.get(cacheKey);
+            if (cachedResult != null && !cachedResult.isExpired()) {
+                // either computed already, or being computed by another thread
+                return cachedResult.await();
+            }
+
+            // the result is computed outside the map, so that a slow provider (e.g., listing the tools
+            // of remote MCP servers) does not block the map, and concurrent requests wait for the same computation
+            CachedResult computation = new CachedResult();
+            boolean started = cachedResult == null
+                    ? cache.putIfAbsent(cacheKey, computation) == null
+                    : cache.replace(cacheKey, cachedResult, computation);
+            if (started) {
+                return compute(cacheKey, computation, request);
+            }
+        }
+    }
+
+    private ToolProviderResult compute(Object cacheKey, CachedResult computation, ToolProviderRequest request) {
+        ToolProviderResult result;
+        try {
+            result = toolProvider.provideTools(request);
+        } catch (RuntimeException | Error e) {
+            // failures are not cached
+            cache.remove(cacheKey, computation);
+            computation.future.completeExceptionally(e);
+            throw e;
+        }
+        if (result == null) {
+            cache.remove(cacheKey, computation);
+        }
+        computation.complete(result, expiresAt());
+        return result;
+    }
+
+    /**
+     * Removes the cached result for the given key, so that it is recomputed on the next request.
+     *
+     * @param cacheKey the cache key, as returned by the function configured in {@link Builder#cacheKey(Function)}
+     */
+    public void invalidate(Object cacheKey) {
+        cache.remove(cacheKey);
+    }
+
+    /**
+     * Removes all cached results, so that they are recomputed on the next requests.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    private long expiresAt() {
+        return timeToLive == null ? Long.MAX_VALUE : System.nanoTime() + timeToLive.toNanos();
+    }
+
+    private static class CachedResult {
+
+        private final CompletableFuture<ToolProviderResult> future = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private void complete(ToolProviderResult result, long expiresAt) {
+            this.expiresAt = expiresAt;
+            future.complete(result);
+        }
+
+        private ToolProviderResult await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        private boolean isExpired() {
+            return expiresAt != Long.MAX_VALUE && System.nanoTime() - expiresAt >= 0;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ToolProvider toolProvider;
+        private Function<ToolProviderRequest, Object> cacheKeyProvider;
+        private Duration timeToLive;
+
+        /**
+         * @param toolProvider the {@link ToolProvider} whose results should be cached
+         */
+        public Builder toolProvider(ToolProvider toolProvider) {
+            this.toolProvider = toolProvider;
+            return this;
+        }
+
+        /**
+         * @param cacheKeyProvider derives the cache key from a {@link ToolProviderRequest},
+         *                         for example {@code ToolProviderRequest::chatMemoryId}.
+         *                         By default, all requests share the same key.
+         */
+        public Builder cacheKey(Function<ToolProviderRequest, Object> cacheKeyProvider) {
+            this.cacheKeyProvider = cacheKeyProvider;
+            return this;
+        }
+
+        /**
+         * @param timeToLive how long a cached result can be used before it is recomputed.
+         *                   By default, cached results do not expire and are only recomputed after invalidation.
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        public CachingToolProvider build() {
+            return new CachingToolProvider(toolProvider, cacheKeyProvider, timeToLive);
+        }
+    }
+}
@@ -1,42 +1,67 @@
 package dev.langchain4j.service.tool;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.agent.tool.ToolMemoryId;
 import dev.langchain4j.internal.Json;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
 import static dev.langchain4j.service.tool.ToolExecutionRequestUtil.argumentsAsMap;
 
+/**
+ * The default {@link ToolExecutor} for methods annotated with {@link dev.langchain4j.agent.tool.Tool}.
+ * <p>
+ * Everything that does not depend on a particular {@link ToolExecutionRequest} is resolved once, at construction time:
+ * the method is compiled into a {@link MethodHandle}, and a Jackson {@link ObjectReader} is pre-resolved for each
+ * parameter that is bound from JSON (POJOs, collections, maps, etc.).
+ * On execution, arguments are bound straight from the JSON token stream of {@link ToolExecutionRequest#arguments()}.
+ * If the arguments are not a well-formed JSON object, the lenient map-based parsing is used instead.
+ */
 public class DefaultToolExecutor implements ToolExecutor {
 
+    private static final ObjectMapper OBJECT_MAPPER = Json.objectMapper();
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final MethodHandle THROW_TOOL_METHOD_EXCEPTION = findThrowToolMethodException();
+
     private final Object object;
     private final Method originalMethod;
     private final Method methodToInvoke;
+    private final ToolParameter[] parameters;
+    private final Map<String, ToolParameter> parametersByName;
+    private final MethodHandle invoker;
 
     public DefaultToolExecutor(Object object, Method method) {
-        this.object = Objects.requireNonNull(object, "object");
-        this.originalMethod = Objects.requireNonNull(method, "method");
-        this.methodToInvoke = this.originalMethod;
+        this(object, Objects.requireNonNull(method, "method"), method);
     }
 
     public DefaultToolExecutor(Object object, ToolExecutionRequest toolExecutionRequest) {
-        this.object = Objects.requireNonNull(object, "object");
-        Objects.requireNonNull(toolExecutionRequest, "toolExecutionRequest");
-        this.originalMethod = findMethod(object, toolExecutionRequest);
-        this.methodToInvoke = this.originalMethod;
+        this(object, findMethod(
+                Objects.requireNonNull(object, "object"),
+                Objects.requireNonNull(toolExecutionRequest, "toolExecutionRequest")));
     }
 
-    private Method findMethod(Object object, ToolExecutionRequest toolExecutionRequest) {
+    private static Method findMethod(Object object, ToolExecutionRequest toolExecutionRequest) {
         String requestedMethodName = toolExecutionRequest.name();
 
         for (Method method : object.getClass().getDeclaredMethods()) {
@@ -63,12 +88,98 @@ public class DefaultToolExecutor implements ToolExecutor {
         this.object = Objects.requireNonNull(object, "object");
         this.originalMethod = Objects.requireNonNull(originalMethod, "originalMethod");
         this.methodToInvoke = Objects.requireNonNull(methodToInvoke, "methodToInvoke");
+        this.parameters = compileParameters(originalMethod);
+        this.parametersByName = new HashMap<>();
+        for (ToolParameter parameter : parameters) {
+            if (!parameter.memoryId) {
+                parametersByName.put(parameter.name, parameter);
+            }
+        }
+        this.invoker = compileInvoker(methodToInvoke);
+    }
+
+    private static ToolParameter[] compileParameters(Method method) {
+        Parameter[] methodParameters = method.getParameters();
+        ToolParameter[] parameters = new ToolParameter[methodParameters.length];
+        for (int i = 0; i < methodParameters.length; i++) {
+            parameters[i] = new ToolParameter(i, methodParameters[i]);
+        }
+        return parameters;
+    }
+
+    /**
+     * Compiles the method into a {@link MethodHandle} of type {@code (Object, Object[])Object}.
+     * Anything thrown by the method itself is wrapped into a {@link ToolMethodException},
+     * so it can be told apart from failures to invoke the method (e.g., mismatching argument types),
+     * like {@link InvocationTargetException} does for reflection.
+     * Returns {@code null} if the method cannot be accessed this way, in which case reflection is used.
+     */
+    private static MethodHandle compileInvoker(Method method) {
+        try {
+            MethodHandle methodHandle;
+            try {
+                methodHandle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                method.setAccessible(true);
+                methodHandle = MethodHandles.lookup().unreflect(method);
+            }
+            MethodType methodType = methodHandle.type();
+            MethodHandle handler = MethodHandles.dropArguments(
+                    THROW_TOOL_METHOD_EXCEPTION.asType(
+                            MethodType.methodType(methodType.returnType(), Throwable.class)),
+                    1, methodType.parameterList());
+            methodHandle = MethodHandles.catchException(methodHandle, Throwable.class, handler);
+            if (Modifier.isStatic(method.getModifiers())) {
+                methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+            }
+            return methodHandle
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(INVOKER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
     }
 
     public String execute(ToolExecutionRequest toolExecutionRequest, Object memoryId) {
 
-        Map<String, Object> argumentsMap = argumentsAsMap(toolExecutionRequest.arguments());
-        Object[] arguments = prepareArguments(originalMethod, argumentsMap, memoryId);
+        Object[] arguments = prepareArguments(toolExecutionRequest.arguments(), memoryId);
+
+        if (invoker == null) {
+            return executeReflectively(arguments);
+        }
+
+        for (ToolParameter parameter : parameters) {
+            if (parameter.primitive && arguments[parameter.index] == null) {
+                throw new IllegalArgumentException(String.format(
+                        "Argument \"%s\" of type %s is missing", parameter.name, parameter.type.getName()));
+            }
+        }
+
+        Object result;
+        try {
+            result = (Object) invoker.invokeExact(object, arguments);
+        } catch (ToolMethodException e) {
+            return handleToolMethodFailure(e.getCause());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+        return toResultString(result);
+    }
+
+    /**
+     * Returns the message of an exception thrown by the tool method, so that it can be sent to the LLM.
+     * {@link Error}s are rethrown.
+     */
+    private static String handleToolMethodFailure(Throwable failure) {
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return failure.getMessage();
+    }
+
+    private String executeReflectively(Object[] arguments) {
         try {
             return execute(arguments);
         } catch (IllegalAccessException e) {
@@ -78,15 +189,18 @@ public class DefaultToolExecutor implements ToolExecutor {
             } catch (IllegalAccessException e2) {
                 throw new RuntimeException(e2);
             } catch (InvocationTargetException e2) {
-                return e2.getCause().getMessage();
+                return handleToolMethodFailure(e2.getCause());
             }
         } catch (InvocationTargetException e) {
-            return  e.getCause().getMessage();
+            return handleToolMethodFailure(e.getCause());
         }
     }
 
     private String execute(Object[] arguments) throws IllegalAccessException, InvocationTargetException {
-        Object result = methodToInvoke.invoke(object, arguments);
+        return toResultString(methodToInvoke.invoke(object, arguments));
+    }
+
+    private String toResultString(Object result) {
         Class<?> returnType = methodToInvoke.getReturnType();
         if (returnType == void.class) {
             return "Success";
@@ -97,6 +211,127 @@ public class DefaultToolExecutor implements ToolExecutor {
         }
     }
 
+    private Object[] prepareArguments(String arguments, Object memoryId) {
+        if (OBJECT_MAPPER != null && !isNullOrBlank(arguments)) {
+            try {
+                return bindArguments(arguments, memoryId);
+            } catch (IOException e) {
+                // not a well-formed JSON object, falling back to the lenient map-based parsing below
+            }
+        }
+        return prepareArguments(originalMethod, argumentsAsMap(arguments), memoryId);
+    }
+
+    private Object[] bindArguments(String json, Object memoryId) throws IOException {
+        Object[] arguments = new Object[parameters.length];
+        for (ToolParameter parameter : parameters) {
+            if (parameter.memoryId) {
+                arguments[parameter.index] = memoryId;
+            }
+        }
+
+        try (JsonParser parser = OBJECT_MAPPER.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Tool arguments must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                ToolParameter parameter = parametersByName.get(parser.currentName());
+                parser.nextToken();
+                if (parameter == null) {
+                    parser.skipChildren();
+                } else {
+                    arguments[parameter.index] = parameter.read(parser);
+                }
+            }
+        }
+
+        return arguments;
+    }
+
+    private static MethodHandle findThrowToolMethodException() {
+        try {
+            return MethodHandles.lookup().findStatic(DefaultToolExecutor.class, "throwToolMethodException",
+                    MethodType.methodType(Object.class, Throwable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object throwToolMethodException(Throwable failure) {
+        throw new ToolMethodException(failure);
+    }
+
+    /**
+     * Wraps anything thrown by a tool method invoked through a {@link MethodHandle}.
+     */
+    private static final class ToolMethodException extends RuntimeException {
+
+        private ToolMethodException(Throwable cause) {
+            super(null, cause, false, false);
+        }
+    }
+
+    /**
+     * A {@link Parameter} of a tool method, with everything needed to bind it resolved upfront.
+     */
+    private static final class ToolParameter {
+
+        private final int index;
+        private final String name;
+        private final Class<?> type;
+        private final Type parameterizedType;
+        private final boolean memoryId;
+        private final boolean primitive;
+        private final ObjectReader reader;
+        private final boolean readerAcceptsJsonString;
+
+        private ToolParameter(int index, Parameter parameter) {
+            this.index = index;
+            this.name = parameter.getName();
+            this.type = parameter.getType();
+            this.parameterizedType = parameter.getParameterizedType();
+            this.memoryId = parameter.isAnnotationPresent(ToolMemoryId.class);
+            this.primitive = type.isPrimitive();
+
+            // must stay in sync with coerceArgument(): these are the types that are bound via JSON there
+            if (OBJECT_MAPPER == null || memoryId || isCoercedDirectly(type)) {
+                this.reader = null;
+                this.readerAcceptsJsonString = false;
+            } else if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+                this.reader = OBJECT_MAPPER.readerFor(OBJECT_MAPPER.constructType(parameterizedType));
+                this.readerAcceptsJsonString = false;
+            } else {
+                this.reader = OBJECT_MAPPER.readerFor(type);
+                this.readerAcceptsJsonString = true;
+            }
+        }
+
+        private Object read(JsonParser parser) throws IOException {
+            if (reader == null) {
+                return coerceArgument(parser.readValueAs(Object.class), name, type, parameterizedType);
+            }
+            if (readerAcceptsJsonString && parser.currentToken() == JsonToken.VALUE_STRING) {
+                return reader.readValue(parser.getText());
+            }
+            return reader.readValue(parser);
+        }
+
+        private static boolean isCoercedDirectly(Class<?> type) {
+            return type == String.class
+                    || type.isEnum()
+                    || type == Boolean.class || type == boolean.class
+                    || type == Double.class || type == double.class
+                    || type == Float.class || type == float.class
+                    || type == BigDecimal.class
+                    || type == Integer.class || type == int.class
+                    || type == Long.class || type == long.class
+                    || type == Short.class || type == short.class
+                    || type == Byte.class || type == byte.class
+                    || type == BigInteger.class
+                    || type == UUID.class;
+        }
+    }
+
     static Object[] prepareArguments(Method method, Map<String, Object> argumentsMap, Object memoryId) {
         Parameter[] parameters = method.getParameters();
         Object[] arguments = new Object[parameters.length];
@@ -2,7 +2,11 @@ package dev.langchain4j.service.tool;
 
 import static dev.langchain4j.agent.tool.ToolSpecifications.toolSpecificationFrom;
 import static dev.langchain4j.internal.Exceptions.runtime;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
 import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 import dev.langchain4j.Internal;
 import dev.langchain4j.agent.tool.Tool;
@@ -20,20 +24,37 @@ import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.service.IllegalConfigurationException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 @Internal
 public class ToolService {
 
+    private static final int DEFAULT_MAX_THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+
     private final List<ToolSpecification> toolSpecifications = new ArrayList<>();
     private final Map<String, ToolExecutor> toolExecutors = new HashMap<>();
     private ToolProvider toolProvider;
     private int maxSequentialToolsInvocations = 100;
+    private Executor executor;
+    private Duration toolExecutionTimeout;
+    // contexts merged from the results of the tool provider, reused when it returns the same (e.g., cached) result;
+    // results define no equals(), so they are matched by identity, and entries go away with the results
+    private final Map<ToolProviderResult, ToolServiceContext> providedContexts =
+            Collections.synchronizedMap(new WeakHashMap<>());
 
     private Function<ToolExecutionRequest, ToolExecutionResultMessage> toolHallucinationStrategy =
             HallucinatedToolNameStrategy.THROW_EXCEPTION;
@@ -45,6 +66,7 @@ public class ToolService {
 
     public void toolProvider(ToolProvider toolProvider) {
         this.toolProvider = toolProvider;
+        this.providedContexts.clear();
     }
 
     public void tools(Map<ToolSpecification, ToolExecutor> tools) {
@@ -52,6 +74,7 @@ public class ToolService {
             toolSpecifications.add(toolSpecification);
             toolExecutors.put(toolSpecification.name(), toolExecutor);
         });
+        this.providedContexts.clear();
     }
 
     public void tools(Collection<Object> objectsWithTools) {
@@ -72,12 +95,37 @@ public class ToolService {
                 }
             }
         }
+        this.providedContexts.clear();
     }
 
     public void maxSequentialToolsInvocations(int maxSequentialToolsInvocations) {
         this.maxSequentialToolsInvocations = maxSequentialToolsInvocations;
     }
 
+    public void executeToolsConcurrently() {
+        this.executor = createDefaultExecutor();
+    }
+
+    public void executeToolsConcurrently(Executor executor) {
+        this.executor = ensureNotNull(executor, "executor");
+    }
+
+    public void toolExecutionTimeout(Duration toolExecutionTimeout) {
+        this.toolExecutionTimeout = toolExecutionTimeout;
+    }
+
+    private static Executor createDefaultExecutor() {
+        return createVirtualThreadExecutor(() -> {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                    DEFAULT_MAX_THREADS, DEFAULT_MAX_THREADS,
+                    1, SECONDS,
+                    new LinkedBlockingQueue<>()
+            );
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            return threadPoolExecutor;
+        });
+    }
+
     public ToolServiceContext createContext(Object memoryId, UserMessage userMessage) {
         if (this.toolProvider == null) {
             return this.toolSpecifications.isEmpty() ?
@@ -85,10 +133,19 @@ public class ToolService {
                     new ToolServiceContext(this.toolSpecifications, this.toolExecutors);
         }
 
-        List<ToolSpecification> toolsSpecs = new ArrayList<>(this.toolSpecifications);
-        Map<String, ToolExecutor> toolExecs = new HashMap<>(this.toolExecutors);
         ToolProviderRequest toolProviderRequest = new ToolProviderRequest(memoryId, userMessage);
         ToolProviderResult toolProviderResult = toolProvider.provideTools(toolProviderRequest);
+
+        if (toolProviderResult != null) {
+            ToolServiceContext providedContext = providedContexts.get(toolProviderResult);
+            if (providedContext != null) {
+                // the tool provider returned the same (e.g., cached) result as before, no need to merge it again
+                return providedContext;
+            }
+        }
+
+        List<ToolSpecification> toolsSpecs = new ArrayList<>(this.toolSpecifications);
+        Map<String, ToolExecutor> toolExecs = new HashMap<>(this.toolExecutors);
         if (toolProviderResult != null) {
             for (Map.Entry<ToolSpecification, ToolExecutor> entry :
                     toolProviderResult.tools().entrySet()) {
@@ -100,7 +157,11 @@ public class ToolService {
                 }
             }
         }
-        return new ToolServiceContext(toolsSpecs, toolExecs);
+        ToolServiceContext toolServiceContext = new ToolServiceContext(toolsSpecs, toolExecs);
+        if (toolProviderResult != null) {
+            providedContexts.put(toolProviderResult, toolServiceContext);
+        }
+        return toolServiceContext;
     }
 
     public ToolServiceResult executeInferenceAndToolsLoop(
@@ -135,16 +196,14 @@ public class ToolService {
                 break;
             }
 
-            for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
-                ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+            List<ToolExecutionResultMessage> toolExecutionResultMessages =
+                    executeTools(aiMessage.toolExecutionRequests(), toolExecutors, memoryId);
 
-                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutor == null
-                        ? applyToolHallucinationStrategy(toolExecutionRequest)
-                        : ToolExecutionResultMessage.from(
-                                toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+            for (int i = 0; i < toolExecutionResultMessages.size(); i++) {
+                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutionResultMessages.get(i);
 
                 toolExecutions.add(ToolExecution.builder()
-                        .request(toolExecutionRequest)
+                        .request(aiMessage.toolExecutionRequests().get(i))
                         .result(toolExecutionResultMessage.text())
                         .build());
 
@@ -180,6 +239,96 @@ public class ToolService {
         return new ToolServiceResult(chatResponse, toolExecutions);
     }
 
+    /**
+     * Executes the given tool execution requests and returns their results in the same order as the requests.
+     * <p>
+     * When {@link #executeToolsConcurrently(Executor)} (or {@link #executeToolsConcurrently()}) was configured,
+     * the requests are executed concurrently on the configured executor.
+     * Otherwise, they are executed sequentially on the calling thread.
+     * <p>
+     * The {@link #toolExecutionTimeout(Duration)} applies only to concurrent execution,
+     * and is measured from the moment the requests are submitted to the executor.
+     * A tool that does not complete in time is interrupted, and produces a result describing the timeout
+     * instead of its own result. A tool that ignores interruption keeps running in the background.
+     *
+     * @param toolExecutionRequests the tool execution requests, in the order returned by the LLM
+     * @param toolExecutors         the available tool executors, keyed by tool name
+     * @param memoryId              the ID of the chat memory
+     * @return the tool execution results, in the same order as {@code toolExecutionRequests}
+     */
+    public List<ToolExecutionResultMessage> executeTools(List<ToolExecutionRequest> toolExecutionRequests,
+                                                         Map<String, ToolExecutor> toolExecutors,
+                                                         Object memoryId) {
+        if (executor == null || (toolExecutionRequests.size() <= 1 && toolExecutionTimeout == null)) {
+            List<ToolExecutionResultMessage> results = new ArrayList<>(toolExecutionRequests.size());
+            for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+                results.add(executeTool(toolExecutionRequest, toolExecutors, memoryId));
+            }
+            return results;
+        }
+
+        List<FutureTask<ToolExecutionResultMessage>> tasks = new ArrayList<>(toolExecutionRequests.size());
+        for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+            FutureTask<ToolExecutionResultMessage> task =
+                    new FutureTask<>(() -> executeTool(toolExecutionRequest, toolExecutors, memoryId));
+            tasks.add(task);
+            executor.execute(task);
+        }
+
+        long deadline = toolExecutionTimeout == null ? 0 : System.nanoTime() + toolExecutionTimeout.toNanos();
+        List<ToolExecutionResultMessage> results = new ArrayList<>(tasks.size());
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                results.add(awaitResult(tasks.get(i), toolExecutionRequests.get(i), deadline));
+            }
+        } finally {
+            // no-op for completed tasks, interrupts the remaining ones when a tool has failed
+            tasks.forEach(task -> task.cancel(true));
+        }
+        return results;
+    }
+
+    private ToolExecutionResultMessage awaitResult(FutureTask<ToolExecutionResultMessage> task,
+                                                   ToolExecutionRequest toolExecutionRequest,
+                                                   long deadline) {
+        try {
+            if (toolExecutionTimeout == null) {
+                return task.get();
+            }
+            return task.get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            return timeoutResult(toolExecutionRequest);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private ToolExecutionResultMessage executeTool(ToolExecutionRequest toolExecutionRequest,
+                                                   Map<String, ToolExecutor> toolExecutors,
+                                                   Object memoryId) {
+        ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+        return toolExecutor == null
+                ? applyToolHallucinationStrategy(toolExecutionRequest)
+                : ToolExecutionResultMessage.from(
+                        toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+    }
+
+    private ToolExecutionResultMessage timeoutResult(ToolExecutionRequest toolExecutionRequest) {
+        return ToolExecutionResultMessage.from(toolExecutionRequest, String.format(
+                "Execution of tool '%s' timed out after %s ms",
+                toolExecutionRequest.name(), toolExecutionTimeout.toMillis()));
+    }
+
     public ToolExecutionResultMessage applyToolHallucinationStrategy(ToolExecutionRequest toolExecutionRequest) {
         return toolHallucinationStrategy.apply(toolExecutionRequest);
     }
@@ -3,6 +3,7 @@ package dev.langchain4j.data.document.loader;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocument;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocuments;
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.loadDocumentsRecursively;
+import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.streamDocumentsRecursively;
 
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
@@ -16,6 +17,11 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -268,6 +274,69 @@ class FileSystemDocumentLoaderTest implements WithAssertions {
                 .isEqualTo(documents);
     }
 
+    @Test
+    void should_stream_documents_recursively() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher("glob:**.txt");
+        List<Document> documents = loadDocumentsRecursively(resourceDirectory, pathMatcher, new TextDocumentParser());
+
+        // when
+        List<Document> streamedDocuments;
+        try (Stream<Document> stream =
+                streamDocumentsRecursively(resourceDirectory, pathMatcher, new TextDocumentParser())) {
+            streamedDocuments = stream.toList();
+        }
+
+        // then
+        assertThat(streamedDocuments).isEqualTo(documents);
+    }
+
+    @Test
+    void should_stream_documents_in_parallel_and_report_failures() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        List<Document> documents = loadDocumentsRecursively(resourceDirectory, new TextDocumentParser());
+
+        DocumentParser parserThatFailsOnUnknownTypes = inputStream -> {
+            Document document = new TextDocumentParser().parse(inputStream);
+            if (document.text().contains("unknown")) {
+                throw new RuntimeException("unknown document type");
+            }
+            return document;
+        };
+        Map<Path, Exception> failures = new ConcurrentHashMap<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            StreamingFileSystemDocumentLoader loader = StreamingFileSystemDocumentLoader.builder()
+                    .directoryPath(resourceDirectory)
+                    .documentParser(parserThatFailsOnUnknownTypes)
+                    .executor(executor)
+                    .maxDocumentsInFlight(2)
+                    .failureHandler(failures::put)
+                    .build();
+
+            // when
+            List<Document> streamedDocuments;
+            try (Stream<Document> stream = loader.stream()) {
+                streamedDocuments = stream.toList();
+            }
+
+            // then
+            List<Document> expectedDocuments = documents.stream()
+                    .filter(document -> !document.text().contains("unknown"))
+                    .toList();
+            assertThat(streamedDocuments).isEqualTo(expectedDocuments);
+            assertThat(failures).hasSize(documents.size() - expectedDocuments.size());
+            assertThat(failures.values()).allSatisfy(e -> assertThat(e).hasRootCauseMessage("unknown document type"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     private static Path resourceDirectory() {
         String userDir = System.getProperty("user.dir");
         Path resourceDirectory = Paths.get(userDir, "langchain4j/src/test/resources");
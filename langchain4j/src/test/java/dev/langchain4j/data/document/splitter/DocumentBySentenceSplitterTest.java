@@ -7,7 +7,11 @@ import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.model.openai.OpenAiTokenCountEstimator;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static dev.langchain4j.data.document.Metadata.metadata;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
@@ -174,4 +178,30 @@ class DocumentBySentenceSplitterTest {
                 textSegment(s18, metadata("index", "10").put("document", "0"))
         );
     }
+
+    @Test
+    void should_be_safe_to_share_across_threads() throws Exception {
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            text.append("This is sentence number ").append(i).append(". ");
+        }
+        Document document = Document.from(text.toString());
+
+        DocumentSplitter splitter = new DocumentBySentenceSplitter(100, 20);
+        List<TextSegment> expected = splitter.split(document);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<TextSegment>>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> splitter.split(document)));
+            }
+            for (Future<List<TextSegment>> future : futures) {
+                assertThat(future.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
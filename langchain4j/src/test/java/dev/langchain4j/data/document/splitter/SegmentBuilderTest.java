@@ -3,6 +3,9 @@ package dev.langchain4j.data.document.splitter;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 class SegmentBuilderTest implements WithAssertions {
     @Test
     void shouldAppendText() {
@@ -65,4 +68,23 @@ class SegmentBuilderTest implements WithAssertions {
             assertThat(builder.toString()).isEqualTo("Hello world");
         }
     }
+
+    @Test
+    void should_not_measure_whole_segment_while_it_has_space() {
+        List<String> measuredTexts = new ArrayList<>();
+        SegmentBuilder builder = new SegmentBuilder(10, text -> {
+            measuredTexts.add(text);
+            return text.length();
+        }, " ");
+
+        builder.append("one", 3);
+        builder.append("two", 3);
+        assertThat(builder.hasSpaceFor(3)).isFalse();
+        assertThat(measuredTexts).containsExactly(" ", "one two");
+
+        assertThat(builder.hasSpaceFor(2)).isTrue();
+        builder.append("ab", 2);
+        assertThat(builder.getSize()).isEqualTo(10);
+        assertThat(builder.toString()).isEqualTo("one two ab");
+    }
 }
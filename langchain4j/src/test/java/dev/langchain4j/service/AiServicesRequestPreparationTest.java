@@ -0,0 +1,175 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.rag.AugmentationResult;
+import dev.langchain4j.rag.RetrievalAugmentor;
+import dev.langchain4j.service.tool.ToolProvider;
+import dev.langchain4j.service.tool.ToolProviderResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiServicesRequestPreparationTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    interface Assistant {
+
+        String chat(String userMessage);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_retrieve_content_and_resolve_tools_concurrently() {
+
+        // given
+        CountDownLatch retrievalStarted = new CountDownLatch(1);
+        CountDownLatch toolResolutionStarted = new CountDownLatch(1);
+        List<String> toolProviderMessages = new CopyOnWriteArrayList<>();
+
+        RetrievalAugmentor retrievalAugmentor = request -> {
+            retrievalStarted.countDown();
+            awaitOrFail(toolResolutionStarted);
+            String text = ((UserMessage) request.chatMessage()).singleText() + " (augmented)";
+            return AugmentationResult.builder()
+                    .chatMessage(UserMessage.from(text))
+                    .build();
+        };
+        ToolProvider toolProvider = request -> {
+            toolResolutionStarted.countDown();
+            awaitOrFail(retrievalStarted);
+            toolProviderMessages.add(request.userMessage().singleText());
+            return ToolProviderResult.builder().build();
+        };
+        ChatModelMock model = ChatModelMock.thatAlwaysResponds("Berlin");
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(model)
+                .chatMemory(MessageWindowChatMemory.withMaxMessages(10))
+                .retrievalAugmentor(retrievalAugmentor)
+                .toolProvider(toolProvider)
+                .prepareRequestConcurrently(executor)
+                .build();
+
+        // when
+        String answer = assistant.chat("What is the capital of Germany?");
+
+        // then
+        assertThat(answer).isEqualTo("Berlin");
+        assertThat(model.userMessageText()).isEqualTo("What is the capital of Germany? (augmented)");
+        assertThat(toolProviderMessages).containsExactly("What is the capital of Germany?");
+    }
+
+    @Test
+    void should_propagate_exception_of_concurrent_step() {
+
+        // given
+        ToolProvider toolProvider = request -> {
+            throw new IllegalStateException("MCP server is unavailable");
+        };
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(ChatModelMock.thatAlwaysResponds("Berlin"))
+                .toolProvider(toolProvider)
+                .prepareRequestConcurrently(executor)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> assistant.chat("What is the capital of Germany?"))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("MCP server is unavailable");
+    }
+
+    @Test
+    void should_retrieve_content_on_executor_without_chat_memory() {
+
+        // given
+        Thread caller = Thread.currentThread();
+        List<Thread> retrievalThreads = new CopyOnWriteArrayList<>();
+        RetrievalAugmentor retrievalAugmentor = request -> {
+            retrievalThreads.add(Thread.currentThread());
+            return AugmentationResult.builder()
+                    .chatMessage(request.chatMessage())
+                    .build();
+        };
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(ChatModelMock.thatAlwaysResponds("Berlin"))
+                .retrievalAugmentor(retrievalAugmentor)
+                .prepareRequestConcurrently(executor)
+                .build();
+
+        // when
+        assistant.chat("What is the capital of Germany?");
+
+        // then
+        assertThat(retrievalThreads).hasSize(1).doesNotContain(caller);
+    }
+
+    @Test
+    void should_not_resolve_tools_when_other_step_fails() {
+
+        // given
+        List<Runnable> deferredTasks = new CopyOnWriteArrayList<>();
+        Executor deferringFirstTask = task -> {
+            // tool resolution is submitted first, it is held back until the other step has failed
+            if (deferredTasks.isEmpty()) {
+                deferredTasks.add(task);
+            } else {
+                executor.execute(task);
+            }
+        };
+        RetrievalAugmentor retrievalAugmentor = request -> {
+            throw new IllegalStateException("vector store is unavailable");
+        };
+        List<String> toolProviderMessages = new CopyOnWriteArrayList<>();
+        ToolProvider toolProvider = request -> {
+            toolProviderMessages.add(request.userMessage().singleText());
+            return ToolProviderResult.builder().build();
+        };
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatModel(ChatModelMock.thatAlwaysResponds("Berlin"))
+                .retrievalAugmentor(retrievalAugmentor)
+                .toolProvider(toolProvider)
+                .prepareRequestConcurrently(deferringFirstTask)
+                .build();
+
+        // when
+        assertThatThrownBy(() -> assistant.chat("What is the capital of Germany?"))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("vector store is unavailable");
+        deferredTasks.forEach(Runnable::run);
+
+        // then
+        assertThat(deferredTasks).hasSize(1);
+        assertThat(toolProviderMessages).isEmpty();
+    }
+
+    private static void awaitOrFail(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("steps were not executed concurrently");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -14,9 +14,15 @@ import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
 import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
 import dev.langchain4j.service.tool.HallucinatedToolNameStrategy;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -352,6 +358,54 @@ class AiServicesUserMessageConfigTest {
         validateChatMemory(chatMemory);
     }
 
+    interface StreamingAssistantHallucinatedTool {
+        TokenStream chat(String userMessage);
+    }
+
+    @Test
+    void should_apply_hallucinated_tool_name_strategy_when_streaming() throws Exception {
+
+        StreamingChatModel streamingChatModel = new StreamingChatModel() {
+
+            @Override
+            public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                List<ToolExecutionResultMessage> toolResults = chatRequest.messages().stream()
+                        .filter(ToolExecutionResultMessage.class::isInstance)
+                        .map(ToolExecutionResultMessage.class::cast)
+                        .toList();
+                AiMessage aiMessage = toolResults.isEmpty()
+                        ? AiMessage.from(ToolExecutionRequest.builder().id("id").name("unknown").build())
+                        : AiMessage.from(toolResults.get(0).text());
+                if (aiMessage.text() != null) {
+                    handler.onPartialResponse(aiMessage.text());
+                }
+                handler.onCompleteResponse(ChatResponse.builder().aiMessage(aiMessage).build());
+            }
+        };
+
+        ChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+
+        StreamingAssistantHallucinatedTool assistant = AiServices.builder(StreamingAssistantHallucinatedTool.class)
+                .streamingChatModel(streamingChatModel)
+                .chatMemory(chatMemory)
+                .tools(new HelloWorld())
+                .hallucinatedToolNameStrategy(toolExecutionRequest -> ToolExecutionResultMessage.from(
+                        toolExecutionRequest, "Error: there is no tool called " + toolExecutionRequest.name()))
+                .build();
+
+        CompletableFuture<ChatResponse> futureResponse = new CompletableFuture<>();
+        assistant.chat("hi")
+                .onPartialResponse(ignored -> {})
+                .onCompleteResponse(futureResponse::complete)
+                .onError(futureResponse::completeExceptionally)
+                .start();
+
+        ChatResponse response = futureResponse.get(10, TimeUnit.SECONDS);
+        assertThat(response.aiMessage().text()).isEqualTo("Error: there is no tool called unknown");
+
+        validateChatMemory(chatMemory);
+    }
+
     private static void validateChatMemory(ChatMemory chatMemory) {
         List<ChatMessage> messages = chatMemory.messages();
         Class<?> expectedMessageType = dev.langchain4j.data.message.UserMessage.class;
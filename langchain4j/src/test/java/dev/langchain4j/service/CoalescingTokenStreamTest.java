@@ -0,0 +1,139 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.service.tool.ToolExecution;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescingTokenStreamTest {
+
+    @Test
+    void should_coalesce_partial_responses_of_any_token_stream() {
+
+        // given
+        List<String> events = new CopyOnWriteArrayList<>();
+        TokenStream tokenStream = new FakeTokenStream(error -> events.add("error:" + error.getMessage()))
+                .coalescePartialResponses(Duration.ofMinutes(1), 100)
+                .onPartialResponse(partialResponse -> events.add("partial:" + partialResponse))
+                .onToolExecuted(toolExecution -> events.add("tool:" + toolExecution.request().name()))
+                .onCompleteResponse(response -> events.add("complete:" + response.aiMessage().text()))
+                .onError(error -> events.add("error:" + error.getMessage()));
+
+        // when
+        tokenStream.start();
+
+        // then
+        assertThat(events).containsExactly(
+                "partial:Let me check.", "tool:weather", "partial:It is sunny.", "complete:It is sunny.");
+    }
+
+    @Test
+    void should_forward_buffered_text_before_completion_without_complete_response_handler() {
+
+        // given
+        List<String> events = new CopyOnWriteArrayList<>();
+        TokenStream tokenStream = new FakeTokenStream(error -> events.add("error:" + error.getMessage()))
+                .coalescePartialResponses(Duration.ZERO, 100)
+                .onPartialResponse(partialResponse -> events.add("partial:" + partialResponse))
+                .ignoreErrors();
+
+        // when
+        tokenStream.start();
+
+        // then
+        assertThat(events).containsExactly("partial:Let me check.", "partial:It is sunny.");
+    }
+
+    /**
+     * Streams "Let me check.", executes a tool, then streams "It is sunny.", one word at a time.
+     */
+    private static class FakeTokenStream implements TokenStream {
+
+        private final Consumer<Throwable> fallbackErrorHandler;
+        private Consumer<String> partialResponseHandler;
+        private Consumer<ToolExecution> toolExecutionHandler;
+        private Consumer<ChatResponse> completeResponseHandler;
+        private Consumer<Throwable> errorHandler;
+
+        FakeTokenStream(Consumer<Throwable> fallbackErrorHandler) {
+            this.fallbackErrorHandler = fallbackErrorHandler;
+        }
+
+        @Override
+        public TokenStream onPartialResponse(Consumer<String> partialResponseHandler) {
+            this.partialResponseHandler = partialResponseHandler;
+            return this;
+        }
+
+        @Override
+        public TokenStream onRetrieved(Consumer<List<Content>> contentHandler) {
+            return this;
+        }
+
+        @Override
+        public TokenStream onToolExecuted(Consumer<ToolExecution> toolExecuteHandler) {
+            this.toolExecutionHandler = toolExecuteHandler;
+            return this;
+        }
+
+        @Override
+        public TokenStream onCompleteResponse(Consumer<ChatResponse> completeResponseHandler) {
+            this.completeResponseHandler = completeResponseHandler;
+            return this;
+        }
+
+        @Override
+        public TokenStream onPartialReasoning(Consumer<String> partialReasoningHandler) {
+            return this;
+        }
+
+        @Override
+        public TokenStream onCompleteReasoning(Consumer<String> completeReasoningHandler) {
+            return this;
+        }
+
+        @Override
+        public TokenStream onReasoningDetected(BiFunction<String, Object, Boolean> reasoningDetector, String jsonPath) {
+            return this;
+        }
+
+        @Override
+        public TokenStream onError(Consumer<Throwable> errorHandler) {
+            this.errorHandler = errorHandler;
+            return this;
+        }
+
+        @Override
+        public TokenStream ignoreErrors() {
+            this.errorHandler = null;
+            return this;
+        }
+
+        @Override
+        public void start() {
+            try {
+                List.of("Let ", "me ", "check.").forEach(partialResponseHandler);
+                toolExecutionHandler.accept(ToolExecution.builder()
+                        .request(ToolExecutionRequest.builder().name("weather").arguments("{}").build())
+                        .result("sunny")
+                        .build());
+                List.of("It ", "is ", "sunny.").forEach(partialResponseHandler);
+                completeResponseHandler.accept(ChatResponse.builder()
+                        .aiMessage(AiMessage.from("It is sunny."))
+                        .build());
+            } catch (RuntimeException e) {
+                (errorHandler != null ? errorHandler : fallbackErrorHandler).accept(e);
+            }
+        }
+    }
+}
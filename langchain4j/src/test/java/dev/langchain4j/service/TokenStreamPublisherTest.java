@@ -0,0 +1,186 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.service.tool.ToolExecution;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenStreamPublisherTest {
+
+    private static final List<String> TOKENS = List.of("Hel", "lo", ", ", "wor", "ld", "!");
+
+    @Test
+    void should_deliver_all_text_when_tokens_are_streamed_synchronously() throws Exception {
+
+        // given
+        Flow.Publisher<String> publisher = new FakeTokenStream(false).toPublisher(2);
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+
+        // when
+        publisher.subscribe(subscriber);
+
+        // then
+        subscriber.completion.get(10, TimeUnit.SECONDS);
+        assertThat(String.join("", subscriber.items)).isEqualTo("Hello, world!");
+    }
+
+    @Test
+    void should_deliver_all_text_to_slow_subscriber() throws Exception {
+
+        // given
+        Flow.Publisher<String> publisher = new FakeTokenStream(true).toPublisher(2);
+        RecordingSubscriber subscriber = new RecordingSubscriber(1) {
+
+            @Override
+            public void onNext(String item) {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onNext(item);
+            }
+        };
+
+        // when
+        publisher.subscribe(subscriber);
+
+        // then
+        subscriber.completion.get(10, TimeUnit.SECONDS);
+        assertThat(String.join("", subscriber.items)).isEqualTo("Hello, world!");
+    }
+
+    @Test
+    void should_reject_second_subscriber() throws Exception {
+
+        // given
+        Flow.Publisher<String> publisher = new FakeTokenStream(false).toPublisher(10);
+        publisher.subscribe(new RecordingSubscriber(Long.MAX_VALUE));
+        RecordingSubscriber second = new RecordingSubscriber(1);
+
+        // when
+        publisher.subscribe(second);
+
+        // then
+        assertThat(second.completion.handle((ignored, error) -> error).get(10, TimeUnit.SECONDS))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<String> {
+
+        final List<String> items = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final long batch;
+        private Flow.Subscription subscription;
+
+        RecordingSubscriber(long batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(batch);
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+            subscription.request(batch);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+    }
+
+    private static class FakeTokenStream implements TokenStream {
+
+        private final boolean async;
+        private Consumer<String> partialResponseHandler;
+        private Consumer<ChatResponse> completeResponseHandler;
+
+        FakeTokenStream(boolean async) {
+            this.async = async;
+        }
+
+        @Override
+        public TokenStream onPartialResponse(Consumer<String> partialResponseHandler) {
+            this.partialResponseHandler = partialResponseHandler;
+            return this;
+        }
+
+        @Override
+        public TokenStream onRetrieved(Consumer<List<Content>> contentHandler) {
+            return this;
+        }
+
+        @Override
+        public TokenStream onToolExecuted(Consumer<ToolExecution> toolExecuteHandler) {
+            return this;
+        }
+
+        @Override
+        public TokenStream onCompleteResponse(Consumer<ChatResponse> completeResponseHandler) {
+            this.completeResponseHandler = completeResponseHandler;
+            return this;
+        }
+
+        @Override
+        public TokenStream onPartialReasoning(Consumer<String> partialReasoningHandler) {
+            return this;
+        }
+
+        @Override
+        public TokenStream onCompleteReasoning(Consumer<String> completeReasoningHandler) {
+            return this;
+        }
+
+        @Override
+        public TokenStream onReasoningDetected(BiFunction<String, Object, Boolean> reasoningDetector, String jsonPath) {
+            return this;
+        }
+
+        @Override
+        public TokenStream onError(Consumer<Throwable> errorHandler) {
+            return this;
+        }
+
+        @Override
+        public TokenStream ignoreErrors() {
+            return this;
+        }
+
+        @Override
+        public void start() {
+            Runnable stream = () -> {
+                TOKENS.forEach(partialResponseHandler);
+                completeResponseHandler.accept(ChatResponse.builder()
+                        .aiMessage(AiMessage.from(String.join("", TOKENS)))
+                        .build());
+            };
+            if (async) {
+                new Thread(stream).start();
+            } else {
+                stream.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package dev.langchain4j.service.tool;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.UserMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingToolProviderTest {
+
+    AtomicInteger invocations = new AtomicInteger();
+
+    ToolProvider toolProvider = request -> ToolProviderResult.builder()
+            .add(ToolSpecification.builder().name("tool_" + invocations.incrementAndGet()).build(),
+                    (toolExecutionRequest, memoryId) -> "result")
+            .build();
+
+    @Test
+    void should_cache_result() {
+
+        CachingToolProvider cachingToolProvider = CachingToolProvider.builder()
+                .toolProvider(toolProvider)
+                .build();
+
+        ToolProviderResult result1 = cachingToolProvider.provideTools(request("user1"));
+        ToolProviderResult result2 = cachingToolProvider.provideTools(request("user2"));
+
+        assertThat(result2).isSameAs(result1);
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void should_cache_result_per_key() {
+
+        CachingToolProvider cachingToolProvider = CachingToolProvider.builder()
+                .toolProvider(toolProvider)
+                .cacheKey(ToolProviderRequest::chatMemoryId)
+                .build();
+
+        ToolProviderResult result1 = cachingToolProvider.provideTools(request("user1"));
+        ToolProviderResult result2 = cachingToolProvider.provideTools(request("user2"));
+        ToolProviderResult result3 = cachingToolProvider.provideTools(request("user1"));
+
+        assertThat(result2).isNotSameAs(result1);
+        assertThat(result3).isSameAs(result1);
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void should_recompute_result_after_invalidation() {
+
+        CachingToolProvider cachingToolProvider = CachingToolProvider.builder()
+                .toolProvider(toolProvider)
+                .build();
+
+        ToolProviderResult result1 = cachingToolProvider.provideTools(request("user1"));
+        cachingToolProvider.invalidateAll();
+        ToolProviderResult result2 = cachingToolProvider.provideTools(request("user1"));
+
+        assertThat(result2).isNotSameAs(result1);
+        assertThat(result2.toolSpecificationByName("tool_2")).isNotNull();
+    }
+
+    @Test
+    void should_recompute_result_after_expiration() throws InterruptedException {
+
+        CachingToolProvider cachingToolProvider = CachingToolProvider.builder()
+                .toolProvider(toolProvider)
+                .timeToLive(Duration.ofMillis(10))
+                .build();
+
+        ToolProviderResult result1 = cachingToolProvider.provideTools(request("user1"));
+        Thread.sleep(50);
+        ToolProviderResult result2 = cachingToolProvider.provideTools(request("user1"));
+
+        assertThat(result2).isNotSameAs(result1);
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void should_compute_result_once_for_concurrent_requests() throws Exception {
+
+        CountDownLatch computationStarted = new CountDownLatch(1);
+        CountDownLatch computationCanFinish = new CountDownLatch(1);
+        ToolProvider slowToolProvider = request -> {
+            computationStarted.countDown();
+            try {
+                computationCanFinish.await(10, SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return toolProvider.provideTools(request);
+        };
+        CachingToolProvider cachingToolProvider = CachingToolProvider.builder()
+                .toolProvider(slowToolProvider)
+                .cacheKey(ToolProviderRequest::chatMemoryId)
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ToolProviderResult> result1 = executor.submit(() -> cachingToolProvider.provideTools(request("user1")));
+            assertThat(computationStarted.await(10, SECONDS)).isTrue();
+            Future<ToolProviderResult> result2 = executor.submit(() -> cachingToolProvider.provideTools(request("user1")));
+
+            // a computation for another key is not blocked by the one in progress
+            assertThat(cachingToolProvider.provideTools(request("user2"))).isNotNull();
+
+            computationCanFinish.countDown();
+
+            assertThat(result2.get(10, SECONDS)).isSameAs(result1.get(10, SECONDS));
+            assertThat(invocations).hasValue(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_not_cache_failure() {
+
+        AtomicInteger attempts = new AtomicInteger();
+        ToolProvider failingOnceToolProvider = request -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("MCP server is unavailable");
+            }
+            return toolProvider.provideTools(request);
+        };
+        CachingToolProvider cachingToolProvider = CachingToolProvider.builder()
+                .toolProvider(failingOnceToolProvider)
+                .build();
+
+        assertThatThrownBy(() -> cachingToolProvider.provideTools(request("user1")))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("MCP server is unavailable");
+
+        ToolProviderResult result1 = cachingToolProvider.provideTools(request("user1"));
+        ToolProviderResult result2 = cachingToolProvider.provideTools(request("user1"));
+
+        assertThat(result2).isSameAs(result1);
+        assertThat(attempts).hasValue(2);
+    }
+
+    private static ToolProviderRequest request(String memoryId) {
+        return new ToolProviderRequest(memoryId, UserMessage.from("hi"));
+    }
+}
@@ -328,6 +328,93 @@ class DefaultToolExecutorTest implements WithAssertions {
                 .withMessageContaining("Method 'unknownMethod' is not found in object");
     }
 
+    @Test
+    void should_ignore_unknown_arguments() throws NoSuchMethodException {
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .id("1")
+                .name("addOne")
+                .arguments("{ \"unknown\": { \"nested\": [1, 2] }, \"arg0\": 2 }")
+                .build();
+
+        DefaultToolExecutor toolExecutor =
+                new DefaultToolExecutor(new TestTool(), TestTool.class.getDeclaredMethod("addOne", int.class));
+
+        assertThat(toolExecutor.execute(request, "DEFAULT")).isEqualTo("3");
+    }
+
+    @Test
+    void should_fall_back_to_lenient_parsing_when_arguments_are_malformed() throws NoSuchMethodException {
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .id("1")
+                .name("addOne")
+                .arguments("{ \"arg0\": 2, }")
+                .build();
+
+        DefaultToolExecutor toolExecutor =
+                new DefaultToolExecutor(new TestTool(), TestTool.class.getDeclaredMethod("addOne", int.class));
+
+        assertThat(toolExecutor.execute(request, "DEFAULT")).isEqualTo("3");
+    }
+
+    @Test
+    void should_fail_when_primitive_argument_is_missing() throws NoSuchMethodException {
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .id("1")
+                .name("addOne")
+                .arguments("{}")
+                .build();
+
+        DefaultToolExecutor toolExecutor =
+                new DefaultToolExecutor(new TestTool(), TestTool.class.getDeclaredMethod("addOne", int.class));
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> toolExecutor.execute(request, "DEFAULT"))
+                .withMessage("Argument \"arg0\" of type int is missing");
+    }
+
+    private static class FailingTool {
+
+        @Tool
+        public String fail(String reason) {
+            throw new IllegalStateException(reason);
+        }
+
+        @Tool
+        public String crash() {
+            throw new StackOverflowError("boom");
+        }
+    }
+
+    @Test
+    void should_return_message_of_exception_thrown_by_tool() throws NoSuchMethodException {
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .id("1")
+                .name("fail")
+                .arguments("{ \"arg0\": \"not today\" }")
+                .build();
+
+        DefaultToolExecutor toolExecutor =
+                new DefaultToolExecutor(new FailingTool(), FailingTool.class.getDeclaredMethod("fail", String.class));
+
+        assertThat(toolExecutor.execute(request, "DEFAULT")).isEqualTo("not today");
+    }
+
+    @Test
+    void should_rethrow_error_thrown_by_tool() throws NoSuchMethodException {
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .id("1")
+                .name("crash")
+                .arguments("{}")
+                .build();
+
+        DefaultToolExecutor toolExecutor =
+                new DefaultToolExecutor(new FailingTool(), FailingTool.class.getDeclaredMethod("crash"));
+
+        assertThatExceptionOfType(StackOverflowError.class)
+                .isThrownBy(() -> toolExecutor.execute(request, "DEFAULT"))
+                .withMessage("boom");
+    }
+
     @Test
     void should_not_execute_tool_with_null_execution_request() {
         assertThatExceptionOfType(NullPointerException.class)
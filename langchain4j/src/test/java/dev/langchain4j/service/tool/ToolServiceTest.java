@@ -0,0 +1,176 @@
+package dev.langchain4j.service.tool;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolServiceTest {
+
+    @Test
+    void should_execute_tools_concurrently_and_preserve_request_order() throws Exception {
+
+        // given
+        int toolCount = 3;
+        CountDownLatch allStarted = new CountDownLatch(toolCount);
+        ToolExecutor toolExecutor = (request, memoryId) -> {
+            allStarted.countDown();
+            try {
+                // would time out if the tools were executed sequentially
+                assertThat(allStarted.await(10, SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return "result of " + request.id();
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(toolCount);
+        ToolService toolService = new ToolService();
+        toolService.executeToolsConcurrently(executor);
+
+        List<ToolExecutionRequest> requests = List.of(request("1"), request("2"), request("3"));
+
+        try {
+            // when
+            List<ToolExecutionResultMessage> results =
+                    toolService.executeTools(requests, Map.of("tool", toolExecutor), "default");
+
+            // then
+            assertThat(results).extracting(ToolExecutionResultMessage::id).containsExactly("1", "2", "3");
+            assertThat(results).extracting(ToolExecutionResultMessage::text)
+                    .containsExactly("result of 1", "result of 2", "result of 3");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_return_timeout_result_when_tool_does_not_complete_in_time() {
+
+        // given
+        ToolExecutor toolExecutor = (request, memoryId) -> {
+            if (request.id().equals("slow")) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException ignored) {
+                }
+            }
+            return "done";
+        };
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        ToolService toolService = new ToolService();
+        toolService.executeToolsConcurrently(executor);
+        toolService.toolExecutionTimeout(Duration.ofMillis(100));
+
+        List<ToolExecutionRequest> requests = List.of(request("fast"), request("slow"));
+
+        try {
+            // when
+            List<ToolExecutionResultMessage> results =
+                    toolService.executeTools(requests, Map.of("tool", toolExecutor), "default");
+
+            // then
+            assertThat(results.get(0).text()).isEqualTo("done");
+            assertThat(results.get(1).text()).isEqualTo("Execution of tool 'tool' timed out after 100 ms");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_interrupt_single_tool_that_does_not_complete_in_time() throws Exception {
+
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ToolExecutor toolExecutor = (request, memoryId) -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "done";
+        };
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        ToolService toolService = new ToolService();
+        toolService.executeToolsConcurrently(executor);
+        toolService.toolExecutionTimeout(Duration.ofMillis(100));
+
+        try {
+            // when
+            List<ToolExecutionResultMessage> results =
+                    toolService.executeTools(List.of(request("slow")), Map.of("tool", toolExecutor), "default");
+
+            // then
+            assertThat(results.get(0).text()).isEqualTo("Execution of tool 'tool' timed out after 100 ms");
+            assertThat(interrupted.await(10, SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_execute_tools_sequentially_by_default() {
+
+        // given
+        ToolService toolService = new ToolService();
+        Thread callingThread = Thread.currentThread();
+        ToolExecutor toolExecutor = (request, memoryId) -> String.valueOf(Thread.currentThread() == callingThread);
+
+        // when
+        List<ToolExecutionResultMessage> results = toolService.executeTools(
+                List.of(request("1"), request("2")), Map.of("tool", toolExecutor), "default");
+
+        // then
+        assertThat(results).extracting(ToolExecutionResultMessage::text).containsExactly("true", "true");
+    }
+
+    @Test
+    void should_reuse_context_when_tool_provider_returns_same_result() {
+
+        // given
+        ToolProviderResult cachedResult = toolProviderResult("cached_tool");
+        ToolService toolService = new ToolService();
+        toolService.toolProvider(request -> request.chatMemoryId().equals("new")
+                ? toolProviderResult("new_tool")
+                : cachedResult);
+
+        // when
+        ToolServiceContext context1 = toolService.createContext("cached", UserMessage.from("hi"));
+        ToolServiceContext context2 = toolService.createContext("new", UserMessage.from("hi"));
+        ToolServiceContext context3 = toolService.createContext("cached", UserMessage.from("hi"));
+        ToolServiceContext context4 = toolService.createContext("new", UserMessage.from("hi"));
+
+        // then
+        assertThat(context3).isSameAs(context1);
+        assertThat(context4).isNotSameAs(context2);
+        assertThat(context1.toolExecutors()).containsOnlyKeys("cached_tool");
+        assertThat(context2.toolExecutors()).containsOnlyKeys("new_tool");
+    }
+
+    private static ToolProviderResult toolProviderResult(String toolName) {
+        return ToolProviderResult.builder()
+                .add(ToolSpecification.builder().name(toolName).build(), (request, memoryId) -> "result")
+                .build();
+    }
+
+    private static ToolExecutionRequest request(String id) {
+        return ToolExecutionRequest.builder()
+                .id(id)
+                .name("tool")
+                .arguments("{}")
+                .build();
+    }
+}